@@ -0,0 +1,49 @@
+package com.jrodiz.stream.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Input data shared by streamx benchmarks and their {@code java.util.stream} baselines.
+ *
+ * <p>{@code size} is the number of source elements,
+ * {@code depth} is the number of map/filter stages put in front of the measured operator.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkState {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"1", "4", "16"})
+    public int depth;
+
+    public Integer[] objects;
+    public Integer[] sortedObjects;
+    public int[] ints;
+    public long[] longs;
+    public double[] doubles;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        ints = new int[size];
+        longs = new long[size];
+        doubles = new double[size];
+        objects = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            // Values repeat, so distinct and grouping have work to do
+            final int value = random.nextInt(size);
+            ints[i] = value;
+            longs[i] = value;
+            doubles[i] = value;
+            objects[i] = value;
+        }
+        sortedObjects = objects.clone();
+        Arrays.sort(sortedObjects);
+    }
+}
@@ -0,0 +1,85 @@
+package com.jrodiz.stream.benchmark;
+
+import com.jrodiz.stream.Collectors;
+import com.jrodiz.stream.Stream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Collectors factories.
+ *
+ * @see CollectorsBaselineBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CollectorsBenchmark {
+
+    @Benchmark
+    public List<Integer> toList(BenchmarkState state) {
+        return source(state).collect(Collectors.<Integer>toList());
+    }
+
+    @Benchmark
+    public Set<Integer> toSet(BenchmarkState state) {
+        return source(state).collect(Collectors.<Integer>toSet());
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMap(BenchmarkState state) {
+        return source(state).collect(Collectors.toMap(x -> x, x -> x, (a, b) -> a));
+    }
+
+    @Benchmark
+    public String joining(BenchmarkState state) {
+        return source(state).map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupingBy(BenchmarkState state) {
+        return source(state).collect(Collectors.groupingBy(x -> x & 0xFF));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupingByCounting(BenchmarkState state) {
+        return source(state).collect(Collectors.groupingBy(x -> x & 0xFF, Collectors.<Integer>counting()));
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> partitioningBy(BenchmarkState state) {
+        return source(state).collect(Collectors.partitioningBy(x -> (x & 1) == 0));
+    }
+
+    @Benchmark
+    public Long counting(BenchmarkState state) {
+        return source(state).collect(Collectors.<Integer>counting());
+    }
+
+    @Benchmark
+    public Integer summingInt(BenchmarkState state) {
+        return source(state).collect(Collectors.summingInt(x -> x));
+    }
+
+    @Benchmark
+    public Double averagingInt(BenchmarkState state) {
+        return source(state).collect(Collectors.averagingInt(x -> x));
+    }
+
+    @Benchmark
+    public Long teeing(BenchmarkState state) {
+        // No java.util.stream baseline, teeing was added in Java 12
+        return source(state).collect(Collectors.teeing(
+                Collectors.<Integer>counting(),
+                Collectors.summingInt(x -> x),
+                (count, sum) -> count + sum));
+    }
+
+    private static Stream<Integer> source(BenchmarkState state) {
+        return ObjOperatorsBenchmark.stages(Stream.of(state.objects), state.depth);
+    }
+}
@@ -0,0 +1,80 @@
+package com.jrodiz.stream.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@code java.util.stream} baselines for {@link ObjOperatorsBenchmark}.
+ * Operators without a {@code java.util.stream} counterpart
+ * (slidingWindow, chunkBy, merge, zip) have no baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ObjOperatorsBaselineBenchmark {
+
+    @Benchmark
+    public void map(BenchmarkState state, Blackhole bh) {
+        stages(Arrays.stream(state.objects), state.depth)
+                .map(x -> x * 2)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void filter(BenchmarkState state, Blackhole bh) {
+        stages(Arrays.stream(state.objects), state.depth)
+                .filter(x -> (x & 1) == 0)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void flatMap(BenchmarkState state, Blackhole bh) {
+        stages(Arrays.stream(state.objects), state.depth)
+                .flatMap(x -> Stream.of(x, -x))
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void sorted(BenchmarkState state, Blackhole bh) {
+        stages(Arrays.stream(state.objects), state.depth)
+                .sorted()
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void sortedLimit(BenchmarkState state, Blackhole bh) {
+        stages(Arrays.stream(state.objects), state.depth)
+                .sorted()
+                .limit(10)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void distinct(BenchmarkState state, Blackhole bh) {
+        stages(Arrays.stream(state.objects), state.depth)
+                .distinct()
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void skipLimit(BenchmarkState state, Blackhole bh) {
+        stages(Arrays.stream(state.objects), state.depth)
+                .skip(state.size / 4)
+                .limit(state.size / 2)
+                .forEach(bh::consume);
+    }
+
+    static Stream<Integer> stages(Stream<Integer> stream, int depth) {
+        for (int i = 0; i < depth; i++) {
+            stream = ((i & 1) == 0)
+                    ? stream.map(x -> x + 1)
+                    : stream.filter(x -> x >= 0);
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,119 @@
+package com.jrodiz.stream.benchmark;
+
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.operator.ObjMerge;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Object stream operators.
+ *
+ * @see ObjOperatorsBaselineBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ObjOperatorsBenchmark {
+
+    @Benchmark
+    public void map(BenchmarkState state, Blackhole bh) {
+        stages(Stream.of(state.objects), state.depth)
+                .map(x -> x * 2)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void filter(BenchmarkState state, Blackhole bh) {
+        stages(Stream.of(state.objects), state.depth)
+                .filter(x -> (x & 1) == 0)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void flatMap(BenchmarkState state, Blackhole bh) {
+        stages(Stream.of(state.objects), state.depth)
+                .flatMap(x -> Stream.of(x, -x))
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void sorted(BenchmarkState state, Blackhole bh) {
+        stages(Stream.of(state.objects), state.depth)
+                .sorted()
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void sortedLimit(BenchmarkState state, Blackhole bh) {
+        stages(Stream.of(state.objects), state.depth)
+                .sorted()
+                .limit(10)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void distinct(BenchmarkState state, Blackhole bh) {
+        stages(Stream.of(state.objects), state.depth)
+                .distinct()
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void skipLimit(BenchmarkState state, Blackhole bh) {
+        stages(Stream.of(state.objects), state.depth)
+                .skip(state.size / 4)
+                .limit(state.size / 2)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void slidingWindow(BenchmarkState state, Blackhole bh) {
+        stages(Stream.of(state.objects), state.depth)
+                .slidingWindow(4, 2)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void slidingWindowView(BenchmarkState state, Blackhole bh) {
+        stages(Stream.of(state.objects), state.depth)
+                .slidingWindowView(4, 2)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void chunkBy(BenchmarkState state, Blackhole bh) {
+        stages(Stream.of(state.sortedObjects), state.depth)
+                .chunkBy(x -> x / 16)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void merge(BenchmarkState state, Blackhole bh) {
+        Stream.merge(
+                stages(Stream.of(state.sortedObjects), state.depth),
+                stages(Stream.of(state.sortedObjects), state.depth),
+                (a, b) -> (a <= b) ? ObjMerge.MergeResult.TAKE_FIRST : ObjMerge.MergeResult.TAKE_SECOND)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void zip(BenchmarkState state, Blackhole bh) {
+        Stream.zip(
+                stages(Stream.of(state.objects), state.depth),
+                stages(Stream.of(state.sortedObjects), state.depth),
+                (a, b) -> a + b)
+                .forEach(bh::consume);
+    }
+
+    static Stream<Integer> stages(Stream<Integer> stream, int depth) {
+        for (int i = 0; i < depth; i++) {
+            stream = ((i & 1) == 0)
+                    ? stream.map(x -> x + 1)
+                    : stream.filter(x -> x >= 0);
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,140 @@
+package com.jrodiz.stream.benchmark;
+
+import com.jrodiz.stream.DoubleStream;
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.LongStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Primitive stream operators.
+ *
+ * @see PrimitiveOperatorsBaselineBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrimitiveOperatorsBenchmark {
+
+    @Benchmark
+    public void intMap(BenchmarkState state, Blackhole bh) {
+        stages(IntStream.of(state.ints), state.depth)
+                .map(x -> x * 2)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void intFilter(BenchmarkState state, Blackhole bh) {
+        stages(IntStream.of(state.ints), state.depth)
+                .filter(x -> (x & 1) == 0)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void intFlatMap(BenchmarkState state, Blackhole bh) {
+        stages(IntStream.of(state.ints), state.depth)
+                .flatMap(x -> IntStream.of(x, -x))
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void intSorted(BenchmarkState state, Blackhole bh) {
+        stages(IntStream.of(state.ints), state.depth)
+                .sorted()
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void intDistinct(BenchmarkState state, Blackhole bh) {
+        stages(IntStream.of(state.ints), state.depth)
+                .distinct()
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void intSkipLimit(BenchmarkState state, Blackhole bh) {
+        stages(IntStream.of(state.ints), state.depth)
+                .skip(state.size / 4)
+                .limit(state.size / 2)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void longMap(BenchmarkState state, Blackhole bh) {
+        stages(LongStream.of(state.longs), state.depth)
+                .map(x -> x * 2)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void longFilter(BenchmarkState state, Blackhole bh) {
+        stages(LongStream.of(state.longs), state.depth)
+                .filter(x -> (x & 1) == 0)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void longSorted(BenchmarkState state, Blackhole bh) {
+        stages(LongStream.of(state.longs), state.depth)
+                .sorted()
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void longDistinct(BenchmarkState state, Blackhole bh) {
+        stages(LongStream.of(state.longs), state.depth)
+                .distinct()
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void doubleMap(BenchmarkState state, Blackhole bh) {
+        stages(DoubleStream.of(state.doubles), state.depth)
+                .map(x -> x * 2)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void doubleFilter(BenchmarkState state, Blackhole bh) {
+        stages(DoubleStream.of(state.doubles), state.depth)
+                .filter(x -> x < state.size / 2)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void doubleSorted(BenchmarkState state, Blackhole bh) {
+        stages(DoubleStream.of(state.doubles), state.depth)
+                .sorted()
+                .forEach(bh::consume);
+    }
+
+    static IntStream stages(IntStream stream, int depth) {
+        for (int i = 0; i < depth; i++) {
+            stream = ((i & 1) == 0)
+                    ? stream.map(x -> x + 1)
+                    : stream.filter(x -> x >= 0);
+        }
+        return stream;
+    }
+
+    static LongStream stages(LongStream stream, int depth) {
+        for (int i = 0; i < depth; i++) {
+            stream = ((i & 1) == 0)
+                    ? stream.map(x -> x + 1)
+                    : stream.filter(x -> x >= 0);
+        }
+        return stream;
+    }
+
+    static DoubleStream stages(DoubleStream stream, int depth) {
+        for (int i = 0; i < depth; i++) {
+            stream = ((i & 1) == 0)
+                    ? stream.map(x -> x + 1)
+                    : stream.filter(x -> x >= 0);
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,66 @@
+package com.jrodiz.stream.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * {@code java.util.stream} baselines for {@link TerminalsBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TerminalsBaselineBenchmark {
+
+    @Benchmark
+    public List<Integer> collect(BenchmarkState state) {
+        return ObjOperatorsBaselineBenchmark.stages(Arrays.stream(state.objects), state.depth)
+                .collect(ArrayList::new, List::add, List::addAll);
+    }
+
+    @Benchmark
+    public Object[] toArray(BenchmarkState state) {
+        return ObjOperatorsBaselineBenchmark.stages(Arrays.stream(state.objects), state.depth)
+                .toArray();
+    }
+
+    @Benchmark
+    public Integer reduce(BenchmarkState state) {
+        return ObjOperatorsBaselineBenchmark.stages(Arrays.stream(state.objects), state.depth)
+                .reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public long count(BenchmarkState state) {
+        return ObjOperatorsBaselineBenchmark.stages(Arrays.stream(state.objects), state.depth)
+                .count();
+    }
+
+    @Benchmark
+    public int[] intToArray(BenchmarkState state) {
+        return PrimitiveOperatorsBaselineBenchmark.stages(Arrays.stream(state.ints), state.depth)
+                .toArray();
+    }
+
+    @Benchmark
+    public int intReduce(BenchmarkState state) {
+        return PrimitiveOperatorsBaselineBenchmark.stages(Arrays.stream(state.ints), state.depth)
+                .reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int intSum(BenchmarkState state) {
+        return PrimitiveOperatorsBaselineBenchmark.stages(Arrays.stream(state.ints), state.depth)
+                .sum();
+    }
+
+    @Benchmark
+    public long intCount(BenchmarkState state) {
+        return PrimitiveOperatorsBaselineBenchmark.stages(Arrays.stream(state.ints), state.depth)
+                .count();
+    }
+}
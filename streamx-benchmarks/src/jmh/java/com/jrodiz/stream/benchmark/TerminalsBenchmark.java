@@ -0,0 +1,69 @@
+package com.jrodiz.stream.benchmark;
+
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.Stream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Terminal operations.
+ *
+ * @see TerminalsBaselineBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TerminalsBenchmark {
+
+    @Benchmark
+    public List<Integer> collect(BenchmarkState state) {
+        return ObjOperatorsBenchmark.stages(Stream.of(state.objects), state.depth)
+                .collect(ArrayList::new, List::add);
+    }
+
+    @Benchmark
+    public Object[] toArray(BenchmarkState state) {
+        return ObjOperatorsBenchmark.stages(Stream.of(state.objects), state.depth)
+                .toArray();
+    }
+
+    @Benchmark
+    public Integer reduce(BenchmarkState state) {
+        return ObjOperatorsBenchmark.stages(Stream.of(state.objects), state.depth)
+                .reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public long count(BenchmarkState state) {
+        return ObjOperatorsBenchmark.stages(Stream.of(state.objects), state.depth)
+                .count();
+    }
+
+    @Benchmark
+    public int[] intToArray(BenchmarkState state) {
+        return PrimitiveOperatorsBenchmark.stages(IntStream.of(state.ints), state.depth)
+                .toArray();
+    }
+
+    @Benchmark
+    public int intReduce(BenchmarkState state) {
+        return PrimitiveOperatorsBenchmark.stages(IntStream.of(state.ints), state.depth)
+                .reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int intSum(BenchmarkState state) {
+        return PrimitiveOperatorsBenchmark.stages(IntStream.of(state.ints), state.depth)
+                .sum();
+    }
+
+    @Benchmark
+    public long intCount(BenchmarkState state) {
+        return PrimitiveOperatorsBenchmark.stages(IntStream.of(state.ints), state.depth)
+                .count();
+    }
+}
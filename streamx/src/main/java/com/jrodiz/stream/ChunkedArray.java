@@ -0,0 +1,471 @@
+package com.jrodiz.stream;
+
+import com.jrodiz.stream.function.DoubleConsumer;
+import com.jrodiz.stream.function.IntConsumer;
+import com.jrodiz.stream.function.LongConsumer;
+import com.jrodiz.stream.internal.SpinedBuffer;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Primitive values stored in a list of arrays (chunks) instead of a single flat array.
+ *
+ * <p>Results are collected into chunks of growing size and are never copied
+ * to a flat array, so collecting is cheaper than {@code toArray()}
+ * and the number of elements is not limited by the max array size.
+ *
+ * @see IntStream#toChunkedArray()
+ * @see LongStream#toChunkedArray()
+ * @see DoubleStream#toChunkedArray()
+ * @since 1.2.2
+ */
+public final class ChunkedArray {
+
+    private ChunkedArray() { }
+
+    /**
+     * Chunked array of {@code int} values.
+     */
+    public static final class OfInt {
+
+        private final SpinedBuffer.OfInt buffer;
+
+        OfInt(@NotNull SpinedBuffer.OfInt buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns the number of elements.
+         *
+         * @return the number of elements
+         */
+        public long size() {
+            return buffer.count();
+        }
+
+        /**
+         * Returns the element at the specified position.
+         *
+         * @param index  the index of the element
+         * @return the element at the specified position
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public int get(long index) {
+            return buffer.get(index);
+        }
+
+        /**
+         * Returns the number of chunks.
+         *
+         * @return the number of chunks
+         */
+        public int chunkCount() {
+            return buffer.chunkCount();
+        }
+
+        /**
+         * Returns the backing array of the chunk, without copying.
+         * Only the first {@link #chunkLength(int)} elements of the array are used.
+         *
+         * @param chunkIndex  the index of the chunk
+         * @return the backing array of the chunk
+         */
+        @NotNull
+        public int[] chunk(int chunkIndex) {
+            return buffer.chunk(chunkIndex);
+        }
+
+        /**
+         * Returns the number of elements in the chunk.
+         *
+         * @param chunkIndex  the index of the chunk
+         * @return the number of elements in the chunk
+         */
+        public int chunkLength(int chunkIndex) {
+            return buffer.chunkLength(chunkIndex);
+        }
+
+        /**
+         * Returns an iterator over the elements.
+         *
+         * @return the iterator
+         */
+        @NotNull
+        public PrimitiveIterator.OfInt iterator() {
+            return new IntChunksIterator(buffer);
+        }
+
+        /**
+         * Copies elements to a flat array.
+         *
+         * @return the array with all elements
+         * @throws IllegalArgumentException if the number of elements exceeds the max array size
+         */
+        @NotNull
+        public int[] toArray() {
+            return buffer.asPrimitiveArray();
+        }
+    }
+
+    /**
+     * Chunked array of {@code long} values.
+     */
+    public static final class OfLong {
+
+        private final SpinedBuffer.OfLong buffer;
+
+        OfLong(@NotNull SpinedBuffer.OfLong buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns the number of elements.
+         *
+         * @return the number of elements
+         */
+        public long size() {
+            return buffer.count();
+        }
+
+        /**
+         * Returns the element at the specified position.
+         *
+         * @param index  the index of the element
+         * @return the element at the specified position
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public long get(long index) {
+            return buffer.get(index);
+        }
+
+        /**
+         * Returns the number of chunks.
+         *
+         * @return the number of chunks
+         */
+        public int chunkCount() {
+            return buffer.chunkCount();
+        }
+
+        /**
+         * Returns the backing array of the chunk, without copying.
+         * Only the first {@link #chunkLength(int)} elements of the array are used.
+         *
+         * @param chunkIndex  the index of the chunk
+         * @return the backing array of the chunk
+         */
+        @NotNull
+        public long[] chunk(int chunkIndex) {
+            return buffer.chunk(chunkIndex);
+        }
+
+        /**
+         * Returns the number of elements in the chunk.
+         *
+         * @param chunkIndex  the index of the chunk
+         * @return the number of elements in the chunk
+         */
+        public int chunkLength(int chunkIndex) {
+            return buffer.chunkLength(chunkIndex);
+        }
+
+        /**
+         * Returns an iterator over the elements.
+         *
+         * @return the iterator
+         */
+        @NotNull
+        public PrimitiveIterator.OfLong iterator() {
+            return new LongChunksIterator(buffer);
+        }
+
+        /**
+         * Copies elements to a flat array.
+         *
+         * @return the array with all elements
+         * @throws IllegalArgumentException if the number of elements exceeds the max array size
+         */
+        @NotNull
+        public long[] toArray() {
+            return buffer.asPrimitiveArray();
+        }
+    }
+
+    /**
+     * Chunked array of {@code double} values.
+     */
+    public static final class OfDouble {
+
+        private final SpinedBuffer.OfDouble buffer;
+
+        OfDouble(@NotNull SpinedBuffer.OfDouble buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns the number of elements.
+         *
+         * @return the number of elements
+         */
+        public long size() {
+            return buffer.count();
+        }
+
+        /**
+         * Returns the element at the specified position.
+         *
+         * @param index  the index of the element
+         * @return the element at the specified position
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public double get(long index) {
+            return buffer.get(index);
+        }
+
+        /**
+         * Returns the number of chunks.
+         *
+         * @return the number of chunks
+         */
+        public int chunkCount() {
+            return buffer.chunkCount();
+        }
+
+        /**
+         * Returns the backing array of the chunk, without copying.
+         * Only the first {@link #chunkLength(int)} elements of the array are used.
+         *
+         * @param chunkIndex  the index of the chunk
+         * @return the backing array of the chunk
+         */
+        @NotNull
+        public double[] chunk(int chunkIndex) {
+            return buffer.chunk(chunkIndex);
+        }
+
+        /**
+         * Returns the number of elements in the chunk.
+         *
+         * @param chunkIndex  the index of the chunk
+         * @return the number of elements in the chunk
+         */
+        public int chunkLength(int chunkIndex) {
+            return buffer.chunkLength(chunkIndex);
+        }
+
+        /**
+         * Returns an iterator over the elements.
+         *
+         * @return the iterator
+         */
+        @NotNull
+        public PrimitiveIterator.OfDouble iterator() {
+            return new DoubleChunksIterator(buffer);
+        }
+
+        /**
+         * Copies elements to a flat array.
+         *
+         * @return the array with all elements
+         * @throws IllegalArgumentException if the number of elements exceeds the max array size
+         */
+        @NotNull
+        public double[] toArray() {
+            return buffer.asPrimitiveArray();
+        }
+    }
+
+    private static final class IntChunksIterator extends PrimitiveIterator.OfInt
+            implements SizedIterator {
+
+        private final SpinedBuffer.OfInt buffer;
+        private final int chunkCount;
+        private int chunkIndex;
+        private int[] chunk;
+        private int chunkLength;
+        private int index;
+        private long remaining;
+
+        IntChunksIterator(@NotNull SpinedBuffer.OfInt buffer) {
+            this.buffer = buffer;
+            chunkCount = buffer.chunkCount();
+            remaining = buffer.count();
+            chunkIndex = -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (index == chunkLength) {
+                nextChunk();
+            }
+            remaining--;
+            return chunk[index++];
+        }
+
+        private void nextChunk() {
+            if (++chunkIndex >= chunkCount) {
+                throw new NoSuchElementException();
+            }
+            chunk = buffer.chunk(chunkIndex);
+            chunkLength = buffer.chunkLength(chunkIndex);
+            index = 0;
+        }
+
+        @Override
+        public void pushRemainingInt(@NotNull IntConsumer action) {
+            while (remaining > 0) {
+                if (index == chunkLength) {
+                    nextChunk();
+                }
+                final int[] array = chunk;
+                final int end = chunkLength;
+                int i = index;
+                index = end;
+                remaining -= end - i;
+                for (; i < end; i++) {
+                    action.accept(array[i]);
+                }
+            }
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return remaining;
+        }
+    }
+
+    private static final class LongChunksIterator extends PrimitiveIterator.OfLong
+            implements SizedIterator {
+
+        private final SpinedBuffer.OfLong buffer;
+        private final int chunkCount;
+        private int chunkIndex;
+        private long[] chunk;
+        private int chunkLength;
+        private int index;
+        private long remaining;
+
+        LongChunksIterator(@NotNull SpinedBuffer.OfLong buffer) {
+            this.buffer = buffer;
+            chunkCount = buffer.chunkCount();
+            remaining = buffer.count();
+            chunkIndex = -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (index == chunkLength) {
+                nextChunk();
+            }
+            remaining--;
+            return chunk[index++];
+        }
+
+        private void nextChunk() {
+            if (++chunkIndex >= chunkCount) {
+                throw new NoSuchElementException();
+            }
+            chunk = buffer.chunk(chunkIndex);
+            chunkLength = buffer.chunkLength(chunkIndex);
+            index = 0;
+        }
+
+        @Override
+        public void pushRemainingLong(@NotNull LongConsumer action) {
+            while (remaining > 0) {
+                if (index == chunkLength) {
+                    nextChunk();
+                }
+                final long[] array = chunk;
+                final int end = chunkLength;
+                int i = index;
+                index = end;
+                remaining -= end - i;
+                for (; i < end; i++) {
+                    action.accept(array[i]);
+                }
+            }
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return remaining;
+        }
+    }
+
+    private static final class DoubleChunksIterator extends PrimitiveIterator.OfDouble
+            implements SizedIterator {
+
+        private final SpinedBuffer.OfDouble buffer;
+        private final int chunkCount;
+        private int chunkIndex;
+        private double[] chunk;
+        private int chunkLength;
+        private int index;
+        private long remaining;
+
+        DoubleChunksIterator(@NotNull SpinedBuffer.OfDouble buffer) {
+            this.buffer = buffer;
+            chunkCount = buffer.chunkCount();
+            remaining = buffer.count();
+            chunkIndex = -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (index == chunkLength) {
+                nextChunk();
+            }
+            remaining--;
+            return chunk[index++];
+        }
+
+        private void nextChunk() {
+            if (++chunkIndex >= chunkCount) {
+                throw new NoSuchElementException();
+            }
+            chunk = buffer.chunk(chunkIndex);
+            chunkLength = buffer.chunkLength(chunkIndex);
+            index = 0;
+        }
+
+        @Override
+        public void pushRemainingDouble(@NotNull DoubleConsumer action) {
+            while (remaining > 0) {
+                if (index == chunkLength) {
+                    nextChunk();
+                }
+                final double[] array = chunk;
+                final int end = chunkLength;
+                int i = index;
+                index = end;
+                remaining -= end - i;
+                for (; i < end; i++) {
+                    action.accept(array[i]);
+                }
+            }
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return remaining;
+        }
+    }
+}
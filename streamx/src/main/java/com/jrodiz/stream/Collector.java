@@ -1,8 +1,10 @@
 package com.jrodiz.stream;
 
 import com.jrodiz.stream.function.BiConsumer;
+import com.jrodiz.stream.function.BinaryOperator;
 import com.jrodiz.stream.function.Function;
 import com.jrodiz.stream.function.Supplier;
+import java.util.Set;
 
 /**
  * The Collector of stream data.
@@ -28,10 +30,52 @@ public interface Collector<T, A, R> {
      */
     BiConsumer<A, T> accumulator();
 
+    /**
+     * Function merges two partial containers into one.
+     * It may fold the second container into the first one and return it,
+     * or return a new container.
+     *
+     * @return {@code BinaryOperator}
+     * @since 1.2.2
+     */
+    BinaryOperator<A> combiner();
+
     /**
      * Function produces result by transforming intermediate type.
      *
      * @return {@code Function}
      */
     Function<A, R> finisher();
-}
\ No newline at end of file
+
+    /**
+     * Returns properties of the collector, which can be used to optimize reduction.
+     *
+     * @return an immutable set of collector characteristics
+     * @since 1.2.2
+     */
+    Set<Characteristics> characteristics();
+
+    /**
+     * Properties of a {@code Collector}.
+     *
+     * @since 1.2.2
+     */
+    enum Characteristics {
+
+        /**
+         * Accumulator function can be called concurrently with the same container
+         * from multiple threads.
+         */
+        CONCURRENT,
+
+        /**
+         * The result of collection does not depend on the encounter order of elements.
+         */
+        UNORDERED,
+
+        /**
+         * Finisher function is the identity function and can be skipped.
+         */
+        IDENTITY_FINISH
+    }
+}
@@ -1,13 +1,16 @@
 package com.jrodiz.stream;
 
 import com.jrodiz.stream.function.*;
+import com.jrodiz.stream.internal.SpillingGrouper;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +39,33 @@ public final class Collectors {
         }
     };
 
+    private static final BinaryOperator<long[]> LONG_2ELEMENTS_ARRAY_COMBINER = new BinaryOperator<long[]>() {
+        @Override
+        public long[] apply(long[] left, long[] right) {
+            left[0] += right[0];
+            left[1] += right[1];
+            return left;
+        }
+    };
+
+    private static final BinaryOperator<double[]> DOUBLE_2ELEMENTS_ARRAY_COMBINER = new BinaryOperator<double[]>() {
+        @Override
+        public double[] apply(double[] left, double[] right) {
+            left[0] += right[0];
+            left[1] += right[1];
+            return left;
+        }
+    };
+
+    private static final Set<Collector.Characteristics> CH_ID = Collections.unmodifiableSet(
+            EnumSet.of(Collector.Characteristics.IDENTITY_FINISH));
+
+    private static final Set<Collector.Characteristics> CH_UNORDERED_ID = Collections.unmodifiableSet(
+            EnumSet.of(Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH));
+
+    private static final Set<Collector.Characteristics> CH_NOID =
+            Collections.<Collector.Characteristics>emptySet();
+
     private Collectors() { }
 
     /**
@@ -59,7 +89,11 @@ public final class Collectors {
                     public void accept(@NotNull R t, T u) {
                         t.add(u);
                     }
-                }
+                },
+
+                Collectors.<T, R>addAllCombiner(),
+
+                CH_ID
         );
     }
 
@@ -86,7 +120,11 @@ public final class Collectors {
                     public void accept(@NotNull List<T> t, T u) {
                         t.add(u);
                     }
-                }
+                },
+
+                Collectors.<T, List<T>>addAllCombiner(),
+
+                CH_ID
         );
     }
 
@@ -136,7 +174,11 @@ public final class Collectors {
                     public void accept(@NotNull Set<T> set, T t) {
                         set.add(t);
                     }
-                }
+                },
+
+                Collectors.<T, Set<T>>addAllCombiner(),
+
+                CH_UNORDERED_ID
         );
     }
 
@@ -245,7 +287,11 @@ public final class Collectors {
                             throw duplicateKeyException(key, oldValue, value);
                         }
                     }
-                }
+                },
+
+                Collectors.<K, V, M>uniqueKeysMapCombiner(),
+
+                CH_ID
         );
     }
 
@@ -335,7 +381,11 @@ public final class Collectors {
                         final V value = valueMapper.apply(t);
                         mapMerge(map, key, value, mergeFunction);
                     }
-                }
+                },
+
+                Collectors.<K, V, M>mapMergeCombiner(mergeFunction),
+
+                CH_ID
         );
     }
 
@@ -440,6 +490,23 @@ public final class Collectors {
                     }
                 },
 
+                new BinaryOperator<StringBuilder>() {
+                    @NotNull
+                    @Override
+                    public StringBuilder apply(@NotNull StringBuilder left, @NotNull StringBuilder right) {
+                        if (right.length() == 0) {
+                            return left;
+                        }
+                        if (left.length() == 0) {
+                            return right;
+                        }
+                        // Each non-empty container starts with prefix
+                        left.append(delimiter);
+                        left.append(right, prefix.length(), right.length());
+                        return left;
+                    }
+                },
+
                 new Function<StringBuilder, String>() {
                     @NotNull
                     @Override
@@ -522,6 +589,8 @@ public final class Collectors {
 
                 accumulator,
 
+                LONG_2ELEMENTS_ARRAY_COMBINER,
+
                 new Function<long[], Double>() {
                     @NotNull
                     @Override
@@ -555,6 +624,8 @@ public final class Collectors {
                     }
                 },
 
+                DOUBLE_2ELEMENTS_ARRAY_COMBINER,
+
                 new Function<double[], Double>() {
                     @NotNull
                     @Override
@@ -593,6 +664,15 @@ public final class Collectors {
                     }
                 },
 
+                new BinaryOperator<int[]>() {
+                    @NotNull
+                    @Override
+                    public int[] apply(@NotNull int[] left, @NotNull int[] right) {
+                        left[0] += right[0];
+                        return left;
+                    }
+                },
+
                 new Function<int[], Integer>() {
                     @Override
                     public Integer apply(int[] value) {
@@ -623,6 +703,8 @@ public final class Collectors {
                     }
                 },
 
+                LONG_2ELEMENTS_ARRAY_COMBINER,
+
                 new Function<long[], Long>() {
                     @Override
                     public Long apply(long[] value) {
@@ -653,6 +735,8 @@ public final class Collectors {
                     }
                 },
 
+                DOUBLE_2ELEMENTS_ARRAY_COMBINER,
+
                 new Function<double[], Double>() {
                     @Override
                     public Double apply(double[] value) {
@@ -708,6 +792,8 @@ public final class Collectors {
                     }
                 },
 
+                Collectors.<T>tuple1Combiner(op),
+
                 new Function<Tuple1<T>, T>() {
                     @Override
                     public T apply(@NotNull Tuple1<T> tuple) {
@@ -750,6 +836,8 @@ public final class Collectors {
                     }
                 },
 
+                Collectors.<R>tuple1Combiner(op),
+
                 new Function<Tuple1<R>, R>() {
                     @Override
                     public R apply(@NotNull Tuple1<R> tuple) {
@@ -787,7 +875,11 @@ public final class Collectors {
                     }
                 },
 
-                downstream.finisher()
+                downstream.combiner(),
+
+                downstream.finisher(),
+
+                downstream.characteristics()
         );
     }
 
@@ -819,7 +911,11 @@ public final class Collectors {
                     }
                 },
 
-                downstream.finisher()
+                downstream.combiner(),
+
+                downstream.finisher(),
+
+                downstream.characteristics()
         );
     }
 
@@ -859,7 +955,11 @@ public final class Collectors {
                     }
                 },
 
-                downstream.finisher()
+                downstream.combiner(),
+
+                downstream.finisher(),
+
+                downstream.characteristics()
         );
     }
 
@@ -880,8 +980,18 @@ public final class Collectors {
             @NotNull Function<IR, OR> finisher) {
         Objects.requireNonNull(c);
         Objects.requireNonNull(finisher);
-        return new CollectorsImpl<T, A, OR>(c.supplier(), c.accumulator(),
-                Function.Util.andThen(c.finisher(), finisher));
+        Set<Collector.Characteristics> characteristics = c.characteristics();
+        if (characteristics.contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            if (characteristics.size() == 1) {
+                characteristics = CH_NOID;
+            } else {
+                characteristics = EnumSet.copyOf(characteristics);
+                characteristics.remove(Collector.Characteristics.IDENTITY_FINISH);
+                characteristics = Collections.unmodifiableSet(characteristics);
+            }
+        }
+        return new CollectorsImpl<T, A, OR>(c.supplier(), c.accumulator(), c.combiner(),
+                Function.Util.andThen(c.finisher(), finisher), characteristics);
     }
 
     /**
@@ -981,10 +1091,131 @@ public final class Collectors {
                     }
                 },
 
+                new BinaryOperator<Map<K, A>>() {
+                    @NotNull
+                    @Override
+                    public Map<K, A> apply(@NotNull Map<K, A> left, @NotNull Map<K, A> right) {
+                        final BinaryOperator<A> downstreamCombiner = downstream.combiner();
+                        for (Map.Entry<K, A> entry : right.entrySet()) {
+                            final K key = entry.getKey();
+                            final A container = left.get(key);
+                            if (container == null) {
+                                left.put(key, entry.getValue());
+                            } else {
+                                left.put(key, downstreamCombiner.apply(container, entry.getValue()));
+                            }
+                        }
+                        return left;
+                    }
+                },
+
                 finisher
         );
     }
 
+    /**
+     * Returns a {@code Collector} that performs grouping operation by given classifier,
+     * keeping at most {@code maxKeysInMemory} keys with their containers in memory.
+     *
+     * <p>When the limit is exceeded, partial containers are written to temporary files,
+     * partitioned by key hash. Partitions are then re-aggregated one at a time,
+     * merging partial containers of the same key with the combiner of {@code downstream}.
+     * Only the finished values are kept in the resulting map.
+     *
+     * <p>Partial containers are written with {@code containerSerializer}, so the container type
+     * of {@code downstream} must be owned by the caller. Collectors of this class hide their
+     * containers and cannot be used here. To group elements into lists,
+     * use {@link Stream#groupBy(com.jrodiz.stream.function.Function, int, Serializer, Serializer)}.
+     *
+     * <p>Example of a downstream with own container:
+     * <pre>
+     * downstream: Collector&lt;String, long[], Long&gt;, which counts elements in long[1]
+     *             and sums counts in combiner
+     * containerSerializer: writes and reads long[1] as one long
+     * </pre>
+     *
+     * @param <T> the type of the input elements
+     * @param <K> the type of the keys
+     * @param <A> the accumulation type, which is owned by the caller
+     * @param <D> the result type of downstream reduction
+     * @param classifier  the classifier function
+     * @param downstream  the collector of mapped elements with a container of type {@code A},
+     *                    its combiner must merge partial containers
+     * @param maxKeysInMemory  the max number of keys kept in memory
+     * @param keySerializer  the {@code Serializer} to write keys to temporary files
+     * @param containerSerializer  the {@code Serializer} to write partial containers to temporary files
+     * @return a {@code Collector}
+     * @throws IllegalArgumentException if {@code maxKeysInMemory} is zero or negative
+     * @see #groupingBy(com.jrodiz.stream.function.Function, com.jrodiz.stream.Collector)
+     * @see Stream#groupBy(com.jrodiz.stream.function.Function, int, Serializer, Serializer)
+     * @since 1.2.2
+     */
+    @NotNull
+    public static <T, K, A, D> Collector<T, ?, Map<K, D>> groupingBy(
+            @NotNull final Function<? super T, ? extends K> classifier,
+            @NotNull final Collector<? super T, A, D> downstream,
+            final int maxKeysInMemory,
+            @NotNull final Serializer<K> keySerializer,
+            @NotNull final Serializer<A> containerSerializer) {
+        if (maxKeysInMemory <= 0) throw new IllegalArgumentException("maxKeysInMemory cannot be zero or negative");
+        Objects.requireNonNull(keySerializer);
+        Objects.requireNonNull(containerSerializer);
+        return new CollectorsImpl<T, SpillingGrouper<K, A>, Map<K, D>>(
+
+                new Supplier<SpillingGrouper<K, A>>() {
+                    @NotNull
+                    @Override
+                    public SpillingGrouper<K, A> get() {
+                        return new SpillingGrouper<K, A>(maxKeysInMemory,
+                                downstream.supplier(), downstream.combiner(),
+                                keySerializer, containerSerializer);
+                    }
+                },
+
+                new BiConsumer<SpillingGrouper<K, A>, T>() {
+                    @Override
+                    public void accept(@NotNull SpillingGrouper<K, A> grouper, T t) {
+                        K key = Objects.requireNonNull(classifier.apply(t), "element cannot be mapped to a null key");
+                        downstream.accumulator().accept(grouper.container(key), t);
+                    }
+                },
+
+                new BinaryOperator<SpillingGrouper<K, A>>() {
+                    @NotNull
+                    @Override
+                    public SpillingGrouper<K, A> apply(@NotNull SpillingGrouper<K, A> left,
+                                                       @NotNull SpillingGrouper<K, A> right) {
+                        final Iterator<Map.Entry<K, A>> entries = right.entries();
+                        while (entries.hasNext()) {
+                            final Map.Entry<K, A> entry = entries.next();
+                            left.merge(entry.getKey(), entry.getValue());
+                        }
+                        right.close();
+                        return left;
+                    }
+                },
+
+                new Function<SpillingGrouper<K, A>, Map<K, D>>() {
+                    @NotNull
+                    @Override
+                    public Map<K, D> apply(@NotNull SpillingGrouper<K, A> grouper) {
+                        final Function<A, D> downstreamFinisher = downstream.finisher();
+                        final Map<K, D> result = new HashMap<K, D>();
+                        try {
+                            final Iterator<Map.Entry<K, A>> entries = grouper.entries();
+                            while (entries.hasNext()) {
+                                final Map.Entry<K, A> entry = entries.next();
+                                result.put(entry.getKey(), downstreamFinisher.apply(entry.getValue()));
+                            }
+                        } finally {
+                            grouper.close();
+                        }
+                        return result;
+                    }
+                }
+        );
+    }
+
     /**
      * Returns a {@code Collector} that performs partitioning operation according to a predicate.
      * The returned {@code Map} always contains mappings for both {@code false} and {@code true} keys.
@@ -1035,6 +1266,16 @@ public final class Collectors {
                                 predicate.test(t) ? container.a : container.b, t);
                     }
                 },
+                new BinaryOperator<Tuple2<A>>() {
+                    @NotNull
+                    @Override
+                    public Tuple2<A> apply(@NotNull Tuple2<A> left, @NotNull Tuple2<A> right) {
+                        final BinaryOperator<A> downstreamCombiner = downstream.combiner();
+                        return new Tuple2<A>(
+                                downstreamCombiner.apply(left.a, right.a),
+                                downstreamCombiner.apply(left.b, right.b));
+                    }
+                },
                 new Function<Tuple2<A>, Map<Boolean, D>>() {
                     @NotNull
                     @Override
@@ -1092,6 +1333,11 @@ public final class Collectors {
         final BiConsumer<A2, ? super T> acc2 =
                 Objects.requireNonNull(downstream2.accumulator(), "downstream2 accumulator");
 
+        final BinaryOperator<A1> combiner1 =
+                Objects.requireNonNull(downstream1.combiner(), "downstream1 combiner");
+        final BinaryOperator<A2> combiner2 =
+                Objects.requireNonNull(downstream2.combiner(), "downstream2 combiner");
+
         final Function<A1, R1> finisher1 =
                 Objects.requireNonNull(downstream1.finisher(), "downstream1 finisher");
         final Function<A2, R2> finisher2 =
@@ -1114,6 +1360,16 @@ public final class Collectors {
                         acc2.accept(entry.getValue(), t);
                     }
                 },
+                new BinaryOperator<Map.Entry<A1, A2>>() {
+                    @NotNull
+                    @Override
+                    public Map.Entry<A1, A2> apply(@NotNull Map.Entry<A1, A2> left,
+                                                   @NotNull Map.Entry<A1, A2> right) {
+                        return new AbstractMap.SimpleEntry<A1, A2>(
+                                combiner1.apply(left.getKey(), right.getKey()),
+                                combiner2.apply(left.getValue(), right.getValue()));
+                    }
+                },
                 new Function<Map.Entry<A1, A2>, R>() {
                     @NotNull
                     @Override
@@ -1138,6 +1394,69 @@ public final class Collectors {
         };
     }
 
+    @NotNull
+    private static <T, C extends Collection<T>> BinaryOperator<C> addAllCombiner() {
+        return new BinaryOperator<C>() {
+
+            @NotNull
+            @Override
+            public C apply(@NotNull C left, @NotNull C right) {
+                left.addAll(right);
+                return left;
+            }
+        };
+    }
+
+    @NotNull
+    private static <K, V, M extends Map<K, V>> BinaryOperator<M> uniqueKeysMapCombiner() {
+        return new BinaryOperator<M>() {
+
+            @NotNull
+            @Override
+            public M apply(@NotNull M left, @NotNull M right) {
+                for (Map.Entry<K, V> entry : right.entrySet()) {
+                    final K key = entry.getKey();
+                    final V value = entry.getValue();
+                    final V oldValue = left.put(key, value);
+                    if (oldValue != null) {
+                        left.put(key, oldValue);
+                        throw duplicateKeyException(key, oldValue, value);
+                    }
+                }
+                return left;
+            }
+        };
+    }
+
+    @NotNull
+    private static <K, V, M extends Map<K, V>> BinaryOperator<M> mapMergeCombiner(
+            @NotNull final BinaryOperator<V> mergeFunction) {
+        return new BinaryOperator<M>() {
+
+            @NotNull
+            @Override
+            public M apply(@NotNull M left, @NotNull M right) {
+                for (Map.Entry<K, V> entry : right.entrySet()) {
+                    mapMerge(left, entry.getKey(), entry.getValue(), mergeFunction);
+                }
+                return left;
+            }
+        };
+    }
+
+    @NotNull
+    private static <T> BinaryOperator<Tuple1<T>> tuple1Combiner(@NotNull final BinaryOperator<T> op) {
+        return new BinaryOperator<Tuple1<T>>() {
+
+            @NotNull
+            @Override
+            public Tuple1<T> apply(@NotNull Tuple1<T> left, @NotNull Tuple1<T> right) {
+                left.a = op.apply(left.a, right.a);
+                return left;
+            }
+        };
+    }
+
     @NotNull
     private static IllegalStateException duplicateKeyException(Object key, Object old, Object value) {
         return new IllegalStateException(String.format(
@@ -1209,16 +1528,28 @@ public final class Collectors {
 
         private final Supplier<A> supplier;
         private final BiConsumer<A, T> accumulator;
+        private final BinaryOperator<A> combiner;
         private final Function<A, R> finisher;
+        private final Set<Characteristics> characteristics;
 
-        public CollectorsImpl(Supplier<A> supplier, BiConsumer<A, T> accumulator) {
-            this(supplier, accumulator, Collectors.<A, R>castIdentity());
+        public CollectorsImpl(Supplier<A> supplier, BiConsumer<A, T> accumulator,
+                              BinaryOperator<A> combiner, Set<Characteristics> characteristics) {
+            this(supplier, accumulator, combiner, Collectors.<A, R>castIdentity(), characteristics);
         }
 
-        public CollectorsImpl(Supplier<A> supplier, BiConsumer<A, T> accumulator, Function<A, R> finisher) {
+        public CollectorsImpl(Supplier<A> supplier, BiConsumer<A, T> accumulator,
+                              BinaryOperator<A> combiner, Function<A, R> finisher) {
+            this(supplier, accumulator, combiner, finisher, CH_NOID);
+        }
+
+        public CollectorsImpl(Supplier<A> supplier, BiConsumer<A, T> accumulator,
+                              BinaryOperator<A> combiner, Function<A, R> finisher,
+                              Set<Characteristics> characteristics) {
             this.supplier = supplier;
             this.accumulator = accumulator;
+            this.combiner = combiner;
             this.finisher = finisher;
+            this.characteristics = characteristics;
         }
 
         @Override
@@ -1231,11 +1562,21 @@ public final class Collectors {
             return accumulator;
         }
 
+        @Override
+        public BinaryOperator<A> combiner() {
+            return combiner;
+        }
+
         @Nullable
         @Override
         public Function<A, R> finisher() {
             return finisher;
         }
 
+        @Override
+        public Set<Characteristics> characteristics() {
+            return characteristics;
+        }
+
     }
 }
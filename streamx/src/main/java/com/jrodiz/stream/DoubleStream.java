@@ -2,14 +2,21 @@ package com.jrodiz.stream;
 
 import com.jrodiz.stream.function.*;
 import com.jrodiz.stream.internal.Compose;
+import com.jrodiz.stream.internal.Instrumentation;
 import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.internal.Params;
 import com.jrodiz.stream.iterator.PrimitiveIndexedIterator;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
 import com.jrodiz.stream.operator.*;
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -60,6 +67,21 @@ public final class DoubleStream implements Closeable {
         return new DoubleStream(iterator);
     }
 
+    /**
+     * Creates {@code DoubleStream} from the elements of {@code ChunkedArray.OfDouble}.
+     * Elements are read from the chunks directly, without copying.
+     *
+     * @param array  the chunked array with elements to be passed to stream
+     * @return the new {@code DoubleStream}
+     * @throws NullPointerException if {@code array} is null
+     * @since 1.2.2
+     */
+    @NotNull
+    public static DoubleStream of(@NotNull ChunkedArray.OfDouble array) {
+        Objects.requireNonNull(array);
+        return new DoubleStream(array.iterator());
+    }
+
     /**
      * Creates a {@code DoubleStream} from the specified values.
      *
@@ -87,6 +109,41 @@ public final class DoubleStream implements Closeable {
         return new DoubleStream(new DoubleArray(new double[] { t }));
     }
 
+    /**
+     * Creates a {@code DoubleStream} which drains the elements of a blocking queue.
+     *
+     * <p>Elements are moved from the queue into a local buffer in batches,
+     * so the queue lock is taken once per batch instead of once per element.
+     * If the queue is empty, the stream waits up to {@code pollTimeout} for the next element.
+     * The stream ends when the {@code endMarker} is taken from the queue,
+     * or when no element arrives within the timeout.
+     * Elements taken from the queue together with the end marker are put back
+     * to the tail of the queue, so several consumers can share a queue
+     * with one end marker per consumer.
+     * Closing the stream puts back the elements which were taken but not consumed.
+     *
+     * @param queue  the queue to drain
+     * @param endMarker  the value which ends the stream
+     * @param pollTimeout  how long to wait for an element when the queue is empty
+     * @param unit  the time unit of {@code pollTimeout}
+     * @return the new stream
+     * @throws NullPointerException if {@code queue} or {@code unit} is null
+     * @throws IllegalArgumentException if {@code pollTimeout} is negative
+     * @see Stream#ofQueue(BlockingQueue, Object, long, TimeUnit)
+     * @since 1.2.2
+     */
+    @NotNull
+    public static DoubleStream ofQueue(@NotNull BlockingQueue<Double> queue,
+                                       double endMarker,
+                                       long pollTimeout,
+                                       @NotNull TimeUnit unit) {
+        Objects.requireNonNull(queue);
+        Objects.requireNonNull(unit);
+        if (pollTimeout < 0) throw new IllegalArgumentException("pollTimeout cannot be negative");
+        final DoubleQueue source = new DoubleQueue(queue, endMarker, pollTimeout, unit);
+        return new DoubleStream(source).onClose(source);
+    }
+
     /**
      * Creates a {@code DoubleStream} by elements that generated by {@code DoubleSupplier}.
      *
@@ -182,6 +239,55 @@ public final class DoubleStream implements Closeable {
         return result.onClose(Compose.closeables(a, b));
     }
 
+    /**
+     * Merges elements of streams sorted in natural order into one sorted stream.
+     *
+     * <p>Example:
+     * <pre>
+     * streams: [1.0, 4.0], [2.0, 3.0]
+     * result: [1.0, 2.0, 3.0, 4.0]
+     * </pre>
+     *
+     * @param streams  the sorted streams
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} is null
+     * @see #mergeSorted(Collection, DoubleComparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public static DoubleStream mergeSorted(@NotNull Collection<? extends DoubleStream> streams) {
+        return mergeSorted(streams, DoubleComparator.Util.naturalOrder());
+    }
+
+    /**
+     * Merges elements of sorted streams into one sorted stream.
+     *
+     * <p>Each stream must be sorted according to the given comparator.
+     * Merge takes O(log k) comparisons per element, where k is the number of streams,
+     * and does not box elements.
+     * Merge is stable: equal elements are emitted in order of their streams in the collection.
+     *
+     * @param streams  the sorted streams
+     * @param comparator  the comparator which was used to sort the streams
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} or {@code comparator} is null
+     * @since 1.2.2
+     */
+    @NotNull
+    public static DoubleStream mergeSorted(
+            @NotNull Collection<? extends DoubleStream> streams,
+            @NotNull DoubleComparator comparator) {
+        Objects.requireNonNull(streams);
+        Objects.requireNonNull(comparator);
+        final List<DoubleStream> list = new ArrayList<DoubleStream>(streams);
+        final List<PrimitiveIterator.OfDouble> iterators = new ArrayList<PrimitiveIterator.OfDouble>(list.size());
+        for (DoubleStream stream : list) {
+            iterators.add(stream.iterator);
+        }
+        final DoubleStream result = new DoubleStream(new DoubleMergeSorted(iterators, comparator));
+        return result.onClose(Compose.closeables(list));
+    }
+
 
     private final PrimitiveIterator.OfDouble iterator;
     private final Params params;
@@ -192,7 +298,9 @@ public final class DoubleStream implements Closeable {
 
     DoubleStream(Params params, PrimitiveIterator.OfDouble iterator) {
         this.params = params;
-        this.iterator = iterator;
+        this.iterator = (params != null && params.instrumentation != null)
+                ? params.instrumentation.wrap(iterator)
+                : iterator;
     }
 
     /**
@@ -317,7 +425,7 @@ public final class DoubleStream implements Closeable {
      */
     @NotNull
     public DoubleStream filter(@NotNull final DoublePredicate predicate) {
-        return new DoubleStream(params, new DoubleFilter(iterator, predicate));
+        return new DoubleStream(params, Fusion.filter(iterator, predicate));
     }
 
     /**
@@ -407,7 +515,7 @@ public final class DoubleStream implements Closeable {
      */
     @NotNull
     public DoubleStream map(@NotNull final DoubleUnaryOperator mapper) {
-        return new DoubleStream(params, new DoubleMap(iterator, mapper));
+        return new DoubleStream(params, Fusion.map(iterator, mapper));
     }
 
     /**
@@ -544,7 +652,7 @@ public final class DoubleStream implements Closeable {
      */
     @NotNull
     public DoubleStream distinct() {
-        return boxed().distinct().mapToDouble(UNBOX_FUNCTION);
+        return new DoubleStream(params, new DoubleDistinct(iterator));
     }
 
     /**
@@ -583,7 +691,91 @@ public final class DoubleStream implements Closeable {
      */
     @NotNull
     public DoubleStream sorted(@Nullable Comparator<Double> comparator) {
-        return boxed().sorted(comparator).mapToDouble(UNBOX_FUNCTION);
+        return sortedBy(DoubleComparator.Util.from(comparator));
+    }
+
+    /**
+     * Returns {@code DoubleStream} with sorted elements (as determinated by provided {@code DoubleComparator}).
+     * Elements are sorted without boxing.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: DoubleComparator.Util.reverseOrder()
+     * stream: [1, 2, 3, 4]
+     * result: [4, 3, 2, 1]
+     * </pre>
+     *
+     * @param comparator  the {@code DoubleComparator} to compare elements
+     * @return the new {@code DoubleStream}
+     * @see #sortedBy(DoubleComparator, int)
+     * @since 1.2.2
+     */
+    @NotNull
+    public DoubleStream sortedBy(@NotNull DoubleComparator comparator) {
+        return new DoubleStream(params, new DoubleSorted(iterator, comparator));
+    }
+
+    /**
+     * Returns {@code DoubleStream} with sorted elements (as determinated by provided {@code DoubleComparator}),
+     * keeping at most {@code maxElementsInMemory} elements in memory.
+     *
+     * <p>When the stream has more elements, they are sorted in runs of {@code maxElementsInMemory}
+     * elements and each run is written to a temporary file in raw binary form.
+     * Runs are then merged while the result is consumed, at most 64 at once:
+     * if there are more runs, they are first merged in passes into longer runs.
+     * Temporary files are deleted when they are read to the end or when the stream is closed.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param comparator  the {@code DoubleComparator} to compare elements, or {@code null} for natural order
+     * @param maxElementsInMemory  the max number of elements kept in memory
+     * @return the new {@code DoubleStream}
+     * @throws IllegalArgumentException if {@code maxElementsInMemory} is zero or negative
+     * @see #sortedBy(DoubleComparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public DoubleStream sortedBy(@Nullable DoubleComparator comparator, int maxElementsInMemory) {
+        if (maxElementsInMemory <= 0) throw new IllegalArgumentException("maxElementsInMemory cannot be zero or negative");
+        final DoubleExternalSorted sorted = new DoubleExternalSorted(iterator, comparator, maxElementsInMemory);
+        return new DoubleStream(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
+    /**
+     * Returns {@code DoubleStream} with the first {@code k} elements in the order
+     * of provided {@code DoubleComparator}. The result is the same as {@code sorted(comparator).limit(k)},
+     * but only {@code k} elements are kept in memory and the other elements are not sorted.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * comparator: DoubleComparator.Util.reverseOrder()
+     * stream: [3, 4, 1, 2]
+     * result: [4, 3]
+     * </pre>
+     *
+     * @param k  the number of elements to keep
+     * @param comparator  the {@code DoubleComparator} to compare elements,
+     *                    or {@code null} to use natural order
+     * @return the new {@code DoubleStream}
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #sortedBy(DoubleComparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public DoubleStream topK(final int k, @Nullable DoubleComparator comparator) {
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        if (k == 0) return DoubleStream.empty();
+        return new DoubleStream(params, new DoubleTopK(iterator, k, comparator));
     }
 
     /**
@@ -620,7 +812,7 @@ public final class DoubleStream implements Closeable {
      */
     @NotNull
     public DoubleStream peek(@NotNull final DoubleConsumer action) {
-        return new DoubleStream(params, new DoublePeek(iterator, action));
+        return new DoubleStream(params, Fusion.peek(iterator, action));
     }
 
     /**
@@ -766,7 +958,7 @@ public final class DoubleStream implements Closeable {
     public DoubleStream limit(final long maxSize) {
         if (maxSize < 0) throw new IllegalArgumentException("maxSize cannot be negative");
         if (maxSize == 0) return DoubleStream.empty();
-        return new DoubleStream(params, new DoubleLimit(iterator, maxSize));
+        return new DoubleStream(params, Fusion.limit(iterator, maxSize));
     }
 
     /**
@@ -798,6 +990,43 @@ public final class DoubleStream implements Closeable {
         return new DoubleStream(params, new DoubleSkip(iterator, n));
     }
 
+    /**
+     * Returns {@code DoubleStream} which pulls elements of this stream on another thread.
+     *
+     * <p>This is an intermediate operation.
+     * When the first element is requested, a producer task is submitted to the executor.
+     * It runs the upstream operators and puts elements into a lock-free buffer
+     * of {@code bufferSize} elements (rounded up to a power of two), while the downstream
+     * operators run on the consuming thread. Exceptions of the upstream are rethrown
+     * to the consumer after the elements produced before them.
+     *
+     * <p>Closing the stream stops the producer before the upstream close handlers run.
+     * If not all elements are consumed, the stream must be closed, otherwise
+     * the producer task stays blocked on the full buffer.
+     *
+     * <p>Example:
+     * <pre>
+     * try (DoubleStream stream = source.async(256, executor).map(heavyFunction)) {
+     *     stream.forEach(action);
+     * }
+     * </pre>
+     *
+     * @param bufferSize  the maximum number of elements produced ahead
+     * @param executor  the executor which runs the producer task
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code bufferSize} is zero or negative
+     * @throws NullPointerException if {@code executor} is null
+     * @since 1.2.2
+     */
+    @NotNull
+    public DoubleStream async(int bufferSize, @NotNull Executor executor) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize cannot be zero or negative");
+        Objects.requireNonNull(executor);
+        final DoubleAsync async = new DoubleAsync(iterator, bufferSize, executor);
+        // Producer must leave the upstream before its close handlers run
+        return new DoubleStream(Params.prependCloseHandler(params, async), async);
+    }
+
     /**
      * Performs an action for each element of this stream.
      *
@@ -806,9 +1035,7 @@ public final class DoubleStream implements Closeable {
      * @param action  the action to be performed on each element
      */
     public void forEach(@NotNull DoubleConsumer action) {
-        while (iterator.hasNext()) {
-            action.accept(iterator.nextDouble());
-        }
+        iterator.pushRemainingDouble(action);
     }
 
     /**
@@ -869,13 +1096,15 @@ public final class DoubleStream implements Closeable {
      * @see #min()
      * @see #max()
      */
-    public double reduce(double identity, @NotNull DoubleBinaryOperator accumulator) {
-        double result = identity;
-        while (iterator.hasNext()) {
-            final double value = iterator.nextDouble();
-            result = accumulator.applyAsDouble(result, value);
-        }
-        return result;
+    public double reduce(double identity, @NotNull final DoubleBinaryOperator accumulator) {
+        final double[] result = { identity };
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                result[0] = accumulator.applyAsDouble(result[0], value);
+            }
+        });
+        return result[0];
     }
 
     /**
@@ -892,19 +1121,18 @@ public final class DoubleStream implements Closeable {
      * @see #reduce(com.jrodiz.stream.function.DoubleBinaryOperator)
      */
     @NotNull
-    public OptionalDouble reduce(@NotNull DoubleBinaryOperator accumulator) {
-        boolean foundAny = false;
-        double result = 0;
-        while (iterator.hasNext()) {
-            final double value = iterator.nextDouble();
-            if (!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = accumulator.applyAsDouble(result, value);
-            }
+    public OptionalDouble reduce(@NotNull final DoubleBinaryOperator accumulator) {
+        if (!iterator.hasNext()) {
+            return OptionalDouble.empty();
         }
-        return foundAny ? OptionalDouble.of(result) : OptionalDouble.empty();
+        final double[] result = { iterator.nextDouble() };
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                result[0] = accumulator.applyAsDouble(result[0], value);
+            }
+        });
+        return OptionalDouble.of(result[0]);
     }
 
     /**
@@ -919,6 +1147,22 @@ public final class DoubleStream implements Closeable {
         return Operators.toDoubleArray(iterator);
     }
 
+    /**
+     * Returns the elements of this stream as {@code ChunkedArray.OfDouble}.
+     * Unlike {@link #toArray()}, elements are not copied to a flat array after collecting,
+     * and the number of elements is not limited by the max array size.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @return {@code ChunkedArray.OfDouble} with the elements of this stream
+     * @see #of(ChunkedArray.OfDouble)
+     * @since 1.2.2
+     */
+    @NotNull
+    public ChunkedArray.OfDouble toChunkedArray() {
+        return new ChunkedArray.OfDouble(Operators.toDoubleBuffer(iterator));
+    }
+
     /**
      * Collects elements to {@code supplier} provided container by applying the given accumulation function.
      *
@@ -932,12 +1176,14 @@ public final class DoubleStream implements Closeable {
      */
     @Nullable
     public <R> R collect(@NotNull Supplier<R> supplier,
-                         @NotNull ObjDoubleConsumer<R> accumulator) {
+                         @NotNull final ObjDoubleConsumer<R> accumulator) {
         final R result = supplier.get();
-        while (iterator.hasNext()) {
-            final double value = iterator.nextDouble();
-            accumulator.accept(result, value);
-        }
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                accumulator.accept(result, value);
+            }
+        });
         return result;
     }
 
@@ -947,11 +1193,14 @@ public final class DoubleStream implements Closeable {
      * @return the sum of elements in this stream
      */
     public double sum() {
-        double sum = 0;
-        while (iterator.hasNext()) {
-            sum += iterator.nextDouble();
-        }
-        return sum;
+        final double[] sum = { 0 };
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                sum[0] += value;
+            }
+        });
+        return sum[0];
     }
 
     /**
@@ -995,15 +1244,24 @@ public final class DoubleStream implements Closeable {
      *
      * <p>This is a terminal operation.
      *
+     * <p>If the size of an array, list or range source is preserved by the intermediate
+     * operations (like {@code map} or {@code limit}), the elements are not visited.
+     *
      * @return the count of elements in this stream
      */
     public long count() {
-        long count = 0;
-        while (iterator.hasNext()) {
-            iterator.nextDouble();
-            count++;
+        final long size = Operators.exactSize(iterator);
+        if (size >= 0 && Operators.advance(iterator, size)) {
+            return size;
         }
-        return count;
+        final long[] count = { 0L };
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                count[0]++;
+            }
+        });
+        return count[0];
     }
 
     /**
@@ -1015,14 +1273,16 @@ public final class DoubleStream implements Closeable {
      */
     @NotNull
     public OptionalDouble average() {
-        long count = 0;
-        double sum = 0d;
-        while (iterator.hasNext()) {
-            sum += iterator.nextDouble();
-            count++;
-        }
-        if (count == 0) return OptionalDouble.empty();
-        return OptionalDouble.of(sum / (double) count);
+        final double[] t = { 0d, 0d };
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                t[0]++; // count
+                t[1] += value; // sum
+            }
+        });
+        if (t[0] == 0) return OptionalDouble.empty();
+        return OptionalDouble.of(t[1] / t[0]);
     }
 
     /**
@@ -1147,6 +1407,10 @@ public final class DoubleStream implements Closeable {
      */
     @NotNull
     public OptionalDouble findLast() {
+        final long size = Operators.exactSize(iterator);
+        if (size > 0 && Operators.advance(iterator, size - 1)) {
+            return findFirst();
+        }
         return reduce(new DoubleBinaryOperator() {
             @Override
             public double applyAsDouble(double left, double right) {
@@ -1226,6 +1490,41 @@ public final class DoubleStream implements Closeable {
         return OptionalDouble.of(singleCandidate);
     }
 
+    /**
+     * Returns {@code DoubleStream} which collects metrics of each following stage of the pipeline:
+     * number of input and output elements, selectivity, time and,
+     * where the JVM exposes it, number of allocated bytes.
+     *
+     * <p>Metrics are reported to the sink once, when the last stage is exhausted
+     * or when the stream is closed, whichever comes first.
+     * Instrumented stages are measured element by element and are not fused,
+     * so instrumentation has overhead. Streams without instrumentation have no overhead.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param sink  the sink to report metrics to
+     * @return the new instrumented stream
+     * @throws NullPointerException if {@code sink} is null
+     * @throws IllegalStateException if the stream is already instrumented
+     * @since 1.2.2
+     */
+    @NotNull
+    public DoubleStream instrumented(@NotNull MetricsSink sink) {
+        Objects.requireNonNull(sink);
+        if (params != null && params.instrumentation != null) {
+            throw new IllegalStateException("Stream is already instrumented");
+        }
+        final Instrumentation instrumentation = new Instrumentation(sink);
+        final Params newParams = Params.wrapWithCloseHandler(params, new Runnable() {
+            @Override
+            public void run() {
+                instrumentation.report();
+            }
+        });
+        newParams.instrumentation = instrumentation;
+        return new DoubleStream(newParams, iterator);
+    }
+
     /**
      * Adds close handler to the current stream.
      *
@@ -1256,12 +1555,4 @@ public final class DoubleStream implements Closeable {
             params.closeHandler = null;
         }
     }
-
-
-    private static final ToDoubleFunction<Double> UNBOX_FUNCTION = new ToDoubleFunction<Double>() {
-        @Override
-        public double applyAsDouble(Double t) {
-            return t;
-        }
-    };
 }
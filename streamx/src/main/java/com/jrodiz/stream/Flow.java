@@ -0,0 +1,85 @@
+package com.jrodiz.stream;
+
+/**
+ * Interfaces for demand-driven publishing of elements, with the same contract as
+ * {@code java.util.concurrent.Flow} of Java 9, which is not available on Java 8 and Android.
+ * Implementations of {@code java.util.concurrent.Flow} interfaces can be adapted
+ * by delegating each method.
+ *
+ * @see Stream#toPublisher(java.util.concurrent.Executor)
+ * @see Stream#ofPublisher(Publisher, int)
+ * @since 1.2.2
+ */
+public final class Flow {
+
+    private Flow() { }
+
+    /**
+     * A producer of elements, which are received by subscribers on demand.
+     *
+     * @param <T> the type of the elements
+     */
+    public interface Publisher<T> {
+
+        /**
+         * Adds the given subscriber. The subscriber receives
+         * {@link Subscriber#onSubscribe(Subscription)} first.
+         *
+         * @param subscriber  the subscriber
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of elements. Methods are invoked sequentially, in the order
+     * {@code onSubscribe onNext* (onError | onComplete)?}.
+     *
+     * @param <T> the type of the elements
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Invoked before any other method, with the subscription used to request elements.
+         *
+         * @param subscription  the subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next element, only after the element was requested.
+         *
+         * @param item  the element
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked when the publisher fails. No other methods are invoked after that.
+         *
+         * @param throwable  the error
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked when there are no more elements. No other methods are invoked after that.
+         */
+        void onComplete();
+    }
+
+    /**
+     * A link between publisher and subscriber, which controls the flow of elements.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds {@code n} elements to the demand of the subscriber.
+         *
+         * @param n  the number of elements, must be positive
+         */
+        void request(long n);
+
+        /**
+         * Stops sending elements to the subscriber.
+         */
+        void cancel();
+    }
+}
@@ -2,14 +2,21 @@ package com.jrodiz.stream;
 
 import com.jrodiz.stream.function.*;
 import com.jrodiz.stream.internal.Compose;
+import com.jrodiz.stream.internal.Instrumentation;
 import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.internal.Params;
 import com.jrodiz.stream.iterator.PrimitiveIndexedIterator;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
 import com.jrodiz.stream.operator.*;
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -57,6 +64,21 @@ public final class IntStream implements Closeable {
         return new IntStream(iterator);
     }
 
+    /**
+     * Creates {@code IntStream} from the elements of {@code ChunkedArray.OfInt}.
+     * Elements are read from the chunks directly, without copying.
+     *
+     * @param array  the chunked array with elements to be passed to stream
+     * @return the new {@code IntStream}
+     * @throws NullPointerException if {@code array} is null
+     * @since 1.2.2
+     */
+    @NotNull
+    public static IntStream of(@NotNull ChunkedArray.OfInt array) {
+        Objects.requireNonNull(array);
+        return new IntStream(array.iterator());
+    }
+
     /**
      * Returns stream whose elements are the specified values.
      *
@@ -84,6 +106,41 @@ public final class IntStream implements Closeable {
         return new IntStream(new IntArray(new int[] { t }));
     }
 
+    /**
+     * Creates an {@code IntStream} which drains the elements of a blocking queue.
+     *
+     * <p>Elements are moved from the queue into a local buffer in batches,
+     * so the queue lock is taken once per batch instead of once per element.
+     * If the queue is empty, the stream waits up to {@code pollTimeout} for the next element.
+     * The stream ends when the {@code endMarker} is taken from the queue,
+     * or when no element arrives within the timeout.
+     * Elements taken from the queue together with the end marker are put back
+     * to the tail of the queue, so several consumers can share a queue
+     * with one end marker per consumer.
+     * Closing the stream puts back the elements which were taken but not consumed.
+     *
+     * @param queue  the queue to drain
+     * @param endMarker  the value which ends the stream
+     * @param pollTimeout  how long to wait for an element when the queue is empty
+     * @param unit  the time unit of {@code pollTimeout}
+     * @return the new stream
+     * @throws NullPointerException if {@code queue} or {@code unit} is null
+     * @throws IllegalArgumentException if {@code pollTimeout} is negative
+     * @see Stream#ofQueue(BlockingQueue, Object, long, TimeUnit)
+     * @since 1.2.2
+     */
+    @NotNull
+    public static IntStream ofQueue(@NotNull BlockingQueue<Integer> queue,
+                                    int endMarker,
+                                    long pollTimeout,
+                                    @NotNull TimeUnit unit) {
+        Objects.requireNonNull(queue);
+        Objects.requireNonNull(unit);
+        if (pollTimeout < 0) throw new IllegalArgumentException("pollTimeout cannot be negative");
+        final IntQueue source = new IntQueue(queue, endMarker, pollTimeout, unit);
+        return new IntStream(source).onClose(source);
+    }
+
     /**
      * Creates an {@code IntStream} of code point values from the given sequence.
      * Any surrogate pairs encountered in the sequence are combined as if by {@linkplain
@@ -241,6 +298,55 @@ public final class IntStream implements Closeable {
         return result.onClose(Compose.closeables(a, b));
     }
 
+    /**
+     * Merges elements of streams sorted in natural order into one sorted stream.
+     *
+     * <p>Example:
+     * <pre>
+     * streams: [1, 4, 7], [2, 5, 8], [3, 6, 9]
+     * result: [1, 2, 3, 4, 5, 6, 7, 8, 9]
+     * </pre>
+     *
+     * @param streams  the sorted streams
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} is null
+     * @see #mergeSorted(Collection, IntComparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public static IntStream mergeSorted(@NotNull Collection<? extends IntStream> streams) {
+        return mergeSorted(streams, IntComparator.Util.naturalOrder());
+    }
+
+    /**
+     * Merges elements of sorted streams into one sorted stream.
+     *
+     * <p>Each stream must be sorted according to the given comparator.
+     * Merge takes O(log k) comparisons per element, where k is the number of streams,
+     * and does not box elements.
+     * Merge is stable: equal elements are emitted in order of their streams in the collection.
+     *
+     * @param streams  the sorted streams
+     * @param comparator  the comparator which was used to sort the streams
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} or {@code comparator} is null
+     * @since 1.2.2
+     */
+    @NotNull
+    public static IntStream mergeSorted(
+            @NotNull Collection<? extends IntStream> streams,
+            @NotNull IntComparator comparator) {
+        Objects.requireNonNull(streams);
+        Objects.requireNonNull(comparator);
+        final List<IntStream> list = new ArrayList<IntStream>(streams);
+        final List<PrimitiveIterator.OfInt> iterators = new ArrayList<PrimitiveIterator.OfInt>(list.size());
+        for (IntStream stream : list) {
+            iterators.add(stream.iterator);
+        }
+        final IntStream result = new IntStream(new IntMergeSorted(iterators, comparator));
+        return result.onClose(Compose.closeables(list));
+    }
+
     private final PrimitiveIterator.OfInt iterator;
     private final Params params;
 
@@ -250,7 +356,9 @@ public final class IntStream implements Closeable {
 
     IntStream(Params params, PrimitiveIterator.OfInt iterator) {
         this.params = params;
-        this.iterator = iterator;
+        this.iterator = (params != null && params.instrumentation != null)
+                ? params.instrumentation.wrap(iterator)
+                : iterator;
     }
 
     /**
@@ -367,7 +475,7 @@ public final class IntStream implements Closeable {
      */
     @NotNull
     public IntStream filter(@NotNull final IntPredicate predicate) {
-        return new IntStream(params, new IntFilter(iterator, predicate));
+        return new IntStream(params, Fusion.filter(iterator, predicate));
     }
 
     /**
@@ -459,7 +567,7 @@ public final class IntStream implements Closeable {
      */
     @NotNull
     public IntStream map(@NotNull final IntUnaryOperator mapper) {
-        return new IntStream(params, new IntMap(iterator, mapper));
+        return new IntStream(params, Fusion.map(iterator, mapper));
     }
 
     /**
@@ -599,9 +707,7 @@ public final class IntStream implements Closeable {
      */
     @NotNull
     public IntStream distinct() {
-        // While functional and quick to implement, this approach is not very efficient.
-        // An efficient version requires an int-specific map/set implementation.
-        return boxed().distinct().mapToInt(UNBOX_FUNCTION);
+        return new IntStream(params, new IntDistinct(iterator));
     }
 
     /**
@@ -640,7 +746,91 @@ public final class IntStream implements Closeable {
      */
     @NotNull
     public IntStream sorted(@Nullable Comparator<Integer> comparator) {
-        return boxed().sorted(comparator).mapToInt(UNBOX_FUNCTION);
+        return sortedBy(IntComparator.Util.from(comparator));
+    }
+
+    /**
+     * Returns {@code IntStream} with sorted elements (as determinated by provided {@code IntComparator}).
+     * Elements are sorted without boxing.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: IntComparator.Util.reverseOrder()
+     * stream: [1, 2, 3, 4]
+     * result: [4, 3, 2, 1]
+     * </pre>
+     *
+     * @param comparator  the {@code IntComparator} to compare elements
+     * @return the new {@code IntStream}
+     * @see #sortedBy(IntComparator, int)
+     * @since 1.2.2
+     */
+    @NotNull
+    public IntStream sortedBy(@NotNull IntComparator comparator) {
+        return new IntStream(params, new IntSorted(iterator, comparator));
+    }
+
+    /**
+     * Returns {@code IntStream} with sorted elements (as determinated by provided {@code IntComparator}),
+     * keeping at most {@code maxElementsInMemory} elements in memory.
+     *
+     * <p>When the stream has more elements, they are sorted in runs of {@code maxElementsInMemory}
+     * elements and each run is written to a temporary file in raw binary form.
+     * Runs are then merged while the result is consumed, at most 64 at once:
+     * if there are more runs, they are first merged in passes into longer runs.
+     * Temporary files are deleted when they are read to the end or when the stream is closed.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param comparator  the {@code IntComparator} to compare elements, or {@code null} for natural order
+     * @param maxElementsInMemory  the max number of elements kept in memory
+     * @return the new {@code IntStream}
+     * @throws IllegalArgumentException if {@code maxElementsInMemory} is zero or negative
+     * @see #sortedBy(IntComparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public IntStream sortedBy(@Nullable IntComparator comparator, int maxElementsInMemory) {
+        if (maxElementsInMemory <= 0) throw new IllegalArgumentException("maxElementsInMemory cannot be zero or negative");
+        final IntExternalSorted sorted = new IntExternalSorted(iterator, comparator, maxElementsInMemory);
+        return new IntStream(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
+    /**
+     * Returns {@code IntStream} with the first {@code k} elements in the order
+     * of provided {@code IntComparator}. The result is the same as {@code sorted(comparator).limit(k)},
+     * but only {@code k} elements are kept in memory and the other elements are not sorted.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * comparator: IntComparator.Util.reverseOrder()
+     * stream: [3, 4, 1, 2]
+     * result: [4, 3]
+     * </pre>
+     *
+     * @param k  the number of elements to keep
+     * @param comparator  the {@code IntComparator} to compare elements,
+     *                    or {@code null} to use natural order
+     * @return the new {@code IntStream}
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #sortedBy(IntComparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public IntStream topK(final int k, @Nullable IntComparator comparator) {
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        if (k == 0) return IntStream.empty();
+        return new IntStream(params, new IntTopK(iterator, k, comparator));
     }
 
     /**
@@ -679,7 +869,7 @@ public final class IntStream implements Closeable {
      */
     @NotNull
     public IntStream peek(@NotNull final IntConsumer action) {
-        return new IntStream(params, new IntPeek(iterator, action));
+        return new IntStream(params, Fusion.peek(iterator, action));
     }
 
     /**
@@ -829,7 +1019,7 @@ public final class IntStream implements Closeable {
         if (maxSize == 0) {
             return IntStream.empty();
         }
-        return new IntStream(params, new IntLimit(iterator, maxSize));
+        return new IntStream(params, Fusion.limit(iterator, maxSize));
     }
 
     /**
@@ -866,6 +1056,43 @@ public final class IntStream implements Closeable {
         }
     }
 
+    /**
+     * Returns {@code IntStream} which pulls elements of this stream on another thread.
+     *
+     * <p>This is an intermediate operation.
+     * When the first element is requested, a producer task is submitted to the executor.
+     * It runs the upstream operators and puts elements into a lock-free buffer
+     * of {@code bufferSize} elements (rounded up to a power of two), while the downstream
+     * operators run on the consuming thread. Exceptions of the upstream are rethrown
+     * to the consumer after the elements produced before them.
+     *
+     * <p>Closing the stream stops the producer before the upstream close handlers run.
+     * If not all elements are consumed, the stream must be closed, otherwise
+     * the producer task stays blocked on the full buffer.
+     *
+     * <p>Example:
+     * <pre>
+     * try (IntStream stream = source.async(256, executor).map(heavyFunction)) {
+     *     stream.forEach(action);
+     * }
+     * </pre>
+     *
+     * @param bufferSize  the maximum number of elements produced ahead
+     * @param executor  the executor which runs the producer task
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code bufferSize} is zero or negative
+     * @throws NullPointerException if {@code executor} is null
+     * @since 1.2.2
+     */
+    @NotNull
+    public IntStream async(int bufferSize, @NotNull Executor executor) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize cannot be zero or negative");
+        Objects.requireNonNull(executor);
+        final IntAsync async = new IntAsync(iterator, bufferSize, executor);
+        // Producer must leave the upstream before its close handlers run
+        return new IntStream(Params.prependCloseHandler(params, async), async);
+    }
+
     /**
      * Performs an action for each element of this stream.
      *
@@ -874,9 +1101,7 @@ public final class IntStream implements Closeable {
      * @param action a non-interfering action to perform on the elements
      */
     public void forEach(@NotNull IntConsumer action) {
-        while(iterator.hasNext()) {
-            action.accept(iterator.nextInt());
-        }
+        iterator.pushRemainingInt(action);
     }
 
     /**
@@ -938,13 +1163,15 @@ public final class IntStream implements Closeable {
      * @see #min()
      * @see #max()
      */
-    public int reduce(int identity, @NotNull IntBinaryOperator op) {
-        int result = identity;
-        while(iterator.hasNext()) {
-            int value = iterator.nextInt();
-            result = op.applyAsInt(result, value);
-        }
-        return result;
+    public int reduce(int identity, @NotNull final IntBinaryOperator op) {
+        final int[] result = { identity };
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                result[0] = op.applyAsInt(result[0], value);
+            }
+        });
+        return result[0];
     }
 
     /**
@@ -962,20 +1189,18 @@ public final class IntStream implements Closeable {
      * @see #reduce(int, IntBinaryOperator)
      */
     @NotNull
-    public OptionalInt reduce(@NotNull IntBinaryOperator op) {
-        boolean foundAny = false;
-        int result = 0;
-        while(iterator.hasNext()) {
-            int value = iterator.nextInt();
-
-            if(!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = op.applyAsInt(result, value);
-            }
+    public OptionalInt reduce(@NotNull final IntBinaryOperator op) {
+        if (!iterator.hasNext()) {
+            return OptionalInt.empty();
         }
-        return foundAny ? OptionalInt.of(result) : OptionalInt.empty();
+        final int[] result = { iterator.nextInt() };
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                result[0] = op.applyAsInt(result[0], value);
+            }
+        });
+        return OptionalInt.of(result[0]);
     }
 
     /**
@@ -990,6 +1215,22 @@ public final class IntStream implements Closeable {
         return Operators.toIntArray(iterator);
     }
 
+    /**
+     * Returns the elements of this stream as {@code ChunkedArray.OfInt}.
+     * Unlike {@link #toArray()}, elements are not copied to a flat array after collecting,
+     * and the number of elements is not limited by the max array size.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @return {@code ChunkedArray.OfInt} with the elements of this stream
+     * @see #of(ChunkedArray.OfInt)
+     * @since 1.2.2
+     */
+    @NotNull
+    public ChunkedArray.OfInt toChunkedArray() {
+        return new ChunkedArray.OfInt(Operators.toIntBuffer(iterator));
+    }
+
     /**
      * Collects elements to {@code supplier} provided container by applying the given accumulation function.
      *
@@ -1003,12 +1244,14 @@ public final class IntStream implements Closeable {
      */
     @Nullable
     public <R> R collect(@NotNull Supplier<R> supplier,
-                         @NotNull ObjIntConsumer<R> accumulator) {
-        R result = supplier.get();
-        while (iterator.hasNext()) {
-            final int value = iterator.nextInt();
-            accumulator.accept(result, value);
-        }
+                         @NotNull final ObjIntConsumer<R> accumulator) {
+        final R result = supplier.get();
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                accumulator.accept(result, value);
+            }
+        });
         return result;
     }
 
@@ -1018,12 +1261,18 @@ public final class IntStream implements Closeable {
      * @return the sum of elements in this stream
      */
     public int sum() {
-        int sum = 0;
-        while(iterator.hasNext()) {
-            sum += iterator.nextInt();
+        if (iterator instanceof IntRangeClosed) {
+            // Arithmetic progression, no need to visit elements
+            return ((IntRangeClosed) iterator).sum();
         }
-
-        return sum;
+        final int[] sum = { 0 };
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                sum[0] += value;
+            }
+        });
+        return sum[0];
     }
 
     /**
@@ -1069,15 +1318,24 @@ public final class IntStream implements Closeable {
      *
      * <p>This is a terminal operation.
      *
+     * <p>If the size of an array, list or range source is preserved by the intermediate
+     * operations (like {@code map} or {@code limit}), the elements are not visited.
+     *
      * @return the count of elements in this stream
      */
     public long count() {
-        long count = 0;
-        while(iterator.hasNext()) {
-            iterator.nextInt();
-            count++;
+        final long size = Operators.exactSize(iterator);
+        if (size >= 0 && Operators.advance(iterator, size)) {
+            return size;
         }
-        return count;
+        final long[] count = { 0L };
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                count[0]++;
+            }
+        });
+        return count[0];
     }
 
     /**
@@ -1208,6 +1466,10 @@ public final class IntStream implements Closeable {
      */
     @NotNull
     public OptionalInt findLast() {
+        final long size = Operators.exactSize(iterator);
+        if (size > 0 && Operators.advance(iterator, size - 1)) {
+            return findFirst();
+        }
         return reduce(new IntBinaryOperator() {
             @Override
             public int applyAsInt(int left, int right) {
@@ -1290,6 +1552,41 @@ public final class IntStream implements Closeable {
         }
     }
 
+    /**
+     * Returns {@code IntStream} which collects metrics of each following stage of the pipeline:
+     * number of input and output elements, selectivity, time and,
+     * where the JVM exposes it, number of allocated bytes.
+     *
+     * <p>Metrics are reported to the sink once, when the last stage is exhausted
+     * or when the stream is closed, whichever comes first.
+     * Instrumented stages are measured element by element and are not fused,
+     * so instrumentation has overhead. Streams without instrumentation have no overhead.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param sink  the sink to report metrics to
+     * @return the new instrumented stream
+     * @throws NullPointerException if {@code sink} is null
+     * @throws IllegalStateException if the stream is already instrumented
+     * @since 1.2.2
+     */
+    @NotNull
+    public IntStream instrumented(@NotNull MetricsSink sink) {
+        Objects.requireNonNull(sink);
+        if (params != null && params.instrumentation != null) {
+            throw new IllegalStateException("Stream is already instrumented");
+        }
+        final Instrumentation instrumentation = new Instrumentation(sink);
+        final Params newParams = Params.wrapWithCloseHandler(params, new Runnable() {
+            @Override
+            public void run() {
+                instrumentation.report();
+            }
+        });
+        newParams.instrumentation = instrumentation;
+        return new IntStream(newParams, iterator);
+    }
+
     /**
      * Adds close handler to the current stream.
      *
@@ -1320,12 +1617,4 @@ public final class IntStream implements Closeable {
             params.closeHandler = null;
         }
     }
-
-
-    private static final ToIntFunction<Integer> UNBOX_FUNCTION = new ToIntFunction<Integer>() {
-        @Override
-        public int applyAsInt(Integer t) {
-            return t;
-        }
-    };
 }
@@ -2,14 +2,21 @@ package com.jrodiz.stream;
 
 import com.jrodiz.stream.function.*;
 import com.jrodiz.stream.internal.Compose;
+import com.jrodiz.stream.internal.Instrumentation;
 import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.internal.Params;
 import com.jrodiz.stream.iterator.PrimitiveIndexedIterator;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
 import com.jrodiz.stream.operator.*;
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -60,6 +67,21 @@ public final class LongStream implements Closeable {
         return new LongStream(iterator);
     }
 
+    /**
+     * Creates {@code LongStream} from the elements of {@code ChunkedArray.OfLong}.
+     * Elements are read from the chunks directly, without copying.
+     *
+     * @param array  the chunked array with elements to be passed to stream
+     * @return the new {@code LongStream}
+     * @throws NullPointerException if {@code array} is null
+     * @since 1.2.2
+     */
+    @NotNull
+    public static LongStream of(@NotNull ChunkedArray.OfLong array) {
+        Objects.requireNonNull(array);
+        return new LongStream(array.iterator());
+    }
+
     /**
      * Creates a {@code LongStream} from the specified values.
      *
@@ -87,6 +109,41 @@ public final class LongStream implements Closeable {
         return new LongStream(new LongArray(new long[] { t }));
     }
 
+    /**
+     * Creates a {@code LongStream} which drains the elements of a blocking queue.
+     *
+     * <p>Elements are moved from the queue into a local buffer in batches,
+     * so the queue lock is taken once per batch instead of once per element.
+     * If the queue is empty, the stream waits up to {@code pollTimeout} for the next element.
+     * The stream ends when the {@code endMarker} is taken from the queue,
+     * or when no element arrives within the timeout.
+     * Elements taken from the queue together with the end marker are put back
+     * to the tail of the queue, so several consumers can share a queue
+     * with one end marker per consumer.
+     * Closing the stream puts back the elements which were taken but not consumed.
+     *
+     * @param queue  the queue to drain
+     * @param endMarker  the value which ends the stream
+     * @param pollTimeout  how long to wait for an element when the queue is empty
+     * @param unit  the time unit of {@code pollTimeout}
+     * @return the new stream
+     * @throws NullPointerException if {@code queue} or {@code unit} is null
+     * @throws IllegalArgumentException if {@code pollTimeout} is negative
+     * @see Stream#ofQueue(BlockingQueue, Object, long, TimeUnit)
+     * @since 1.2.2
+     */
+    @NotNull
+    public static LongStream ofQueue(@NotNull BlockingQueue<Long> queue,
+                                     long endMarker,
+                                     long pollTimeout,
+                                     @NotNull TimeUnit unit) {
+        Objects.requireNonNull(queue);
+        Objects.requireNonNull(unit);
+        if (pollTimeout < 0) throw new IllegalArgumentException("pollTimeout cannot be negative");
+        final LongQueue source = new LongQueue(queue, endMarker, pollTimeout, unit);
+        return new LongStream(source).onClose(source);
+    }
+
     /**
      * Returns a sequential ordered {@code LongStream} from {@code startInclusive}
      * (inclusive) to {@code endExclusive} (exclusive) by an incremental step of
@@ -219,6 +276,55 @@ public final class LongStream implements Closeable {
         return result.onClose(Compose.closeables(a, b));
     }
 
+    /**
+     * Merges elements of streams sorted in natural order into one sorted stream.
+     *
+     * <p>Example:
+     * <pre>
+     * streams: [1, 4, 7], [2, 5, 8], [3, 6, 9]
+     * result: [1, 2, 3, 4, 5, 6, 7, 8, 9]
+     * </pre>
+     *
+     * @param streams  the sorted streams
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} is null
+     * @see #mergeSorted(Collection, LongComparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public static LongStream mergeSorted(@NotNull Collection<? extends LongStream> streams) {
+        return mergeSorted(streams, LongComparator.Util.naturalOrder());
+    }
+
+    /**
+     * Merges elements of sorted streams into one sorted stream.
+     *
+     * <p>Each stream must be sorted according to the given comparator.
+     * Merge takes O(log k) comparisons per element, where k is the number of streams,
+     * and does not box elements.
+     * Merge is stable: equal elements are emitted in order of their streams in the collection.
+     *
+     * @param streams  the sorted streams
+     * @param comparator  the comparator which was used to sort the streams
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} or {@code comparator} is null
+     * @since 1.2.2
+     */
+    @NotNull
+    public static LongStream mergeSorted(
+            @NotNull Collection<? extends LongStream> streams,
+            @NotNull LongComparator comparator) {
+        Objects.requireNonNull(streams);
+        Objects.requireNonNull(comparator);
+        final List<LongStream> list = new ArrayList<LongStream>(streams);
+        final List<PrimitiveIterator.OfLong> iterators = new ArrayList<PrimitiveIterator.OfLong>(list.size());
+        for (LongStream stream : list) {
+            iterators.add(stream.iterator);
+        }
+        final LongStream result = new LongStream(new LongMergeSorted(iterators, comparator));
+        return result.onClose(Compose.closeables(list));
+    }
+
 
     private final PrimitiveIterator.OfLong iterator;
     private final Params params;
@@ -229,7 +335,9 @@ public final class LongStream implements Closeable {
 
     LongStream(Params params, PrimitiveIterator.OfLong iterator) {
         this.params = params;
-        this.iterator = iterator;
+        this.iterator = (params != null && params.instrumentation != null)
+                ? params.instrumentation.wrap(iterator)
+                : iterator;
     }
 
     /**
@@ -353,7 +461,7 @@ public final class LongStream implements Closeable {
      */
     @NotNull
     public LongStream filter(@NotNull final LongPredicate predicate) {
-        return new LongStream(params, new LongFilter(iterator, predicate));
+        return new LongStream(params, Fusion.filter(iterator, predicate));
     }
 
     /**
@@ -443,7 +551,7 @@ public final class LongStream implements Closeable {
      */
     @NotNull
     public LongStream map(@NotNull final LongUnaryOperator mapper) {
-        return new LongStream(params, new LongMap(iterator, mapper));
+        return new LongStream(params, Fusion.map(iterator, mapper));
     }
 
     /**
@@ -580,7 +688,7 @@ public final class LongStream implements Closeable {
      */
     @NotNull
     public LongStream distinct() {
-        return boxed().distinct().mapToLong(UNBOX_FUNCTION);
+        return new LongStream(params, new LongDistinct(iterator));
     }
 
     /**
@@ -619,7 +727,91 @@ public final class LongStream implements Closeable {
      */
     @NotNull
     public LongStream sorted(@Nullable Comparator<Long> comparator) {
-        return boxed().sorted(comparator).mapToLong(UNBOX_FUNCTION);
+        return sortedBy(LongComparator.Util.from(comparator));
+    }
+
+    /**
+     * Returns {@code LongStream} with sorted elements (as determinated by provided {@code LongComparator}).
+     * Elements are sorted without boxing.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: LongComparator.Util.reverseOrder()
+     * stream: [1, 2, 3, 4]
+     * result: [4, 3, 2, 1]
+     * </pre>
+     *
+     * @param comparator  the {@code LongComparator} to compare elements
+     * @return the new {@code LongStream}
+     * @see #sortedBy(LongComparator, int)
+     * @since 1.2.2
+     */
+    @NotNull
+    public LongStream sortedBy(@NotNull LongComparator comparator) {
+        return new LongStream(params, new LongSorted(iterator, comparator));
+    }
+
+    /**
+     * Returns {@code LongStream} with sorted elements (as determinated by provided {@code LongComparator}),
+     * keeping at most {@code maxElementsInMemory} elements in memory.
+     *
+     * <p>When the stream has more elements, they are sorted in runs of {@code maxElementsInMemory}
+     * elements and each run is written to a temporary file in raw binary form.
+     * Runs are then merged while the result is consumed, at most 64 at once:
+     * if there are more runs, they are first merged in passes into longer runs.
+     * Temporary files are deleted when they are read to the end or when the stream is closed.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param comparator  the {@code LongComparator} to compare elements, or {@code null} for natural order
+     * @param maxElementsInMemory  the max number of elements kept in memory
+     * @return the new {@code LongStream}
+     * @throws IllegalArgumentException if {@code maxElementsInMemory} is zero or negative
+     * @see #sortedBy(LongComparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public LongStream sortedBy(@Nullable LongComparator comparator, int maxElementsInMemory) {
+        if (maxElementsInMemory <= 0) throw new IllegalArgumentException("maxElementsInMemory cannot be zero or negative");
+        final LongExternalSorted sorted = new LongExternalSorted(iterator, comparator, maxElementsInMemory);
+        return new LongStream(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
+    /**
+     * Returns {@code LongStream} with the first {@code k} elements in the order
+     * of provided {@code LongComparator}. The result is the same as {@code sorted(comparator).limit(k)},
+     * but only {@code k} elements are kept in memory and the other elements are not sorted.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * comparator: LongComparator.Util.reverseOrder()
+     * stream: [3, 4, 1, 2]
+     * result: [4, 3]
+     * </pre>
+     *
+     * @param k  the number of elements to keep
+     * @param comparator  the {@code LongComparator} to compare elements,
+     *                    or {@code null} to use natural order
+     * @return the new {@code LongStream}
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #sortedBy(LongComparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public LongStream topK(final int k, @Nullable LongComparator comparator) {
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        if (k == 0) return LongStream.empty();
+        return new LongStream(params, new LongTopK(iterator, k, comparator));
     }
 
     /**
@@ -656,7 +848,7 @@ public final class LongStream implements Closeable {
      */
     @NotNull
     public LongStream peek(@NotNull final LongConsumer action) {
-        return new LongStream(params, new LongPeek(iterator, action));
+        return new LongStream(params, Fusion.peek(iterator, action));
     }
 
     /**
@@ -802,7 +994,7 @@ public final class LongStream implements Closeable {
     public LongStream limit(final long maxSize) {
         if (maxSize < 0) throw new IllegalArgumentException("maxSize cannot be negative");
         if (maxSize == 0) return LongStream.empty();
-        return new LongStream(params, new LongLimit(iterator, maxSize));
+        return new LongStream(params, Fusion.limit(iterator, maxSize));
     }
 
     /**
@@ -834,6 +1026,43 @@ public final class LongStream implements Closeable {
         return new LongStream(params, new LongSkip(iterator, n));
     }
 
+    /**
+     * Returns {@code LongStream} which pulls elements of this stream on another thread.
+     *
+     * <p>This is an intermediate operation.
+     * When the first element is requested, a producer task is submitted to the executor.
+     * It runs the upstream operators and puts elements into a lock-free buffer
+     * of {@code bufferSize} elements (rounded up to a power of two), while the downstream
+     * operators run on the consuming thread. Exceptions of the upstream are rethrown
+     * to the consumer after the elements produced before them.
+     *
+     * <p>Closing the stream stops the producer before the upstream close handlers run.
+     * If not all elements are consumed, the stream must be closed, otherwise
+     * the producer task stays blocked on the full buffer.
+     *
+     * <p>Example:
+     * <pre>
+     * try (LongStream stream = source.async(256, executor).map(heavyFunction)) {
+     *     stream.forEach(action);
+     * }
+     * </pre>
+     *
+     * @param bufferSize  the maximum number of elements produced ahead
+     * @param executor  the executor which runs the producer task
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code bufferSize} is zero or negative
+     * @throws NullPointerException if {@code executor} is null
+     * @since 1.2.2
+     */
+    @NotNull
+    public LongStream async(int bufferSize, @NotNull Executor executor) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize cannot be zero or negative");
+        Objects.requireNonNull(executor);
+        final LongAsync async = new LongAsync(iterator, bufferSize, executor);
+        // Producer must leave the upstream before its close handlers run
+        return new LongStream(Params.prependCloseHandler(params, async), async);
+    }
+
     /**
      * Performs an action for each element of this stream.
      *
@@ -842,9 +1071,7 @@ public final class LongStream implements Closeable {
      * @param action  the action to be performed on each element
      */
     public void forEach(@NotNull LongConsumer action) {
-        while (iterator.hasNext()) {
-            action.accept(iterator.nextLong());
-        }
+        iterator.pushRemainingLong(action);
     }
 
     /**
@@ -905,13 +1132,15 @@ public final class LongStream implements Closeable {
      * @see #min()
      * @see #max()
      */
-    public long reduce(long identity, @NotNull LongBinaryOperator accumulator) {
-        long result = identity;
-        while (iterator.hasNext()) {
-            final long value = iterator.nextLong();
-            result = accumulator.applyAsLong(result, value);
-        }
-        return result;
+    public long reduce(long identity, @NotNull final LongBinaryOperator accumulator) {
+        final long[] result = { identity };
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                result[0] = accumulator.applyAsLong(result[0], value);
+            }
+        });
+        return result[0];
     }
 
     /**
@@ -928,19 +1157,18 @@ public final class LongStream implements Closeable {
      * @see #reduce(com.jrodiz.stream.function.LongBinaryOperator)
      */
     @NotNull
-    public OptionalLong reduce(@NotNull LongBinaryOperator accumulator) {
-        boolean foundAny = false;
-        long result = 0;
-        while (iterator.hasNext()) {
-            final long value = iterator.nextLong();
-            if (!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = accumulator.applyAsLong(result, value);
-            }
+    public OptionalLong reduce(@NotNull final LongBinaryOperator accumulator) {
+        if (!iterator.hasNext()) {
+            return OptionalLong.empty();
         }
-        return foundAny ? OptionalLong.of(result) : OptionalLong.empty();
+        final long[] result = { iterator.nextLong() };
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                result[0] = accumulator.applyAsLong(result[0], value);
+            }
+        });
+        return OptionalLong.of(result[0]);
     }
 
     /**
@@ -955,6 +1183,22 @@ public final class LongStream implements Closeable {
         return Operators.toLongArray(iterator);
     }
 
+    /**
+     * Returns the elements of this stream as {@code ChunkedArray.OfLong}.
+     * Unlike {@link #toArray()}, elements are not copied to a flat array after collecting,
+     * and the number of elements is not limited by the max array size.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @return {@code ChunkedArray.OfLong} with the elements of this stream
+     * @see #of(ChunkedArray.OfLong)
+     * @since 1.2.2
+     */
+    @NotNull
+    public ChunkedArray.OfLong toChunkedArray() {
+        return new ChunkedArray.OfLong(Operators.toLongBuffer(iterator));
+    }
+
     /**
      * Collects elements to {@code supplier} provided container by applying the given accumulation function.
      *
@@ -968,12 +1212,14 @@ public final class LongStream implements Closeable {
      */
     @Nullable
     public <R> R collect(@NotNull Supplier<R> supplier,
-                         @NotNull ObjLongConsumer<R> accumulator) {
+                         @NotNull final ObjLongConsumer<R> accumulator) {
         final R result = supplier.get();
-        while (iterator.hasNext()) {
-            final long value = iterator.nextLong();
-            accumulator.accept(result, value);
-        }
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                accumulator.accept(result, value);
+            }
+        });
         return result;
     }
 
@@ -983,11 +1229,18 @@ public final class LongStream implements Closeable {
      * @return the sum of elements in this stream
      */
     public long sum() {
-        long sum = 0;
-        while (iterator.hasNext()) {
-            sum += iterator.nextLong();
+        if (iterator instanceof LongRangeClosed) {
+            // Arithmetic progression, no need to visit elements
+            return ((LongRangeClosed) iterator).sum();
         }
-        return sum;
+        final long[] sum = { 0 };
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                sum[0] += value;
+            }
+        });
+        return sum[0];
     }
 
     /**
@@ -1031,15 +1284,24 @@ public final class LongStream implements Closeable {
      *
      * <p>This is a terminal operation.
      *
+     * <p>If the size of an array, list or range source is preserved by the intermediate
+     * operations (like {@code map} or {@code limit}), the elements are not visited.
+     *
      * @return the count of elements in this stream
      */
     public long count() {
-        long count = 0;
-        while (iterator.hasNext()) {
-            iterator.nextLong();
-            count++;
+        final long size = Operators.exactSize(iterator);
+        if (size >= 0 && Operators.advance(iterator, size)) {
+            return size;
         }
-        return count;
+        final long[] count = { 0L };
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                count[0]++;
+            }
+        });
+        return count[0];
     }
 
     /**
@@ -1164,6 +1426,10 @@ public final class LongStream implements Closeable {
      */
     @NotNull
     public OptionalLong findLast() {
+        final long size = Operators.exactSize(iterator);
+        if (size > 0 && Operators.advance(iterator, size - 1)) {
+            return findFirst();
+        }
         return reduce(new LongBinaryOperator() {
             @Override
             public long applyAsLong(long left, long right) {
@@ -1243,6 +1509,41 @@ public final class LongStream implements Closeable {
         return OptionalLong.of(singleCandidate);
     }
 
+    /**
+     * Returns {@code LongStream} which collects metrics of each following stage of the pipeline:
+     * number of input and output elements, selectivity, time and,
+     * where the JVM exposes it, number of allocated bytes.
+     *
+     * <p>Metrics are reported to the sink once, when the last stage is exhausted
+     * or when the stream is closed, whichever comes first.
+     * Instrumented stages are measured element by element and are not fused,
+     * so instrumentation has overhead. Streams without instrumentation have no overhead.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param sink  the sink to report metrics to
+     * @return the new instrumented stream
+     * @throws NullPointerException if {@code sink} is null
+     * @throws IllegalStateException if the stream is already instrumented
+     * @since 1.2.2
+     */
+    @NotNull
+    public LongStream instrumented(@NotNull MetricsSink sink) {
+        Objects.requireNonNull(sink);
+        if (params != null && params.instrumentation != null) {
+            throw new IllegalStateException("Stream is already instrumented");
+        }
+        final Instrumentation instrumentation = new Instrumentation(sink);
+        final Params newParams = Params.wrapWithCloseHandler(params, new Runnable() {
+            @Override
+            public void run() {
+                instrumentation.report();
+            }
+        });
+        newParams.instrumentation = instrumentation;
+        return new LongStream(newParams, iterator);
+    }
+
     /**
      * Adds close handler to the current stream.
      *
@@ -1273,12 +1574,4 @@ public final class LongStream implements Closeable {
             params.closeHandler = null;
         }
     }
-
-
-    private static final ToLongFunction<Long> UNBOX_FUNCTION = new ToLongFunction<Long>() {
-        @Override
-        public long applyAsLong(Long t) {
-            return t;
-        }
-    };
 }
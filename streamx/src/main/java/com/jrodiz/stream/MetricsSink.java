@@ -0,0 +1,21 @@
+package com.jrodiz.stream;
+
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives metrics of an instrumented stream pipeline.
+ *
+ * @see Stream#instrumented(MetricsSink)
+ * @since 1.2.2
+ */
+public interface MetricsSink {
+
+    /**
+     * Called once, when the last stage of the pipeline is exhausted
+     * or when the stream is closed, whichever comes first.
+     *
+     * @param stages  metrics of each stage, from source to the last stage
+     */
+    void report(@NotNull List<StageMetrics> stages);
+}
@@ -0,0 +1,84 @@
+package com.jrodiz.stream;
+
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Fetches pages of elements from a paginated source.
+ * Each page contains the cursor of the next page, or {@code null} if it is the last page.
+ *
+ * @param <C> the type of the cursor
+ * @param <T> the type of the elements
+ * @see Stream#ofPages(PageFetcher)
+ * @since 1.2.2
+ */
+public interface PageFetcher<C, T> {
+
+    /**
+     * Fetches the page at the cursor. May be called on a background thread,
+     * but never concurrently for the same stream.
+     *
+     * @param cursor  the cursor of the page, {@code null} for the first page
+     * @return the page
+     * @throws Exception if the page cannot be fetched
+     */
+    @NotNull
+    Page<C, T> fetch(@Nullable C cursor) throws Exception;
+
+    /**
+     * Elements of a page and the cursor of the next page.
+     *
+     * @param <C> the type of the cursor
+     * @param <T> the type of the elements
+     */
+    final class Page<C, T> {
+
+        private final List<? extends T> elements;
+        private final C nextCursor;
+
+        /**
+         * Creates a page.
+         *
+         * @param elements  the elements of the page
+         * @param nextCursor  the cursor of the next page, {@code null} if it is the last page
+         */
+        public Page(@NotNull List<? extends T> elements, @Nullable C nextCursor) {
+            this.elements = Objects.requireNonNull(elements);
+            this.nextCursor = nextCursor;
+        }
+
+        /**
+         * Creates the last page.
+         *
+         * @param <C> the type of the cursor
+         * @param <T> the type of the elements
+         * @param elements  the elements of the page
+         * @return the page
+         */
+        @NotNull
+        public static <C, T> Page<C, T> last(@NotNull List<? extends T> elements) {
+            return new Page<C, T>(elements, null);
+        }
+
+        /**
+         * The elements of the page.
+         *
+         * @return the elements
+         */
+        @NotNull
+        public List<? extends T> getElements() {
+            return elements;
+        }
+
+        /**
+         * The cursor of the next page.
+         *
+         * @return the cursor, or {@code null} if it is the last page
+         */
+        @Nullable
+        public C getNextCursor() {
+            return nextCursor;
+        }
+    }
+}
@@ -0,0 +1,469 @@
+package com.jrodiz.stream;
+
+import com.jrodiz.stream.function.BiConsumer;
+import com.jrodiz.stream.function.BiFunction;
+import com.jrodiz.stream.function.BinaryOperator;
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.Predicate;
+import com.jrodiz.stream.function.Supplier;
+import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.internal.ParallelEvaluator;
+import com.jrodiz.stream.internal.Params;
+import com.jrodiz.stream.iterator.SplittableIterator;
+import com.jrodiz.stream.operator.ObjFilter;
+import com.jrodiz.stream.operator.ObjFlatMap;
+import com.jrodiz.stream.operator.ObjMap;
+import com.jrodiz.stream.operator.ObjPeek;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A sequence of elements supporting parallel aggregate operations.
+ *
+ * <p>The source is split into chunks, stateless intermediate operations
+ * are applied to each chunk on a {@code ForkJoinPool}, and the chunk results
+ * are combined in encounter order by terminal operations.
+ * Array and random access list sources are split without copying,
+ * other sources are buffered when a terminal operation is executed.
+ *
+ * <p>Functions passed to operations of this stream must be thread-safe.
+ *
+ * <p>{@code ForkJoinPool} is available since Android 5.0 (API 21).
+ * On older versions, and when the pool has a single thread, terminal operations
+ * process all elements as one chunk on the calling thread with the same results.
+ *
+ * @param <T> the type of the stream elements
+ * @see Stream#parallel()
+ * @see Stream#ofParallel(List)
+ * @since 1.2.2
+ */
+public class ParallelStream<T> implements Closeable {
+
+    private final Params params;
+    private final Iterator<?> source;
+    private final Function<Iterator<?>, Iterator<? extends T>> pipeline;
+
+    ParallelStream(Params params, Iterator<? extends T> source) {
+        this(params, source, ParallelStream.<T>sourcePipeline());
+    }
+
+    private ParallelStream(Params params, Iterator<?> source,
+                           Function<Iterator<?>, Iterator<? extends T>> pipeline) {
+        this.params = params;
+        this.source = source;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Returns {@code ParallelStream} with elements that satisfy the given predicate.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param predicate  the predicate used to filter elements
+     * @return the new stream
+     * @see Stream#filter(Predicate)
+     */
+    @NotNull
+    public ParallelStream<T> filter(@NotNull final Predicate<? super T> predicate) {
+        return then(new Function<Iterator<? extends T>, Iterator<? extends T>>() {
+            @NotNull
+            @Override
+            public Iterator<? extends T> apply(@NotNull Iterator<? extends T> iterator) {
+                return new ObjFilter<T>(iterator, predicate);
+            }
+        });
+    }
+
+    /**
+     * Returns {@code ParallelStream} with elements that does not satisfy the given predicate.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param predicate  the predicate used to filter elements
+     * @return the new stream
+     * @see Stream#filterNot(Predicate)
+     */
+    @NotNull
+    public ParallelStream<T> filterNot(@NotNull final Predicate<? super T> predicate) {
+        return filter(Predicate.Util.negate(predicate));
+    }
+
+    /**
+     * Returns {@code ParallelStream} with elements that obtained by applying the given function.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <R> the type elements of resulting stream
+     * @param mapper  the mapper function used to apply to each element
+     * @return the new stream
+     * @see Stream#map(Function)
+     */
+    @NotNull
+    public <R> ParallelStream<R> map(@NotNull final Function<? super T, ? extends R> mapper) {
+        return then(new Function<Iterator<? extends T>, Iterator<? extends R>>() {
+            @NotNull
+            @Override
+            public Iterator<? extends R> apply(@NotNull Iterator<? extends T> iterator) {
+                return new ObjMap<T, R>(iterator, mapper);
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the results of replacing each element of
+     * this stream with the contents of a mapped stream produced by applying
+     * the provided mapping function to each element.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <R> the type of elements in resulting stream
+     * @param mapper  the mapper function used to apply to each element
+     * @return the new stream
+     * @see Stream#flatMap(Function)
+     */
+    @NotNull
+    public <R> ParallelStream<R> flatMap(
+            @NotNull final Function<? super T, ? extends Stream<? extends R>> mapper) {
+        return then(new Function<Iterator<? extends T>, Iterator<? extends R>>() {
+            @NotNull
+            @Override
+            public Iterator<? extends R> apply(@NotNull Iterator<? extends T> iterator) {
+                return new ObjFlatMap<T, R>(iterator, mapper);
+            }
+        });
+    }
+
+    /**
+     * Performs provided action on each element.
+     *
+     * <p>This is an intermediate operation.
+     * The action is performed on worker threads in no particular order.
+     *
+     * @param action  the action to be performed on each element
+     * @return the new stream
+     * @see Stream#peek(Consumer)
+     */
+    @NotNull
+    public ParallelStream<T> peek(@NotNull final Consumer<? super T> action) {
+        return then(new Function<Iterator<? extends T>, Iterator<? extends T>>() {
+            @NotNull
+            @Override
+            public Iterator<? extends T> apply(@NotNull Iterator<? extends T> iterator) {
+                return new ObjPeek<T>(iterator, action);
+            }
+        });
+    }
+
+    /**
+     * Returns sequential {@code Stream} which applies operations of this stream
+     * to the source elements on the calling thread.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @return the new sequential stream
+     */
+    @NotNull
+    public Stream<T> sequential() {
+        return new Stream<T>(params, pipeline.apply(source));
+    }
+
+    /**
+     * Performs the given action on each element.
+     *
+     * <p>This is a terminal operation.
+     * The action is performed on worker threads in no particular order.
+     *
+     * @param action  the action to be performed on each element
+     */
+    public void forEach(@NotNull final Consumer<? super T> action) {
+        evaluate(new Function<Iterator<? extends T>, Void>() {
+            @Override
+            public Void apply(@NotNull Iterator<? extends T> iterator) {
+                while (iterator.hasNext()) {
+                    action.accept(iterator.next());
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Reduces the elements using provided identity value, accumulation function
+     * and combining function.
+     *
+     * <p>This is a terminal operation.
+     *
+     * <p>Each chunk is reduced starting from {@code identity},
+     * then chunk results are merged by {@code combiner} in encounter order.
+     *
+     * @param <R> the type of the result
+     * @param identity  the initial value, must be an identity for the combiner
+     * @param accumulator  the accumulation function
+     * @param combiner  the function which combines results of two chunks
+     * @return the result of the reduction
+     * @see Stream#reduce(Object, BiFunction)
+     */
+    @Nullable
+    public <R> R reduce(@Nullable final R identity,
+                        @NotNull final BiFunction<? super R, ? super T, ? extends R> accumulator,
+                        @NotNull BinaryOperator<R> combiner) {
+        final List<R> results = evaluate(new Function<Iterator<? extends T>, R>() {
+            @Override
+            public R apply(@NotNull Iterator<? extends T> iterator) {
+                return new Stream<T>(null, iterator).reduce(identity, accumulator);
+            }
+        });
+        R result = identity;
+        for (R chunkResult : results) {
+            result = combiner.apply(result, chunkResult);
+        }
+        return result;
+    }
+
+    /**
+     * Reduces the elements using provided associative accumulation function.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param accumulator  the associative accumulation function
+     * @return the result of the reduction
+     * @see Stream#reduce(BiFunction)
+     */
+    @NotNull
+    public Optional<T> reduce(@NotNull final BiFunction<T, T, T> accumulator) {
+        final List<Optional<T>> results = evaluate(new Function<Iterator<? extends T>, Optional<T>>() {
+            @NotNull
+            @Override
+            public Optional<T> apply(@NotNull Iterator<? extends T> iterator) {
+                return new Stream<T>(null, iterator).reduce(accumulator);
+            }
+        });
+        boolean foundAny = false;
+        T result = null;
+        for (Optional<T> chunkResult : results) {
+            if (!chunkResult.isPresent()) continue;
+            if (!foundAny) {
+                foundAny = true;
+                result = chunkResult.get();
+            } else {
+                result = accumulator.apply(result, chunkResult.get());
+            }
+        }
+        return foundAny ? Optional.of(result) : Optional.<T>empty();
+    }
+
+    /**
+     * Collects elements to {@code container} provided by {@code supplier}.
+     * Each chunk is collected to its own container, then containers
+     * are merged into the first one by {@code combiner} in encounter order.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param <R> the type of the result
+     * @param supplier  the supplier function that provides container
+     * @param accumulator  the accumulation function
+     * @param combiner  the function which merges second container into the first one
+     * @return the result of collect elements
+     * @see Stream#collect(Supplier, BiConsumer)
+     */
+    @Nullable
+    public <R> R collect(@NotNull final Supplier<R> supplier,
+                         @NotNull final BiConsumer<R, ? super T> accumulator,
+                         @NotNull BiConsumer<R, R> combiner) {
+        final List<R> results = evaluate(new Function<Iterator<? extends T>, R>() {
+            @Override
+            public R apply(@NotNull Iterator<? extends T> iterator) {
+                return new Stream<T>(null, iterator).collect(supplier, accumulator);
+            }
+        });
+        final R result = results.get(0);
+        for (int i = 1; i < results.size(); i++) {
+            combiner.accept(result, results.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Collects elements with {@code collector}.
+     * Each chunk is collected to its own container, then containers
+     * are merged by {@link Collector#combiner()} in encounter order.
+     * Collectors which are both {@code CONCURRENT} and {@code UNORDERED}
+     * accumulate all chunks into a single shared container.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param <R> the type of result
+     * @param <A> the intermediate used by {@code Collector}
+     * @param collector  the {@code Collector}
+     * @return the result of collect elements
+     * @see Stream#collect(Collector)
+     */
+    @Nullable
+    public <R, A> R collect(@NotNull final Collector<? super T, A, R> collector) {
+        final Set<Collector.Characteristics> characteristics = collector.characteristics();
+        final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        final A container;
+        if (characteristics.contains(Collector.Characteristics.CONCURRENT)
+                && characteristics.contains(Collector.Characteristics.UNORDERED)) {
+            final A shared = collector.supplier().get();
+            forEach(new Consumer<T>() {
+                @Override
+                public void accept(T value) {
+                    accumulator.accept(shared, value);
+                }
+            });
+            container = shared;
+        } else {
+            final List<A> results = evaluate(new Function<Iterator<? extends T>, A>() {
+                @Override
+                public A apply(@NotNull Iterator<? extends T> iterator) {
+                    final A chunkContainer = collector.supplier().get();
+                    while (iterator.hasNext()) {
+                        accumulator.accept(chunkContainer, iterator.next());
+                    }
+                    return chunkContainer;
+                }
+            });
+            final BinaryOperator<A> combiner = collector.combiner();
+            A result = results.get(0);
+            for (int i = 1; i < results.size(); i++) {
+                result = combiner.apply(result, results.get(i));
+            }
+            container = result;
+        }
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Collects elements to a new {@code List} preserving encounter order.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @return a new {@code List}
+     * @see Stream#toList()
+     */
+    @NotNull
+    public List<T> toList() {
+        final List<List<T>> results = evaluate(new Function<Iterator<? extends T>, List<T>>() {
+            @NotNull
+            @Override
+            public List<T> apply(@NotNull Iterator<? extends T> iterator) {
+                return Operators.<T>toList(iterator);
+            }
+        });
+        int size = 0;
+        for (List<T> chunk : results) {
+            size += chunk.size();
+        }
+        final List<T> result = new ArrayList<T>(size);
+        for (List<T> chunk : results) {
+            result.addAll(chunk);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the count of elements in this stream.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @return the count of elements
+     * @see Stream#count()
+     */
+    public long count() {
+        final List<Long> results = evaluate(new Function<Iterator<? extends T>, Long>() {
+            @NotNull
+            @Override
+            public Long apply(@NotNull Iterator<? extends T> iterator) {
+                return new Stream<T>(null, iterator).count();
+            }
+        });
+        long count = 0;
+        for (Long chunkCount : results) {
+            count += chunkCount;
+        }
+        return count;
+    }
+
+    /**
+     * Adds close handler to the current stream.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param closeHandler  an action to execute when the stream is closed
+     * @return the new stream with the close handler
+     * @see Stream#onClose(Runnable)
+     */
+    @NotNull
+    public ParallelStream<T> onClose(@NotNull final Runnable closeHandler) {
+        Objects.requireNonNull(closeHandler);
+        final Params newParams = Params.wrapWithCloseHandler(params, closeHandler);
+        return new ParallelStream<T>(newParams, source, pipeline);
+    }
+
+    /**
+     * Causes close handler to be invoked if it exists.
+     * Since most of the stream sources are not IO,
+     * it is not necessary to close all streams.
+     */
+    @Override
+    public void close() {
+        if (params != null && params.closeHandler != null) {
+            params.closeHandler.run();
+            params.closeHandler = null;
+        }
+    }
+
+    @NotNull
+    private <R> ParallelStream<R> then(
+            @NotNull final Function<Iterator<? extends T>, Iterator<? extends R>> stage) {
+        final Function<Iterator<?>, Iterator<? extends T>> upstream = pipeline;
+        return new ParallelStream<R>(params, source, new Function<Iterator<?>, Iterator<? extends R>>() {
+            @NotNull
+            @Override
+            public Iterator<? extends R> apply(@NotNull Iterator<?> iterator) {
+                return stage.apply(upstream.apply(iterator));
+            }
+        });
+    }
+
+    @NotNull
+    private <R> List<R> evaluate(@NotNull final Function<Iterator<? extends T>, R> terminal) {
+        final List<?> elements = sourceElements();
+        return ParallelEvaluator.evaluate(elements.size(), new ParallelEvaluator.ChunkFunction<R>() {
+            @Override
+            public R apply(int from, int to) {
+                return terminal.apply(pipeline.apply(elements.subList(from, to).iterator()));
+            }
+        });
+    }
+
+    @NotNull
+    private List<?> sourceElements() {
+        if (source instanceof SplittableIterator) {
+            final List<?> remaining = ((SplittableIterator<?>) source).remaining();
+            if (remaining != null) {
+                return remaining;
+            }
+        }
+        return Operators.toList(source);
+    }
+
+    @NotNull
+    private static <T> Function<Iterator<?>, Iterator<? extends T>> sourcePipeline() {
+        return new Function<Iterator<?>, Iterator<? extends T>>() {
+            @NotNull
+            @Override
+            @SuppressWarnings("unchecked")
+            public Iterator<? extends T> apply(@NotNull Iterator<?> iterator) {
+                return (Iterator<? extends T>) iterator;
+            }
+        };
+    }
+}
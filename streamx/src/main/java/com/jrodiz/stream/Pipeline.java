@@ -0,0 +1,528 @@
+package com.jrodiz.stream;
+
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.Predicate;
+import com.jrodiz.stream.iterator.LazyIterator;
+import com.jrodiz.stream.operator.*;
+import java.util.Comparator;
+import java.util.Iterator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A sequence of intermediate operations, which is built once and applied to many sources.
+ *
+ * <p>Stages are validated and optimized when the pipeline is built:
+ * adjacent {@code map}, {@code filter} and {@code peek} stages are fused,
+ * {@code skip} and {@code limit} stages are folded, and {@code sorted().limit(k)}
+ * becomes a top-k stage. Applying the pipeline only creates the iterators of its stages.
+ *
+ * <p>Pipelines are immutable and can be shared between threads,
+ * as long as the functions passed to its stages are thread-safe.
+ *
+ * <p>Example:
+ * <pre>
+ * Pipeline&lt;String, Integer&gt; lengths = Pipeline.&lt;String&gt;identity()
+ *         .filter(s -&gt; !s.isEmpty())
+ *         .map(String::length)
+ *         .limit(10);
+ * List&lt;Integer&gt; result = lengths.apply(words).toList();
+ * </pre>
+ *
+ * @param <T> the type of the source elements
+ * @param <R> the type of the result elements
+ * @since 1.2.2
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class Pipeline<T, R> {
+
+    private static final Pipeline<?, ?> IDENTITY = new Pipeline<Object, Object>(new Stage[0]);
+
+    /**
+     * Returns an empty pipeline, which emits source elements as is.
+     *
+     * @param <T> the type of the elements
+     * @return the empty pipeline
+     */
+    @NotNull
+    public static <T> Pipeline<T, T> identity() {
+        return (Pipeline<T, T>) IDENTITY;
+    }
+
+    private final Stage[] stages;
+
+    private Pipeline(@NotNull Stage[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Returns pipeline, which also applies the mapping function to each element.
+     *
+     * @param <U> the type of the result elements
+     * @param mapper  the mapping function
+     * @return the new pipeline
+     * @throws NullPointerException if {@code mapper} is null
+     * @see Stream#map(Function)
+     */
+    @NotNull
+    public <U> Pipeline<T, U> map(@NotNull Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        final Stage last = last();
+        if (last instanceof MapStage) {
+            final Function composed = Function.Util.andThen(((MapStage) last).mapper, mapper);
+            return replaceLast(new MapStage(composed));
+        }
+        return append(new MapStage(mapper));
+    }
+
+    /**
+     * Returns pipeline, which also keeps only elements that match the given predicate.
+     *
+     * @param predicate  the filtering predicate
+     * @return the new pipeline
+     * @throws NullPointerException if {@code predicate} is null
+     * @see Stream#filter(Predicate)
+     */
+    @NotNull
+    public Pipeline<T, R> filter(@NotNull Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate);
+        final Stage last = last();
+        if (last instanceof MapStage) {
+            return replaceLast(new MapFilterStage(((MapStage) last).mapper, predicate));
+        }
+        if (last instanceof FilterStage) {
+            return replaceLast(new FilterStage(
+                    Predicate.Util.and(((FilterStage) last).predicate, predicate)));
+        }
+        if (last instanceof MapFilterStage) {
+            final MapFilterStage mapFilter = (MapFilterStage) last;
+            return replaceLast(new MapFilterStage(mapFilter.mapper,
+                    Predicate.Util.and(mapFilter.predicate, predicate)));
+        }
+        return append(new FilterStage(predicate));
+    }
+
+    /**
+     * Returns pipeline, which also keeps only elements that are instances of the given class.
+     *
+     * @param <U> the type of the result elements
+     * @param clazz  the class to filter elements by
+     * @return the new pipeline
+     * @throws NullPointerException if {@code clazz} is null
+     * @see Stream#select(Class)
+     */
+    @NotNull
+    public <U> Pipeline<T, U> select(@NotNull final Class<U> clazz) {
+        Objects.requireNonNull(clazz);
+        return (Pipeline<T, U>) filter(new Predicate<R>() {
+            @Override
+            public boolean test(R value) {
+                return clazz.isInstance(value);
+            }
+        });
+    }
+
+    /**
+     * Returns pipeline, which also performs the given action on each element.
+     *
+     * @param action  the action
+     * @return the new pipeline
+     * @throws NullPointerException if {@code action} is null
+     * @see Stream#peek(Consumer)
+     */
+    @NotNull
+    public Pipeline<T, R> peek(@NotNull Consumer<? super R> action) {
+        Objects.requireNonNull(action);
+        final Stage last = last();
+        if (last instanceof PeekStage) {
+            return replaceLast(new PeekStage(
+                    Consumer.Util.andThen(((PeekStage) last).action, action)));
+        }
+        return append(new PeekStage(action));
+    }
+
+    /**
+     * Returns pipeline, which also replaces each element with the contents of a mapped stream.
+     *
+     * @param <U> the type of the result elements
+     * @param mapper  the mapping function
+     * @return the new pipeline
+     * @throws NullPointerException if {@code mapper} is null
+     * @see Stream#flatMap(Function)
+     */
+    @NotNull
+    public <U> Pipeline<T, U> flatMap(@NotNull final Function<? super R, ? extends Stream<? extends U>> mapper) {
+        Objects.requireNonNull(mapper);
+        return append(new Stage() {
+            @NotNull
+            @Override
+            Iterator<?> apply(@NotNull Iterator<?> iterator) {
+                return new ObjFlatMap(iterator, mapper);
+            }
+        });
+    }
+
+    /**
+     * Returns pipeline, which also removes duplicate elements.
+     *
+     * @return the new pipeline
+     * @see Stream#distinct()
+     */
+    @NotNull
+    public Pipeline<T, R> distinct() {
+        return append(new Stage() {
+            @NotNull
+            @Override
+            Iterator<?> apply(@NotNull Iterator<?> iterator) {
+                return new ObjDistinct(iterator);
+            }
+        });
+    }
+
+    /**
+     * Returns pipeline, which also sorts elements in natural order.
+     *
+     * @return the new pipeline
+     * @see Stream#sorted()
+     */
+    @NotNull
+    public Pipeline<T, R> sorted() {
+        return sorted(null);
+    }
+
+    /**
+     * Returns pipeline, which also sorts elements in order of the given comparator.
+     *
+     * @param comparator  the comparator, or {@code null} for natural order
+     * @return the new pipeline
+     * @see Stream#sorted(Comparator)
+     */
+    @NotNull
+    public Pipeline<T, R> sorted(@Nullable Comparator<? super R> comparator) {
+        if (comparator == null) {
+            return append(new SortedStage(ComparatorCompat.<Comparable<Object>>naturalOrder()));
+        }
+        return append(new SortedStage(comparator));
+    }
+
+    /**
+     * Returns pipeline, which also sorts elements by keys, extracted with the given function.
+     *
+     * @param <K> the type of the keys
+     * @param f  the key extractor function
+     * @return the new pipeline
+     * @throws NullPointerException if {@code f} is null
+     * @see Stream#sortBy(Function)
+     */
+    @NotNull
+    public <K extends Comparable<? super K>> Pipeline<T, R> sortBy(
+            @NotNull Function<? super R, ? extends K> f) {
+        return sorted(ComparatorCompat.comparing(f));
+    }
+
+    /**
+     * Returns pipeline, which also takes elements while the predicate is true.
+     *
+     * @param predicate  the predicate
+     * @return the new pipeline
+     * @throws NullPointerException if {@code predicate} is null
+     * @see Stream#takeWhile(Predicate)
+     */
+    @NotNull
+    public Pipeline<T, R> takeWhile(@NotNull final Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate);
+        return append(new Stage() {
+            @NotNull
+            @Override
+            Iterator<?> apply(@NotNull Iterator<?> iterator) {
+                return new ObjTakeWhile(iterator, predicate);
+            }
+        });
+    }
+
+    /**
+     * Returns pipeline, which also drops elements while the predicate is true.
+     *
+     * @param predicate  the predicate
+     * @return the new pipeline
+     * @throws NullPointerException if {@code predicate} is null
+     * @see Stream#dropWhile(Predicate)
+     */
+    @NotNull
+    public Pipeline<T, R> dropWhile(@NotNull final Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate);
+        return append(new Stage() {
+            @NotNull
+            @Override
+            Iterator<?> apply(@NotNull Iterator<?> iterator) {
+                return new ObjDropWhile(iterator, predicate);
+            }
+        });
+    }
+
+    /**
+     * Returns pipeline, which also skips the first {@code n} elements.
+     *
+     * @param n  the number of elements to skip
+     * @return the new pipeline
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @see Stream#skip(long)
+     */
+    @NotNull
+    public Pipeline<T, R> skip(long n) {
+        if (n < 0) throw new IllegalArgumentException("n cannot be negative");
+        if (n == 0) return this;
+        final Stage last = last();
+        if (last instanceof SkipStage) {
+            return replaceLast(new SkipStage(saturatedAdd(((SkipStage) last).n, n)));
+        }
+        if (last instanceof LimitStage) {
+            // limit(a).skip(b) is the same as skip(b).limit(a - b)
+            final long maxSize = ((LimitStage) last).maxSize;
+            return withoutLast().skip(n).limit(Math.max(0L, maxSize - n));
+        }
+        return append(new SkipStage(n));
+    }
+
+    /**
+     * Returns pipeline, which also takes at most {@code maxSize} elements.
+     *
+     * @param maxSize  the max number of elements
+     * @return the new pipeline
+     * @throws IllegalArgumentException if {@code maxSize} is negative
+     * @see Stream#limit(long)
+     */
+    @NotNull
+    public Pipeline<T, R> limit(long maxSize) {
+        if (maxSize < 0) throw new IllegalArgumentException("maxSize cannot be negative");
+        final Stage last = last();
+        if (last instanceof LimitStage) {
+            return replaceLast(new LimitStage(Math.min(((LimitStage) last).maxSize, maxSize)));
+        }
+        if (maxSize == 0) {
+            // Empty limit never pulls from the previous stages, so sorting is not fused
+            return append(new LimitStage(0));
+        }
+        if (last instanceof SortedStage) {
+            return replaceLast(new TopKStage(((SortedStage) last).comparator, maxSize));
+        }
+        if (last instanceof TopKStage) {
+            final TopKStage topK = (TopKStage) last;
+            return replaceLast(new TopKStage(topK.comparator, Math.min(topK.k, maxSize)));
+        }
+        return append(new LimitStage(maxSize));
+    }
+
+    /**
+     * Returns number of stages after optimization.
+     *
+     * @return the number of stages
+     */
+    public int stageCount() {
+        return stages.length;
+    }
+
+    /**
+     * Applies pipeline to the elements of the {@code Iterable}.
+     *
+     * @param iterable  the source of elements
+     * @return the stream of result elements
+     * @throws NullPointerException if {@code iterable} is null
+     */
+    @NotNull
+    public Stream<R> apply(@NotNull Iterable<? extends T> iterable) {
+        Objects.requireNonNull(iterable);
+        return apply(new LazyIterator<T>(iterable));
+    }
+
+    /**
+     * Applies pipeline to the elements of the array.
+     *
+     * @param elements  the source of elements
+     * @return the stream of result elements
+     * @throws NullPointerException if {@code elements} is null
+     */
+    @NotNull
+    public Stream<R> apply(@NotNull T[] elements) {
+        Objects.requireNonNull(elements);
+        return apply(new ObjArray<T>(elements));
+    }
+
+    /**
+     * Applies pipeline to the elements of the iterator.
+     *
+     * @param iterator  the source of elements
+     * @return the stream of result elements
+     * @throws NullPointerException if {@code iterator} is null
+     */
+    @NotNull
+    public Stream<R> apply(@NotNull Iterator<? extends T> iterator) {
+        Objects.requireNonNull(iterator);
+        Iterator<?> result = iterator;
+        for (Stage stage : stages) {
+            result = stage.apply(result);
+        }
+        return new Stream<R>(null, (Iterator<? extends R>) result);
+    }
+
+    @Nullable
+    private Stage last() {
+        return (stages.length == 0) ? null : stages[stages.length - 1];
+    }
+
+    private <U> Pipeline<T, U> append(@NotNull Stage stage) {
+        final Stage[] newStages = new Stage[stages.length + 1];
+        System.arraycopy(stages, 0, newStages, 0, stages.length);
+        newStages[stages.length] = stage;
+        return new Pipeline<T, U>(newStages);
+    }
+
+    private <U> Pipeline<T, U> replaceLast(@NotNull Stage stage) {
+        final Stage[] newStages = stages.clone();
+        newStages[stages.length - 1] = stage;
+        return new Pipeline<T, U>(newStages);
+    }
+
+    private Pipeline<T, R> withoutLast() {
+        final Stage[] newStages = new Stage[stages.length - 1];
+        System.arraycopy(stages, 0, newStages, 0, newStages.length);
+        return new Pipeline<T, R>(newStages);
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        final long sum = a + b;
+        return (sum < 0) ? Long.MAX_VALUE : sum;
+    }
+
+    // Stage creates a new stateful iterator on each apply and holds no state itself
+    private abstract static class Stage {
+
+        @NotNull
+        abstract Iterator<?> apply(@NotNull Iterator<?> iterator);
+    }
+
+    private static final class MapStage extends Stage {
+
+        final Function mapper;
+
+        MapStage(@NotNull Function mapper) {
+            this.mapper = mapper;
+        }
+
+        @NotNull
+        @Override
+        Iterator<?> apply(@NotNull Iterator<?> iterator) {
+            return new ObjMap(iterator, mapper);
+        }
+    }
+
+    private static final class FilterStage extends Stage {
+
+        final Predicate predicate;
+
+        FilterStage(@NotNull Predicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @NotNull
+        @Override
+        Iterator<?> apply(@NotNull Iterator<?> iterator) {
+            return new ObjFilter(iterator, predicate);
+        }
+    }
+
+    private static final class MapFilterStage extends Stage {
+
+        final Function mapper;
+        final Predicate predicate;
+
+        MapFilterStage(@NotNull Function mapper, @NotNull Predicate predicate) {
+            this.mapper = mapper;
+            this.predicate = predicate;
+        }
+
+        @NotNull
+        @Override
+        Iterator<?> apply(@NotNull Iterator<?> iterator) {
+            return new ObjMapFilter(iterator, mapper, predicate);
+        }
+    }
+
+    private static final class PeekStage extends Stage {
+
+        final Consumer action;
+
+        PeekStage(@NotNull Consumer action) {
+            this.action = action;
+        }
+
+        @NotNull
+        @Override
+        Iterator<?> apply(@NotNull Iterator<?> iterator) {
+            return new ObjPeek(iterator, action);
+        }
+    }
+
+    private static final class SkipStage extends Stage {
+
+        final long n;
+
+        SkipStage(long n) {
+            this.n = n;
+        }
+
+        @NotNull
+        @Override
+        Iterator<?> apply(@NotNull Iterator<?> iterator) {
+            return new ObjSkip(iterator, n);
+        }
+    }
+
+    private static final class LimitStage extends Stage {
+
+        final long maxSize;
+
+        LimitStage(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @NotNull
+        @Override
+        Iterator<?> apply(@NotNull Iterator<?> iterator) {
+            return new ObjLimit(iterator, maxSize);
+        }
+    }
+
+    private static final class SortedStage extends Stage {
+
+        final Comparator comparator;
+
+        SortedStage(@NotNull Comparator comparator) {
+            this.comparator = comparator;
+        }
+
+        @NotNull
+        @Override
+        Iterator<?> apply(@NotNull Iterator<?> iterator) {
+            return new ObjSorted(iterator, comparator);
+        }
+    }
+
+    private static final class TopKStage extends Stage {
+
+        final Comparator comparator;
+        final long k;
+
+        TopKStage(@NotNull Comparator comparator, long k) {
+            this.comparator = comparator;
+            this.k = k;
+        }
+
+        @NotNull
+        @Override
+        Iterator<?> apply(@NotNull Iterator<?> iterator) {
+            return new ObjTopK(iterator, k, comparator);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.jrodiz.stream;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writes elements to and reads elements from binary form.
+ * Used by operations which spill elements to temporary files when they exceed the memory budget.
+ *
+ * @param <T> the type of the elements
+ * @see Stream#sorted(java.util.Comparator, int, Serializer)
+ * @since 1.2.2
+ */
+public interface Serializer<T> {
+
+    /**
+     * Writes element.
+     *
+     * @param out  the output
+     * @param value  the element to write
+     * @throws IOException if an I/O error occurs
+     */
+    void write(@NotNull DataOutput out, T value) throws IOException;
+
+    /**
+     * Reads element, which was written by {@link #write(DataOutput, Object)}.
+     *
+     * @param in  the input
+     * @return the element
+     * @throws IOException if an I/O error occurs
+     */
+    T read(@NotNull DataInput in) throws IOException;
+
+    class Util {
+
+        private Util() { }
+
+        /**
+         * Returns {@code Serializer} of lists, which writes the size of a list
+         * and then each element with the given element serializer.
+         *
+         * @param <T> the type of the elements
+         * @param serializer  the serializer of elements
+         * @return a {@code Serializer} of lists
+         */
+        @NotNull
+        public static <T> Serializer<List<T>> listOf(@NotNull final Serializer<T> serializer) {
+            return new Serializer<List<T>>() {
+                @Override
+                public void write(@NotNull DataOutput out, List<T> value) throws IOException {
+                    out.writeInt(value.size());
+                    for (T element : value) {
+                        serializer.write(out, element);
+                    }
+                }
+
+                @Override
+                public List<T> read(@NotNull DataInput in) throws IOException {
+                    final int size = in.readInt();
+                    final List<T> list = new ArrayList<T>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(serializer.read(in));
+                    }
+                    return list;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.jrodiz.stream;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Snapshot of metrics of a single stage of an instrumented stream pipeline.
+ *
+ * <p>Time and allocation of a stage are measured around calls to its iterator,
+ * which include calls to the upstream stages. Self values exclude the upstream stages.
+ *
+ * @see Stream#instrumented(MetricsSink)
+ * @since 1.2.2
+ */
+public final class StageMetrics {
+
+    private final int index;
+    private final String name;
+    private final long elementsIn;
+    private final long elementsOut;
+    private final long cumulativeTimeNanos;
+    private final long selfTimeNanos;
+    private final long allocatedBytes;
+
+    public StageMetrics(int index, @NotNull String name,
+                        long elementsIn, long elementsOut,
+                        long cumulativeTimeNanos, long selfTimeNanos,
+                        long allocatedBytes) {
+        this.index = index;
+        this.name = name;
+        this.elementsIn = elementsIn;
+        this.elementsOut = elementsOut;
+        this.cumulativeTimeNanos = cumulativeTimeNanos;
+        this.selfTimeNanos = selfTimeNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Position of the stage in the pipeline, the source has index 0.
+     *
+     * @return the index of the stage
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Name of the stage, which is the name of its operator.
+     *
+     * @return the name of the stage
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Number of elements received from the upstream stage.
+     * For the source it is the same as {@link #getElementsOut()}.
+     *
+     * @return the number of input elements
+     */
+    public long getElementsIn() {
+        return elementsIn;
+    }
+
+    /**
+     * Number of elements emitted by the stage.
+     *
+     * @return the number of output elements
+     */
+    public long getElementsOut() {
+        return elementsOut;
+    }
+
+    /**
+     * Ratio of output elements to input elements.
+     *
+     * @return the selectivity, or {@code NaN} if the stage received no elements
+     */
+    public double getSelectivity() {
+        return (elementsIn == 0) ? Double.NaN : (double) elementsOut / elementsIn;
+    }
+
+    /**
+     * Time spent in the stage and all upstream stages.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getCumulativeTimeNanos() {
+        return cumulativeTimeNanos;
+    }
+
+    /**
+     * Time spent in the stage itself, without upstream stages.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getSelfTimeNanos() {
+        return selfTimeNanos;
+    }
+
+    /**
+     * Approximate number of bytes allocated by the stage itself, without upstream stages.
+     *
+     * @return the number of bytes, or {@code -1} if the JVM does not expose allocation counters
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "StageMetrics[" + index + ", " + name
+                + ", in=" + elementsIn
+                + ", out=" + elementsOut
+                + ", selfTimeNanos=" + selfTimeNanos
+                + ", allocatedBytes=" + allocatedBytes + ']';
+    }
+}
@@ -2,19 +2,29 @@ package com.jrodiz.stream;
 
 import com.jrodiz.stream.function.*;
 import com.jrodiz.stream.internal.Compose;
+import com.jrodiz.stream.internal.DefaultExecutor;
+import com.jrodiz.stream.internal.Instrumentation;
 import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.internal.Params;
+import com.jrodiz.stream.internal.Partitioner;
+import com.jrodiz.stream.internal.PublisherIterator;
+import com.jrodiz.stream.internal.SpillingGrouper;
+import com.jrodiz.stream.internal.StreamPublisher;
 import com.jrodiz.stream.iterator.IndexedIterator;
 import com.jrodiz.stream.iterator.LazyIterator;
 import com.jrodiz.stream.operator.*;
 import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -80,6 +90,25 @@ public class Stream<T> implements Closeable {
         return new Stream<T>(iterable);
     }
 
+    /**
+     * Creates a {@code ParallelStream} from the elements of the given {@code List}.
+     *
+     * <p>Random access lists are split into chunks without copying,
+     * other lists are buffered when a terminal operation is executed.
+     *
+     * @param <T> the type of the stream elements
+     * @param list  the {@code List} with elements to be passed to stream
+     * @return the new parallel stream
+     * @throws NullPointerException if {@code list} is null
+     * @see #parallel()
+     * @since 1.2.2
+     */
+    @NotNull
+    public static <T> ParallelStream<T> ofParallel(@NotNull List<? extends T> list) {
+        Objects.requireNonNull(list);
+        return new Stream<T>(list).parallel();
+    }
+
     /**
      * Creates a {@code Stream} from the specified values.
      *
@@ -169,6 +198,133 @@ public class Stream<T> implements Closeable {
         return (iterable == null) ? Stream.<T>empty() : Stream.of(iterable);
     }
 
+    /**
+     * Creates a {@code Stream} which receives elements from the publisher.
+     *
+     * <p>The publisher is subscribed when the first element is requested.
+     * At most {@code prefetch} elements are requested ahead, consumed elements are requested
+     * again in batches. The stream blocks until the next element arrives,
+     * errors of the publisher are rethrown. Closing the stream cancels the subscription.
+     *
+     * @param <T> the type of the stream elements
+     * @param publisher  the publisher of elements
+     * @param prefetch  the maximum number of requested elements not consumed yet
+     * @return the new stream
+     * @throws NullPointerException if {@code publisher} is null
+     * @throws IllegalArgumentException if {@code prefetch} is zero or negative
+     * @see #toPublisher(Executor)
+     * @since 1.2.2
+     */
+    @NotNull
+    public static <T> Stream<T> ofPublisher(@NotNull Flow.Publisher<? extends T> publisher, int prefetch) {
+        Objects.requireNonNull(publisher);
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch cannot be zero or negative");
+        final PublisherIterator<T> iterator = new PublisherIterator<T>(publisher, prefetch);
+        return new Stream<T>(iterator).onClose(iterator);
+    }
+
+    /**
+     * Creates a {@code Stream} over elements of a paginated source,
+     * fetching the next page in background while the current page is consumed.
+     *
+     * <p>Pages are fetched on virtual threads if the runtime supports them (Java 21+),
+     * otherwise on a shared pool of daemon threads.
+     * The first page is fetched when the first element is requested.
+     *
+     * @param <C> the type of the page cursor
+     * @param <T> the type of the stream elements
+     * @param fetcher  the fetcher of pages
+     * @return the new stream
+     * @throws NullPointerException if {@code fetcher} is null
+     * @see #ofPages(PageFetcher, int, Executor)
+     * @since 1.2.2
+     */
+    @NotNull
+    public static <C, T> Stream<T> ofPages(@NotNull PageFetcher<C, ? extends T> fetcher) {
+        return ofPages(fetcher, 1, DefaultExecutor.get());
+    }
+
+    /**
+     * Creates a {@code Stream} over elements of a paginated source,
+     * fetching up to {@code prefetchPages} next pages in background while the current page is consumed.
+     *
+     * <p>The first page is fetched when the first element is requested.
+     * Fetching pauses when {@code prefetchPages} pages are waiting to be consumed,
+     * so a downstream {@code limit} or {@code takeWhile} stops it.
+     * Errors of the fetcher or of the executor are rethrown when the failed page is reached.
+     * Closing the stream stops fetching and drops the fetched pages.
+     *
+     * <p>Example:
+     * <pre>
+     * fetcher: (cursor) -&gt; {
+     *     Response r = api.list(cursor, 100);
+     *     return new PageFetcher.Page&lt;&gt;(r.items, r.nextToken);
+     * }
+     * </pre>
+     *
+     * @param <C> the type of the page cursor
+     * @param <T> the type of the stream elements
+     * @param fetcher  the fetcher of pages
+     * @param prefetchPages  the maximum number of pages fetched ahead
+     * @param executor  the executor which runs the fetcher
+     * @return the new stream
+     * @throws NullPointerException if {@code fetcher} or {@code executor} is null
+     * @throws IllegalArgumentException if {@code prefetchPages} is zero or negative
+     * @since 1.2.2
+     */
+    @NotNull
+    public static <C, T> Stream<T> ofPages(@NotNull PageFetcher<C, ? extends T> fetcher,
+                                           int prefetchPages,
+                                           @NotNull Executor executor) {
+        Objects.requireNonNull(fetcher);
+        Objects.requireNonNull(executor);
+        if (prefetchPages <= 0) throw new IllegalArgumentException("prefetchPages cannot be zero or negative");
+        final ObjPages<C, T> pages = new ObjPages<C, T>(fetcher, prefetchPages, executor);
+        return new Stream<T>(pages).onClose(pages);
+    }
+
+    /**
+     * Creates a {@code Stream} which drains the elements of a blocking queue.
+     *
+     * <p>Elements are moved from the queue into a local buffer in batches,
+     * so the queue lock is taken once per batch instead of once per element.
+     * If the queue is empty, the stream waits up to {@code pollTimeout} for the next element.
+     * The stream ends when the {@code endMarker} is taken from the queue,
+     * or when no element arrives within the timeout.
+     * Elements taken from the queue together with the end marker are put back
+     * to the tail of the queue, so several consumers can share a queue
+     * with one end marker per consumer.
+     * Closing the stream puts back the elements which were taken but not consumed.
+     *
+     * <p>Example:
+     * <pre>
+     * queue: [a, b, c, END]
+     * endMarker: END
+     * result: [a, b, c]
+     * </pre>
+     *
+     * @param <T> the type of the stream elements
+     * @param queue  the queue to drain
+     * @param endMarker  the element which ends the stream, or {@code null} to end only on timeout
+     * @param pollTimeout  how long to wait for an element when the queue is empty
+     * @param unit  the time unit of {@code pollTimeout}
+     * @return the new stream
+     * @throws NullPointerException if {@code queue} or {@code unit} is null
+     * @throws IllegalArgumentException if {@code pollTimeout} is negative
+     * @since 1.2.2
+     */
+    @NotNull
+    public static <T> Stream<T> ofQueue(@NotNull BlockingQueue<T> queue,
+                                        @Nullable T endMarker,
+                                        long pollTimeout,
+                                        @NotNull TimeUnit unit) {
+        Objects.requireNonNull(queue);
+        Objects.requireNonNull(unit);
+        if (pollTimeout < 0) throw new IllegalArgumentException("pollTimeout cannot be negative");
+        final ObjQueue<T> source = new ObjQueue<T>(queue, endMarker, pollTimeout, unit);
+        return new Stream<T>(source).onClose(source);
+    }
+
     /**
      * Creates a {@code Stream<Integer>} from not closed range
      * (from {@code from} inclusive to {@code to} exclusive and incremental step {@code 1}).
@@ -478,6 +634,43 @@ public class Stream<T> implements Closeable {
         return new Stream<T>(new ObjMerge<T>(iterator1, iterator2, selector));
     }
 
+    /**
+     * Merges elements of sorted streams into one sorted stream.
+     *
+     * <p>Each stream must be sorted according to the given comparator.
+     * Merge takes O(log k) comparisons per element, where k is the number of streams.
+     * Merge is stable: equal elements are emitted in order of their streams in the collection.
+     *
+     * <p>Example:
+     * <pre>
+     * streams: [1, 4, 7], [2, 5, 8], [3, 6, 9]
+     * comparator: natural order
+     * result: [1, 2, 3, 4, 5, 6, 7, 8, 9]
+     * </pre>
+     *
+     * @param <T> the type of the elements
+     * @param streams  the sorted streams
+     * @param comparator  the comparator which was used to sort the streams
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} or {@code comparator} is null
+     * @see #merge(Stream, Stream, BiFunction)
+     * @since 1.2.2
+     */
+    @NotNull
+    public static <T> Stream<T> mergeSorted(
+            @NotNull Collection<? extends Stream<? extends T>> streams,
+            @NotNull Comparator<? super T> comparator) {
+        Objects.requireNonNull(streams);
+        Objects.requireNonNull(comparator);
+        final List<Stream<? extends T>> list = new ArrayList<Stream<? extends T>>(streams);
+        final List<Iterator<? extends T>> iterators = new ArrayList<Iterator<? extends T>>(list.size());
+        for (Stream<? extends T> stream : list) {
+            iterators.add(stream.iterator);
+        }
+        final Stream<T> result = new Stream<T>(new ObjMergeSorted<T>(iterators, comparator));
+        return result.onClose(Compose.closeables(list));
+    }
+
 
 //<editor-fold defaultstate="collapsed" desc="Implementation">
     private final Iterator<? extends T> iterator;
@@ -497,7 +690,9 @@ public class Stream<T> implements Closeable {
 
     Stream(Params params, Iterator<? extends T> iterator) {
         this.params = params;
-        this.iterator = iterator;
+        this.iterator = (params != null && params.instrumentation != null)
+                ? params.instrumentation.wrap(iterator)
+                : iterator;
     }
 
     /**
@@ -509,6 +704,27 @@ public class Stream<T> implements Closeable {
         return iterator;
     }
 
+    /**
+     * Returns a publisher of the elements of this stream for a single subscriber.
+     *
+     * <p>This is a terminal operation.
+     * Elements are pulled through the stream operators on the executor only when
+     * requested by {@link Flow.Subscription#request(long)}, each task pulls all outstanding demand.
+     * The stream is closed when all elements are published, an operator fails,
+     * or the subscription is cancelled. Other subscribers receive {@code IllegalStateException}.
+     *
+     * @param executor  the executor which pulls elements and signals the subscriber
+     * @return the publisher
+     * @throws NullPointerException if {@code executor} is null
+     * @see #ofPublisher(Flow.Publisher, int)
+     * @since 1.2.2
+     */
+    @NotNull
+    public Flow.Publisher<T> toPublisher(@NotNull Executor executor) {
+        Objects.requireNonNull(executor);
+        return new StreamPublisher<T>(iterator, this, executor);
+    }
+
     /**
      * Applies custom operator on stream.
      *
@@ -588,7 +804,7 @@ public class Stream<T> implements Closeable {
      */
     @NotNull
     public Stream<T> filter(@NotNull final Predicate<? super T> predicate) {
-        return new Stream<T>(params, new ObjFilter<T>(iterator, predicate));
+        return new Stream<T>(params, Fusion.filter(iterator, predicate));
     }
 
     /**
@@ -743,7 +959,128 @@ public class Stream<T> implements Closeable {
      */
     @NotNull
     public <R> Stream<R> map(@NotNull final Function<? super T, ? extends R> mapper) {
-        return new Stream<R>(params, new ObjMap<T, R>(iterator, mapper));
+        return new Stream<R>(params, Fusion.<T, R>map(iterator, mapper));
+    }
+
+    /**
+     * Returns {@code Stream} with elements obtained by applying the mapper concurrently,
+     * in the order of this stream.
+     *
+     * <p>This is a lazy intermediate operation, suitable for blocking mappers like I/O calls.
+     * When an element is requested, up to {@code maxInFlight} elements of this stream are pulled
+     * and mapped on virtual threads if the runtime supports them (Java 21+),
+     * otherwise on a shared pool of daemon threads.
+     * Results are returned in order, so a slow call delays the following results.
+     * Exceptions of the mapper are rethrown when the failed element is reached.
+     *
+     * <p>Closing the stream cancels calls which are still running.
+     *
+     * <p>Example:
+     * <pre>
+     * maxInFlight: 8
+     * mapper: (id) -&gt; cache.load(id)
+     * stream: [1, 2, 3, 4]
+     * result: [value1, value2, value3, value4]
+     * </pre>
+     *
+     * @param <R> the type elements of resulting stream
+     * @param maxInFlight  the maximum number of concurrent calls of the mapper
+     * @param mapper  the mapper function
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxInFlight} is zero or negative
+     * @see #mapConcurrent(int, Function, Executor)
+     * @see #mapConcurrentUnordered(int, Function)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <R> Stream<R> mapConcurrent(int maxInFlight, @NotNull Function<? super T, ? extends R> mapper) {
+        return mapConcurrent(maxInFlight, mapper, DefaultExecutor.get(), true);
+    }
+
+    /**
+     * Returns {@code Stream} with elements obtained by applying the mapper concurrently
+     * on the given executor, in the order of this stream.
+     *
+     * <p>This is a lazy intermediate operation.
+     * When an element is requested, up to {@code maxInFlight} elements of this stream are pulled
+     * and submitted to the executor. Closing the stream cancels calls which are still running.
+     *
+     * @param <R> the type elements of resulting stream
+     * @param maxInFlight  the maximum number of concurrent calls of the mapper
+     * @param mapper  the mapper function
+     * @param executor  the executor which runs the mapper
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxInFlight} is zero or negative
+     * @see #mapConcurrent(int, Function)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <R> Stream<R> mapConcurrent(int maxInFlight,
+                                       @NotNull Function<? super T, ? extends R> mapper,
+                                       @NotNull Executor executor) {
+        return mapConcurrent(maxInFlight, mapper, executor, true);
+    }
+
+    /**
+     * Returns {@code Stream} with elements obtained by applying the mapper concurrently,
+     * in the order the calls complete.
+     *
+     * <p>This is a lazy intermediate operation.
+     * When an element is requested, up to {@code maxInFlight} elements of this stream are pulled
+     * and mapped on virtual threads if the runtime supports them (Java 21+),
+     * otherwise on a shared pool of daemon threads.
+     * The first completed result is returned, so a slow call does not delay the others.
+     * Closing the stream cancels calls which are still running.
+     *
+     * @param <R> the type elements of resulting stream
+     * @param maxInFlight  the maximum number of concurrent calls of the mapper
+     * @param mapper  the mapper function
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxInFlight} is zero or negative
+     * @see #mapConcurrent(int, Function)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <R> Stream<R> mapConcurrentUnordered(int maxInFlight,
+                                                @NotNull Function<? super T, ? extends R> mapper) {
+        return mapConcurrent(maxInFlight, mapper, DefaultExecutor.get(), false);
+    }
+
+    /**
+     * Returns {@code Stream} with elements obtained by applying the mapper concurrently
+     * on the given executor, in the order the calls complete.
+     *
+     * <p>This is a lazy intermediate operation.
+     * When an element is requested, up to {@code maxInFlight} elements of this stream are pulled
+     * and submitted to the executor. Closing the stream cancels calls which are still running.
+     *
+     * @param <R> the type elements of resulting stream
+     * @param maxInFlight  the maximum number of concurrent calls of the mapper
+     * @param mapper  the mapper function
+     * @param executor  the executor which runs the mapper
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxInFlight} is zero or negative
+     * @see #mapConcurrentUnordered(int, Function)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <R> Stream<R> mapConcurrentUnordered(int maxInFlight,
+                                                @NotNull Function<? super T, ? extends R> mapper,
+                                                @NotNull Executor executor) {
+        return mapConcurrent(maxInFlight, mapper, executor, false);
+    }
+
+    @NotNull
+    private <R> Stream<R> mapConcurrent(int maxInFlight,
+                                        @NotNull Function<? super T, ? extends R> mapper,
+                                        @NotNull Executor executor,
+                                        boolean ordered) {
+        if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight cannot be zero or negative");
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(executor);
+        final ObjMapConcurrent<T, R> operator = new ObjMapConcurrent<T, R>(
+                iterator, maxInFlight, mapper, executor, ordered);
+        return new Stream<R>(Params.wrapWithCloseHandler(params, operator), operator);
     }
 
     /**
@@ -1004,6 +1341,333 @@ public class Stream<T> implements Closeable {
         return new Stream<T>(params, new ObjDistinctBy<T, K>(iterator, classifier));
     }
 
+    /**
+     * Joins elements of this stream with elements of the other stream which have the same key.
+     * Keys are compared with {@code equals}.
+     *
+     * <p>This is a stateful intermediate operation.
+     * The other stream is collected to a hash table when the first element is requested,
+     * the results follow the order of this stream.
+     *
+     * <p>Example:
+     * <pre>
+     * leftKey: (a) -&gt; a.userId
+     * rightKey: (u) -&gt; u.id
+     * combiner: (a, u) -&gt; u.name + ": " + a.text
+     * stream: [{userId: 1, text: "hi"}, {userId: 3, text: "?"}, {userId: 2, text: "yo"}]
+     * other:  [{id: 1, name: "Ann"}, {id: 2, name: "Bob"}]
+     * result: ["Ann: hi", "Bob: yo"]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the keys
+     * @param <R> the type of elements in resulting stream
+     * @param other  the stream to join with
+     * @param leftKey  the function that extracts keys from elements of this stream
+     * @param rightKey  the function that extracts keys from elements of the other stream
+     * @param combiner  the function that combines a pair of matching elements
+     * @return the new stream
+     * @see #joinUnordered(Stream, Function, Function, BiFunction)
+     * @see #leftJoin(Stream, Function, Function, BiFunction)
+     * @see #mergeJoin(Stream, Function, Function, Comparator, BiFunction)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <U, K, R> Stream<R> join(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return hashJoin(other, leftKey, rightKey, combiner, false, false);
+    }
+
+    /**
+     * Joins elements of this stream with elements of the other stream which have the same key,
+     * without guarantees on the order of results.
+     * Keys are compared with {@code equals}.
+     *
+     * <p>This is a stateful intermediate operation.
+     * One side is collected to a hash table when the first element is requested
+     * and the other side is streamed. The other stream is collected, unless
+     * the sizes of both streams are known and this stream is smaller.
+     * So the results follow the order of either this stream or the other stream.
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the keys
+     * @param <R> the type of elements in resulting stream
+     * @param other  the stream to join with
+     * @param leftKey  the function that extracts keys from elements of this stream
+     * @param rightKey  the function that extracts keys from elements of the other stream
+     * @param combiner  the function that combines a pair of matching elements
+     * @return the new stream
+     * @see #join(Stream, Function, Function, BiFunction)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <U, K, R> Stream<R> joinUnordered(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return hashJoin(other, leftKey, rightKey, combiner, false, true);
+    }
+
+    /**
+     * Joins elements of this stream with elements of the other stream which have the same key,
+     * keeping elements of this stream without matches.
+     * For such elements the combiner receives {@code null} as the second argument.
+     * Keys are compared with {@code equals}.
+     *
+     * <p>This is a stateful intermediate operation.
+     * The other stream is collected to a hash table when the first element is requested,
+     * the results follow the order of this stream.
+     *
+     * <p>Example:
+     * <pre>
+     * leftKey: (a) -&gt; a.userId
+     * rightKey: (u) -&gt; u.id
+     * combiner: (a, u) -&gt; (u == null ? "?" : u.name) + ": " + a.text
+     * stream: [{userId: 1, text: "hi"}, {userId: 3, text: "?"}, {userId: 2, text: "yo"}]
+     * other:  [{id: 1, name: "Ann"}, {id: 2, name: "Bob"}]
+     * result: ["Ann: hi", "?: ?", "Bob: yo"]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the keys
+     * @param <R> the type of elements in resulting stream
+     * @param other  the stream to join with
+     * @param leftKey  the function that extracts keys from elements of this stream
+     * @param rightKey  the function that extracts keys from elements of the other stream
+     * @param combiner  the function that combines an element with a matching element or {@code null}
+     * @return the new stream
+     * @see #join(Stream, Function, Function, BiFunction)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <U, K, R> Stream<R> leftJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return hashJoin(other, leftKey, rightKey, combiner, true, false);
+    }
+
+    /**
+     * Returns {@code Stream} with elements which have a matching key in the other stream.
+     * Each element is returned at most once. Keys are compared with {@code equals}.
+     *
+     * <p>This is a stateful intermediate operation.
+     * Keys of the other stream are collected when the first element is requested.
+     *
+     * <p>Example:
+     * <pre>
+     * leftKey: (a) -&gt; a
+     * rightKey: (b) -&gt; b
+     * stream: [1, 2, 3, 4]
+     * other:  [4, 2, 2]
+     * result: [2, 4]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the keys
+     * @param other  the stream to match keys with
+     * @param leftKey  the function that extracts keys from elements of this stream
+     * @param rightKey  the function that extracts keys from elements of the other stream
+     * @return the new stream
+     * @see #antiJoin(Stream, Function, Function)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <U, K> Stream<T> semiJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey) {
+        return semiJoin(other, leftKey, rightKey, false);
+    }
+
+    /**
+     * Returns {@code Stream} with elements which have no matching key in the other stream.
+     * Keys are compared with {@code equals}.
+     *
+     * <p>This is a stateful intermediate operation.
+     * Keys of the other stream are collected when the first element is requested.
+     *
+     * <p>Example:
+     * <pre>
+     * leftKey: (a) -&gt; a
+     * rightKey: (b) -&gt; b
+     * stream: [1, 2, 3, 4]
+     * other:  [4, 2, 2]
+     * result: [1, 3]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the keys
+     * @param other  the stream to match keys with
+     * @param leftKey  the function that extracts keys from elements of this stream
+     * @param rightKey  the function that extracts keys from elements of the other stream
+     * @return the new stream
+     * @see #semiJoin(Stream, Function, Function)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <U, K> Stream<T> antiJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey) {
+        return semiJoin(other, leftKey, rightKey, true);
+    }
+
+    /**
+     * Joins elements of this stream with elements of the other stream which have the same key,
+     * where both streams are already sorted by key according to the comparator.
+     *
+     * <p>This is a lazy intermediate operation.
+     * Both streams are read once side by side, only the elements of the other stream
+     * with the current key are kept in memory. If the streams are not sorted, some matches are lost.
+     *
+     * <p>Example:
+     * <pre>
+     * leftKey: (a) -&gt; a.day
+     * rightKey: (b) -&gt; b.day
+     * comparator: (d1, d2) -&gt; d1.compareTo(d2)
+     * combiner: (a, b) -&gt; a.value + b.value
+     * stream: [{day: 1, value: 10}, {day: 2, value: 20}, {day: 4, value: 40}]
+     * other:  [{day: 2, value: 2}, {day: 3, value: 3}, {day: 4, value: 4}, {day: 4, value: 5}]
+     * result: [22, 44, 45]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the keys
+     * @param <R> the type of elements in resulting stream
+     * @param other  the stream to join with
+     * @param leftKey  the function that extracts keys from elements of this stream
+     * @param rightKey  the function that extracts keys from elements of the other stream
+     * @param comparator  the comparator by which both streams are sorted
+     * @param combiner  the function that combines a pair of matching elements
+     * @return the new stream
+     * @see #join(Stream, Function, Function, BiFunction)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <U, K, R> Stream<R> mergeJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            @NotNull Comparator<? super K> comparator,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return mergeJoin(other, leftKey, rightKey, comparator, combiner, false);
+    }
+
+    /**
+     * Joins elements of this stream with elements of the other stream which have the same key,
+     * keeping elements of this stream without matches.
+     * Both streams must be already sorted by key according to the comparator.
+     * For elements without matches the combiner receives {@code null} as the second argument.
+     *
+     * <p>This is a lazy intermediate operation.
+     * Both streams are read once side by side, only the elements of the other stream
+     * with the current key are kept in memory.
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the keys
+     * @param <R> the type of elements in resulting stream
+     * @param other  the stream to join with
+     * @param leftKey  the function that extracts keys from elements of this stream
+     * @param rightKey  the function that extracts keys from elements of the other stream
+     * @param comparator  the comparator by which both streams are sorted
+     * @param combiner  the function that combines an element with a matching element or {@code null}
+     * @return the new stream
+     * @see #mergeJoin(Stream, Function, Function, Comparator, BiFunction)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <U, K, R> Stream<R> leftMergeJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            @NotNull Comparator<? super K> comparator,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return mergeJoin(other, leftKey, rightKey, comparator, combiner, true);
+    }
+
+    @NotNull
+    private <U, K, R> Stream<R> hashJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner,
+            boolean outer,
+            boolean buildSmaller) {
+        Objects.requireNonNull(other);
+        Objects.requireNonNull(leftKey);
+        Objects.requireNonNull(rightKey);
+        Objects.requireNonNull(combiner);
+        return joined(other, new ObjHashJoin<T, U, K, R>(
+                iterator, other.iterator, leftKey, rightKey, combiner, outer, buildSmaller));
+    }
+
+    @NotNull
+    private <U, K> Stream<T> semiJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            boolean anti) {
+        Objects.requireNonNull(other);
+        Objects.requireNonNull(leftKey);
+        Objects.requireNonNull(rightKey);
+        return joined(other, new ObjHashSemiJoin<T, U, K>(
+                iterator, other.iterator, leftKey, rightKey, anti));
+    }
+
+    @NotNull
+    private <U, K, R> Stream<R> mergeJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            @NotNull Comparator<? super K> comparator,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner,
+            boolean outer) {
+        Objects.requireNonNull(other);
+        Objects.requireNonNull(leftKey);
+        Objects.requireNonNull(rightKey);
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(combiner);
+        return joined(other, new ObjMergeJoin<T, U, K, R>(
+                iterator, other.iterator, leftKey, rightKey, comparator, combiner, outer));
+    }
+
+    @NotNull
+    private <R> Stream<R> joined(@NotNull final Stream<?> other, @NotNull Iterator<? extends R> iterator) {
+        return new Stream<R>(params, iterator).onClose(new Runnable() {
+            @Override
+            public void run() {
+                other.close();
+            }
+        });
+    }
+
+    /**
+     * Returns {@code Stream} with elements in reverse order.
+     *
+     * <p>This is a stateful intermediate operation.
+     * Arrays and random access lists are read backwards, even through {@code map} operations,
+     * other streams are buffered when the first element is requested.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1, 2, 3, 4]
+     * result: [4, 3, 2, 1]
+     * </pre>
+     *
+     * @return the new stream
+     * @since 1.2.2
+     */
+    @NotNull
+    public Stream<T> reverse() {
+        return new Stream<T>(params, ObjReverse.of(iterator));
+    }
+
     /**
      * Returns {@code Stream} with sorted elements (as determinated by {@link Comparable} interface).
      *
@@ -1020,17 +1684,9 @@ public class Stream<T> implements Closeable {
      * @return the new stream
      */
     @NotNull
+    @SuppressWarnings("unchecked")
     public Stream<T> sorted() {
-        return sorted(new Comparator<T>() {
-
-            @SuppressWarnings("unchecked")
-            @Override
-            public int compare(T o1, T o2) {
-                Comparable c1 = (Comparable) o1;
-                Comparable c2 = (Comparable) o2;
-                return c1.compareTo(c2);
-            }
-        });
+        return sorted((Comparator<? super T>) (Comparator<?>) ComparatorCompat.<Comparable<Object>>naturalOrder());
     }
 
     /**
@@ -1053,6 +1709,74 @@ public class Stream<T> implements Closeable {
         return new Stream<T>(params, new ObjSorted<T>(iterator, comparator));
     }
 
+    /**
+     * Returns {@code Stream} with sorted elements (as determinated by provided {@code Comparator}),
+     * keeping at most {@code maxElementsInMemory} elements in memory.
+     *
+     * <p>When the stream has more elements, they are sorted in runs of {@code maxElementsInMemory}
+     * elements and each run is written to a temporary file with the given {@code Serializer}.
+     * Runs are then merged while the result is consumed, at most 64 at once:
+     * if there are more runs, they are first merged in passes into longer runs.
+     * The sort is stable. Temporary files are deleted when they are read to the end
+     * or when the stream is closed.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param comparator  the {@code Comparator} to compare elements, or {@code null} for natural order
+     * @param maxElementsInMemory  the max number of elements kept in memory
+     * @param serializer  the {@code Serializer} to write elements to temporary files
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxElementsInMemory} is zero or negative
+     * @throws NullPointerException if {@code serializer} is null
+     * @see #sorted(Comparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public Stream<T> sorted(@Nullable Comparator<? super T> comparator,
+                            int maxElementsInMemory,
+                            @NotNull Serializer<T> serializer) {
+        if (maxElementsInMemory <= 0) throw new IllegalArgumentException("maxElementsInMemory cannot be zero or negative");
+        Objects.requireNonNull(serializer);
+        final ObjExternalSorted<T> sorted = new ObjExternalSorted<T>(
+                iterator, comparator, maxElementsInMemory, serializer);
+        return new Stream<T>(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
+    /**
+     * Returns {@code Stream} with the first {@code k} elements in the order
+     * of provided {@code Comparator}. The result is the same as {@code sorted(comparator).limit(k)},
+     * but only {@code k} elements are kept in memory and the other elements are not sorted.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * comparator: (a, b) -&gt; a.compareTo(b)
+     * stream: [3, 4, 1, 2]
+     * result: [1, 2]
+     * </pre>
+     *
+     * @param k  the number of elements to keep
+     * @param comparator  the {@code Comparator} to compare elements,
+     *                    or {@code null} to use natural order
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #sorted(Comparator)
+     * @since 1.2.2
+     */
+    @NotNull
+    public Stream<T> topK(final int k, @Nullable final Comparator<? super T> comparator) {
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        if (k == 0) return Stream.empty();
+        return new Stream<T>(params, new ObjTopK<T>(iterator, k, comparator));
+    }
+
     /**
      * Returns {@code Stream} with sorted elements (as determinated by {@code Comparable} interface).
      * Each element transformed by given function {@code f} before comparing.
@@ -1076,6 +1800,31 @@ public class Stream<T> implements Closeable {
         return sorted(ComparatorCompat.comparing(f));
     }
 
+    /**
+     * Returns {@code Stream} with sorted elements (as determinated by {@code Comparable} interface),
+     * keeping at most {@code maxElementsInMemory} elements in memory.
+     * Each element transformed by given function {@code f} before comparing.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param <R> the type of the result of transforming function
+     * @param f  the transformation function
+     * @param maxElementsInMemory  the max number of elements kept in memory
+     * @param serializer  the {@code Serializer} to write elements to temporary files
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxElementsInMemory} is zero or negative
+     * @throws NullPointerException if {@code serializer} is null
+     * @see #sorted(Comparator, int, Serializer)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <R extends Comparable<? super R>> Stream<T> sortBy(
+            @NotNull final Function<? super T, ? extends R> f,
+            int maxElementsInMemory,
+            @NotNull Serializer<T> serializer) {
+        return sorted(ComparatorCompat.comparing(f), maxElementsInMemory, serializer);
+    }
+
     /**
      * Partitions {@code Stream} into {@code Map} entries according to the given classifier function.
      *
@@ -1099,6 +1848,71 @@ public class Stream<T> implements Closeable {
         return new Stream<Map.Entry<K, List<T>>>(params, map.entrySet());
     }
 
+    /**
+     * Partitions {@code Stream} into {@code Map} entries according to the given classifier function,
+     * keeping at most {@code maxKeysInMemory} keys with their elements in memory.
+     *
+     * <p>When the limit is exceeded, grouped elements are written to temporary files,
+     * partitioned by key hash. Partitions are then re-aggregated and emitted one at a time,
+     * so the number of keys is not limited by the memory.
+     * Elements of each group keep the encounter order.
+     * Temporary files are deleted when all entries are emitted or when the stream is closed.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param <K> the type of the keys, which are the result of the classifier function
+     * @param classifier  the classifier function
+     * @param maxKeysInMemory  the max number of keys kept in memory
+     * @param keySerializer  the {@code Serializer} to write keys to temporary files
+     * @param elementSerializer  the {@code Serializer} to write elements to temporary files
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxKeysInMemory} is zero or negative
+     * @see #groupBy(Function)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <K> Stream<Map.Entry<K, List<T>>> groupBy(
+            @NotNull final Function<? super T, ? extends K> classifier,
+            int maxKeysInMemory,
+            @NotNull Serializer<K> keySerializer,
+            @NotNull Serializer<T> elementSerializer) {
+        if (maxKeysInMemory <= 0) throw new IllegalArgumentException("maxKeysInMemory cannot be zero or negative");
+        final SpillingGrouper<K, List<T>> grouper = new SpillingGrouper<K, List<T>>(maxKeysInMemory,
+                new Supplier<List<T>>() {
+                    @Override
+                    public List<T> get() {
+                        return new ArrayList<T>();
+                    }
+                },
+                new BinaryOperator<List<T>>() {
+                    @Override
+                    public List<T> apply(List<T> left, List<T> right) {
+                        left.addAll(right);
+                        return left;
+                    }
+                },
+                keySerializer,
+                Serializer.Util.listOf(elementSerializer));
+        try {
+            Operators.pushRemaining(iterator, new Consumer<T>() {
+                @Override
+                public void accept(T t) {
+                    final K key = Objects.requireNonNull(classifier.apply(t), "element cannot be mapped to a null key");
+                    grouper.container(key).add(t);
+                }
+            });
+        } catch (RuntimeException e) {
+            grouper.close();
+            throw e;
+        }
+        return new Stream<Map.Entry<K, List<T>>>(params, grouper.entries()).onClose(new Runnable() {
+            @Override
+            public void run() {
+                grouper.close();
+            }
+        });
+    }
+
     /**
      * Partitions {@code Stream} into {@code List}s according to the given classifier function. In contrast
      * to {@link #groupBy(Function)}, this method assumes that the elements of the stream are sorted.
@@ -1124,6 +1938,179 @@ public class Stream<T> implements Closeable {
         return new Stream<List<T>>(params, new ObjChunkBy<T, K>(iterator, classifier));
     }
 
+    /**
+     * Partitions {@code Stream} into {@code List}s according to the given classifier function,
+     * same as {@link #chunkBy(Function)}, but without allocating a new list for each chunk.
+     *
+     * <p>Each chunk is a read-only view over an internal buffer. The same list instance
+     * is emitted for every chunk and its contents are only valid until the next chunk is pulled.
+     * Copy the list (for example, with {@code new ArrayList<T>(chunk)}) to keep a chunk.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <K> the type of the keys, which are the result of the classifier function
+     * @param classifier  the classifier function
+     * @return the new stream
+     * @see #chunkBy(Function)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <K> Stream<List<T>> chunkByView(@NotNull final Function<? super T, ? extends K> classifier) {
+        return new Stream<List<T>>(params, new ObjChunkByView<T, K>(iterator, classifier));
+    }
+
+    /**
+     * Aggregates elements into time windows of fixed size, which start every {@code slide} time units.
+     * Each window is fed straight into the collector and one result is returned per non-empty window.
+     * Windows start at multiples of {@code slide}, so {@code slide == size} gives tumbling windows.
+     *
+     * <p>This is a lazy intermediate operation.
+     * Only the collector containers of open windows are kept in memory.
+     * Elements must be ordered by timestamp; use
+     * {@link #windowByTime(ToLongFunction, long, long, long, Collector)} for out-of-order elements.
+     *
+     * <p>Example:
+     * <pre>
+     * timestampFunction: (e) -&gt; e.time
+     * size: 10, slide: 10
+     * collector: Collectors.counting()
+     * stream: [{time: 1}, {time: 4}, {time: 12}, {time: 35}]
+     * result: [TimeWindow[0, 10, 2], TimeWindow[10, 20, 1], TimeWindow[30, 40, 1]]
+     * </pre>
+     *
+     * @param <A> the type of the collector containers
+     * @param <R> the type of the window results
+     * @param timestampFunction  the function that extracts timestamps of elements
+     * @param size  the window size
+     * @param slide  the distance between the starts of consecutive windows
+     * @param collector  the collector applied to elements of each window
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code size} or {@code slide} is zero or negative
+     * @since 1.2.2
+     */
+    @NotNull
+    public <A, R> Stream<TimeWindow<R>> windowByTime(
+            @NotNull ToLongFunction<? super T> timestampFunction,
+            long size, long slide,
+            @NotNull Collector<? super T, A, R> collector) {
+        return windowByTime(timestampFunction, size, slide, 0L, collector);
+    }
+
+    /**
+     * Aggregates elements into time windows of fixed size, which start every {@code slide} time units,
+     * allowing elements to arrive out of order within {@code allowedLateness}.
+     *
+     * <p>A window is completed when an element with timestamp at least
+     * {@code windowEnd + allowedLateness} is seen, or at the end of the stream.
+     * Elements which arrive after all their windows are completed are dropped.
+     * Windows are returned in order of their start.
+     *
+     * <p>This is a lazy intermediate operation.
+     * Only the collector containers of open windows are kept in memory.
+     *
+     * @param <A> the type of the collector containers
+     * @param <R> the type of the window results
+     * @param timestampFunction  the function that extracts timestamps of elements
+     * @param size  the window size
+     * @param slide  the distance between the starts of consecutive windows
+     * @param allowedLateness  how far behind the latest timestamp an element may be
+     * @param collector  the collector applied to elements of each window
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code size} or {@code slide} is zero or negative,
+     *         or {@code allowedLateness} is negative
+     * @see #windowByTime(ToLongFunction, long, long, Collector)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <A, R> Stream<TimeWindow<R>> windowByTime(
+            @NotNull ToLongFunction<? super T> timestampFunction,
+            long size, long slide, long allowedLateness,
+            @NotNull Collector<? super T, A, R> collector) {
+        Objects.requireNonNull(timestampFunction);
+        Objects.requireNonNull(collector);
+        if (size <= 0) throw new IllegalArgumentException("size cannot be zero or negative");
+        if (slide <= 0) throw new IllegalArgumentException("slide cannot be zero or negative");
+        if (allowedLateness < 0) throw new IllegalArgumentException("allowedLateness cannot be negative");
+        return new Stream<TimeWindow<R>>(params, new ObjTimeWindow<T, A, R>(
+                iterator, timestampFunction, size, slide, allowedLateness, collector));
+    }
+
+    /**
+     * Aggregates elements into session windows, which are closed after {@code gap} time units
+     * without elements. Each session is fed straight into the collector
+     * and one result is returned per session.
+     * A session ends at the timestamp of its last element plus {@code gap}.
+     *
+     * <p>This is a lazy intermediate operation.
+     * Only the collector containers of open sessions are kept in memory.
+     * Elements must be ordered by timestamp; use
+     * {@link #sessionWindows(ToLongFunction, long, long, Collector)} for out-of-order elements.
+     *
+     * <p>Example:
+     * <pre>
+     * timestampFunction: (e) -&gt; e.time
+     * gap: 5
+     * collector: Collectors.counting()
+     * stream: [{time: 1}, {time: 4}, {time: 12}, {time: 14}, {time: 15}]
+     * result: [TimeWindow[1, 9, 2], TimeWindow[12, 20, 3]]
+     * </pre>
+     *
+     * @param <A> the type of the collector containers
+     * @param <R> the type of the session results
+     * @param timestampFunction  the function that extracts timestamps of elements
+     * @param gap  the inactivity time which closes a session
+     * @param collector  the collector applied to elements of each session
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code gap} is zero or negative
+     * @since 1.2.2
+     */
+    @NotNull
+    public <A, R> Stream<TimeWindow<R>> sessionWindows(
+            @NotNull ToLongFunction<? super T> timestampFunction,
+            long gap,
+            @NotNull Collector<? super T, A, R> collector) {
+        return sessionWindows(timestampFunction, gap, 0L, collector);
+    }
+
+    /**
+     * Aggregates elements into session windows, which are closed after {@code gap} time units
+     * without elements, allowing elements to arrive out of order within {@code allowedLateness}.
+     *
+     * <p>A late element may extend a session or join two sessions into one,
+     * in which case their containers are merged with the collector combiner.
+     * A session is completed when an element with timestamp at least
+     * {@code sessionEnd + allowedLateness} is seen, or at the end of the stream.
+     * Elements which would only form already completed sessions are dropped.
+     * Sessions are returned in order of their start.
+     *
+     * <p>This is a lazy intermediate operation.
+     * Only the collector containers of open sessions are kept in memory.
+     *
+     * @param <A> the type of the collector containers
+     * @param <R> the type of the session results
+     * @param timestampFunction  the function that extracts timestamps of elements
+     * @param gap  the inactivity time which closes a session
+     * @param allowedLateness  how far behind the latest timestamp an element may be
+     * @param collector  the collector applied to elements of each session
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code gap} is zero or negative,
+     *         or {@code allowedLateness} is negative
+     * @see #sessionWindows(ToLongFunction, long, Collector)
+     * @since 1.2.2
+     */
+    @NotNull
+    public <A, R> Stream<TimeWindow<R>> sessionWindows(
+            @NotNull ToLongFunction<? super T> timestampFunction,
+            long gap, long allowedLateness,
+            @NotNull Collector<? super T, A, R> collector) {
+        Objects.requireNonNull(timestampFunction);
+        Objects.requireNonNull(collector);
+        if (gap <= 0) throw new IllegalArgumentException("gap cannot be zero or negative");
+        if (allowedLateness < 0) throw new IllegalArgumentException("allowedLateness cannot be negative");
+        return new Stream<TimeWindow<R>>(params, new ObjSessionWindow<T, A, R>(
+                iterator, timestampFunction, gap, allowedLateness, collector));
+    }
+
     /**
      * Samples the {@code Stream} by emitting every n-th element.
      *
@@ -1144,7 +2131,7 @@ public class Stream<T> implements Closeable {
     public Stream<T> sample(final int stepWidth) {
         if (stepWidth <= 0) throw new IllegalArgumentException("stepWidth cannot be zero or negative");
         if (stepWidth == 1) return this;
-        return slidingWindow(1, stepWidth).map(new Function<List<T>, T>() {
+        return slidingWindowView(1, stepWidth).map(new Function<List<T>, T>() {
             @Override
             public T apply(@NotNull List<T> list) {
                 return list.get(0);
@@ -1212,6 +2199,55 @@ public class Stream<T> implements Closeable {
         return new Stream<List<T>>(params, new ObjSlidingWindow<T>(iterator, windowSize, stepWidth));
     }
 
+    /**
+     * Partitions {@code Stream} into windows of fixed size by sliding over the elements of the stream,
+     * same as {@link #slidingWindow(int)}, but without copying the elements of each window.
+     *
+     * @param windowSize  number of elements that will be emitted together in a list
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see #slidingWindowView(int, int)
+     * @since 1.2.2
+     */
+    @NotNull
+    public Stream<List<T>> slidingWindowView(final int windowSize) {
+        return slidingWindowView(windowSize, 1);
+    }
+
+    /**
+     * Partitions {@code Stream} into windows of fixed size by sliding over the elements of the stream,
+     * same as {@link #slidingWindow(int, int)}, but without copying the elements of each window.
+     *
+     * <p>Each window is a read-only view over an internal circular buffer,
+     * so moving the window costs O(stepWidth) instead of O(windowSize).
+     * The same list instance is emitted for every window and its contents
+     * are only valid until the next window is pulled.
+     * Copy the list (for example, with {@code new ArrayList<T>(window)}) to keep a window.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3, stepWidth: 1
+     * stream: [1, 2, 3, 4, 5]
+     * result: [1, 2, 3], then the same list becomes [2, 3, 4], then [3, 4, 5]
+     * </pre>
+     *
+     * @param windowSize  number of elements that will be emitted together in a list
+     * @param stepWidth  step width
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see #slidingWindow(int, int)
+     * @since 1.2.2
+     */
+    @NotNull
+    public Stream<List<T>> slidingWindowView(final int windowSize, final int stepWidth) {
+        if (windowSize <= 0) throw new IllegalArgumentException("windowSize cannot be zero or negative");
+        if (stepWidth <= 0) throw new IllegalArgumentException("stepWidth cannot be zero or negative");
+        return new Stream<List<T>>(params, new ObjSlidingWindowView<T>(iterator, windowSize, stepWidth));
+    }
+
     /**
      * Performs provided action on each element.
      *
@@ -1222,7 +2258,7 @@ public class Stream<T> implements Closeable {
      */
     @NotNull
     public Stream<T> peek(@NotNull final Consumer<? super T> action) {
-        return new Stream<T>(params, new ObjPeek<T>(iterator, action));
+        return new Stream<T>(params, Fusion.peek(iterator, action));
     }
 
     /**
@@ -1536,7 +2572,7 @@ public class Stream<T> implements Closeable {
         if (maxSize == 0) {
             return Stream.empty();
         }
-        return new Stream<T>(params, new ObjLimit<T>(iterator, maxSize));
+        return new Stream<T>(params, Fusion.limit(iterator, maxSize));
     }
 
     /**
@@ -1567,6 +2603,71 @@ public class Stream<T> implements Closeable {
         return new Stream<T>(params, new ObjSkip<T>(iterator, n));
     }
 
+    /**
+     * Returns {@code Stream<T>} which pulls elements of this stream on another thread.
+     *
+     * <p>This is an intermediate operation.
+     * When the first element is requested, a producer task is submitted to the executor.
+     * It runs the upstream operators and puts elements into a lock-free buffer
+     * of {@code bufferSize} elements (rounded up to a power of two), while the downstream
+     * operators run on the consuming thread. Exceptions of the upstream are rethrown
+     * to the consumer after the elements produced before them.
+     *
+     * <p>Closing the stream stops the producer before the upstream close handlers run.
+     * If not all elements are consumed, the stream must be closed, otherwise
+     * the producer task stays blocked on the full buffer.
+     *
+     * <p>Example:
+     * <pre>
+     * try (Stream<T> stream = source.async(256, executor).map(heavyFunction)) {
+     *     stream.forEach(action);
+     * }
+     * </pre>
+     *
+     * @param bufferSize  the maximum number of elements produced ahead
+     * @param executor  the executor which runs the producer task
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code bufferSize} is zero or negative
+     * @throws NullPointerException if {@code executor} is null
+     * @since 1.2.2
+     */
+    @NotNull
+    public Stream<T> async(int bufferSize, @NotNull Executor executor) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize cannot be zero or negative");
+        Objects.requireNonNull(executor);
+        final ObjAsync<T> async = new ObjAsync<T>(iterator, bufferSize, executor);
+        // Producer must leave the upstream before its close handlers run
+        return new Stream<T>(Params.prependCloseHandler(params, async), async);
+    }
+
+    /**
+     * Returns {@code ParallelStream} which splits the source of this stream into chunks
+     * and processes them on multiple threads.
+     *
+     * <p>Arrays and random access lists are split without copying,
+     * other sources are buffered when a terminal operation is executed.
+     * Intermediate operations already applied to this stream are not parallelized,
+     * so {@code parallel()} should be called right after the stream is created.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * Stream.of(ids)
+     *     .parallel()
+     *     .map(load)
+     *     .toList()
+     * </pre>
+     *
+     * @return the new parallel stream
+     * @see ParallelStream
+     * @since 1.2.2
+     */
+    @NotNull
+    public ParallelStream<T> parallel() {
+        return new ParallelStream<T>(params, iterator);
+    }
+
     /**
      * Performs the given action on each element.
      *
@@ -1575,9 +2676,75 @@ public class Stream<T> implements Closeable {
      * @param action  the action to be performed on each element
      */
     public void forEach(@NotNull final Consumer<? super T> action) {
-        while (iterator.hasNext()) {
-            action.accept(iterator.next());
+        Operators.pushRemaining(iterator, action);
+    }
+
+    /**
+     * Distributes elements to {@code n} workers by key, each worker running on its own thread,
+     * and waits until all workers finish.
+     * Elements with equal keys go to the same worker, so they are processed in stream order.
+     *
+     * <p>This is a terminal operation.
+     * Workers run on virtual threads if the runtime supports them (Java 21+),
+     * otherwise on a shared pool of daemon threads.
+     * Each worker has a bounded queue, elements are handed off in batches
+     * when the worker is busy and one by one when it is idle.
+     * When a queue is full, this stream waits, so memory use is bounded.
+     *
+     * <p>If a worker or this stream throws an exception, the remaining elements are not processed
+     * and the first exception is rethrown after all workers stop.
+     *
+     * <p>Example:
+     * <pre>
+     * n: 4
+     * classifier: (event) -&gt; event.accountId
+     * workerFactory: (index) -&gt; new AccountProcessor(index)
+     * </pre>
+     *
+     * @param n  the number of workers
+     * @param classifier  the function that extracts keys of elements
+     * @param workerFactory  the function that creates worker for the given index, called on this thread
+     * @throws IllegalArgumentException if {@code n} is zero or negative
+     * @see #partitionTo(int, Function, IntFunction, Executor)
+     * @since 1.2.2
+     */
+    public void partitionTo(int n,
+                            @NotNull Function<? super T, ?> classifier,
+                            @NotNull IntFunction<? extends Consumer<? super T>> workerFactory) {
+        partitionTo(n, classifier, workerFactory, DefaultExecutor.get());
+    }
+
+    /**
+     * Distributes elements to {@code n} workers by key, each worker running on the executor,
+     * and waits until all workers finish.
+     * Elements with equal keys go to the same worker, so they are processed in stream order.
+     *
+     * <p>This is a terminal operation.
+     * The executor must be able to run {@code n} tasks at the same time.
+     * If the executor rejects a worker, the started workers are stopped
+     * and the exception is rethrown.
+     *
+     * @param n  the number of workers
+     * @param classifier  the function that extracts keys of elements
+     * @param workerFactory  the function that creates worker for the given index, called on this thread
+     * @param executor  the executor which runs the workers
+     * @throws IllegalArgumentException if {@code n} is zero or negative
+     * @see #partitionTo(int, Function, IntFunction)
+     * @since 1.2.2
+     */
+    public void partitionTo(int n,
+                            @NotNull Function<? super T, ?> classifier,
+                            @NotNull IntFunction<? extends Consumer<? super T>> workerFactory,
+                            @NotNull Executor executor) {
+        if (n <= 0) throw new IllegalArgumentException("n cannot be zero or negative");
+        Objects.requireNonNull(classifier);
+        Objects.requireNonNull(workerFactory);
+        Objects.requireNonNull(executor);
+        final List<Consumer<? super T>> workers = new ArrayList<Consumer<? super T>>(n);
+        for (int i = 0; i < n; i++) {
+            workers.add(Objects.requireNonNull(workerFactory.apply(i), "worker"));
         }
+        new Partitioner<T>(classifier, workers, executor).run(iterator);
     }
 
     /**
@@ -1632,12 +2799,7 @@ public class Stream<T> implements Closeable {
     @Nullable
     public <R> R reduce(@Nullable R identity,
                         @NotNull BiFunction<? super R, ? super T, ? extends R> accumulator) {
-        R result = identity;
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            result = accumulator.apply(result, value);
-        }
-        return result;
+        return Operators.reduce(iterator, identity, accumulator);
     }
 
     /**
@@ -1717,18 +2879,7 @@ public class Stream<T> implements Closeable {
      */
     @NotNull
     public Optional<T> reduce(@NotNull BiFunction<T, T, T> accumulator) {
-        boolean foundAny = false;
-        T result = null;
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            if (!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = accumulator.apply(result, value);
-            }
-        }
-        return foundAny ? Optional.of(result) : Optional.<T>empty();
+        return Operators.reduce(iterator, accumulator);
     }
 
     /**
@@ -1779,11 +2930,7 @@ public class Stream<T> implements Closeable {
      */
     @NotNull
     public List<T> toList() {
-        final List<T> result = new ArrayList<T>();
-        while (iterator.hasNext()) {
-            result.add(iterator.next());
-        }
-        return result;
+        return Operators.toList(iterator);
     }
 
     /**
@@ -1799,12 +2946,14 @@ public class Stream<T> implements Closeable {
      */
     @Nullable
     public <R> R collect(@NotNull Supplier<R> supplier,
-                         @NotNull BiConsumer<R, ? super T> accumulator) {
+                         @NotNull final BiConsumer<R, ? super T> accumulator) {
         final R result = supplier.get();
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            accumulator.accept(result, value);
-        }
+        Operators.pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                accumulator.accept(result, value);
+            }
+        });
         return result;
     }
 
@@ -1821,11 +2970,14 @@ public class Stream<T> implements Closeable {
      */
     @Nullable
     public <R, A> R collect(@NotNull Collector<? super T, A, R> collector) {
-        A container = collector.supplier().get();
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            collector.accumulator().accept(container, value);
-        }
+        final A container = collector.supplier().get();
+        final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        Operators.pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                accumulator.accept(container, value);
+            }
+        });
         return collector.finisher().apply(container);
     }
 
@@ -1874,15 +3026,24 @@ public class Stream<T> implements Closeable {
      *
      * <p>This is a terminal operation.
      *
+     * <p>If the size of an array, list or range source is preserved by the intermediate
+     * operations (like {@code map} or {@code limit}), the elements are not visited.
+     *
      * @return the count of elements
      */
     public long count() {
-        long count = 0;
-        while (iterator.hasNext()) {
-            iterator.next();
-            count++;
+        final long size = Operators.exactSize(iterator);
+        if (size >= 0 && Operators.advance(iterator, size)) {
+            return size;
         }
-        return count;
+        final long[] count = { 0L };
+        Operators.pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                count[0]++;
+            }
+        });
+        return count[0];
     }
 
     /**
@@ -2043,6 +3204,10 @@ public class Stream<T> implements Closeable {
      */
     @NotNull
     public Optional<T> findLast() {
+        final long size = Operators.exactSize(iterator);
+        if (size > 0 && Operators.advance(iterator, size - 1)) {
+            return findFirst();
+        }
         return reduce(new BinaryOperator<T>() {
             @Override
             public T apply(T left, T right) {
@@ -2051,6 +3216,41 @@ public class Stream<T> implements Closeable {
         });
     }
 
+    /**
+     * Returns the element at the given position wrapped by {@code Optional} class.
+     * If stream has fewer elements, returns {@code Optional.empty()}.
+     *
+     * <p>This is a short-circuiting terminal operation.
+     * Preceding elements of arrays and random access lists are not visited,
+     * unless there are operations which may change the stream size or have side effects.
+     *
+     * <p>Example:
+     * <pre>
+     * index: 2
+     * stream: [1, 2, 3, 4]
+     * result: Optional.of(3)
+     * </pre>
+     *
+     * @param index  zero-based index of the element
+     * @return an {@code Optional} with the element at the given position
+     *         or {@code Optional.empty()} if the stream is shorter
+     * @throws IllegalArgumentException if {@code index} is negative
+     * @since 1.2.2
+     */
+    @NotNull
+    public Optional<T> elementAt(long index) {
+        if (index < 0) throw new IllegalArgumentException("index cannot be negative");
+        if (!Operators.advance(iterator, index)) {
+            for (long i = 0; i < index; i++) {
+                if (!iterator.hasNext()) {
+                    return Optional.empty();
+                }
+                iterator.next();
+            }
+        }
+        return findFirst();
+    }
+
     /**
      * Returns the single element of stream.
      * If stream is empty, throws {@code NoSuchElementException}.
@@ -2126,6 +3326,41 @@ public class Stream<T> implements Closeable {
         }
     }
 
+    /**
+     * Returns {@code Stream} which collects metrics of each following stage of the pipeline:
+     * number of input and output elements, selectivity, time and,
+     * where the JVM exposes it, number of allocated bytes.
+     *
+     * <p>Metrics are reported to the sink once, when the last stage is exhausted
+     * or when the stream is closed, whichever comes first.
+     * Instrumented stages are measured element by element and are not fused,
+     * so instrumentation has overhead. Streams without instrumentation have no overhead.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param sink  the sink to report metrics to
+     * @return the new instrumented stream
+     * @throws NullPointerException if {@code sink} is null
+     * @throws IllegalStateException if the stream is already instrumented
+     * @since 1.2.2
+     */
+    @NotNull
+    public Stream<T> instrumented(@NotNull MetricsSink sink) {
+        Objects.requireNonNull(sink);
+        if (params != null && params.instrumentation != null) {
+            throw new IllegalStateException("Stream is already instrumented");
+        }
+        final Instrumentation instrumentation = new Instrumentation(sink);
+        final Params newParams = Params.wrapWithCloseHandler(params, new Runnable() {
+            @Override
+            public void run() {
+                instrumentation.report();
+            }
+        });
+        newParams.instrumentation = instrumentation;
+        return new Stream<T>(newParams, iterator);
+    }
+
     /**
      * Adds close handler to the current stream.
      *
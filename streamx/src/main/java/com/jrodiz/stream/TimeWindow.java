@@ -0,0 +1,77 @@
+package com.jrodiz.stream;
+
+/**
+ * A result of aggregation of elements with timestamps in range from
+ * {@code start} (inclusive) to {@code end} (exclusive).
+ *
+ * @param <R> the type of the result
+ * @see Stream#windowByTime(com.jrodiz.stream.function.ToLongFunction, long, long, Collector)
+ * @see Stream#sessionWindows(com.jrodiz.stream.function.ToLongFunction, long, Collector)
+ * @since 1.2.2
+ */
+public final class TimeWindow<R> {
+
+    private final long start;
+    private final long end;
+    private final R result;
+
+    public TimeWindow(long start, long end, R result) {
+        this.start = start;
+        this.end = end;
+        this.result = result;
+    }
+
+    /**
+     * The start of the window, inclusive.
+     *
+     * @return the start timestamp
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * The end of the window, exclusive.
+     *
+     * @return the end timestamp
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * The result of the collector for the elements of the window.
+     *
+     * @return the result
+     */
+    public R getResult() {
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 97 * hash + (int) (start ^ (start >>> 32));
+        hash = 97 * hash + (int) (end ^ (end >>> 32));
+        hash = 97 * hash + (this.result != null ? this.result.hashCode() : 0);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null) return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final TimeWindow<?> other = (TimeWindow<?>) obj;
+        if (this.start != other.start || this.end != other.end)
+            return false;
+        return !(this.result != other.result &&
+                (this.result == null || !this.result.equals(other.result)));
+    }
+
+    @Override
+    public String toString() {
+        return "TimeWindow[" + start + ", " + end + ", " + result + ']';
+    }
+}
@@ -0,0 +1,114 @@
+package com.jrodiz.stream.function;
+
+import com.jrodiz.stream.ComparatorCompat;
+import com.jrodiz.stream.Objects;
+import java.util.Collections;
+import java.util.Comparator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compares two {@code double} values.
+ * This is the primitive type specialization of {@link java.util.Comparator} for {@code double},
+ * so values are compared without boxing.
+ *
+ * @see java.util.Comparator
+ * @since 1.2.2
+ */
+public interface DoubleComparator {
+
+    /**
+     * Compares two values for order.
+     *
+     * @param left  the first value
+     * @param right  the second value
+     * @return a negative integer, zero, or a positive integer as the first value
+     *         is less than, equal to, or greater than the second
+     */
+    int compare(double left, double right);
+
+    class Util {
+
+        private static final DoubleComparator NATURAL_ORDER = new DoubleComparator() {
+            @Override
+            public int compare(double left, double right) {
+                return Double.compare(left, right);
+            }
+        };
+
+        private static final DoubleComparator REVERSE_ORDER = new DoubleComparator() {
+            @Override
+            public int compare(double left, double right) {
+                return Double.compare(right, left);
+            }
+        };
+
+        private Util() { }
+
+        /**
+         * Returns a comparator with natural order,
+         * as defined by {@link Double#compare(double, double)}.
+         *
+         * @return a comparator
+         */
+        @NotNull
+        public static DoubleComparator naturalOrder() {
+            return NATURAL_ORDER;
+        }
+
+        /**
+         * Returns a comparator with reverse order.
+         *
+         * @return a comparator
+         */
+        @NotNull
+        public static DoubleComparator reverseOrder() {
+            return REVERSE_ORDER;
+        }
+
+        /**
+         * Returns a comparator that reverses the order of the specified comparator.
+         *
+         * @param comparator  a comparator to be reversed
+         * @return a comparator
+         * @throws NullPointerException if {@code comparator} is null
+         */
+        @NotNull
+        public static DoubleComparator reversed(@NotNull final DoubleComparator comparator) {
+            Objects.requireNonNull(comparator);
+            if (comparator == NATURAL_ORDER) return REVERSE_ORDER;
+            if (comparator == REVERSE_ORDER) return NATURAL_ORDER;
+            return new DoubleComparator() {
+                @Override
+                public int compare(double left, double right) {
+                    return comparator.compare(right, left);
+                }
+            };
+        }
+
+        /**
+         * Adapts {@code Comparator<Double>} to {@code DoubleComparator}.
+         * {@code null}, natural and reverse order comparators are recognized
+         * and mapped to {@link #naturalOrder()} and {@link #reverseOrder()}.
+         *
+         * @param comparator  the comparator of boxed values, or {@code null} for natural order
+         * @return a comparator
+         */
+        @NotNull
+        public static DoubleComparator from(@Nullable final Comparator<? super Double> comparator) {
+            if (comparator == null || comparator == ComparatorCompat.naturalOrder()) {
+                return NATURAL_ORDER;
+            }
+            if (comparator == Collections.reverseOrder()
+                    || comparator == ComparatorCompat.reverseOrder()) {
+                return REVERSE_ORDER;
+            }
+            return new DoubleComparator() {
+                @Override
+                public int compare(double left, double right) {
+                    return comparator.compare(left, right);
+                }
+            };
+        }
+    }
+}
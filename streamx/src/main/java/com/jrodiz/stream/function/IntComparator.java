@@ -0,0 +1,113 @@
+package com.jrodiz.stream.function;
+
+import com.jrodiz.stream.ComparatorCompat;
+import com.jrodiz.stream.Objects;
+import java.util.Collections;
+import java.util.Comparator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compares two {@code int} values.
+ * This is the primitive type specialization of {@link java.util.Comparator} for {@code int},
+ * so values are compared without boxing.
+ *
+ * @see java.util.Comparator
+ * @since 1.2.2
+ */
+public interface IntComparator {
+
+    /**
+     * Compares two values for order.
+     *
+     * @param left  the first value
+     * @param right  the second value
+     * @return a negative integer, zero, or a positive integer as the first value
+     *         is less than, equal to, or greater than the second
+     */
+    int compare(int left, int right);
+
+    class Util {
+
+        private static final IntComparator NATURAL_ORDER = new IntComparator() {
+            @Override
+            public int compare(int left, int right) {
+                return (left < right) ? -1 : ((left == right) ? 0 : 1);
+            }
+        };
+
+        private static final IntComparator REVERSE_ORDER = new IntComparator() {
+            @Override
+            public int compare(int left, int right) {
+                return (right < left) ? -1 : ((left == right) ? 0 : 1);
+            }
+        };
+
+        private Util() { }
+
+        /**
+         * Returns a comparator with natural order.
+         *
+         * @return a comparator
+         */
+        @NotNull
+        public static IntComparator naturalOrder() {
+            return NATURAL_ORDER;
+        }
+
+        /**
+         * Returns a comparator with reverse order.
+         *
+         * @return a comparator
+         */
+        @NotNull
+        public static IntComparator reverseOrder() {
+            return REVERSE_ORDER;
+        }
+
+        /**
+         * Returns a comparator that reverses the order of the specified comparator.
+         *
+         * @param comparator  a comparator to be reversed
+         * @return a comparator
+         * @throws NullPointerException if {@code comparator} is null
+         */
+        @NotNull
+        public static IntComparator reversed(@NotNull final IntComparator comparator) {
+            Objects.requireNonNull(comparator);
+            if (comparator == NATURAL_ORDER) return REVERSE_ORDER;
+            if (comparator == REVERSE_ORDER) return NATURAL_ORDER;
+            return new IntComparator() {
+                @Override
+                public int compare(int left, int right) {
+                    return comparator.compare(right, left);
+                }
+            };
+        }
+
+        /**
+         * Adapts {@code Comparator<Integer>} to {@code IntComparator}.
+         * {@code null}, natural and reverse order comparators are recognized
+         * and mapped to {@link #naturalOrder()} and {@link #reverseOrder()}.
+         *
+         * @param comparator  the comparator of boxed values, or {@code null} for natural order
+         * @return a comparator
+         */
+        @NotNull
+        public static IntComparator from(@Nullable final Comparator<? super Integer> comparator) {
+            if (comparator == null || comparator == ComparatorCompat.naturalOrder()) {
+                return NATURAL_ORDER;
+            }
+            if (comparator == Collections.reverseOrder()
+                    || comparator == ComparatorCompat.reverseOrder()) {
+                return REVERSE_ORDER;
+            }
+            return new IntComparator() {
+                @Override
+                public int compare(int left, int right) {
+                    return comparator.compare(left, right);
+                }
+            };
+        }
+    }
+}
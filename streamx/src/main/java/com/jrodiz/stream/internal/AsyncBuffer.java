@@ -0,0 +1,104 @@
+package com.jrodiz.stream.internal;
+
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Single-producer single-consumer buffer between a producer task,
+ * which drains the upstream iterator on the executor, and the consuming operator.
+ *
+ * <p>Subclasses keep elements in an array of {@link #capacity()} slots of a {@link SpscRing}.
+ * The producer task is submitted when the consumer requests the first element.
+ */
+public abstract class AsyncBuffer implements Runnable {
+
+    private final Executor executor;
+    private final SpscRing ring;
+    private volatile Throwable error;
+    private boolean started;
+
+    protected AsyncBuffer(int bufferSize, @NotNull Executor executor) {
+        this.executor = executor;
+        ring = new SpscRing(bufferSize);
+    }
+
+    protected final int capacity() {
+        return ring.capacity();
+    }
+
+    /**
+     * Pulls the next upstream element to the slot. Called on the producer thread.
+     *
+     * @param slot  the slot to write the element to
+     * @return {@code false} if the upstream has no more elements
+     */
+    protected abstract boolean pull(int slot);
+
+    /**
+     * Waits for the next element. Called on the consumer thread.
+     * The slot must be released after its element is read.
+     *
+     * @return the slot of the next element, or {@code -1} if there are no more elements
+     */
+    public final int awaitSlot() {
+        if (!started) {
+            start();
+        }
+        final int slot = ring.awaitSlot();
+        if (slot < 0) {
+            rethrow();
+        }
+        return slot;
+    }
+
+    /**
+     * Frees the slot returned by {@link #awaitSlot()}.
+     */
+    public final void release() {
+        ring.release();
+    }
+
+    /**
+     * Stops the producer and waits until it leaves the upstream iterator,
+     * so the upstream can be closed safely.
+     */
+    public final void cancel() {
+        ring.cancel();
+        if (!started) return;
+        ring.awaitFinished();
+    }
+
+    // Producer task
+    @Override
+    public final void run() {
+        try {
+            int slot;
+            while ((slot = ring.awaitFreeSlot()) >= 0 && pull(slot)) {
+                ring.publish();
+            }
+        } catch (Throwable e) {
+            error = e;
+        } finally {
+            ring.finish();
+        }
+    }
+
+    private void start() {
+        started = true;
+        try {
+            executor.execute(this);
+        } catch (RuntimeException e) {
+            ring.finish();
+            throw e;
+        }
+    }
+
+    private void rethrow() {
+        final Throwable e = error;
+        if (e == null) return;
+        error = null;
+        if (e instanceof RuntimeException) throw (RuntimeException) e;
+        if (e instanceof Error) throw (Error) e;
+        throw new RuntimeException(e);
+    }
+}
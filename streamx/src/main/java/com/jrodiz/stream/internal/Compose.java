@@ -1,6 +1,7 @@
 package com.jrodiz.stream.internal;
 
 import java.io.Closeable;
+import java.util.Collection;
 
 public final class Compose {
 
@@ -44,6 +45,25 @@ public final class Compose {
         };
     }
 
+    public static Runnable closeables(final Collection<? extends Closeable> closeables) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                Throwable first = null;
+                for (Closeable closeable : closeables) {
+                    try {
+                        closeable.close();
+                    } catch (Throwable e) {
+                        if (first == null) first = e;
+                    }
+                }
+                if (first != null) {
+                    handleException(first);
+                }
+            }
+        };
+    }
+
     private static Throwable handleException(Throwable e) {
         // Errors and runtime exceptions are thrown as is
         // Checked exceptions are wrapped in RuntimeException
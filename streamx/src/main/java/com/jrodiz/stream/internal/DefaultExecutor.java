@@ -0,0 +1,50 @@
+package com.jrodiz.stream.internal;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Executor for blocking tasks of stream operators.
+ *
+ * <p>Uses a virtual thread per task when the runtime supports it (Java 21+).
+ * The method is found by reflection, because the library is compiled for Java 7 and Android.
+ * Otherwise a cached pool of daemon threads is used.
+ */
+public final class DefaultExecutor {
+
+    private DefaultExecutor() { }
+
+    @NotNull
+    public static Executor get() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        static final Executor INSTANCE = create();
+    }
+
+    private static Executor create() {
+        try {
+            final Method method = Class.forName("java.util.concurrent.Executors")
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) method.invoke(null);
+        } catch (Throwable ignore) { }
+        final AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<Runnable>(),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(@NotNull Runnable runnable) {
+                        final Thread thread = new Thread(runnable, "streamx-worker-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+}
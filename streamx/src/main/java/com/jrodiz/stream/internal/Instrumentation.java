@@ -0,0 +1,329 @@
+package com.jrodiz.stream.internal;
+
+import com.jrodiz.stream.MetricsSink;
+import com.jrodiz.stream.StageMetrics;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Collects metrics of an instrumented pipeline.
+ *
+ * <p>Each stage iterator is wrapped when a stream is created,
+ * so streams without instrumentation have no wrappers at all.
+ * Wrappers are pull-only, so stages are measured one inside another
+ * and self values are the difference with the upstream stage.
+ */
+public final class Instrumentation {
+
+    private static final AllocationCounter ALLOCATION_COUNTER = AllocationCounter.create();
+
+    private final MetricsSink sink;
+    private final List<Stage> stages;
+    private boolean reported;
+
+    public Instrumentation(@NotNull MetricsSink sink) {
+        this.sink = sink;
+        stages = new ArrayList<Stage>();
+    }
+
+    @NotNull
+    public <T> Iterator<? extends T> wrap(@NotNull Iterator<? extends T> iterator) {
+        if (iterator instanceof ObjStage) return iterator;
+        return new ObjStage<T>(newStage(iterator), iterator);
+    }
+
+    @NotNull
+    public PrimitiveIterator.OfInt wrap(@NotNull PrimitiveIterator.OfInt iterator) {
+        if (iterator instanceof IntStage) return iterator;
+        return new IntStage(newStage(iterator), iterator);
+    }
+
+    @NotNull
+    public PrimitiveIterator.OfLong wrap(@NotNull PrimitiveIterator.OfLong iterator) {
+        if (iterator instanceof LongStage) return iterator;
+        return new LongStage(newStage(iterator), iterator);
+    }
+
+    @NotNull
+    public PrimitiveIterator.OfDouble wrap(@NotNull PrimitiveIterator.OfDouble iterator) {
+        if (iterator instanceof DoubleStage) return iterator;
+        return new DoubleStage(newStage(iterator), iterator);
+    }
+
+    /**
+     * Returns metrics of all stages at the moment.
+     *
+     * @return the list of stage metrics, from source to the last stage
+     */
+    @NotNull
+    public List<StageMetrics> snapshot() {
+        final int size = stages.size();
+        final List<StageMetrics> result = new ArrayList<StageMetrics>(size);
+        Stage upstream = null;
+        for (int i = 0; i < size; i++) {
+            final Stage stage = stages.get(i);
+            final long elementsIn;
+            final long selfNanos;
+            final long selfBytes;
+            if (upstream == null) {
+                elementsIn = stage.elements;
+                selfNanos = stage.nanos;
+                selfBytes = stage.bytes;
+            } else {
+                elementsIn = upstream.elements;
+                selfNanos = stage.nanos - upstream.nanos;
+                selfBytes = stage.bytes - upstream.bytes;
+            }
+            result.add(new StageMetrics(i, stage.name, elementsIn, stage.elements,
+                    stage.nanos, Math.max(0L, selfNanos),
+                    ALLOCATION_COUNTER.isSupported() ? Math.max(0L, selfBytes) : -1L));
+            upstream = stage;
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Reports metrics to the sink, if they were not reported yet.
+     */
+    public void report() {
+        if (reported) return;
+        reported = true;
+        sink.report(snapshot());
+    }
+
+    private Stage newStage(@NotNull Object iterator) {
+        final Class<?> type = iterator.getClass();
+        final String simpleName = type.getSimpleName();
+        final Stage stage = new Stage(simpleName.isEmpty() ? type.getName() : simpleName);
+        stages.add(stage);
+        return stage;
+    }
+
+    private void onExhausted(@NotNull Stage stage) {
+        if (stages.get(stages.size() - 1) == stage) {
+            report();
+        }
+    }
+
+    private final class Stage {
+
+        final String name;
+        long elements;
+        long nanos;
+        long bytes;
+        private long startNanos;
+        private long startBytes;
+
+        Stage(@NotNull String name) {
+            this.name = name;
+        }
+
+        void begin() {
+            startBytes = ALLOCATION_COUNTER.read();
+            startNanos = System.nanoTime();
+        }
+
+        void end() {
+            nanos += System.nanoTime() - startNanos;
+            bytes += ALLOCATION_COUNTER.read() - startBytes;
+        }
+
+        void endHasNext(boolean hasNext) {
+            end();
+            if (!hasNext) {
+                onExhausted(this);
+            }
+        }
+    }
+
+    private static final class ObjStage<T> implements Iterator<T>, SizedIterator {
+
+        private final Stage stage;
+        private final Iterator<? extends T> iterator;
+
+        ObjStage(@NotNull Stage stage, @NotNull Iterator<? extends T> iterator) {
+            this.stage = stage;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            stage.begin();
+            final boolean hasNext = iterator.hasNext();
+            stage.endHasNext(hasNext);
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            stage.begin();
+            final T value = iterator.next();
+            stage.end();
+            stage.elements++;
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return Operators.exactSize(iterator);
+        }
+    }
+
+    private static final class IntStage extends PrimitiveIterator.OfInt implements SizedIterator {
+
+        private final Stage stage;
+        private final PrimitiveIterator.OfInt iterator;
+
+        IntStage(@NotNull Stage stage, @NotNull PrimitiveIterator.OfInt iterator) {
+            this.stage = stage;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            stage.begin();
+            final boolean hasNext = iterator.hasNext();
+            stage.endHasNext(hasNext);
+            return hasNext;
+        }
+
+        @Override
+        public int nextInt() {
+            stage.begin();
+            final int value = iterator.nextInt();
+            stage.end();
+            stage.elements++;
+            return value;
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return Operators.exactSize(iterator);
+        }
+    }
+
+    private static final class LongStage extends PrimitiveIterator.OfLong implements SizedIterator {
+
+        private final Stage stage;
+        private final PrimitiveIterator.OfLong iterator;
+
+        LongStage(@NotNull Stage stage, @NotNull PrimitiveIterator.OfLong iterator) {
+            this.stage = stage;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            stage.begin();
+            final boolean hasNext = iterator.hasNext();
+            stage.endHasNext(hasNext);
+            return hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+            stage.begin();
+            final long value = iterator.nextLong();
+            stage.end();
+            stage.elements++;
+            return value;
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return Operators.exactSize(iterator);
+        }
+    }
+
+    private static final class DoubleStage extends PrimitiveIterator.OfDouble implements SizedIterator {
+
+        private final Stage stage;
+        private final PrimitiveIterator.OfDouble iterator;
+
+        DoubleStage(@NotNull Stage stage, @NotNull PrimitiveIterator.OfDouble iterator) {
+            this.stage = stage;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            stage.begin();
+            final boolean hasNext = iterator.hasNext();
+            stage.endHasNext(hasNext);
+            return hasNext;
+        }
+
+        @Override
+        public double nextDouble() {
+            stage.begin();
+            final double value = iterator.nextDouble();
+            stage.end();
+            stage.elements++;
+            return value;
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return Operators.exactSize(iterator);
+        }
+    }
+
+    // Per-thread allocation counter of HotSpot JVMs (com.sun.management.ThreadMXBean).
+    // It is accessed by reflection, because the class does not exist on Android.
+    private static final class AllocationCounter {
+
+        private final Object bean;
+        private final Method method;
+        private final ThreadLocal<Object[]> arguments;
+
+        private AllocationCounter(Object bean, Method method) {
+            this.bean = bean;
+            this.method = method;
+            arguments = new ThreadLocal<Object[]>() {
+                @Override
+                protected Object[] initialValue() {
+                    return new Object[] { Thread.currentThread().getId() };
+                }
+            };
+        }
+
+        static AllocationCounter create() {
+            try {
+                final Object bean = Class.forName("java.lang.management.ManagementFactory")
+                        .getMethod("getThreadMXBean")
+                        .invoke(null);
+                final Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+                if (type.isInstance(bean)
+                        && Boolean.TRUE.equals(type.getMethod("isThreadAllocatedMemorySupported").invoke(bean))
+                        && Boolean.TRUE.equals(type.getMethod("isThreadAllocatedMemoryEnabled").invoke(bean))) {
+                    return new AllocationCounter(bean, type.getMethod("getThreadAllocatedBytes", long.class));
+                }
+            } catch (Throwable ignore) { }
+            return new AllocationCounter(null, null);
+        }
+
+        boolean isSupported() {
+            return method != null;
+        }
+
+        long read() {
+            if (method == null) return 0L;
+            try {
+                return (Long) method.invoke(bean, arguments.get());
+            } catch (Exception e) {
+                return 0L;
+            }
+        }
+    }
+}
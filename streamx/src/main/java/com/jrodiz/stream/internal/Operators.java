@@ -1,67 +1,319 @@
 package com.jrodiz.stream.internal;
 
+import com.jrodiz.stream.Optional;
+import com.jrodiz.stream.function.BiFunction;
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.DoubleConsumer;
+import com.jrodiz.stream.function.IntConsumer;
 import com.jrodiz.stream.function.IntFunction;
+import com.jrodiz.stream.function.LongConsumer;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.PushIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public final class Operators {
 
     private Operators() {}
 
-    @NotNull
-    public static <T> List<T> toList(@NotNull Iterator<? extends T> iterator) {
-        final List<T> result = new ArrayList<T>();
+    /**
+     * Performs the given action for each remaining element of the iterator.
+     * Uses internal iteration if the iterator supports it.
+     *
+     * @param <T> the type of the elements
+     * @param iterator  the iterator
+     * @param action  the action to be performed on each element
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void pushRemaining(@NotNull Iterator<? extends T> iterator,
+                                         @NotNull Consumer<? super T> action) {
+        if (iterator instanceof PushIterator) {
+            ((PushIterator<T>) iterator).pushRemaining(action);
+            return;
+        }
         while (iterator.hasNext()) {
-            result.add(iterator.next());
+            action.accept(iterator.next());
+        }
+    }
+
+    @Nullable
+    public static <T, R> R reduce(@NotNull Iterator<? extends T> iterator,
+                                  @Nullable R identity,
+                                  @NotNull BiFunction<? super R, ? super T, ? extends R> accumulator) {
+        final Reducer<T, R> reducer = new Reducer<T, R>(identity, accumulator);
+        pushRemaining(iterator, reducer);
+        return reducer.result;
+    }
+
+    @NotNull
+    public static <T> Optional<T> reduce(@NotNull Iterator<? extends T> iterator,
+                                         @NotNull BiFunction<T, T, T> accumulator) {
+        final OptionalReducer<T> reducer = new OptionalReducer<T>(accumulator);
+        pushRemaining(iterator, reducer);
+        return reducer.foundAny ? Optional.of(reducer.result) : Optional.<T>empty();
+    }
+
+    /**
+     * Returns the exact number of remaining elements of the iterator.
+     *
+     * @param iterator  the iterator
+     * @return the number of remaining elements, or {@code -1} if it is not known
+     * @see SizedIterator
+     */
+    public static long exactSize(@NotNull Iterator<?> iterator) {
+        if (iterator instanceof SizedIterator) {
+            return ((SizedIterator) iterator).getExactSizeIfKnown();
         }
+        return -1;
+    }
+
+    /**
+     * Advances the iterator by {@code n} elements without visiting them, if it is supported.
+     *
+     * @param iterator  the iterator
+     * @param n  the number of elements to skip
+     * @return {@code true} if the iterator was advanced, {@code false} if it was not changed
+     */
+    public static boolean advance(@NotNull Iterator<?> iterator, long n) {
+        return (iterator instanceof RandomAccessIterator)
+                && ((RandomAccessIterator) iterator).advance(n);
+    }
+
+    @NotNull
+    public static <T> List<T> toList(@NotNull Iterator<? extends T> iterator) {
+        final long size = exactSize(iterator);
+        final List<T> result = (size >= 0 && size < Compat.MAX_ARRAY_SIZE)
+                ? new ArrayList<T>((int) size)
+                : new ArrayList<T>();
+        pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                result.add(value);
+            }
+        });
         return result;
     }
 
     @NotNull
-    @SuppressWarnings("unchecked")
     public static <T, R> R[] toArray(@NotNull Iterator<? extends T> iterator,
                                      @NotNull IntFunction<R[]> generator) {
-        final List<T> container = Operators.<T>toList(iterator);
-        final int size = container.size();
-
-        Compat.checkMaxArraySize(size);
-
-        //noinspection unchecked
-        T[] source = container.toArray(Compat.<T>newArray(size));
-        R[] boxed = generator.apply(size);
+        final long size = exactSize(iterator);
+        if (size >= 0) {
+            Compat.checkMaxArraySize(size);
+            // Fill the resulting array directly
+            final ArrayFiller<T> filler = new ArrayFiller<T>(generator.apply((int) size));
+            pushRemaining(iterator, filler);
+            @SuppressWarnings("unchecked")
+            final R[] result = (R[]) filler.toArray();
+            return result;
+        }
 
-        //noinspection SuspiciousSystemArraycopy
-        System.arraycopy(source, 0, boxed, 0, size);
-        return boxed;
+        final List<T> container = Operators.<T>toList(iterator);
+        final int count = container.size();
+        Compat.checkMaxArraySize(count);
+        return container.toArray(generator.apply(count));
     }
 
     @NotNull
     public static int[] toIntArray(@NotNull PrimitiveIterator.OfInt iterator) {
-        final SpinedBuffer.OfInt b = new SpinedBuffer.OfInt();
-        while (iterator.hasNext()) {
-            b.accept(iterator.nextInt());
+        final long size = exactSize(iterator);
+        if (size >= 0) {
+            Compat.checkMaxArraySize(size);
+            final IntArrayFiller filler = new IntArrayFiller(new int[(int) size]);
+            iterator.pushRemainingInt(filler);
+            return filler.toArray();
         }
-        return b.asPrimitiveArray();
+        return toIntBuffer(iterator).asPrimitiveArray();
+    }
+
+    @NotNull
+    public static SpinedBuffer.OfInt toIntBuffer(@NotNull PrimitiveIterator.OfInt iterator) {
+        final long size = exactSize(iterator);
+        final SpinedBuffer.OfInt b = (size > 0 && size <= SpinedBuffer.MAX_CHUNK_SIZE)
+                ? new SpinedBuffer.OfInt((int) size)
+                : new SpinedBuffer.OfInt();
+        iterator.pushRemainingInt(b);
+        return b;
     }
 
     @NotNull
     public static long[] toLongArray(@NotNull PrimitiveIterator.OfLong iterator) {
-        final SpinedBuffer.OfLong b = new SpinedBuffer.OfLong();
-        while (iterator.hasNext()) {
-            b.accept(iterator.nextLong());
+        final long size = exactSize(iterator);
+        if (size >= 0) {
+            Compat.checkMaxArraySize(size);
+            final LongArrayFiller filler = new LongArrayFiller(new long[(int) size]);
+            iterator.pushRemainingLong(filler);
+            return filler.toArray();
         }
-        return b.asPrimitiveArray();
+        return toLongBuffer(iterator).asPrimitiveArray();
+    }
+
+    @NotNull
+    public static SpinedBuffer.OfLong toLongBuffer(@NotNull PrimitiveIterator.OfLong iterator) {
+        final long size = exactSize(iterator);
+        final SpinedBuffer.OfLong b = (size > 0 && size <= SpinedBuffer.MAX_CHUNK_SIZE)
+                ? new SpinedBuffer.OfLong((int) size)
+                : new SpinedBuffer.OfLong();
+        iterator.pushRemainingLong(b);
+        return b;
     }
 
     @NotNull
     public static double[] toDoubleArray(@NotNull PrimitiveIterator.OfDouble iterator) {
-        final SpinedBuffer.OfDouble b = new SpinedBuffer.OfDouble();
-        while (iterator.hasNext()) {
-            b.accept(iterator.nextDouble());
+        final long size = exactSize(iterator);
+        if (size >= 0) {
+            Compat.checkMaxArraySize(size);
+            final DoubleArrayFiller filler = new DoubleArrayFiller(new double[(int) size]);
+            iterator.pushRemainingDouble(filler);
+            return filler.toArray();
+        }
+        return toDoubleBuffer(iterator).asPrimitiveArray();
+    }
+
+    @NotNull
+    public static SpinedBuffer.OfDouble toDoubleBuffer(@NotNull PrimitiveIterator.OfDouble iterator) {
+        final long size = exactSize(iterator);
+        final SpinedBuffer.OfDouble b = (size > 0 && size <= SpinedBuffer.MAX_CHUNK_SIZE)
+                ? new SpinedBuffer.OfDouble((int) size)
+                : new SpinedBuffer.OfDouble();
+        iterator.pushRemainingDouble(b);
+        return b;
+    }
+
+    private static final class Reducer<T, R> implements Consumer<T> {
+
+        private final BiFunction<? super R, ? super T, ? extends R> accumulator;
+        R result;
+
+        Reducer(R identity, BiFunction<? super R, ? super T, ? extends R> accumulator) {
+            this.accumulator = accumulator;
+            result = identity;
+        }
+
+        @Override
+        public void accept(T value) {
+            result = accumulator.apply(result, value);
+        }
+    }
+
+    private static final class OptionalReducer<T> implements Consumer<T> {
+
+        private final BiFunction<T, T, T> accumulator;
+        boolean foundAny;
+        T result;
+
+        OptionalReducer(BiFunction<T, T, T> accumulator) {
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        public void accept(T value) {
+            if (!foundAny) {
+                foundAny = true;
+                result = value;
+            } else {
+                result = accumulator.apply(result, value);
+            }
+        }
+    }
+
+    // Reported size of a concurrent source may differ from the number of elements
+    private static int grownLength(int length) {
+        Compat.checkMaxArraySize(length + 1L);
+        return (int) Math.min(Compat.MAX_ARRAY_SIZE, Math.max(16L, 2L * length));
+    }
+
+    private static final class ArrayFiller<T> implements Consumer<T> {
+
+        private Object[] array;
+        private int size;
+
+        ArrayFiller(Object[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void accept(T value) {
+            if (size == array.length) {
+                array = Compat.newArray(grownLength(size), array);
+            }
+            array[size++] = value;
+        }
+
+        Object[] toArray() {
+            return (size == array.length) ? array : Compat.newArray(size, array);
+        }
+    }
+
+    private static final class IntArrayFiller implements IntConsumer {
+
+        private int[] array;
+        private int size;
+
+        IntArrayFiller(int[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void accept(int value) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, grownLength(size));
+            }
+            array[size++] = value;
+        }
+
+        int[] toArray() {
+            return (size == array.length) ? array : Arrays.copyOf(array, size);
+        }
+    }
+
+    private static final class LongArrayFiller implements LongConsumer {
+
+        private long[] array;
+        private int size;
+
+        LongArrayFiller(long[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void accept(long value) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, grownLength(size));
+            }
+            array[size++] = value;
+        }
+
+        long[] toArray() {
+            return (size == array.length) ? array : Arrays.copyOf(array, size);
+        }
+    }
+
+    private static final class DoubleArrayFiller implements DoubleConsumer {
+
+        private double[] array;
+        private int size;
+
+        DoubleArrayFiller(double[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, grownLength(size));
+            }
+            array[size++] = value;
+        }
+
+        double[] toArray() {
+            return (size == array.length) ? array : Arrays.copyOf(array, size);
         }
-        return b.asPrimitiveArray();
     }
 }
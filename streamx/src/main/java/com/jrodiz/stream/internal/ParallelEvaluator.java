@@ -0,0 +1,104 @@
+package com.jrodiz.stream.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Evaluates a range of indices by recursively splitting it
+ * into chunks which are processed on a {@code ForkJoinPool}.
+ */
+public final class ParallelEvaluator {
+
+    /**
+     * Number of leaf chunks per worker thread, to balance uneven chunks.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelEvaluator() { }
+
+    /**
+     * Function which processes elements in range {@code [from, to)}.
+     *
+     * @param <R> the type of the chunk result
+     */
+    public interface ChunkFunction<R> {
+
+        R apply(int from, int to);
+    }
+
+    /**
+     * Splits range {@code [0, size)} into chunks and applies function to each of them.
+     *
+     * @param <R> the type of the chunk result
+     * @param size  the number of elements
+     * @param function  the function to apply to each chunk
+     * @return the chunk results in encounter order
+     */
+    @NotNull
+    public static <R> List<R> evaluate(int size, @NotNull ChunkFunction<R> function) {
+        final ForkJoinPool pool;
+        try {
+            // ForkJoinPool was introduced in Android 5.0
+            pool = PoolHolder.POOL;
+        } catch (NoClassDefFoundError ncdfe) {
+            return Collections.singletonList(function.apply(0, size));
+        }
+
+        final int parallelism = pool.getParallelism();
+        if (parallelism <= 1 || size <= 1) {
+            return Collections.singletonList(function.apply(0, size));
+        }
+
+        final int chunkCount = Math.min(size, parallelism * CHUNKS_PER_THREAD);
+        final Object[] results = new Object[chunkCount];
+        pool.invoke(new ChunkTask<R>(function, size, chunkCount, 0, chunkCount, results));
+
+        @SuppressWarnings("unchecked")
+        final List<R> list = (List<R>) Arrays.asList(results);
+        return list;
+    }
+
+    private static final class PoolHolder {
+        static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+
+    private static final class ChunkTask<R> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ChunkFunction<R> function;
+        private final int size, chunkCount;
+        private final int fromChunk, toChunk;
+        private final Object[] results;
+
+        ChunkTask(ChunkFunction<R> function, int size, int chunkCount,
+                  int fromChunk, int toChunk, Object[] results) {
+            this.function = function;
+            this.size = size;
+            this.chunkCount = chunkCount;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                results[fromChunk] = function.apply(
+                        chunkStart(fromChunk), chunkStart(fromChunk + 1));
+                return;
+            }
+            final int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(
+                    new ChunkTask<R>(function, size, chunkCount, fromChunk, middle, results),
+                    new ChunkTask<R>(function, size, chunkCount, middle, toChunk, results));
+        }
+
+        private int chunkStart(int chunk) {
+            return (int) ((long) size * chunk / chunkCount);
+        }
+    }
+}
@@ -9,6 +9,8 @@ public final class Params {
 
     public Runnable closeHandler;
 
+    public Instrumentation instrumentation;
+
     public static Params wrapWithCloseHandler(Params params, @NotNull Runnable closeHandler) {
         final Params newParams;
         if (params == null) {
@@ -21,4 +23,12 @@ public final class Params {
         }
         return newParams;
     }
+
+    public static Params prependCloseHandler(Params params, @NotNull Runnable closeHandler) {
+        if (params == null) {
+            return wrapWithCloseHandler(null, closeHandler);
+        }
+        params.closeHandler = Compose.runnables(closeHandler, params.closeHandler);
+        return params;
+    }
 }
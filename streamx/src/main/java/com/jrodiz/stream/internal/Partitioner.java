@@ -0,0 +1,160 @@
+package com.jrodiz.stream.internal;
+
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.Function;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Routes elements by key hash to workers, each running on its own thread
+ * and reading its own bounded queue, so elements with the same key are processed in order.
+ *
+ * <p>Elements are handed off in batches. A batch is handed off when it is full
+ * or when the input ends. When the producer is about to wait for a full queue,
+ * partial batches are handed off to idle workers, so they do not wait for the producer.
+ *
+ * @param <T> the type of the elements
+ */
+public final class Partitioner<T> {
+
+    private static final int BATCH_SIZE = 64;
+    private static final int QUEUE_BATCHES = 16;
+
+    private final Function<? super T, ?> classifier;
+    private final List<Consumer<? super T>> workers;
+    private final Executor executor;
+    private final AtomicReference<Throwable> failure;
+
+    public Partitioner(@NotNull Function<? super T, ?> classifier,
+                       @NotNull List<Consumer<? super T>> workers,
+                       @NotNull Executor executor) {
+        this.classifier = classifier;
+        this.workers = workers;
+        this.executor = executor;
+        failure = new AtomicReference<Throwable>();
+    }
+
+    /**
+     * Distributes elements of the iterator and waits until all workers finish.
+     *
+     * @param iterator  the elements
+     */
+    public void run(@NotNull Iterator<? extends T> iterator) {
+        final int n = workers.size();
+        final List<SpscQueue<List<T>>> queues = new ArrayList<SpscQueue<List<T>>>(n);
+        final List<List<T>> batches = new ArrayList<List<T>>(n);
+        final CountDownLatch finished = new CountDownLatch(n);
+        try {
+            for (int i = 0; i < n; i++) {
+                final SpscQueue<List<T>> queue = new SpscQueue<List<T>>(QUEUE_BATCHES);
+                executor.execute(new Worker(queue, workers.get(i), finished));
+                queues.add(queue);
+                batches.add(null);
+            }
+            while (failure.get() == null && iterator.hasNext()) {
+                final T value = iterator.next();
+                final int partition = partition(classifier.apply(value), n);
+                List<T> batch = batches.get(partition);
+                if (batch == null) {
+                    batch = new ArrayList<T>(BATCH_SIZE);
+                    batches.set(partition, batch);
+                }
+                batch.add(value);
+                if (batch.size() == BATCH_SIZE) {
+                    batches.set(partition, null);
+                    final SpscQueue<List<T>> queue = queues.get(partition);
+                    if (!queue.offer(batch)) {
+                        handOffToIdle(queues, batches);
+                        queue.put(batch);
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            final int started = queues.size();
+            for (int i = 0; i < started; i++) {
+                final List<T> batch = batches.get(i);
+                if (batch != null && failure.get() == null) {
+                    queues.get(i).put(batch);
+                }
+                queues.get(i).close();
+            }
+            // Workers which failed to start will never count down
+            for (int i = started; i < n; i++) {
+                finished.countDown();
+            }
+        }
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        final Throwable e = failure.get();
+        if (e == null) return;
+        if (e instanceof RuntimeException) throw (RuntimeException) e;
+        if (e instanceof Error) throw (Error) e;
+        throw new RuntimeException(e);
+    }
+
+    private static <T> void handOffToIdle(@NotNull List<SpscQueue<List<T>>> queues,
+                                          @NotNull List<List<T>> batches) {
+        for (int i = 0, n = queues.size(); i < n; i++) {
+            final List<T> batch = batches.get(i);
+            if (batch != null && queues.get(i).isEmpty() && queues.get(i).offer(batch)) {
+                batches.set(i, null);
+            }
+        }
+    }
+
+    private static int partition(Object key, int n) {
+        if (key == null) return 0;
+        final int h = key.hashCode() * 0x9E3779B9;
+        final int spread = h ^ (h >>> 16);
+        final int partition = spread % n;
+        return (partition < 0) ? partition + n : partition;
+    }
+
+    private final class Worker implements Runnable {
+
+        private final SpscQueue<List<T>> queue;
+        private final Consumer<? super T> consumer;
+        private final CountDownLatch finished;
+
+        Worker(@NotNull SpscQueue<List<T>> queue,
+               @NotNull Consumer<? super T> consumer,
+               @NotNull CountDownLatch finished) {
+            this.queue = queue;
+            this.consumer = consumer;
+            this.finished = finished;
+        }
+
+        @Override
+        public void run() {
+            try {
+                List<T> batch;
+                while ((batch = queue.take()) != null) {
+                    if (failure.get() != null) {
+                        // Drain without processing, so the producer is not blocked
+                        continue;
+                    }
+                    try {
+                        for (int i = 0, size = batch.size(); i < size; i++) {
+                            consumer.accept(batch.get(i));
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            } finally {
+                finished.countDown();
+            }
+        }
+    }
+}
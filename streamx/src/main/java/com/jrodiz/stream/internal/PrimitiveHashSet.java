@@ -0,0 +1,193 @@
+package com.jrodiz.stream.internal;
+
+/**
+ * Open-addressing hash sets of primitive values.
+ * Tables have power-of-two sizes and collisions are resolved by linear probing,
+ * so no boxing and no per-element allocation happens.
+ */
+public final class PrimitiveHashSet {
+
+    /**
+     * Minimum power-of-two for the table size.
+     */
+    private static final int MIN_CAPACITY_POWER = 4;
+
+    /**
+     * Max power-of-two for the table size.
+     */
+    private static final int MAX_CAPACITY_POWER = 30;
+
+    /**
+     * Golden ratio constant used to spread hash bits.
+     */
+    private static final int INT_PHI = 0x9E3779B9;
+
+    private PrimitiveHashSet() { }
+
+    private static int mix(int value) {
+        final int h = value * INT_PHI;
+        return h ^ (h >>> 16);
+    }
+
+    private static int mix(long value) {
+        return mix((int) (value ^ (value >>> 32)));
+    }
+
+    private static void checkCapacity(int capacityPower) {
+        if (capacityPower > MAX_CAPACITY_POWER) {
+            throw new IllegalStateException("Hash set size exceeds max table size");
+        }
+    }
+
+    /**
+     * Set of {@code int} values. Zero is used as the free slot marker
+     * and is tracked separately.
+     */
+    public static final class OfInt {
+
+        private int[] table;
+        private int capacityPower;
+        private int mask;
+        private int size;
+        private int threshold;
+        private boolean containsZero;
+
+        public OfInt() {
+            capacityPower = MIN_CAPACITY_POWER;
+            allocate();
+        }
+
+        /**
+         * Adds value to the set.
+         *
+         * @param value  the value to add
+         * @return {@code true} if the set did not already contain the value
+         */
+        public boolean add(int value) {
+            if (value == 0) {
+                if (containsZero) return false;
+                containsZero = true;
+                return true;
+            }
+            final int[] t = table;
+            int index = mix(value) & mask;
+            int current;
+            while ((current = t[index]) != 0) {
+                if (current == value) return false;
+                index = (index + 1) & mask;
+            }
+            t[index] = value;
+            if (++size >= threshold) {
+                rehash();
+            }
+            return true;
+        }
+
+        private void allocate() {
+            table = new int[1 << capacityPower];
+            mask = table.length - 1;
+            threshold = table.length >>> 1;
+        }
+
+        private void rehash() {
+            final int[] oldTable = table;
+            checkCapacity(++capacityPower);
+            allocate();
+            final int[] t = table;
+            for (int value : oldTable) {
+                if (value == 0) continue;
+                int index = mix(value) & mask;
+                while (t[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                t[index] = value;
+            }
+        }
+    }
+
+    /**
+     * Set of {@code long} values. Zero is used as the free slot marker
+     * and is tracked separately.
+     */
+    public static final class OfLong {
+
+        private long[] table;
+        private int capacityPower;
+        private int mask;
+        private int size;
+        private int threshold;
+        private boolean containsZero;
+
+        public OfLong() {
+            capacityPower = MIN_CAPACITY_POWER;
+            allocate();
+        }
+
+        /**
+         * Adds value to the set.
+         *
+         * @param value  the value to add
+         * @return {@code true} if the set did not already contain the value
+         */
+        public boolean add(long value) {
+            if (value == 0L) {
+                if (containsZero) return false;
+                containsZero = true;
+                return true;
+            }
+            final long[] t = table;
+            int index = mix(value) & mask;
+            long current;
+            while ((current = t[index]) != 0L) {
+                if (current == value) return false;
+                index = (index + 1) & mask;
+            }
+            t[index] = value;
+            if (++size >= threshold) {
+                rehash();
+            }
+            return true;
+        }
+
+        private void allocate() {
+            table = new long[1 << capacityPower];
+            mask = table.length - 1;
+            threshold = table.length >>> 1;
+        }
+
+        private void rehash() {
+            final long[] oldTable = table;
+            checkCapacity(++capacityPower);
+            allocate();
+            final long[] t = table;
+            for (long value : oldTable) {
+                if (value == 0L) continue;
+                int index = mix(value) & mask;
+                while (t[index] != 0L) {
+                    index = (index + 1) & mask;
+                }
+                t[index] = value;
+            }
+        }
+    }
+
+    /**
+     * Set of {@code double} values.
+     * Values are compared by {@link Double#doubleToLongBits(double)} like {@link Double#equals(Object)},
+     * so all {@code NaN} values are equal and {@code 0.0} differs from {@code -0.0}.
+     */
+    public static final class OfDouble {
+
+        private final OfLong bits = new OfLong();
+
+        /**
+         * Adds value to the set.
+         *
+         * @param value  the value to add
+         * @return {@code true} if the set did not already contain the value
+         */
+        public boolean add(double value) {
+            return bits.add(Double.doubleToLongBits(value));
+        }
+    }
+}
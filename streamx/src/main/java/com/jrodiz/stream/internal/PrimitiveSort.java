@@ -0,0 +1,346 @@
+package com.jrodiz.stream.internal;
+
+import com.jrodiz.stream.function.DoubleComparator;
+import com.jrodiz.stream.function.IntComparator;
+import com.jrodiz.stream.function.LongComparator;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sorts primitive arrays without boxing.
+ *
+ * <p>Natural and reverse order use LSD radix sort for large arrays
+ * and {@link Arrays#sort(int[])} for small ones.
+ * Other comparators use a stable merge sort over insertion-sorted runs,
+ * so the result is the same as sorting boxed values with {@code Collections.sort}.
+ */
+public final class PrimitiveSort {
+
+    /**
+     * Min array length to use radix sort, below it {@code Arrays.sort} is faster.
+     */
+    private static final int RADIX_THRESHOLD = 1 << 12;
+
+    /**
+     * Length of runs which are sorted by insertion sort before merging.
+     */
+    private static final int RUN_LENGTH = 32;
+
+    private static final int RADIX = 256;
+
+    private PrimitiveSort() { }
+
+    /**
+     * Sorts array in order of the given comparator.
+     *
+     * @param array  the array to sort
+     * @param comparator  the comparator, or {@code null} for natural order
+     */
+    public static void sort(@NotNull int[] array, @Nullable IntComparator comparator) {
+        if (comparator == null || comparator == IntComparator.Util.naturalOrder()) {
+            sortNatural(array);
+        } else if (comparator == IntComparator.Util.reverseOrder()) {
+            sortNatural(array);
+            reverse(array);
+        } else {
+            mergeSort(array, comparator);
+        }
+    }
+
+    /**
+     * Sorts array in order of the given comparator.
+     *
+     * @param array  the array to sort
+     * @param comparator  the comparator, or {@code null} for natural order
+     */
+    public static void sort(@NotNull long[] array, @Nullable LongComparator comparator) {
+        if (comparator == null || comparator == LongComparator.Util.naturalOrder()) {
+            sortNatural(array);
+        } else if (comparator == LongComparator.Util.reverseOrder()) {
+            sortNatural(array);
+            reverse(array);
+        } else {
+            mergeSort(array, comparator);
+        }
+    }
+
+    /**
+     * Sorts array in order of the given comparator.
+     *
+     * @param array  the array to sort
+     * @param comparator  the comparator, or {@code null} for natural order
+     */
+    public static void sort(@NotNull double[] array, @Nullable DoubleComparator comparator) {
+        if (comparator == null || comparator == DoubleComparator.Util.naturalOrder()) {
+            sortNatural(array);
+        } else if (comparator == DoubleComparator.Util.reverseOrder()) {
+            sortNatural(array);
+            reverse(array);
+        } else {
+            mergeSort(array, comparator);
+        }
+    }
+
+    private static void sortNatural(@NotNull int[] array) {
+        if (array.length < RADIX_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+        final int length = array.length;
+        final int[] count = new int[RADIX];
+        int[] src = array;
+        int[] dst = new int[length];
+        for (int shift = 0; shift < Integer.SIZE; shift += 8) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < length; i++) {
+                count[digit(src[i], shift)]++;
+            }
+            if (count[digit(src[0], shift)] == length) {
+                // All values have the same digit
+                continue;
+            }
+            toOffsets(count);
+            for (int i = 0; i < length; i++) {
+                final int value = src[i];
+                dst[count[digit(value, shift)]++] = value;
+            }
+            final int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, length);
+        }
+    }
+
+    private static void sortNatural(@NotNull long[] array) {
+        if (array.length < RADIX_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+        radixSort(array);
+    }
+
+    private static void sortNatural(@NotNull double[] array) {
+        if (array.length < RADIX_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+        // Map values to long keys which have the order of Double.compare
+        final int length = array.length;
+        final long[] keys = new long[length];
+        for (int i = 0; i < length; i++) {
+            final long bits = Double.doubleToLongBits(array[i]);
+            // Negative values have reversed order of magnitude bits
+            keys[i] = (bits < 0) ? (bits ^ Long.MAX_VALUE) : bits;
+        }
+        radixSort(keys);
+        for (int i = 0; i < length; i++) {
+            final long key = keys[i];
+            array[i] = Double.longBitsToDouble((key < 0) ? (key ^ Long.MAX_VALUE) : key);
+        }
+    }
+
+    private static void radixSort(@NotNull long[] array) {
+        final int length = array.length;
+        final int[] count = new int[RADIX];
+        long[] src = array;
+        long[] dst = new long[length];
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < length; i++) {
+                count[digit(src[i], shift)]++;
+            }
+            if (count[digit(src[0], shift)] == length) {
+                // All values have the same digit
+                continue;
+            }
+            toOffsets(count);
+            for (int i = 0; i < length; i++) {
+                final long value = src[i];
+                dst[count[digit(value, shift)]++] = value;
+            }
+            final long[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, length);
+        }
+    }
+
+    private static int digit(int value, int shift) {
+        // Flip sign bit, so negative values go first
+        return ((value ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1);
+    }
+
+    private static int digit(long value, int shift) {
+        return (int) ((value ^ Long.MIN_VALUE) >>> shift) & (RADIX - 1);
+    }
+
+    private static void toOffsets(@NotNull int[] count) {
+        int offset = 0;
+        for (int i = 0; i < RADIX; i++) {
+            final int c = count[i];
+            count[i] = offset;
+            offset += c;
+        }
+    }
+
+    private static void reverse(@NotNull int[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            final int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    private static void reverse(@NotNull long[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            final long tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    private static void reverse(@NotNull double[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            final double tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    private static void mergeSort(@NotNull int[] array, @NotNull IntComparator comparator) {
+        final int length = array.length;
+        for (int from = 0; from < length; from += RUN_LENGTH) {
+            final int to = Math.min(from + RUN_LENGTH, length);
+            for (int i = from + 1; i < to; i++) {
+                final int value = array[i];
+                int j = i;
+                for (; j > from && comparator.compare(array[j - 1], value) > 0; j--) {
+                    array[j] = array[j - 1];
+                }
+                array[j] = value;
+            }
+        }
+        if (length <= RUN_LENGTH) return;
+
+        int[] src = array;
+        int[] dst = new int[length];
+        for (int width = RUN_LENGTH; width < length; width <<= 1) {
+            for (int from = 0; from < length; from += width << 1) {
+                final int middle = Math.min(from + width, length);
+                final int to = Math.min(middle + width, length);
+                if (middle == to || comparator.compare(src[middle - 1], src[middle]) <= 0) {
+                    // Already ordered
+                    System.arraycopy(src, from, dst, from, to - from);
+                    continue;
+                }
+                int left = from, right = middle, k = from;
+                while (left < middle && right < to) {
+                    dst[k++] = (comparator.compare(src[left], src[right]) <= 0)
+                            ? src[left++]
+                            : src[right++];
+                }
+                System.arraycopy(src, left, dst, k, middle - left);
+                System.arraycopy(src, right, dst, k + middle - left, to - right);
+            }
+            final int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, length);
+        }
+    }
+
+    private static void mergeSort(@NotNull long[] array, @NotNull LongComparator comparator) {
+        final int length = array.length;
+        for (int from = 0; from < length; from += RUN_LENGTH) {
+            final int to = Math.min(from + RUN_LENGTH, length);
+            for (int i = from + 1; i < to; i++) {
+                final long value = array[i];
+                int j = i;
+                for (; j > from && comparator.compare(array[j - 1], value) > 0; j--) {
+                    array[j] = array[j - 1];
+                }
+                array[j] = value;
+            }
+        }
+        if (length <= RUN_LENGTH) return;
+
+        long[] src = array;
+        long[] dst = new long[length];
+        for (int width = RUN_LENGTH; width < length; width <<= 1) {
+            for (int from = 0; from < length; from += width << 1) {
+                final int middle = Math.min(from + width, length);
+                final int to = Math.min(middle + width, length);
+                if (middle == to || comparator.compare(src[middle - 1], src[middle]) <= 0) {
+                    // Already ordered
+                    System.arraycopy(src, from, dst, from, to - from);
+                    continue;
+                }
+                int left = from, right = middle, k = from;
+                while (left < middle && right < to) {
+                    dst[k++] = (comparator.compare(src[left], src[right]) <= 0)
+                            ? src[left++]
+                            : src[right++];
+                }
+                System.arraycopy(src, left, dst, k, middle - left);
+                System.arraycopy(src, right, dst, k + middle - left, to - right);
+            }
+            final long[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, length);
+        }
+    }
+
+    private static void mergeSort(@NotNull double[] array, @NotNull DoubleComparator comparator) {
+        final int length = array.length;
+        for (int from = 0; from < length; from += RUN_LENGTH) {
+            final int to = Math.min(from + RUN_LENGTH, length);
+            for (int i = from + 1; i < to; i++) {
+                final double value = array[i];
+                int j = i;
+                for (; j > from && comparator.compare(array[j - 1], value) > 0; j--) {
+                    array[j] = array[j - 1];
+                }
+                array[j] = value;
+            }
+        }
+        if (length <= RUN_LENGTH) return;
+
+        double[] src = array;
+        double[] dst = new double[length];
+        for (int width = RUN_LENGTH; width < length; width <<= 1) {
+            for (int from = 0; from < length; from += width << 1) {
+                final int middle = Math.min(from + width, length);
+                final int to = Math.min(middle + width, length);
+                if (middle == to || comparator.compare(src[middle - 1], src[middle]) <= 0) {
+                    // Already ordered
+                    System.arraycopy(src, from, dst, from, to - from);
+                    continue;
+                }
+                int left = from, right = middle, k = from;
+                while (left < middle && right < to) {
+                    dst[k++] = (comparator.compare(src[left], src[right]) <= 0)
+                            ? src[left++]
+                            : src[right++];
+                }
+                System.arraycopy(src, left, dst, k, middle - left);
+                System.arraycopy(src, right, dst, k + middle - left, to - right);
+            }
+            final double[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, length);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.jrodiz.stream.internal;
+
+import com.jrodiz.stream.Flow;
+import com.jrodiz.stream.iterator.LsaExtIterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Iterates elements of a publisher, blocking until the next element arrives.
+ *
+ * <p>Subscribes on the first access and keeps at most {@code prefetch} elements requested.
+ * Consumed elements are requested again in batches of three quarters of {@code prefetch}.
+ *
+ * @param <T> the type of the elements
+ */
+public final class PublisherIterator<T> extends LsaExtIterator<T> implements Flow.Subscriber<T>, Runnable {
+
+    private static final Object COMPLETE = new Object();
+
+    private final Flow.Publisher<? extends T> publisher;
+    private final int prefetch;
+    private final int limit;
+    // Elements, then COMPLETE or an error; never more than prefetch + 1 items.
+    // Not preallocated, prefetch may be as large as Integer.MAX_VALUE
+    private final BlockingQueue<Object> queue;
+    private volatile Flow.Subscription subscription;
+    private volatile boolean cancelled;
+    private boolean subscribed;
+    private int consumed;
+
+    public PublisherIterator(@NotNull Flow.Publisher<? extends T> publisher, int prefetch) {
+        this.publisher = publisher;
+        this.prefetch = prefetch;
+        limit = Math.max(1, prefetch - (prefetch >> 2));
+        queue = new LinkedBlockingQueue<Object>();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void nextIteration() {
+        if (!subscribed) {
+            subscribed = true;
+            publisher.subscribe(this);
+        }
+        final Object item;
+        try {
+            item = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run();
+            throw new RuntimeException(e);
+        }
+        if (item == COMPLETE) {
+            hasNext = false;
+            next = null;
+            return;
+        }
+        if (item instanceof ErrorSignal) {
+            hasNext = false;
+            next = null;
+            final Throwable error = ((ErrorSignal) item).error;
+            if (error instanceof RuntimeException) throw (RuntimeException) error;
+            if (error instanceof Error) throw (Error) error;
+            throw new RuntimeException(error);
+        }
+        hasNext = true;
+        next = (T) item;
+        if (++consumed == limit) {
+            consumed = 0;
+            subscription.request(limit);
+        }
+    }
+
+    /**
+     * Cancels the subscription, if it exists.
+     */
+    @Override
+    public void run() {
+        cancelled = true;
+        final Flow.Subscription s = subscription;
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(prefetch);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (item == null) {
+            onError(new NullPointerException("Publisher emitted null element"));
+            return;
+        }
+        queue.offer(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        queue.offer(new ErrorSignal(throwable));
+    }
+
+    @Override
+    public void onComplete() {
+        queue.offer(COMPLETE);
+    }
+
+    private static final class ErrorSignal {
+        final Throwable error;
+
+        ErrorSignal(Throwable error) {
+            this.error = error;
+        }
+    }
+}
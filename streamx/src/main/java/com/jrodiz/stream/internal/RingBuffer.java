@@ -0,0 +1,81 @@
+package com.jrodiz.stream.internal;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Circular array of elements, exposed as a read-only {@code List}.
+ * Operators mutate the buffer and emit the same instance as a view of its current contents.
+ *
+ * @param <T> the type of the elements
+ */
+public final class RingBuffer<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final int maxCapacity;
+    private Object[] elements;
+    private int head;
+    private int size;
+
+    public RingBuffer(int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+        elements = new Object[Math.min(maxCapacity, MIN_CAPACITY)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) elements[physicalIndex(index)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public void addLast(T element) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[physicalIndex(size)] = element;
+        size++;
+        modCount++;
+    }
+
+    public void removeFirst(int count) {
+        final int n = Math.min(count, size);
+        for (int i = 0; i < n; i++) {
+            // Release references for GC
+            elements[head] = null;
+            head = (head + 1 == elements.length) ? 0 : head + 1;
+        }
+        size -= n;
+        if (size == 0) {
+            head = 0;
+        }
+        modCount++;
+    }
+
+    private int physicalIndex(int index) {
+        final int i = head + index;
+        return (i >= elements.length) ? i - elements.length : i;
+    }
+
+    private void grow() {
+        final int length = elements.length;
+        if (length >= maxCapacity) {
+            throw new IllegalStateException("Ring buffer is full");
+        }
+        final int newLength = (int) Math.min((long) maxCapacity, Math.max(MIN_CAPACITY, (long) length << 1));
+        final Object[] newElements = new Object[newLength];
+        final int firstPart = Math.min(size, length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+        elements = newElements;
+        head = 0;
+    }
+}
@@ -0,0 +1,106 @@
+package com.jrodiz.stream.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Temporary file for elements which do not fit in the memory budget.
+ * Elements are written once, then read once. The file is deleted on {@link #close()}.
+ */
+public final class SpillFile implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final File file;
+    private DataOutputStream out;
+    private DataInputStream in;
+    private boolean closed;
+
+    public SpillFile() {
+        try {
+            file = File.createTempFile("streamx", ".spill");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns output for writing elements.
+     *
+     * @return the output
+     */
+    @NotNull
+    public DataOutputStream output() {
+        if (out == null) {
+            try {
+                out = new DataOutputStream(new BufferedOutputStream(
+                        new FileOutputStream(file), BUFFER_SIZE));
+            } catch (IOException e) {
+                close();
+                throw new RuntimeException(e);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Finishes writing, so the file holds no open descriptor until it is read.
+     */
+    public void finishWriting() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException(e);
+        }
+        out = null;
+    }
+
+    /**
+     * Finishes writing and returns input for reading elements from the beginning.
+     *
+     * @return the input
+     */
+    @NotNull
+    public DataInputStream input() {
+        if (in == null) {
+            try {
+                finishWriting();
+                in = new DataInputStream(new BufferedInputStream(
+                        new FileInputStream(file), BUFFER_SIZE));
+            } catch (IOException e) {
+                close();
+                throw new RuntimeException(e);
+            }
+        }
+        return in;
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        closeQuietly(out);
+        closeQuietly(in);
+        out = null;
+        in = null;
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) return;
+        try {
+            closeable.close();
+        } catch (IOException ignore) { }
+    }
+}
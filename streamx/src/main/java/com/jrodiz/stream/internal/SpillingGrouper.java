@@ -0,0 +1,215 @@
+package com.jrodiz.stream.internal;
+
+import com.jrodiz.stream.Serializer;
+import com.jrodiz.stream.function.BinaryOperator;
+import com.jrodiz.stream.function.Supplier;
+import com.jrodiz.stream.iterator.LsaIterator;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Hash aggregation with a limit on the number of keys kept in memory.
+ *
+ * <p>When the limit is exceeded, all partial containers are written to temporary files,
+ * partitioned by key hash. Each partition is then re-aggregated separately with the
+ * container combiner, so at most one partition is held in memory at a time.
+ * A partition which still exceeds the limit is partitioned again by other hash bits.
+ *
+ * @param <K> the type of the keys
+ * @param <A> the type of the containers
+ */
+public final class SpillingGrouper<K, A> implements Closeable {
+
+    private static final int PARTITION_BITS = 4;
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+    private static final int MAX_LEVEL = Integer.SIZE / PARTITION_BITS - 1;
+
+    private final int maxKeysInMemory;
+    private final Supplier<A> supplier;
+    private final BinaryOperator<A> combiner;
+    private final Serializer<K> keySerializer;
+    private final Serializer<A> containerSerializer;
+    private final int level;
+    private Map<K, A> map;
+    private SpillFile[] partitions;
+    private int[] partitionSizes;
+    private PartitionsIterator partitionsIterator;
+
+    public SpillingGrouper(int maxKeysInMemory,
+                           @NotNull Supplier<A> supplier,
+                           @NotNull BinaryOperator<A> combiner,
+                           @NotNull Serializer<K> keySerializer,
+                           @NotNull Serializer<A> containerSerializer) {
+        this(maxKeysInMemory, supplier, combiner, keySerializer, containerSerializer, 0);
+    }
+
+    private SpillingGrouper(int maxKeysInMemory,
+                            @NotNull Supplier<A> supplier,
+                            @NotNull BinaryOperator<A> combiner,
+                            @NotNull Serializer<K> keySerializer,
+                            @NotNull Serializer<A> containerSerializer,
+                            int level) {
+        this.maxKeysInMemory = maxKeysInMemory;
+        this.supplier = supplier;
+        this.combiner = combiner;
+        this.keySerializer = keySerializer;
+        this.containerSerializer = containerSerializer;
+        this.level = level;
+        map = new HashMap<K, A>();
+    }
+
+    /**
+     * Returns container for the key, creating a new one if it does not exist.
+     *
+     * @param key  the key
+     * @return the container
+     */
+    @NotNull
+    public A container(@NotNull K key) {
+        A container = map.get(key);
+        if (container == null) {
+            ensureCapacity();
+            container = supplier.get();
+            map.put(key, container);
+        }
+        return container;
+    }
+
+    /**
+     * Merges partial container into the container for the key.
+     *
+     * @param key  the key
+     * @param partial  the partial container
+     */
+    public void merge(@NotNull K key, @NotNull A partial) {
+        final A container = map.get(key);
+        if (container == null) {
+            ensureCapacity();
+            map.put(key, partial);
+        } else {
+            map.put(key, combiner.apply(container, partial));
+        }
+    }
+
+    /**
+     * Returns iterator over aggregated entries, one partition at a time.
+     * Grouper cannot be used after this call.
+     *
+     * @return the iterator
+     */
+    @NotNull
+    public Iterator<Map.Entry<K, A>> entries() {
+        if (partitions == null) {
+            return map.entrySet().iterator();
+        }
+        spill();
+        map = null;
+        partitionsIterator = new PartitionsIterator();
+        return partitionsIterator;
+    }
+
+    @Override
+    public void close() {
+        map = null;
+        if (partitions == null) return;
+        if (partitionsIterator != null && partitionsIterator.current != null) {
+            partitionsIterator.current.close();
+        }
+        for (SpillFile file : partitions) {
+            file.close();
+        }
+    }
+
+    private void ensureCapacity() {
+        if (map.size() >= maxKeysInMemory && level <= MAX_LEVEL) {
+            spill();
+        }
+    }
+
+    private void spill() {
+        if (partitions == null) {
+            partitions = new SpillFile[PARTITIONS];
+            partitionSizes = new int[PARTITIONS];
+            for (int i = 0; i < PARTITIONS; i++) {
+                partitions[i] = new SpillFile();
+            }
+        }
+        try {
+            for (Map.Entry<K, A> entry : map.entrySet()) {
+                final int partition = partition(entry.getKey());
+                final DataOutput out = partitions[partition].output();
+                keySerializer.write(out, entry.getKey());
+                containerSerializer.write(out, entry.getValue());
+                partitionSizes[partition]++;
+            }
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException(e);
+        }
+        // Allocate a new map, so the memory of the spilled containers is released
+        map = new HashMap<K, A>();
+    }
+
+    private int partition(@NotNull K key) {
+        final int h = key.hashCode() * 0x9E3779B9;
+        return ((h ^ (h >>> 16)) >>> (level * PARTITION_BITS)) & (PARTITIONS - 1);
+    }
+
+    private final class PartitionsIterator extends LsaIterator<Map.Entry<K, A>> {
+
+        private int partition = -1;
+        private SpillingGrouper<K, A> current;
+        private Iterator<Map.Entry<K, A>> currentEntries;
+
+        @Override
+        public boolean hasNext() {
+            while (currentEntries == null || !currentEntries.hasNext()) {
+                if (current != null) {
+                    current.close();
+                    current = null;
+                }
+                if (++partition >= PARTITIONS) {
+                    currentEntries = null;
+                    return false;
+                }
+                current = load(partition);
+                currentEntries = current.entries();
+            }
+            return true;
+        }
+
+        @Override
+        public Map.Entry<K, A> nextIteration() {
+            return currentEntries.next();
+        }
+
+        private SpillingGrouper<K, A> load(int index) {
+            final SpillingGrouper<K, A> grouper = new SpillingGrouper<K, A>(maxKeysInMemory,
+                    supplier, combiner, keySerializer, containerSerializer, level + 1);
+            final SpillFile file = partitions[index];
+            try {
+                final int size = partitionSizes[index];
+                if (size > 0) {
+                    final DataInput in = file.input();
+                    for (int i = 0; i < size; i++) {
+                        final K key = keySerializer.read(in);
+                        grouper.merge(key, containerSerializer.read(in));
+                    }
+                }
+            } catch (IOException e) {
+                grouper.close();
+                SpillingGrouper.this.close();
+                throw new RuntimeException(e);
+            } finally {
+                file.close();
+            }
+            return grouper;
+        }
+    }
+}
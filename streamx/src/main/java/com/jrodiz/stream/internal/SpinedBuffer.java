@@ -8,7 +8,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 
 @SuppressWarnings({"WeakerAccess", "SameParameterValue"})
-final class SpinedBuffer {
+public final class SpinedBuffer {
 
     /**
      * Minimum power-of-two for the first chunk.
@@ -25,6 +25,11 @@ final class SpinedBuffer {
      */
     private static final int MAX_CHUNK_POWER = 30;
 
+    /**
+     * Max size for chunks.
+     */
+    static final int MAX_CHUNK_SIZE = 1 << MAX_CHUNK_POWER;
+
     /**
      * Minimum array size for array-of-chunks.
      */
@@ -38,7 +43,7 @@ final class SpinedBuffer {
      * iterating them. Maintains an array of increasingly sized arrays, so there is
      * no copying cost associated with growing the data structure.
      */
-    abstract static class OfPrimitive<E, T_ARR, T_CONS> implements Iterable<E> {
+    public abstract static class OfPrimitive<E, T_ARR, T_CONS> implements Iterable<E> {
 
         /**
          * log2 of the size of the first chunk.
@@ -110,6 +115,28 @@ final class SpinedBuffer {
                     : priorElementCount[spineIndex] + elementIndex;
         }
 
+        /**
+         * How many chunks hold elements?
+         */
+        public int chunkCount() {
+            return isEmpty() ? 0 : spineIndex + 1;
+        }
+
+        /**
+         * Returns the backing array of the chunk. Only the first
+         * {@link #chunkLength(int)} elements of it are filled.
+         */
+        public T_ARR chunk(int index) {
+            return (spine == null) ? curChunk : spine[index];
+        }
+
+        /**
+         * How many elements are in the chunk?
+         */
+        public int chunkLength(int index) {
+            return (index == spineIndex) ? elementIndex : arrayLength(spine[index]);
+        }
+
         /**
          * How big should the nth chunk be?
          */
@@ -229,11 +256,11 @@ final class SpinedBuffer {
         }
     }
 
-    static class OfInt extends SpinedBuffer.OfPrimitive<Integer, int[], IntConsumer>
+    public static class OfInt extends SpinedBuffer.OfPrimitive<Integer, int[], IntConsumer>
             implements IntConsumer {
-        OfInt() { }
+        public OfInt() { }
 
-        OfInt(int initialCapacity) {
+        public OfInt(int initialCapacity) {
             super(initialCapacity);
         }
 
@@ -287,11 +314,11 @@ final class SpinedBuffer {
         }
     }
 
-    static class OfLong extends SpinedBuffer.OfPrimitive<Long, long[], LongConsumer>
+    public static class OfLong extends SpinedBuffer.OfPrimitive<Long, long[], LongConsumer>
             implements LongConsumer {
-        OfLong() { }
+        public OfLong() { }
 
-        OfLong(int initialCapacity) {
+        public OfLong(int initialCapacity) {
             super(initialCapacity);
         }
 
@@ -343,11 +370,11 @@ final class SpinedBuffer {
         }
     }
 
-    static class OfDouble extends SpinedBuffer.OfPrimitive<Double, double[], DoubleConsumer>
+    public static class OfDouble extends SpinedBuffer.OfPrimitive<Double, double[], DoubleConsumer>
             implements DoubleConsumer {
-        OfDouble() { }
+        public OfDouble() { }
 
-        OfDouble(int initialCapacity) {
+        public OfDouble(int initialCapacity) {
             super(initialCapacity);
         }
 
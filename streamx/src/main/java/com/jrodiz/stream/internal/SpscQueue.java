@@ -0,0 +1,78 @@
+package com.jrodiz.stream.internal;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounded queue of elements for exactly one producer thread and one consumer thread,
+ * backed by a {@link SpscRing}.
+ *
+ * @param <E> the type of the elements
+ */
+public final class SpscQueue<E> {
+
+    private final SpscRing ring;
+    private final Object[] elements;
+
+    public SpscQueue(int capacity) {
+        ring = new SpscRing(capacity);
+        elements = new Object[ring.capacity()];
+    }
+
+    /**
+     * Adds element if the queue is not full. Called by the producer.
+     *
+     * @param element  the element
+     * @return {@code true} if the element was added
+     */
+    public boolean offer(@NotNull E element) {
+        final int slot = ring.freeSlot();
+        if (slot < 0) return false;
+        elements[slot] = element;
+        ring.publish();
+        return true;
+    }
+
+    /**
+     * Adds element, waiting while the queue is full. Called by the producer.
+     *
+     * @param element  the element
+     */
+    public void put(@NotNull E element) {
+        // The queue is never cancelled, so a free slot is always returned
+        elements[ring.awaitFreeSlot()] = element;
+        ring.publish();
+    }
+
+    /**
+     * Removes element, waiting while the queue is empty. Called by the consumer.
+     *
+     * @return the element, or {@code null} if the queue is closed and empty
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public E take() {
+        final int slot = ring.awaitSlot();
+        if (slot < 0) return null;
+        final E element = (E) elements[slot];
+        elements[slot] = null;
+        ring.release();
+        return element;
+    }
+
+    /**
+     * Returns whether the consumer took all elements.
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public boolean isEmpty() {
+        return ring.isEmpty();
+    }
+
+    /**
+     * Marks the end of elements. Called by the producer.
+     */
+    public void close() {
+        ring.finish();
+    }
+}
@@ -0,0 +1,154 @@
+package com.jrodiz.stream.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free ring of slots for exactly one producer thread and one consumer thread.
+ * The ring only tracks which slots are filled, elements are kept by the owner
+ * in an array of {@link #capacity()} slots, so primitive elements are not boxed.
+ *
+ * <p>A thread which cannot proceed parks until the other side unparks it.
+ */
+public final class SpscRing {
+
+    private final int capacity;
+    private final int mask;
+    // Index of the next slot to consume, written only by the consumer
+    private final AtomicLong head;
+    // Index of the next slot to produce, written only by the producer
+    private final AtomicLong tail;
+    private volatile Thread waitingConsumer;
+    private volatile Thread waitingProducer;
+    private volatile boolean cancelled;
+    private volatile boolean finished;
+
+    public SpscRing(int minCapacity) {
+        int size = 1;
+        while (size < minCapacity && size < (1 << 30)) {
+            size <<= 1;
+        }
+        capacity = size;
+        mask = size - 1;
+        head = new AtomicLong();
+        tail = new AtomicLong();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns free slot without waiting. Called by the producer.
+     *
+     * @return the slot to write the next element to, or {@code -1} if the ring is full
+     */
+    public int freeSlot() {
+        final long index = tail.get();
+        if (index - head.get() >= capacity) return -1;
+        return (int) (index & mask);
+    }
+
+    /**
+     * Waits for a free slot. Called by the producer.
+     *
+     * @return the slot to write the next element to, or {@code -1} if the consumer cancelled
+     */
+    public int awaitFreeSlot() {
+        while (!cancelled) {
+            final int slot = freeSlot();
+            if (slot >= 0) return slot;
+            waitingProducer = Thread.currentThread();
+            if (freeSlot() < 0 && !cancelled) {
+                LockSupport.park(this);
+            }
+            waitingProducer = null;
+        }
+        return -1;
+    }
+
+    /**
+     * Publishes the element written to the slot returned by {@link #awaitFreeSlot()}.
+     */
+    public void publish() {
+        tail.set(tail.get() + 1);
+        unpark(waitingConsumer);
+    }
+
+    /**
+     * Marks the end of elements. Called by the producer after its last element is published.
+     */
+    public void finish() {
+        finished = true;
+        unpark(waitingConsumer);
+    }
+
+    /**
+     * Waits for the next element. Called by the consumer.
+     * The slot must be released after its element is read.
+     *
+     * @return the slot of the next element, or {@code -1} if the producer finished
+     */
+    public int awaitSlot() {
+        final long index = head.get();
+        while (true) {
+            if (tail.get() > index) {
+                return (int) (index & mask);
+            }
+            if (finished) {
+                // The producer publishes its last element before it finishes
+                if (tail.get() > index) continue;
+                return -1;
+            }
+            waitingConsumer = Thread.currentThread();
+            if (tail.get() == index && !finished) {
+                LockSupport.park(this);
+            }
+            waitingConsumer = null;
+        }
+    }
+
+    /**
+     * Frees the slot returned by {@link #awaitSlot()}.
+     */
+    public void release() {
+        head.set(head.get() + 1);
+        unpark(waitingProducer);
+    }
+
+    /**
+     * Stops the producer, which is waiting or will wait for a free slot.
+     */
+    public void cancel() {
+        cancelled = true;
+        unpark(waitingProducer);
+    }
+
+    /**
+     * Waits until the producer finishes. Called by the consumer.
+     */
+    public void awaitFinished() {
+        while (!finished) {
+            waitingConsumer = Thread.currentThread();
+            if (!finished) {
+                LockSupport.park(this);
+            }
+            waitingConsumer = null;
+        }
+    }
+
+    /**
+     * Returns whether the consumer released all published slots.
+     *
+     * @return {@code true} if the ring is empty
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    private static void unpark(Thread thread) {
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.jrodiz.stream.internal;
+
+import com.jrodiz.stream.Flow;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Publishes elements of a stream iterator to a single subscriber.
+ *
+ * <p>Elements are pulled on the executor only when requested, so the whole operator chain
+ * runs on demand. Each drain task pulls all outstanding demand at once.
+ * The stream is closed when it completes, fails or the subscription is cancelled.
+ *
+ * @param <T> the type of the elements
+ */
+public final class StreamPublisher<T> implements Flow.Publisher<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final Closeable closeable;
+    private final Executor executor;
+    private final AtomicBoolean subscribed;
+
+    public StreamPublisher(@NotNull Iterator<? extends T> iterator,
+                           @NotNull Closeable closeable,
+                           @NotNull Executor executor) {
+        this.iterator = iterator;
+        this.closeable = closeable;
+        this.executor = executor;
+        subscribed = new AtomicBoolean();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) throw new NullPointerException("subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) { }
+
+                @Override
+                public void cancel() { }
+            });
+            subscriber.onError(new IllegalStateException("Stream can be subscribed only once"));
+            return;
+        }
+        subscriber.onSubscribe(new StreamSubscription(subscriber));
+    }
+
+    private final class StreamSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand;
+        private final AtomicInteger wip;
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private boolean done;
+
+        StreamSubscription(@NotNull Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            demand = new AtomicLong();
+            wip = new AtomicInteger();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested number of elements must be positive");
+            } else {
+                long current;
+                long next;
+                do {
+                    current = demand.get();
+                    next = current + n;
+                    if (next < 0) next = Long.MAX_VALUE;
+                } while (!demand.compareAndSet(current, next));
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        // Runs on the executor, never concurrently with itself
+        @Override
+        public void run() {
+            int missed = 1;
+            while (true) {
+                if (done) return;
+                final long requested = demand.get();
+                long emitted = 0;
+                while (emitted != requested && !cancelled && invalidRequest == null) {
+                    final T value;
+                    try {
+                        if (!iterator.hasNext()) {
+                            finish();
+                            subscriber.onComplete();
+                            return;
+                        }
+                        value = iterator.next();
+                    } catch (Throwable e) {
+                        finish();
+                        subscriber.onError(e);
+                        return;
+                    }
+                    try {
+                        subscriber.onNext(value);
+                    } catch (Throwable e) {
+                        // Subscriber broke the contract, stop publishing
+                        finish();
+                        throw e;
+                    }
+                    emitted++;
+                }
+                if (cancelled) {
+                    finish();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    finish();
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+                if (emitted != 0) {
+                    demand.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) return;
+            }
+        }
+
+        private void finish() {
+            done = true;
+            cancelled = true;
+            try {
+                closeable.close();
+            } catch (IOException ignore) { }
+        }
+    }
+}
@@ -1,26 +1,39 @@
 package com.jrodiz.stream.iterator;
 
+import com.jrodiz.stream.function.Consumer;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Lazily gets {@code Iterator} from the given {@link Iterable}.
  *
  * @param <T> the type of the elements
  */
-public class LazyIterator<T> implements Iterator<T> {
+public class LazyIterator<T> implements SplittableIterator<T>, PushIterator<T>, RandomAccessIterator {
     private final Iterable<? extends T> iterable;
     private Iterator<? extends T> iterator;
+    private int offset;
 
     public LazyIterator(Iterable<? extends T> iterable) {
         this.iterable = iterable;
     }
 
+    @SuppressWarnings("unchecked")
     private void ensureIterator() {
         if (iterator != null) {
             return;
         }
         // Lazily creates Iterator object.
-        iterator = iterable.iterator();
+        if (offset == 0) {
+            iterator = iterable.iterator();
+        } else {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            iterator = list.listIterator(Math.min(offset, list.size()));
+        }
     }
 
     @Override
@@ -35,6 +48,53 @@ public class LazyIterator<T> implements Iterator<T> {
         return iterator.next();
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void pushRemaining(@NotNull Consumer<? super T> action) {
+        ensureIterator();
+        final Iterator<? extends T> it = iterator;
+        if (it instanceof PushIterator) {
+            ((PushIterator<T>) it).pushRemaining(action);
+            return;
+        }
+        while (it.hasNext()) {
+            action.accept(it.next());
+        }
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> remaining() {
+        if (iterator != null || !(iterable instanceof RandomAccess)
+                || !(iterable instanceof List)) {
+            // Iteration has already started or the source is not indexed
+            return null;
+        }
+        final List<T> list = (List<T>) iterable;
+        return (offset == 0) ? list : list.subList(Math.min(offset, list.size()), list.size());
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (iterator != null || !(iterable instanceof Collection)) {
+            return -1;
+        }
+        return Math.max(0, ((Collection<?>) iterable).size() - offset);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        if (iterator != null || !(iterable instanceof RandomAccess)
+                || !(iterable instanceof List)) {
+            return false;
+        }
+        // Remember the position, the list is accessed when iteration starts
+        final int size = ((List<?>) iterable).size();
+        offset = (n >= size - offset) ? size : offset + (int) n;
+        return true;
+    }
+
     @Override
     public void remove() {
         ensureIterator();
@@ -1,14 +1,15 @@
 package com.jrodiz.stream.iterator;
 
-import java.util.Iterator;
+import com.jrodiz.stream.function.Consumer;
 import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Extended iterator for common purposes.
  *
  * @param <T> the type of the inner value
  */
-public abstract class LsaExtIterator<T> implements Iterator<T> {
+public abstract class LsaExtIterator<T> implements PushIterator<T> {
 
     protected T next;
     protected boolean hasNext, isInit;
@@ -44,6 +45,20 @@ public abstract class LsaExtIterator<T> implements Iterator<T> {
 
     protected abstract void nextIteration();
 
+    @Override
+    public void pushRemaining(@NotNull Consumer<? super T> action) {
+        if (!isInit) {
+            hasNext();
+        }
+        while (hasNext) {
+            final T result = next;
+            nextIteration();
+            action.accept(result);
+        }
+        // Clear reference to the last element
+        next = null;
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException("remove not supported");
@@ -1,13 +1,14 @@
 package com.jrodiz.stream.iterator;
 
-import java.util.Iterator;
+import com.jrodiz.stream.function.Consumer;
 import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Abstract iterator with implemented {@code remove} method.
  * @param <T> the type of the elements
  */
-public abstract class LsaIterator<T> implements Iterator<T> {
+public abstract class LsaIterator<T> implements PushIterator<T> {
 
     @Override
     public void remove() {
@@ -23,4 +24,11 @@ public abstract class LsaIterator<T> implements Iterator<T> {
     }
 
     public abstract T nextIteration();
+
+    @Override
+    public void pushRemaining(@NotNull Consumer<? super T> action) {
+        while (hasNext()) {
+            action.accept(nextIteration());
+        }
+    }
 }
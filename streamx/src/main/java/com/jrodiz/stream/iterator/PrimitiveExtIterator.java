@@ -1,6 +1,10 @@
 package com.jrodiz.stream.iterator;
 
+import com.jrodiz.stream.function.DoubleConsumer;
+import com.jrodiz.stream.function.IntConsumer;
+import com.jrodiz.stream.function.LongConsumer;
 import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Extended PrimitiveIterator for common purposes.
@@ -40,6 +44,18 @@ public final class PrimitiveExtIterator {
         }
 
         protected abstract void nextIteration();
+
+        @Override
+        public void pushRemainingInt(@NotNull IntConsumer action) {
+            if (!isInit) {
+                hasNext();
+            }
+            while (hasNext) {
+                final int result = next;
+                nextIteration();
+                action.accept(result);
+            }
+        }
     }
 
     public static abstract class OfLong extends PrimitiveIterator.OfLong {
@@ -72,6 +88,18 @@ public final class PrimitiveExtIterator {
         }
 
         protected abstract void nextIteration();
+
+        @Override
+        public void pushRemainingLong(@NotNull LongConsumer action) {
+            if (!isInit) {
+                hasNext();
+            }
+            while (hasNext) {
+                final long result = next;
+                nextIteration();
+                action.accept(result);
+            }
+        }
     }
 
     public static abstract class OfDouble extends PrimitiveIterator.OfDouble {
@@ -104,6 +132,18 @@ public final class PrimitiveExtIterator {
         }
 
         protected abstract void nextIteration();
+
+        @Override
+        public void pushRemainingDouble(@NotNull DoubleConsumer action) {
+            if (!isInit) {
+                hasNext();
+            }
+            while (hasNext) {
+                final double result = next;
+                nextIteration();
+                action.accept(result);
+            }
+        }
     }
 
 }
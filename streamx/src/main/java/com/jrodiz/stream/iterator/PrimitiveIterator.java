@@ -1,6 +1,11 @@
 package com.jrodiz.stream.iterator;
 
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.DoubleConsumer;
+import com.jrodiz.stream.function.IntConsumer;
+import com.jrodiz.stream.function.LongConsumer;
 import java.util.Iterator;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * A base type for primitive specializations of {@link Iterator}.
@@ -11,10 +16,31 @@ public final class PrimitiveIterator {
 
     private PrimitiveIterator() { }
 
-    public abstract static class OfInt implements Iterator<Integer> {
+    public abstract static class OfInt implements PushIterator<Integer> {
 
         public abstract int nextInt();
 
+        /**
+         * Performs the given action for each remaining element.
+         *
+         * @param action  the action to be performed on each element
+         */
+        public void pushRemainingInt(@NotNull IntConsumer action) {
+            while (hasNext()) {
+                action.accept(nextInt());
+            }
+        }
+
+        @Override
+        public void pushRemaining(@NotNull final Consumer<? super Integer> action) {
+            pushRemainingInt(new IntConsumer() {
+                @Override
+                public void accept(int value) {
+                    action.accept(value);
+                }
+            });
+        }
+
         @Override
         public Integer next() {
             return nextInt();
@@ -26,10 +52,31 @@ public final class PrimitiveIterator {
         }
     }
 
-    public abstract static class OfLong implements Iterator<Long> {
+    public abstract static class OfLong implements PushIterator<Long> {
 
         public abstract long nextLong();
 
+        /**
+         * Performs the given action for each remaining element.
+         *
+         * @param action  the action to be performed on each element
+         */
+        public void pushRemainingLong(@NotNull LongConsumer action) {
+            while (hasNext()) {
+                action.accept(nextLong());
+            }
+        }
+
+        @Override
+        public void pushRemaining(@NotNull final Consumer<? super Long> action) {
+            pushRemainingLong(new LongConsumer() {
+                @Override
+                public void accept(long value) {
+                    action.accept(value);
+                }
+            });
+        }
+
         @Override
         public Long next() {
             return nextLong();
@@ -41,10 +88,31 @@ public final class PrimitiveIterator {
         }
     }
 
-    public abstract static class OfDouble implements Iterator<Double> {
+    public abstract static class OfDouble implements PushIterator<Double> {
 
         public abstract double nextDouble();
 
+        /**
+         * Performs the given action for each remaining element.
+         *
+         * @param action  the action to be performed on each element
+         */
+        public void pushRemainingDouble(@NotNull DoubleConsumer action) {
+            while (hasNext()) {
+                action.accept(nextDouble());
+            }
+        }
+
+        @Override
+        public void pushRemaining(@NotNull final Consumer<? super Double> action) {
+            pushRemainingDouble(new DoubleConsumer() {
+                @Override
+                public void accept(double value) {
+                    action.accept(value);
+                }
+            });
+        }
+
         @Override
         public Double next() {
             return nextDouble();
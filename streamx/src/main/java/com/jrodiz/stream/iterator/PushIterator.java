@@ -0,0 +1,23 @@
+package com.jrodiz.stream.iterator;
+
+import com.jrodiz.stream.function.Consumer;
+import java.util.Iterator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Iterator which supports internal iteration.
+ * Remaining elements are pushed to a consumer in a single loop,
+ * instead of {@code hasNext}/{@code next} calls per element.
+ *
+ * @param <T> the type of the elements
+ * @since 1.2.2
+ */
+public interface PushIterator<T> extends Iterator<T> {
+
+    /**
+     * Performs the given action for each remaining element.
+     *
+     * @param action  the action to be performed on each element
+     */
+    void pushRemaining(@NotNull Consumer<? super T> action);
+}
@@ -0,0 +1,21 @@
+package com.jrodiz.stream.iterator;
+
+/**
+ * Sized iterator which can move forward without visiting elements.
+ * Indexed sources like arrays, random access lists and ranges just move their index,
+ * stateless size-preserving operators pass the call to the upstream iterator,
+ * so {@code count}, {@code skip} and element access do not evaluate skipped elements.
+ *
+ * @since 1.2.2
+ */
+public interface RandomAccessIterator extends SizedIterator {
+
+    /**
+     * Advances the iterator by {@code min(n, remaining)} elements without visiting them.
+     *
+     * @param n  the number of elements to skip, not negative
+     * @return {@code true} if the iterator was advanced,
+     *         {@code false} if it is not possible and the iterator was not changed
+     */
+    boolean advance(long n);
+}
@@ -0,0 +1,19 @@
+package com.jrodiz.stream.iterator;
+
+/**
+ * Iterator which knows how many elements are left without iterating them.
+ * Sources like arrays, collections and ranges provide the size
+ * and size-preserving operators pass it through,
+ * so terminal operations can allocate their buffers once.
+ *
+ * @since 1.2.2
+ */
+public interface SizedIterator {
+
+    /**
+     * Returns the exact number of remaining elements.
+     *
+     * @return the number of remaining elements, or {@code -1} if it is not known
+     */
+    long getExactSizeIfKnown();
+}
@@ -0,0 +1,24 @@
+package com.jrodiz.stream.iterator;
+
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Iterator over an indexed source whose remaining elements can be
+ * split into independent ranges.
+ *
+ * @param <T> the type of the elements
+ * @since 1.2.2
+ */
+public interface SplittableIterator<T> extends Iterator<T> {
+
+    /**
+     * Returns the elements that are not iterated yet as a random access {@code List}.
+     * The returned list is a view, so the iterator position is not changed.
+     *
+     * @return the remaining elements, or {@code null} if the source cannot be split
+     */
+    @Nullable
+    List<T> remaining();
+}
@@ -1,9 +1,11 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.DoubleConsumer;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class DoubleArray extends PrimitiveIterator.OfDouble {
+public class DoubleArray extends PrimitiveIterator.OfDouble implements RandomAccessIterator {
 
     private final double[] values;
     private int index;
@@ -22,4 +24,25 @@ public class DoubleArray extends PrimitiveIterator.OfDouble {
     public boolean hasNext() {
         return index < values.length;
     }
+
+    @Override
+    public void pushRemainingDouble(@NotNull DoubleConsumer action) {
+        final double[] array = values;
+        int i = index;
+        index = array.length;
+        for (; i < array.length; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return values.length - index;
+    }
+
+    @Override
+    public boolean advance(long n) {
+        index += (int) Math.min(n, values.length - index);
+        return true;
+    }
 }
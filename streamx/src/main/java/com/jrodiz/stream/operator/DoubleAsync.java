@@ -0,0 +1,62 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.internal.AsyncBuffer;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.NotNull;
+
+public class DoubleAsync extends PrimitiveIterator.OfDouble implements Runnable {
+
+    private final Buffer buffer;
+    private int slot;
+
+    public DoubleAsync(@NotNull PrimitiveIterator.OfDouble iterator, int bufferSize, @NotNull Executor executor) {
+        buffer = new Buffer(iterator, bufferSize, executor);
+        slot = -1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (slot < 0) {
+            slot = buffer.awaitSlot();
+        }
+        return slot >= 0;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final double value = buffer.values[slot];
+        slot = -1;
+        buffer.release();
+        return value;
+    }
+
+    // Close handler, stops the producer before the upstream is closed
+    @Override
+    public void run() {
+        buffer.cancel();
+    }
+
+    private static final class Buffer extends AsyncBuffer {
+
+        private final PrimitiveIterator.OfDouble iterator;
+        final double[] values;
+
+        Buffer(@NotNull PrimitiveIterator.OfDouble iterator, int bufferSize, @NotNull Executor executor) {
+            super(bufferSize, executor);
+            this.iterator = iterator;
+            values = new double[capacity()];
+        }
+
+        @Override
+        protected boolean pull(int slot) {
+            if (!iterator.hasNext()) return false;
+            values[slot] = iterator.nextDouble();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.internal.PrimitiveHashSet;
+import com.jrodiz.stream.iterator.PrimitiveExtIterator;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import org.jetbrains.annotations.NotNull;
+
+public class DoubleDistinct extends PrimitiveExtIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final PrimitiveHashSet.OfDouble set;
+
+    public DoubleDistinct(@NotNull PrimitiveIterator.OfDouble iterator) {
+        this.iterator = iterator;
+        set = new PrimitiveHashSet.OfDouble();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextDouble();
+            if (set.add(next)) {
+                return;
+            }
+        }
+    }
+}
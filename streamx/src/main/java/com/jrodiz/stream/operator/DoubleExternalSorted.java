@@ -0,0 +1,150 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.DoubleComparator;
+import com.jrodiz.stream.internal.PrimitiveSort;
+import com.jrodiz.stream.internal.SpillFile;
+import com.jrodiz.stream.iterator.PrimitiveExtIterator;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class DoubleExternalSorted extends PrimitiveExtIterator.OfDouble implements Closeable {
+
+    private static final int INITIAL_BUFFER_SIZE = 1 << 10;
+    // Max number of runs merged at once, bounds the number of open temporary files
+    private static final int MAX_FAN_IN = 64;
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final DoubleComparator comparator;
+    private final int maxElementsInMemory;
+    private final List<SpillFile> runs;
+    private PrimitiveIterator.OfDouble sortedIterator;
+
+    public DoubleExternalSorted(
+            @NotNull PrimitiveIterator.OfDouble iterator,
+            @Nullable DoubleComparator comparator,
+            int maxElementsInMemory) {
+        this.iterator = iterator;
+        this.comparator = (comparator != null) ? comparator : DoubleComparator.Util.naturalOrder();
+        this.maxElementsInMemory = maxElementsInMemory;
+        runs = new ArrayList<SpillFile>();
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            sortedIterator = sort();
+        }
+        hasNext = sortedIterator.hasNext();
+        if (hasNext) {
+            next = sortedIterator.nextDouble();
+        }
+    }
+
+    private PrimitiveIterator.OfDouble sort() {
+        List<RunIterator> spilled = new ArrayList<RunIterator>();
+        double[] buffer = new double[Math.min(maxElementsInMemory, INITIAL_BUFFER_SIZE)];
+        int size = 0;
+        while (iterator.hasNext()) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(maxElementsInMemory, 2L * size));
+            }
+            buffer[size++] = iterator.nextDouble();
+            if (size == maxElementsInMemory) {
+                PrimitiveSort.sort(buffer, comparator);
+                spilled.add(spill(new DoubleArray(buffer)));
+                size = 0;
+            }
+        }
+        final double[] array = (size == buffer.length) ? buffer : Arrays.copyOf(buffer, size);
+        PrimitiveSort.sort(array, comparator);
+        if (spilled.isEmpty()) {
+            return new DoubleArray(array);
+        }
+        // Merge in passes until the remaining runs and in-memory elements fit one merge
+        while (spilled.size() >= MAX_FAN_IN) {
+            spilled = mergePass(spilled);
+        }
+        final List<PrimitiveIterator.OfDouble> runIterators = new ArrayList<PrimitiveIterator.OfDouble>(spilled);
+        // In-memory elements go last, so merge keeps encounter order of equal elements
+        runIterators.add(new DoubleArray(array));
+        return new DoubleMergeSorted(runIterators, comparator);
+    }
+
+    // Merges groups of adjacent runs, so merge stays stable
+    private List<RunIterator> mergePass(@NotNull List<RunIterator> spilled) {
+        final int size = spilled.size();
+        final List<RunIterator> result = new ArrayList<RunIterator>((size + MAX_FAN_IN - 1) / MAX_FAN_IN);
+        for (int from = 0; from < size; from += MAX_FAN_IN) {
+            final List<RunIterator> group = spilled.subList(from, Math.min(from + MAX_FAN_IN, size));
+            if (group.size() == 1) {
+                result.add(group.get(0));
+            } else {
+                result.add(spill(new DoubleMergeSorted(group, comparator)));
+            }
+        }
+        return result;
+    }
+
+    private RunIterator spill(@NotNull PrimitiveIterator.OfDouble sortedRun) {
+        final SpillFile file = new SpillFile();
+        runs.add(file);
+        final DataOutput out = file.output();
+        long count = 0;
+        try {
+            while (sortedRun.hasNext()) {
+                out.writeDouble(sortedRun.nextDouble());
+                count++;
+            }
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException(e);
+        }
+        file.finishWriting();
+        return new RunIterator(file, count);
+    }
+
+    @Override
+    public void close() {
+        for (SpillFile file : runs) {
+            file.close();
+        }
+    }
+
+    private static final class RunIterator extends PrimitiveIterator.OfDouble {
+
+        private final SpillFile file;
+        private long remaining;
+
+        RunIterator(@NotNull SpillFile file, long count) {
+            this.file = file;
+            remaining = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public double nextDouble() {
+            final double value;
+            try {
+                value = file.input().readDouble();
+            } catch (IOException e) {
+                file.close();
+                throw new RuntimeException(e);
+            }
+            if (--remaining == 0) {
+                file.close();
+            }
+            return value;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.DoubleConsumer;
 import com.jrodiz.stream.function.DoublePredicate;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
@@ -7,8 +8,8 @@ import org.jetbrains.annotations.NotNull;
 
 public class DoubleFilter extends PrimitiveIterator.OfDouble {
 
-    private final PrimitiveIterator.OfDouble iterator;
-    private final DoublePredicate predicate;
+    final PrimitiveIterator.OfDouble iterator;
+    final DoublePredicate predicate;
     private boolean hasNext, hasNextEvaluated;
     private double next;
 
@@ -19,6 +20,10 @@ public class DoubleFilter extends PrimitiveIterator.OfDouble {
         this.predicate = predicate;
     }
 
+    boolean canFuse() {
+        return !hasNextEvaluated;
+    }
+
     @Override
     public boolean hasNext() {
         if (!hasNextEvaluated) {
@@ -50,4 +55,24 @@ public class DoubleFilter extends PrimitiveIterator.OfDouble {
         }
         hasNext = false;
     }
+
+    @Override
+    public void pushRemainingDouble(@NotNull final DoubleConsumer action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) return;
+            // Push element which was already evaluated by hasNext()
+            hasNextEvaluated = false;
+            action.accept(next);
+        }
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNext = false;
+        hasNextEvaluated = true;
+    }
 }
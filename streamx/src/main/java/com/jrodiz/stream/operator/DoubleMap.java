@@ -1,13 +1,16 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.DoubleConsumer;
 import com.jrodiz.stream.function.DoubleUnaryOperator;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class DoubleMap extends PrimitiveIterator.OfDouble {
+public class DoubleMap extends PrimitiveIterator.OfDouble implements RandomAccessIterator {
 
-    private final PrimitiveIterator.OfDouble iterator;
-    private final DoubleUnaryOperator mapper;
+    final PrimitiveIterator.OfDouble iterator;
+    final DoubleUnaryOperator mapper;
 
     public DoubleMap(
             @NotNull PrimitiveIterator.OfDouble iterator,
@@ -25,4 +28,24 @@ public class DoubleMap extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.nextDouble());
     }
+
+    @Override
+    public void pushRemainingDouble(@NotNull final DoubleConsumer action) {
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
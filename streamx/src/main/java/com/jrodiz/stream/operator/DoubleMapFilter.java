@@ -0,0 +1,83 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.DoubleConsumer;
+import com.jrodiz.stream.function.DoublePredicate;
+import com.jrodiz.stream.function.DoubleUnaryOperator;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
+
+public class DoubleMapFilter extends PrimitiveIterator.OfDouble {
+
+    final PrimitiveIterator.OfDouble iterator;
+    final DoubleUnaryOperator mapper;
+    final DoublePredicate predicate;
+    private boolean hasNext, hasNextEvaluated;
+    private double next;
+
+    public DoubleMapFilter(
+            @NotNull PrimitiveIterator.OfDouble iterator,
+            @NotNull DoubleUnaryOperator mapper,
+            @NotNull DoublePredicate predicate) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        this.predicate = predicate;
+    }
+
+    boolean canFuse() {
+        return !hasNextEvaluated;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!hasNextEvaluated) {
+            nextIteration();
+            hasNextEvaluated = true;
+        }
+        return hasNext;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!hasNextEvaluated) {
+            hasNext = hasNext();
+        }
+        if (!hasNext) {
+            throw new NoSuchElementException();
+        }
+        hasNextEvaluated = false;
+        return next;
+    }
+
+    private void nextIteration() {
+        while (iterator.hasNext()) {
+            next = mapper.applyAsDouble(iterator.nextDouble());
+            if (predicate.test(next)) {
+                hasNext = true;
+                return;
+            }
+        }
+        hasNext = false;
+    }
+
+    @Override
+    public void pushRemainingDouble(@NotNull final DoubleConsumer action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) return;
+            // Push element which was already evaluated by hasNext()
+            hasNextEvaluated = false;
+            action.accept(next);
+        }
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                final double result = mapper.applyAsDouble(value);
+                if (predicate.test(result)) {
+                    action.accept(result);
+                }
+            }
+        });
+        hasNext = false;
+        hasNextEvaluated = true;
+    }
+}
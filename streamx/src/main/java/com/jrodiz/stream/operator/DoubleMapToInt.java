@@ -1,10 +1,14 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.DoubleConsumer;
 import com.jrodiz.stream.function.DoubleToIntFunction;
+import com.jrodiz.stream.function.IntConsumer;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class DoubleMapToInt extends PrimitiveIterator.OfInt {
+public class DoubleMapToInt extends PrimitiveIterator.OfInt implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfDouble iterator;
     private final DoubleToIntFunction mapper;
@@ -25,4 +29,24 @@ public class DoubleMapToInt extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.nextDouble());
     }
+
+    @Override
+    public void pushRemainingInt(@NotNull final IntConsumer action) {
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
@@ -1,10 +1,14 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.DoubleConsumer;
 import com.jrodiz.stream.function.DoubleToLongFunction;
+import com.jrodiz.stream.function.LongConsumer;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class DoubleMapToLong extends PrimitiveIterator.OfLong {
+public class DoubleMapToLong extends PrimitiveIterator.OfLong implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfDouble iterator;
     private final DoubleToLongFunction mapper;
@@ -25,4 +29,24 @@ public class DoubleMapToLong extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.nextDouble());
     }
+
+    @Override
+    public void pushRemainingLong(@NotNull final LongConsumer action) {
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
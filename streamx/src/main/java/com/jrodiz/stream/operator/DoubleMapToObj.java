@@ -1,11 +1,15 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.DoubleConsumer;
 import com.jrodiz.stream.function.DoubleFunction;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.LsaIterator;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class DoubleMapToObj<R> extends LsaIterator<R> {
+public class DoubleMapToObj<R> extends LsaIterator<R> implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfDouble iterator;
     private final DoubleFunction<? extends R> mapper;
@@ -26,4 +30,24 @@ public class DoubleMapToObj<R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.nextDouble());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super R> action) {
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
@@ -0,0 +1,100 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.DoubleComparator;
+import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
+
+public class DoubleMergeSorted extends PrimitiveIterator.OfDouble implements SizedIterator {
+
+    private final PrimitiveIterator.OfDouble[] iterators;
+    private final DoubleComparator comparator;
+    // Min-heap of iterator indices, ordered by their head elements
+    private final int[] heap;
+    private final double[] heads;
+    private int heapSize;
+    private boolean isInit;
+
+    public DoubleMergeSorted(
+            @NotNull List<? extends PrimitiveIterator.OfDouble> iterators,
+            @NotNull DoubleComparator comparator) {
+        this.iterators = iterators.toArray(new PrimitiveIterator.OfDouble[iterators.size()]);
+        this.comparator = comparator;
+        heap = new int[this.iterators.length];
+        heads = new double[this.iterators.length];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!isInit) {
+            init();
+        }
+        return heapSize > 0;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final int top = heap[0];
+        final double value = heads[top];
+        final PrimitiveIterator.OfDouble iterator = iterators[top];
+        if (iterator.hasNext()) {
+            heads[top] = iterator.nextDouble();
+        } else {
+            heap[0] = heap[--heapSize];
+        }
+        siftDown(0);
+        return value;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        long size = isInit ? heapSize : 0;
+        for (PrimitiveIterator.OfDouble iterator : iterators) {
+            final long s = Operators.exactSize(iterator);
+            if (s < 0) return -1;
+            size += s;
+        }
+        return size;
+    }
+
+    private void init() {
+        isInit = true;
+        for (int i = 0; i < iterators.length; i++) {
+            if (iterators[i].hasNext()) {
+                heads[i] = iterators[i].nextDouble();
+                heap[heapSize++] = i;
+            }
+        }
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    private void siftDown(int index) {
+        final int[] h = heap;
+        final int size = heapSize;
+        final int value = h[index];
+        int child;
+        while ((child = (index << 1) + 1) < size) {
+            if (child + 1 < size && less(h[child + 1], h[child])) {
+                child++;
+            }
+            if (!less(h[child], value)) break;
+            h[index] = h[child];
+            index = child;
+        }
+        h[index] = value;
+    }
+
+    // Equal elements are taken from the iterator with a lower index, so merge is stable
+    private boolean less(int i, int j) {
+        final int result = comparator.compare(heads[i], heads[j]);
+        return (result < 0) || (result == 0 && i < j);
+    }
+}
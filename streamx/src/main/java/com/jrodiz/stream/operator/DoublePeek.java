@@ -1,13 +1,15 @@
 package com.jrodiz.stream.operator;
 
 import com.jrodiz.stream.function.DoubleConsumer;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class DoublePeek extends PrimitiveIterator.OfDouble {
+public class DoublePeek extends PrimitiveIterator.OfDouble implements SizedIterator {
 
-    private final PrimitiveIterator.OfDouble iterator;
-    private final DoubleConsumer action;
+    final PrimitiveIterator.OfDouble iterator;
+    final DoubleConsumer action;
 
     public DoublePeek(
             @NotNull PrimitiveIterator.OfDouble iterator,
@@ -27,4 +29,20 @@ public class DoublePeek extends PrimitiveIterator.OfDouble {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void pushRemainingDouble(@NotNull final DoubleConsumer consumer) {
+        iterator.pushRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(value);
+                consumer.accept(value);
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
 }
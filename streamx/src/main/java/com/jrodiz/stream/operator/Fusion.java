@@ -0,0 +1,335 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.DoubleConsumer;
+import com.jrodiz.stream.function.DoublePredicate;
+import com.jrodiz.stream.function.DoubleUnaryOperator;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.IntConsumer;
+import com.jrodiz.stream.function.IntPredicate;
+import com.jrodiz.stream.function.IntUnaryOperator;
+import com.jrodiz.stream.function.LongConsumer;
+import com.jrodiz.stream.function.LongPredicate;
+import com.jrodiz.stream.function.LongUnaryOperator;
+import com.jrodiz.stream.function.Predicate;
+import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import java.util.Iterator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Creates {@code map}, {@code filter} and {@code peek} stages,
+ * fusing them with the upstream stage when possible:
+ *
+ * <ul>
+ *   <li>{@code map(f).map(g)} becomes one map with the composed function</li>
+ *   <li>{@code filter(p).filter(q)} becomes one filter with the composed predicate</li>
+ *   <li>{@code map(f).filter(p)} becomes one map-filter stage</li>
+ *   <li>{@code peek(a).peek(b)} becomes one peek with the composed action</li>
+ *   <li>{@code sorted(c).limit(k)} becomes one top-k stage which keeps only k elements</li>
+ * </ul>
+ *
+ * <p>This keeps the depth of nested {@code hasNext}/{@code next} calls constant
+ * for long chains of simple operators.
+ * Filter and sorted stages are fused only if they have not started iterating yet.
+ */
+public final class Fusion {
+
+    private Fusion() { }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T, R> Iterator<? extends R> map(
+            @NotNull Iterator<? extends T> iterator,
+            @NotNull Function<? super T, ? extends R> mapper) {
+        if (iterator instanceof ObjMap) {
+            return fuseMap((ObjMap<?, ? extends T>) iterator, mapper);
+        }
+        return new ObjMap<T, R>(iterator, mapper);
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> Iterator<? extends T> filter(
+            @NotNull Iterator<? extends T> iterator,
+            @NotNull Predicate<? super T> predicate) {
+        if (iterator instanceof ObjMap) {
+            return fuseMapFilter((ObjMap<?, ? extends T>) iterator, predicate);
+        }
+        if (iterator instanceof ObjFilter) {
+            final ObjFilter<? extends T> upstream = (ObjFilter<? extends T>) iterator;
+            if (upstream.canFuse()) {
+                return fuseFilter(upstream, predicate);
+            }
+        } else if (iterator instanceof ObjMapFilter) {
+            final ObjMapFilter<?, ? extends T> upstream = (ObjMapFilter<?, ? extends T>) iterator;
+            if (upstream.canFuse()) {
+                return fuseMapFilter(upstream, predicate);
+            }
+        }
+        return new ObjFilter<T>(iterator, predicate);
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> Iterator<? extends T> peek(
+            @NotNull Iterator<? extends T> iterator,
+            @NotNull Consumer<? super T> action) {
+        if (iterator instanceof ObjPeek) {
+            return fusePeek((ObjPeek<? extends T>) iterator, action);
+        }
+        return new ObjPeek<T>(iterator, action);
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> Iterator<? extends T> limit(
+            @NotNull Iterator<? extends T> iterator, long maxSize) {
+        if (iterator instanceof ObjSorted) {
+            final ObjSorted<? extends T> upstream = (ObjSorted<? extends T>) iterator;
+            if (upstream.canFuse() && isTopKSmaller(upstream.iterator, maxSize)) {
+                return fuseTopK(upstream, maxSize);
+            }
+        }
+        return new ObjLimit<T>(iterator, maxSize);
+    }
+
+    private static <S, T, R> ObjMap<S, R> fuseMap(
+            @NotNull ObjMap<S, ? extends T> upstream,
+            @NotNull Function<? super T, ? extends R> mapper) {
+        return new ObjMap<S, R>(upstream.iterator,
+                Function.Util.<S, T, R>andThen(upstream.mapper, mapper));
+    }
+
+    private static <S, T> ObjMapFilter<S, T> fuseMapFilter(
+            @NotNull ObjMap<S, T> upstream,
+            @NotNull Predicate<? super T> predicate) {
+        return new ObjMapFilter<S, T>(upstream.iterator, upstream.mapper, predicate);
+    }
+
+    private static <S, T> ObjMapFilter<S, T> fuseMapFilter(
+            @NotNull ObjMapFilter<S, T> upstream,
+            @NotNull Predicate<? super T> predicate) {
+        return new ObjMapFilter<S, T>(upstream.iterator, upstream.mapper,
+                Predicate.Util.<T>and(upstream.predicate, predicate));
+    }
+
+    private static <T> ObjFilter<T> fuseFilter(
+            @NotNull ObjFilter<T> upstream,
+            @NotNull Predicate<? super T> predicate) {
+        return new ObjFilter<T>(upstream.iterator,
+                Predicate.Util.<T>and(upstream.predicate, predicate));
+    }
+
+    private static <T> ObjTopK<T> fuseTopK(@NotNull ObjSorted<T> upstream, long k) {
+        return new ObjTopK<T>(upstream.iterator, k, upstream.comparator);
+    }
+
+    private static <T> ObjPeek<T> fusePeek(
+            @NotNull ObjPeek<T> upstream,
+            @NotNull Consumer<? super T> action) {
+        return new ObjPeek<T>(upstream.iterator,
+                Consumer.Util.<T>andThen(upstream.action, action));
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfInt map(
+            @NotNull PrimitiveIterator.OfInt iterator,
+            @NotNull final IntUnaryOperator mapper) {
+        if (iterator instanceof IntMap) {
+            final IntMap upstream = (IntMap) iterator;
+            final IntUnaryOperator first = upstream.mapper;
+            return new IntMap(upstream.iterator, new IntUnaryOperator() {
+                @Override
+                public int applyAsInt(int operand) {
+                    return mapper.applyAsInt(first.applyAsInt(operand));
+                }
+            });
+        }
+        return new IntMap(iterator, mapper);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfInt filter(
+            @NotNull PrimitiveIterator.OfInt iterator,
+            @NotNull IntPredicate predicate) {
+        if (iterator instanceof IntMap) {
+            final IntMap upstream = (IntMap) iterator;
+            return new IntMapFilter(upstream.iterator, upstream.mapper, predicate);
+        }
+        if (iterator instanceof IntFilter) {
+            final IntFilter upstream = (IntFilter) iterator;
+            if (upstream.canFuse()) {
+                return new IntFilter(upstream.iterator,
+                        IntPredicate.Util.and(upstream.predicate, predicate));
+            }
+        } else if (iterator instanceof IntMapFilter) {
+            final IntMapFilter upstream = (IntMapFilter) iterator;
+            if (upstream.canFuse()) {
+                return new IntMapFilter(upstream.iterator, upstream.mapper,
+                        IntPredicate.Util.and(upstream.predicate, predicate));
+            }
+        }
+        return new IntFilter(iterator, predicate);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfInt limit(
+            @NotNull PrimitiveIterator.OfInt iterator, long maxSize) {
+        if (iterator instanceof IntSorted) {
+            final IntSorted upstream = (IntSorted) iterator;
+            if (upstream.canFuse() && isTopKSmaller(upstream.iterator, maxSize)) {
+                return new IntTopK(upstream.iterator, maxSize, upstream.comparator);
+            }
+        }
+        return new IntLimit(iterator, maxSize);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfInt peek(
+            @NotNull PrimitiveIterator.OfInt iterator,
+            @NotNull IntConsumer action) {
+        if (iterator instanceof IntPeek) {
+            final IntPeek upstream = (IntPeek) iterator;
+            return new IntPeek(upstream.iterator,
+                    IntConsumer.Util.andThen(upstream.action, action));
+        }
+        return new IntPeek(iterator, action);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfLong map(
+            @NotNull PrimitiveIterator.OfLong iterator,
+            @NotNull final LongUnaryOperator mapper) {
+        if (iterator instanceof LongMap) {
+            final LongMap upstream = (LongMap) iterator;
+            final LongUnaryOperator first = upstream.mapper;
+            return new LongMap(upstream.iterator, new LongUnaryOperator() {
+                @Override
+                public long applyAsLong(long operand) {
+                    return mapper.applyAsLong(first.applyAsLong(operand));
+                }
+            });
+        }
+        return new LongMap(iterator, mapper);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfLong filter(
+            @NotNull PrimitiveIterator.OfLong iterator,
+            @NotNull LongPredicate predicate) {
+        if (iterator instanceof LongMap) {
+            final LongMap upstream = (LongMap) iterator;
+            return new LongMapFilter(upstream.iterator, upstream.mapper, predicate);
+        }
+        if (iterator instanceof LongFilter) {
+            final LongFilter upstream = (LongFilter) iterator;
+            if (upstream.canFuse()) {
+                return new LongFilter(upstream.iterator,
+                        LongPredicate.Util.and(upstream.predicate, predicate));
+            }
+        } else if (iterator instanceof LongMapFilter) {
+            final LongMapFilter upstream = (LongMapFilter) iterator;
+            if (upstream.canFuse()) {
+                return new LongMapFilter(upstream.iterator, upstream.mapper,
+                        LongPredicate.Util.and(upstream.predicate, predicate));
+            }
+        }
+        return new LongFilter(iterator, predicate);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfLong limit(
+            @NotNull PrimitiveIterator.OfLong iterator, long maxSize) {
+        if (iterator instanceof LongSorted) {
+            final LongSorted upstream = (LongSorted) iterator;
+            if (upstream.canFuse() && isTopKSmaller(upstream.iterator, maxSize)) {
+                return new LongTopK(upstream.iterator, maxSize, upstream.comparator);
+            }
+        }
+        return new LongLimit(iterator, maxSize);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfLong peek(
+            @NotNull PrimitiveIterator.OfLong iterator,
+            @NotNull LongConsumer action) {
+        if (iterator instanceof LongPeek) {
+            final LongPeek upstream = (LongPeek) iterator;
+            return new LongPeek(upstream.iterator,
+                    LongConsumer.Util.andThen(upstream.action, action));
+        }
+        return new LongPeek(iterator, action);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfDouble map(
+            @NotNull PrimitiveIterator.OfDouble iterator,
+            @NotNull final DoubleUnaryOperator mapper) {
+        if (iterator instanceof DoubleMap) {
+            final DoubleMap upstream = (DoubleMap) iterator;
+            final DoubleUnaryOperator first = upstream.mapper;
+            return new DoubleMap(upstream.iterator, new DoubleUnaryOperator() {
+                @Override
+                public double applyAsDouble(double operand) {
+                    return mapper.applyAsDouble(first.applyAsDouble(operand));
+                }
+            });
+        }
+        return new DoubleMap(iterator, mapper);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfDouble filter(
+            @NotNull PrimitiveIterator.OfDouble iterator,
+            @NotNull DoublePredicate predicate) {
+        if (iterator instanceof DoubleMap) {
+            final DoubleMap upstream = (DoubleMap) iterator;
+            return new DoubleMapFilter(upstream.iterator, upstream.mapper, predicate);
+        }
+        if (iterator instanceof DoubleFilter) {
+            final DoubleFilter upstream = (DoubleFilter) iterator;
+            if (upstream.canFuse()) {
+                return new DoubleFilter(upstream.iterator,
+                        DoublePredicate.Util.and(upstream.predicate, predicate));
+            }
+        } else if (iterator instanceof DoubleMapFilter) {
+            final DoubleMapFilter upstream = (DoubleMapFilter) iterator;
+            if (upstream.canFuse()) {
+                return new DoubleMapFilter(upstream.iterator, upstream.mapper,
+                        DoublePredicate.Util.and(upstream.predicate, predicate));
+            }
+        }
+        return new DoubleFilter(iterator, predicate);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfDouble limit(
+            @NotNull PrimitiveIterator.OfDouble iterator, long maxSize) {
+        if (iterator instanceof DoubleSorted) {
+            final DoubleSorted upstream = (DoubleSorted) iterator;
+            if (upstream.canFuse() && isTopKSmaller(upstream.iterator, maxSize)) {
+                return new DoubleTopK(upstream.iterator, maxSize, upstream.comparator);
+            }
+        }
+        return new DoubleLimit(iterator, maxSize);
+    }
+
+    @NotNull
+    public static PrimitiveIterator.OfDouble peek(
+            @NotNull PrimitiveIterator.OfDouble iterator,
+            @NotNull DoubleConsumer action) {
+        if (iterator instanceof DoublePeek) {
+            final DoublePeek upstream = (DoublePeek) iterator;
+            return new DoublePeek(upstream.iterator,
+                    DoubleConsumer.Util.andThen(upstream.action, action));
+        }
+        return new DoublePeek(iterator, action);
+    }
+
+    private static boolean isTopKSmaller(@NotNull Iterator<?> iterator, long k) {
+        // Full sort is better if all elements are kept anyway
+        final long size = Operators.exactSize(iterator);
+        return size < 0 || k < size;
+    }
+}
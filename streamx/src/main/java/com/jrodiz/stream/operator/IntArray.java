@@ -1,9 +1,11 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.IntConsumer;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class IntArray extends PrimitiveIterator.OfInt {
+public class IntArray extends PrimitiveIterator.OfInt implements RandomAccessIterator {
 
     private final int[] values;
     private int index;
@@ -22,4 +24,25 @@ public class IntArray extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return values[index++];
     }
+
+    @Override
+    public void pushRemainingInt(@NotNull IntConsumer action) {
+        final int[] array = values;
+        int i = index;
+        index = array.length;
+        for (; i < array.length; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return values.length - index;
+    }
+
+    @Override
+    public boolean advance(long n) {
+        index += (int) Math.min(n, values.length - index);
+        return true;
+    }
 }
@@ -0,0 +1,27 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.internal.PrimitiveHashSet;
+import com.jrodiz.stream.iterator.PrimitiveExtIterator;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import org.jetbrains.annotations.NotNull;
+
+public class IntDistinct extends PrimitiveExtIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final PrimitiveHashSet.OfInt set;
+
+    public IntDistinct(@NotNull PrimitiveIterator.OfInt iterator) {
+        this.iterator = iterator;
+        set = new PrimitiveHashSet.OfInt();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextInt();
+            if (set.add(next)) {
+                return;
+            }
+        }
+    }
+}
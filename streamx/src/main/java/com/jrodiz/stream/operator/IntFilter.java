@@ -1,5 +1,6 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.IntConsumer;
 import com.jrodiz.stream.function.IntPredicate;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
@@ -7,8 +8,8 @@ import org.jetbrains.annotations.NotNull;
 
 public class IntFilter extends PrimitiveIterator.OfInt {
 
-    private final PrimitiveIterator.OfInt iterator;
-    private final IntPredicate predicate;
+    final PrimitiveIterator.OfInt iterator;
+    final IntPredicate predicate;
     private boolean hasNext, hasNextEvaluated;
     private int next;
 
@@ -19,6 +20,10 @@ public class IntFilter extends PrimitiveIterator.OfInt {
         this.predicate = predicate;
     }
 
+    boolean canFuse() {
+        return !hasNextEvaluated;
+    }
+
     @Override
     public boolean hasNext() {
         if (!hasNextEvaluated) {
@@ -50,4 +55,24 @@ public class IntFilter extends PrimitiveIterator.OfInt {
         }
         hasNext = false;
     }
+
+    @Override
+    public void pushRemainingInt(@NotNull final IntConsumer action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) return;
+            // Push element which was already evaluated by hasNext()
+            hasNextEvaluated = false;
+            action.accept(next);
+        }
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNext = false;
+        hasNextEvaluated = true;
+    }
 }
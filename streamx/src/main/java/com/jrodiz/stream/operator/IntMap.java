@@ -1,13 +1,16 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.IntConsumer;
 import com.jrodiz.stream.function.IntUnaryOperator;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class IntMap extends PrimitiveIterator.OfInt {
+public class IntMap extends PrimitiveIterator.OfInt implements RandomAccessIterator {
 
-    private final PrimitiveIterator.OfInt iterator;
-    private final IntUnaryOperator mapper;
+    final PrimitiveIterator.OfInt iterator;
+    final IntUnaryOperator mapper;
 
     public IntMap(
             @NotNull PrimitiveIterator.OfInt iterator,
@@ -25,4 +28,24 @@ public class IntMap extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.nextInt());
     }
+
+    @Override
+    public void pushRemainingInt(@NotNull final IntConsumer action) {
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
@@ -0,0 +1,83 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.IntConsumer;
+import com.jrodiz.stream.function.IntPredicate;
+import com.jrodiz.stream.function.IntUnaryOperator;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
+
+public class IntMapFilter extends PrimitiveIterator.OfInt {
+
+    final PrimitiveIterator.OfInt iterator;
+    final IntUnaryOperator mapper;
+    final IntPredicate predicate;
+    private boolean hasNext, hasNextEvaluated;
+    private int next;
+
+    public IntMapFilter(
+            @NotNull PrimitiveIterator.OfInt iterator,
+            @NotNull IntUnaryOperator mapper,
+            @NotNull IntPredicate predicate) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        this.predicate = predicate;
+    }
+
+    boolean canFuse() {
+        return !hasNextEvaluated;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!hasNextEvaluated) {
+            nextIteration();
+            hasNextEvaluated = true;
+        }
+        return hasNext;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNextEvaluated) {
+            hasNext = hasNext();
+        }
+        if (!hasNext) {
+            throw new NoSuchElementException();
+        }
+        hasNextEvaluated = false;
+        return next;
+    }
+
+    private void nextIteration() {
+        while (iterator.hasNext()) {
+            next = mapper.applyAsInt(iterator.nextInt());
+            if (predicate.test(next)) {
+                hasNext = true;
+                return;
+            }
+        }
+        hasNext = false;
+    }
+
+    @Override
+    public void pushRemainingInt(@NotNull final IntConsumer action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) return;
+            // Push element which was already evaluated by hasNext()
+            hasNextEvaluated = false;
+            action.accept(next);
+        }
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                final int result = mapper.applyAsInt(value);
+                if (predicate.test(result)) {
+                    action.accept(result);
+                }
+            }
+        });
+        hasNext = false;
+        hasNextEvaluated = true;
+    }
+}
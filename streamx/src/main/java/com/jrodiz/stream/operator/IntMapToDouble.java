@@ -1,10 +1,14 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.DoubleConsumer;
+import com.jrodiz.stream.function.IntConsumer;
 import com.jrodiz.stream.function.IntToDoubleFunction;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class IntMapToDouble extends PrimitiveIterator.OfDouble {
+public class IntMapToDouble extends PrimitiveIterator.OfDouble implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfInt iterator;
     private final IntToDoubleFunction mapper;
@@ -25,4 +29,24 @@ public class IntMapToDouble extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.nextInt());
     }
+
+    @Override
+    public void pushRemainingDouble(@NotNull final DoubleConsumer action) {
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
@@ -1,10 +1,14 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.IntConsumer;
 import com.jrodiz.stream.function.IntToLongFunction;
+import com.jrodiz.stream.function.LongConsumer;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class IntMapToLong extends PrimitiveIterator.OfLong {
+public class IntMapToLong extends PrimitiveIterator.OfLong implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfInt iterator;
     private final IntToLongFunction mapper;
@@ -25,4 +29,24 @@ public class IntMapToLong extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.nextInt());
     }
+
+    @Override
+    public void pushRemainingLong(@NotNull final LongConsumer action) {
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
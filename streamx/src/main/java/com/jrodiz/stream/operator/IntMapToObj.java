@@ -1,11 +1,15 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.IntConsumer;
 import com.jrodiz.stream.function.IntFunction;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.LsaIterator;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class IntMapToObj<R> extends LsaIterator<R> {
+public class IntMapToObj<R> extends LsaIterator<R> implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfInt iterator;
     private final IntFunction<? extends R> mapper;
@@ -26,4 +30,24 @@ public class IntMapToObj<R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.nextInt());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super R> action) {
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
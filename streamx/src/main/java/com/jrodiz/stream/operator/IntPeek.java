@@ -1,13 +1,15 @@
 package com.jrodiz.stream.operator;
 
 import com.jrodiz.stream.function.IntConsumer;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class IntPeek extends PrimitiveIterator.OfInt {
+public class IntPeek extends PrimitiveIterator.OfInt implements SizedIterator {
 
-    private final PrimitiveIterator.OfInt iterator;
-    private final IntConsumer action;
+    final PrimitiveIterator.OfInt iterator;
+    final IntConsumer action;
 
     public IntPeek(
             @NotNull PrimitiveIterator.OfInt iterator,
@@ -27,4 +29,20 @@ public class IntPeek extends PrimitiveIterator.OfInt {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void pushRemainingInt(@NotNull final IntConsumer consumer) {
+        iterator.pushRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(value);
+                consumer.accept(value);
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
 }
@@ -0,0 +1,97 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+
+public class IntQueue extends PrimitiveIterator.OfInt implements Runnable {
+
+    private static final int BATCH_SIZE = 256;
+
+    private final BlockingQueue<Integer> queue;
+    private final int endMarker;
+    private final long timeout;
+    private final TimeUnit unit;
+    private final ArrayList<Integer> buffer;
+    private int index;
+    private boolean finished;
+
+    public IntQueue(@NotNull BlockingQueue<Integer> queue, int endMarker,
+                    long timeout, @NotNull TimeUnit unit) {
+        this.queue = queue;
+        this.endMarker = endMarker;
+        this.timeout = timeout;
+        this.unit = unit;
+        buffer = new ArrayList<Integer>(BATCH_SIZE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) return false;
+        if (index >= buffer.size() && !refill()) {
+            finished = true;
+            return false;
+        }
+        if (Integer.valueOf(endMarker).equals(buffer.get(index))) {
+            finished = true;
+            putBack(index + 1);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer.get(index++);
+    }
+
+    @Override
+    public void run() {
+        if (finished) return;
+        finished = true;
+        putBack(index);
+    }
+
+    // Not consumed elements belong to other consumers of the queue
+    private void putBack(int from) {
+        final int size = buffer.size();
+        try {
+            for (int i = from; i < size; i++) {
+                queue.put(buffer.get(i));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    // Takes the queue lock once per batch, waits only if the queue is empty
+    private boolean refill() {
+        buffer.clear();
+        index = 0;
+        if (queue.drainTo(buffer, BATCH_SIZE) > 0) {
+            return true;
+        }
+        final Integer value;
+        try {
+            value = queue.poll(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        if (value == null) {
+            return false;
+        }
+        buffer.add(value);
+        queue.drainTo(buffer, BATCH_SIZE - 1);
+        return true;
+    }
+}
@@ -1,8 +1,11 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.IntConsumer;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
+import org.jetbrains.annotations.NotNull;
 
-public class IntRangeClosed extends PrimitiveIterator.OfInt {
+public class IntRangeClosed extends PrimitiveIterator.OfInt implements RandomAccessIterator {
 
     private final int endInclusive;
     private int current;
@@ -27,4 +30,47 @@ public class IntRangeClosed extends PrimitiveIterator.OfInt {
         }
         return current++;
     }
+
+    @Override
+    public void pushRemainingInt(@NotNull IntConsumer action) {
+        if (!hasNext) return;
+        final int end = endInclusive;
+        int value = current;
+        current = end;
+        hasNext = false;
+        for (; value < end; value++) {
+            action.accept(value);
+        }
+        action.accept(end);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return hasNext ? (long) endInclusive - current + 1 : 0;
+    }
+
+    @Override
+    public boolean advance(long n) {
+        if (!hasNext || n <= 0) return true;
+        if (n > (long) endInclusive - current) {
+            current = endInclusive;
+            hasNext = false;
+        } else {
+            current += (int) n;
+        }
+        return true;
+    }
+
+    // Sum of the remaining elements in closed form, overflows as the sum one by one does
+    public int sum() {
+        if (!hasNext) return 0;
+        hasNext = false;
+        final long count = (long) endInclusive - current + 1;
+        final long firstPlusLast = (long) current + endInclusive;
+        current = endInclusive;
+        // One of the factors is always even
+        return (int) ((count & 1) == 0
+                ? (count >> 1) * firstPlusLast
+                : count * (firstPlusLast >> 1));
+    }
 }
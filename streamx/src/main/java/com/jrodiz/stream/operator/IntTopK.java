@@ -0,0 +1,137 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.IntComparator;
+import com.jrodiz.stream.function.IntConsumer;
+import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.iterator.PrimitiveExtIterator;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class IntTopK extends PrimitiveExtIterator.OfInt implements SizedIterator {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final long k;
+    private final IntComparator comparator;
+    private int[] array;
+    private int index;
+
+    public IntTopK(
+            @NotNull PrimitiveIterator.OfInt iterator, long k,
+            @Nullable IntComparator comparator) {
+        this.iterator = iterator;
+        this.k = k;
+        this.comparator = (comparator != null) ? comparator : IntComparator.Util.naturalOrder();
+        index = 0;
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            if (k == 0) {
+                // Nothing is kept, so the source is not consumed
+                array = new int[0];
+            } else {
+                final Heap heap = new Heap(k, comparator);
+                iterator.pushRemainingInt(heap);
+                array = heap.toSortedArray();
+            }
+        }
+        hasNext = index < array.length;
+        if (hasNext) {
+            next = array[index++];
+        }
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (isInit) return -1;
+        final long size = Operators.exactSize(iterator);
+        return (size < 0) ? -1 : Math.min(size, k);
+    }
+
+    // Max-heap of at most k elements, the root is the worst of kept elements.
+    // Ties are resolved by encounter order to keep the sort stable.
+    private static final class Heap implements IntConsumer {
+
+        private final long k;
+        private final IntComparator comparator;
+        private int[] elements;
+        private long[] order;
+        private int size;
+        private long count;
+
+        Heap(long k, @NotNull IntComparator comparator) {
+            this.k = k;
+            this.comparator = comparator;
+            final int capacity = (int) Math.min(k, 16);
+            elements = new int[capacity];
+            order = new long[capacity];
+        }
+
+        @Override
+        public void accept(int value) {
+            final long position = count++;
+            if (size < k) {
+                if (size == elements.length) {
+                    final int capacity = (int) Math.min(k, size * 2L);
+                    elements = Arrays.copyOf(elements, capacity);
+                    order = Arrays.copyOf(order, capacity);
+                }
+                siftUp(size++, value, position);
+            } else if (comparator.compare(value, elements[0]) < 0) {
+                // Later element which is equal to the root is worse, so it is skipped
+                siftDown(0, value, position);
+            }
+        }
+
+        @NotNull
+        int[] toSortedArray() {
+            final int[] result = new int[size];
+            while (size > 0) {
+                result[size - 1] = elements[0];
+                final int last = --size;
+                if (last > 0) {
+                    siftDown(0, elements[last], order[last]);
+                }
+            }
+            return result;
+        }
+
+        private boolean isWorse(int a, long orderA, int i) {
+            final int result = comparator.compare(a, elements[i]);
+            return (result > 0) || (result == 0 && orderA > order[i]);
+        }
+
+        private void siftUp(int i, int value, long position) {
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (!isWorse(value, position, parent)) break;
+                elements[i] = elements[parent];
+                order[i] = order[parent];
+                i = parent;
+            }
+            elements[i] = value;
+            order[i] = position;
+        }
+
+        private void siftDown(int i, int value, long position) {
+            final int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                final int right = child + 1;
+                if (right < size && isWorse(elements[right], order[right], child)) {
+                    child = right;
+                }
+                if (isWorse(value, position, child)) break;
+                elements[i] = elements[child];
+                order[i] = order[child];
+                i = child;
+            }
+            elements[i] = value;
+            order[i] = position;
+        }
+    }
+}
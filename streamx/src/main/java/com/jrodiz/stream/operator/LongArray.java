@@ -1,9 +1,11 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.LongConsumer;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class LongArray extends PrimitiveIterator.OfLong {
+public class LongArray extends PrimitiveIterator.OfLong implements RandomAccessIterator {
 
     private final long[] values;
     private int index;
@@ -22,4 +24,25 @@ public class LongArray extends PrimitiveIterator.OfLong {
     public boolean hasNext() {
         return index < values.length;
     }
+
+    @Override
+    public void pushRemainingLong(@NotNull LongConsumer action) {
+        final long[] array = values;
+        int i = index;
+        index = array.length;
+        for (; i < array.length; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return values.length - index;
+    }
+
+    @Override
+    public boolean advance(long n) {
+        index += (int) Math.min(n, values.length - index);
+        return true;
+    }
 }
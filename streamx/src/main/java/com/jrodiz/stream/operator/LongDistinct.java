@@ -0,0 +1,27 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.internal.PrimitiveHashSet;
+import com.jrodiz.stream.iterator.PrimitiveExtIterator;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import org.jetbrains.annotations.NotNull;
+
+public class LongDistinct extends PrimitiveExtIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final PrimitiveHashSet.OfLong set;
+
+    public LongDistinct(@NotNull PrimitiveIterator.OfLong iterator) {
+        this.iterator = iterator;
+        set = new PrimitiveHashSet.OfLong();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextLong();
+            if (set.add(next)) {
+                return;
+            }
+        }
+    }
+}
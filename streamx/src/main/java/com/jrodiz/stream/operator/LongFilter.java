@@ -1,5 +1,6 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.LongConsumer;
 import com.jrodiz.stream.function.LongPredicate;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
@@ -7,8 +8,8 @@ import org.jetbrains.annotations.NotNull;
 
 public class LongFilter extends PrimitiveIterator.OfLong {
 
-    private final PrimitiveIterator.OfLong iterator;
-    private final LongPredicate predicate;
+    final PrimitiveIterator.OfLong iterator;
+    final LongPredicate predicate;
     private boolean hasNext, hasNextEvaluated;
     private long next;
 
@@ -19,6 +20,10 @@ public class LongFilter extends PrimitiveIterator.OfLong {
         this.predicate = predicate;
     }
 
+    boolean canFuse() {
+        return !hasNextEvaluated;
+    }
+
     @Override
     public boolean hasNext() {
         if (!hasNextEvaluated) {
@@ -50,4 +55,24 @@ public class LongFilter extends PrimitiveIterator.OfLong {
         }
         hasNext = false;
     }
+
+    @Override
+    public void pushRemainingLong(@NotNull final LongConsumer action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) return;
+            // Push element which was already evaluated by hasNext()
+            hasNextEvaluated = false;
+            action.accept(next);
+        }
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNext = false;
+        hasNextEvaluated = true;
+    }
 }
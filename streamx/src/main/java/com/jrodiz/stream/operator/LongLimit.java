@@ -1,9 +1,11 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class LongLimit extends PrimitiveIterator.OfLong {
+public class LongLimit extends PrimitiveIterator.OfLong implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfLong iterator;
     private final long maxSize;
@@ -25,4 +27,21 @@ public class LongLimit extends PrimitiveIterator.OfLong {
         index++;
         return iterator.nextLong();
     }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = Operators.exactSize(iterator);
+        if (size < 0) return -1;
+        return Math.min(size, maxSize - index);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        final long count = Math.min(n, maxSize - index);
+        if (!Operators.advance(iterator, count)) {
+            return false;
+        }
+        index += count;
+        return true;
+    }
 }
@@ -1,13 +1,16 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.LongConsumer;
 import com.jrodiz.stream.function.LongUnaryOperator;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class LongMap extends PrimitiveIterator.OfLong {
+public class LongMap extends PrimitiveIterator.OfLong implements RandomAccessIterator {
 
-    private final PrimitiveIterator.OfLong iterator;
-    private final LongUnaryOperator mapper;
+    final PrimitiveIterator.OfLong iterator;
+    final LongUnaryOperator mapper;
 
     public LongMap(
             @NotNull PrimitiveIterator.OfLong iterator,
@@ -25,4 +28,24 @@ public class LongMap extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.nextLong());
     }
+
+    @Override
+    public void pushRemainingLong(@NotNull final LongConsumer action) {
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
@@ -0,0 +1,83 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.LongConsumer;
+import com.jrodiz.stream.function.LongPredicate;
+import com.jrodiz.stream.function.LongUnaryOperator;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
+
+public class LongMapFilter extends PrimitiveIterator.OfLong {
+
+    final PrimitiveIterator.OfLong iterator;
+    final LongUnaryOperator mapper;
+    final LongPredicate predicate;
+    private boolean hasNext, hasNextEvaluated;
+    private long next;
+
+    public LongMapFilter(
+            @NotNull PrimitiveIterator.OfLong iterator,
+            @NotNull LongUnaryOperator mapper,
+            @NotNull LongPredicate predicate) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        this.predicate = predicate;
+    }
+
+    boolean canFuse() {
+        return !hasNextEvaluated;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!hasNextEvaluated) {
+            nextIteration();
+            hasNextEvaluated = true;
+        }
+        return hasNext;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNextEvaluated) {
+            hasNext = hasNext();
+        }
+        if (!hasNext) {
+            throw new NoSuchElementException();
+        }
+        hasNextEvaluated = false;
+        return next;
+    }
+
+    private void nextIteration() {
+        while (iterator.hasNext()) {
+            next = mapper.applyAsLong(iterator.nextLong());
+            if (predicate.test(next)) {
+                hasNext = true;
+                return;
+            }
+        }
+        hasNext = false;
+    }
+
+    @Override
+    public void pushRemainingLong(@NotNull final LongConsumer action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) return;
+            // Push element which was already evaluated by hasNext()
+            hasNextEvaluated = false;
+            action.accept(next);
+        }
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                final long result = mapper.applyAsLong(value);
+                if (predicate.test(result)) {
+                    action.accept(result);
+                }
+            }
+        });
+        hasNext = false;
+        hasNextEvaluated = true;
+    }
+}
@@ -1,10 +1,14 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.DoubleConsumer;
+import com.jrodiz.stream.function.LongConsumer;
 import com.jrodiz.stream.function.LongToDoubleFunction;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class LongMapToDouble extends PrimitiveIterator.OfDouble {
+public class LongMapToDouble extends PrimitiveIterator.OfDouble implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfLong iterator;
     private final LongToDoubleFunction mapper;
@@ -25,4 +29,24 @@ public class LongMapToDouble extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.nextLong());
     }
+
+    @Override
+    public void pushRemainingDouble(@NotNull final DoubleConsumer action) {
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
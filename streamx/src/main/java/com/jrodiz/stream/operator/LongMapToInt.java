@@ -1,10 +1,14 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.IntConsumer;
+import com.jrodiz.stream.function.LongConsumer;
 import com.jrodiz.stream.function.LongToIntFunction;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class LongMapToInt extends PrimitiveIterator.OfInt {
+public class LongMapToInt extends PrimitiveIterator.OfInt implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfLong iterator;
     private final LongToIntFunction mapper;
@@ -25,4 +29,24 @@ public class LongMapToInt extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.nextLong());
     }
+
+    @Override
+    public void pushRemainingInt(@NotNull final IntConsumer action) {
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
@@ -1,11 +1,15 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.LongConsumer;
 import com.jrodiz.stream.function.LongFunction;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.LsaIterator;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class LongMapToObj<R> extends LsaIterator<R> {
+public class LongMapToObj<R> extends LsaIterator<R> implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfLong iterator;
     private final LongFunction<? extends R> mapper;
@@ -26,4 +30,24 @@ public class LongMapToObj<R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.nextLong());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super R> action) {
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
@@ -1,13 +1,15 @@
 package com.jrodiz.stream.operator;
 
 import com.jrodiz.stream.function.LongConsumer;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class LongPeek extends PrimitiveIterator.OfLong {
+public class LongPeek extends PrimitiveIterator.OfLong implements SizedIterator {
 
-    private final PrimitiveIterator.OfLong iterator;
-    private final LongConsumer action;
+    final PrimitiveIterator.OfLong iterator;
+    final LongConsumer action;
 
     public LongPeek(
             @NotNull PrimitiveIterator.OfLong iterator,
@@ -27,4 +29,20 @@ public class LongPeek extends PrimitiveIterator.OfLong {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void pushRemainingLong(@NotNull final LongConsumer consumer) {
+        iterator.pushRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(value);
+                consumer.accept(value);
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
 }
@@ -1,8 +1,11 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.LongConsumer;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
+import org.jetbrains.annotations.NotNull;
 
-public class LongRangeClosed extends PrimitiveIterator.OfLong {
+public class LongRangeClosed extends PrimitiveIterator.OfLong implements RandomAccessIterator {
 
     private final long endInclusive;
     private long current;
@@ -27,4 +30,55 @@ public class LongRangeClosed extends PrimitiveIterator.OfLong {
         }
         return current++;
     }
+
+    @Override
+    public void pushRemainingLong(@NotNull LongConsumer action) {
+        if (!hasNext) return;
+        final long end = endInclusive;
+        long value = current;
+        current = end;
+        hasNext = false;
+        for (; value < end; value++) {
+            action.accept(value);
+        }
+        action.accept(end);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (!hasNext) return 0;
+        final long size = endInclusive - current + 1;
+        // Range of more than Long.MAX_VALUE elements
+        return size > 0 ? size : -1;
+    }
+
+    @Override
+    public boolean advance(long n) {
+        if (!hasNext || n <= 0) return true;
+        final long size = getExactSizeIfKnown();
+        if (size >= 0 && n >= size) {
+            current = endInclusive;
+            hasNext = false;
+        } else {
+            current += n;
+        }
+        return true;
+    }
+
+    // Sum of the remaining elements in closed form, overflows as the sum one by one does
+    public long sum() {
+        if (!hasNext) return 0L;
+        hasNext = false;
+        final long first = current;
+        final long last = endInclusive;
+        current = endInclusive;
+        // Unsigned count, the range may contain up to 2^64 elements (wrapped to zero)
+        final long count = last - first + 1;
+        if ((count & 1) == 0) {
+            final long half = (count == 0) ? Long.MIN_VALUE : (count >>> 1);
+            return half * (first + last);
+        }
+        // first + last is even here, halve it without overflow
+        return count * ((first >> 1) + (last >> 1) + (first & 1));
+    }
 }
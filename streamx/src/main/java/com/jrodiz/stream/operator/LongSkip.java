@@ -1,9 +1,11 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class LongSkip extends PrimitiveIterator.OfLong {
+public class LongSkip extends PrimitiveIterator.OfLong implements RandomAccessIterator {
 
     private final PrimitiveIterator.OfLong iterator;
     private final long n;
@@ -17,6 +19,9 @@ public class LongSkip extends PrimitiveIterator.OfLong {
 
     @Override
     public boolean hasNext() {
+        if (skipped < n && Operators.advance(iterator, n - skipped)) {
+            skipped = n;
+        }
         while (iterator.hasNext()) {
             if (skipped == n) {
                 break;
@@ -31,4 +36,21 @@ public class LongSkip extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return iterator.nextLong();
     }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = Operators.exactSize(iterator);
+        if (size < 0) return -1;
+        return Math.max(0L, size - (n - skipped));
+    }
+
+    @Override
+    public boolean advance(long count) {
+        // Advanced in two steps, the sum may overflow on ranges of more than 2^63 elements
+        if (!Operators.advance(iterator, n - skipped)) {
+            return false;
+        }
+        skipped = n;
+        return Operators.advance(iterator, count);
+    }
 }
@@ -1,31 +1,52 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.LongComparator;
 import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.internal.PrimitiveSort;
 import com.jrodiz.stream.iterator.PrimitiveExtIterator;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
-import java.util.Arrays;
+import com.jrodiz.stream.iterator.SizedIterator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class LongSorted extends PrimitiveExtIterator.OfLong {
+public class LongSorted extends PrimitiveExtIterator.OfLong implements SizedIterator {
 
-    private final PrimitiveIterator.OfLong iterator;
+    final PrimitiveIterator.OfLong iterator;
+    final LongComparator comparator;
     private int index;
     private long[] array;
 
     public LongSorted(@NotNull PrimitiveIterator.OfLong iterator) {
+        this(iterator, null);
+    }
+
+    public LongSorted(
+            @NotNull PrimitiveIterator.OfLong iterator,
+            @Nullable LongComparator comparator) {
         this.iterator = iterator;
+        this.comparator = comparator;
         index = 0;
     }
 
+    boolean canFuse() {
+        return !isInit;
+    }
+
     @Override
     protected void nextIteration() {
         if (!isInit) {
             array = Operators.toLongArray(iterator);
-            Arrays.sort(array);
+            PrimitiveSort.sort(array, comparator);
         }
         hasNext = index < array.length;
         if (hasNext) {
             next = array[index++];
         }
     }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        // Size is only known before the upstream is drained
+        return isInit ? -1 : Operators.exactSize(iterator);
+    }
 }
@@ -1,9 +1,14 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.Consumer;
 import com.jrodiz.stream.iterator.LsaIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
+import com.jrodiz.stream.iterator.SplittableIterator;
+import java.util.Arrays;
+import java.util.List;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjArray<T> extends LsaIterator<T> {
+public class ObjArray<T> extends LsaIterator<T> implements SplittableIterator<T>, RandomAccessIterator {
 
     private final T[] elements;
     private int index;
@@ -22,4 +27,31 @@ public class ObjArray<T> extends LsaIterator<T> {
     public T nextIteration() {
         return elements[index++];
     }
+
+    @NotNull
+    @Override
+    public List<T> remaining() {
+        return Arrays.asList(elements).subList(index, elements.length);
+    }
+
+    @Override
+    public void pushRemaining(@NotNull Consumer<? super T> action) {
+        final T[] array = elements;
+        int i = index;
+        index = array.length;
+        for (; i < array.length; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return elements.length - index;
+    }
+
+    @Override
+    public boolean advance(long n) {
+        index += (int) Math.min(n, elements.length - index);
+        return true;
+    }
 }
@@ -0,0 +1,63 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.internal.AsyncBuffer;
+import com.jrodiz.stream.iterator.LsaIterator;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjAsync<T> extends LsaIterator<T> implements Runnable {
+
+    private final Buffer<T> buffer;
+    private int slot;
+
+    public ObjAsync(@NotNull Iterator<? extends T> iterator, int bufferSize, @NotNull Executor executor) {
+        buffer = new Buffer<T>(iterator, bufferSize, executor);
+        slot = -1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (slot < 0) {
+            slot = buffer.awaitSlot();
+        }
+        return slot >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T nextIteration() {
+        final Object[] elements = buffer.elements;
+        final T value = (T) elements[slot];
+        // Release reference for GC
+        elements[slot] = null;
+        slot = -1;
+        buffer.release();
+        return value;
+    }
+
+    // Close handler, stops the producer before the upstream is closed
+    @Override
+    public void run() {
+        buffer.cancel();
+    }
+
+    private static final class Buffer<T> extends AsyncBuffer {
+
+        private final Iterator<? extends T> iterator;
+        final Object[] elements;
+
+        Buffer(@NotNull Iterator<? extends T> iterator, int bufferSize, @NotNull Executor executor) {
+            super(bufferSize, executor);
+            this.iterator = iterator;
+            elements = new Object[capacity()];
+        }
+
+        @Override
+        protected boolean pull(int slot) {
+            if (!iterator.hasNext()) return false;
+            elements[slot] = iterator.next();
+            return true;
+        }
+    }
+}
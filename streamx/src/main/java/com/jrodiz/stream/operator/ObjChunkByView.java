@@ -0,0 +1,56 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.internal.RingBuffer;
+import com.jrodiz.stream.iterator.LsaIterator;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjChunkByView<T, K> extends LsaIterator<List<T>> {
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends K> classifier;
+    private final RingBuffer<T> chunk;
+    private T next;
+    private boolean peekedNext;
+
+    public ObjChunkByView(
+            @NotNull Iterator<? extends T> iterator,
+            @NotNull Function<? super T, ? extends K> classifier) {
+        this.iterator = iterator;
+        this.classifier = classifier;
+        chunk = new RingBuffer<T>(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return peekedNext || iterator.hasNext();
+    }
+
+    @Override
+    public List<T> nextIteration() {
+        final K key = classifier.apply(peek());
+
+        chunk.removeFirst(chunk.size());
+        do {
+            chunk.addLast(takeNext());
+        } while ( iterator.hasNext() && key.equals(classifier.apply(peek())) );
+
+        return chunk;
+    }
+
+    private T takeNext() {
+        final T element = peek();
+        peekedNext = false;
+        return element;
+    }
+
+    private T peek() {
+        if (!peekedNext) {
+            next = iterator.next();
+            peekedNext = true;
+        }
+        return next;
+    }
+}
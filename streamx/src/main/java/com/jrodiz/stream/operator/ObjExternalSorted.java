@@ -0,0 +1,161 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.ComparatorCompat;
+import com.jrodiz.stream.Serializer;
+import com.jrodiz.stream.internal.SpillFile;
+import com.jrodiz.stream.iterator.LsaExtIterator;
+import com.jrodiz.stream.iterator.LsaIterator;
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class ObjExternalSorted<T> extends LsaExtIterator<T> implements Closeable {
+
+    // Max number of runs merged at once, bounds the number of open temporary files
+    private static final int MAX_FAN_IN = 64;
+
+    private final Iterator<? extends T> iterator;
+    private final Comparator<? super T> comparator;
+    private final int maxElementsInMemory;
+    private final Serializer<T> serializer;
+    private final List<SpillFile> runs;
+    private Iterator<T> sortedIterator;
+
+    public ObjExternalSorted(
+            @NotNull Iterator<? extends T> iterator,
+            @Nullable Comparator<? super T> comparator,
+            int maxElementsInMemory,
+            @NotNull Serializer<T> serializer) {
+        this.iterator = iterator;
+        if (comparator != null) {
+            this.comparator = comparator;
+        } else {
+            this.comparator = naturalOrder();
+        }
+        this.maxElementsInMemory = maxElementsInMemory;
+        this.serializer = serializer;
+        runs = new ArrayList<SpillFile>();
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            sortedIterator = sort();
+        }
+        hasNext = sortedIterator.hasNext();
+        if (hasNext) {
+            next = sortedIterator.next();
+        }
+    }
+
+    private Iterator<T> sort() {
+        List<RunIterator<T>> spilled = new ArrayList<RunIterator<T>>();
+        List<T> buffer = new ArrayList<T>();
+        while (iterator.hasNext()) {
+            buffer.add(iterator.next());
+            if (buffer.size() == maxElementsInMemory) {
+                Collections.sort(buffer, comparator);
+                spilled.add(spill(buffer.iterator()));
+                // Allocate a new list, so the memory of the spilled run is released
+                buffer = new ArrayList<T>();
+            }
+        }
+        Collections.sort(buffer, comparator);
+        if (spilled.isEmpty()) {
+            return buffer.iterator();
+        }
+        // Merge in passes until the remaining runs and in-memory elements fit one merge
+        while (spilled.size() >= MAX_FAN_IN) {
+            spilled = mergePass(spilled);
+        }
+        final List<Iterator<? extends T>> runIterators = new ArrayList<Iterator<? extends T>>(spilled);
+        // In-memory elements go last, so merge keeps encounter order of equal elements
+        runIterators.add(buffer.iterator());
+        return new ObjMergeSorted<T>(runIterators, comparator);
+    }
+
+    // Merges groups of adjacent runs, so merge stays stable
+    private List<RunIterator<T>> mergePass(@NotNull List<RunIterator<T>> spilled) {
+        final int size = spilled.size();
+        final List<RunIterator<T>> result = new ArrayList<RunIterator<T>>((size + MAX_FAN_IN - 1) / MAX_FAN_IN);
+        for (int from = 0; from < size; from += MAX_FAN_IN) {
+            final List<RunIterator<T>> group = spilled.subList(from, Math.min(from + MAX_FAN_IN, size));
+            if (group.size() == 1) {
+                result.add(group.get(0));
+            } else {
+                result.add(spill(new ObjMergeSorted<T>(group, comparator)));
+            }
+        }
+        return result;
+    }
+
+    private RunIterator<T> spill(@NotNull Iterator<? extends T> sortedRun) {
+        final SpillFile file = new SpillFile();
+        runs.add(file);
+        final DataOutput out = file.output();
+        long count = 0;
+        try {
+            while (sortedRun.hasNext()) {
+                serializer.write(out, sortedRun.next());
+                count++;
+            }
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException(e);
+        }
+        file.finishWriting();
+        return new RunIterator<T>(file, count, serializer);
+    }
+
+    @Override
+    public void close() {
+        for (SpillFile file : runs) {
+            file.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<? super T> naturalOrder() {
+        return (Comparator<? super T>) (Comparator<?>) ComparatorCompat.<Comparable<Object>>naturalOrder();
+    }
+
+    private static final class RunIterator<T> extends LsaIterator<T> {
+
+        private final SpillFile file;
+        private final Serializer<T> serializer;
+        private long remaining;
+
+        RunIterator(@NotNull SpillFile file, long count, @NotNull Serializer<T> serializer) {
+            this.file = file;
+            this.serializer = serializer;
+            remaining = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T nextIteration() {
+            final T value;
+            try {
+                value = serializer.read(file.input());
+            } catch (IOException e) {
+                file.close();
+                throw new RuntimeException(e);
+            }
+            if (--remaining == 0) {
+                file.close();
+            }
+            return value;
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.Consumer;
 import com.jrodiz.stream.function.Predicate;
+import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.iterator.PushIterator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjFilter<T> implements Iterator<T> {
+public class ObjFilter<T> implements PushIterator<T> {
 
-    private final Iterator<? extends T> iterator;
-    private final Predicate<? super T> predicate;
+    final Iterator<? extends T> iterator;
+    final Predicate<? super T> predicate;
     private boolean hasNext, hasNextEvaluated;
     private T next;
 
@@ -19,6 +22,10 @@ public class ObjFilter<T> implements Iterator<T> {
         this.predicate = predicate;
     }
 
+    boolean canFuse() {
+        return !hasNextEvaluated;
+    }
+
     @Override
     public boolean hasNext() {
         if (!hasNextEvaluated) {
@@ -55,4 +62,25 @@ public class ObjFilter<T> implements Iterator<T> {
     public void remove() {
         throw new UnsupportedOperationException("remove not supported");
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super T> action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) return;
+            // Push element which was already evaluated by hasNext()
+            hasNextEvaluated = false;
+            action.accept(next);
+        }
+        Operators.pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNext = false;
+        hasNextEvaluated = true;
+        next = null;
+    }
 }
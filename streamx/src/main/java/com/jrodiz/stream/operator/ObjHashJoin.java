@@ -0,0 +1,136 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.BiFunction;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.iterator.LsaExtIterator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjHashJoin<T, U, K, R> extends LsaExtIterator<R> {
+
+    // Marks null elements in the table, where null means no matches
+    private static final Object NULL_ELEMENT = new Object();
+
+    private final Iterator<? extends T> left;
+    private final Iterator<? extends U> right;
+    private final Function<? super T, ? extends K> leftKey;
+    private final Function<? super U, ? extends K> rightKey;
+    private final BiFunction<? super T, ? super U, ? extends R> combiner;
+    private final boolean outer;
+    private final boolean buildSmaller;
+    private boolean buildLeft;
+    private Map<Object, Object> table;
+    private Object probe;
+    private Object matches;
+    private int matchIndex;
+    private int matchCount;
+
+    public ObjHashJoin(
+            @NotNull Iterator<? extends T> left,
+            @NotNull Iterator<? extends U> right,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner,
+            boolean outer,
+            boolean buildSmaller) {
+        this.left = left;
+        this.right = right;
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.combiner = combiner;
+        this.outer = outer;
+        this.buildSmaller = buildSmaller;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void nextIteration() {
+        if (table == null) {
+            build();
+        }
+        final Iterator<?> probeIterator = buildLeft ? right : left;
+        while (true) {
+            if (matchIndex < matchCount) {
+                next = combine(matchAt(matchIndex++));
+                hasNext = true;
+                return;
+            }
+            if (!probeIterator.hasNext()) {
+                hasNext = false;
+                table = null;
+                probe = null;
+                matches = null;
+                return;
+            }
+            probe = probeIterator.next();
+            final Object key = buildLeft ? rightKey.apply((U) probe) : leftKey.apply((T) probe);
+            matches = table.get(key);
+            matchIndex = 0;
+            if (matches == null) {
+                matchCount = 0;
+                if (outer) {
+                    next = combiner.apply((T) probe, null);
+                    hasNext = true;
+                    return;
+                }
+            } else {
+                matchCount = (matches instanceof Bucket) ? ((Bucket) matches).size() : 1;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void build() {
+        // Building on the left changes the order of results, so it is allowed only on request.
+        // Outer join must see every left element, so it always builds on the right
+        if (buildSmaller && !outer) {
+            final long leftSize = Operators.exactSize(left);
+            final long rightSize = Operators.exactSize(right);
+            buildLeft = leftSize >= 0 && rightSize >= 0 && leftSize < rightSize;
+        }
+        table = new HashMap<Object, Object>();
+        final Iterator<?> buildIterator = buildLeft ? left : right;
+        while (buildIterator.hasNext()) {
+            final Object element = buildIterator.next();
+            final Object key = buildLeft ? leftKey.apply((T) element) : rightKey.apply((U) element);
+            final Object value = (element == null) ? NULL_ELEMENT : element;
+            final Object existing = table.get(key);
+            if (existing == null) {
+                table.put(key, value);
+            } else if (existing instanceof Bucket) {
+                ((Bucket) existing).add(value);
+            } else {
+                final Bucket bucket = new Bucket();
+                bucket.add(existing);
+                bucket.add(value);
+                table.put(key, bucket);
+            }
+        }
+    }
+
+    private Object matchAt(int index) {
+        final Object match = (matches instanceof Bucket) ? ((Bucket) matches).get(index) : matches;
+        return (match == NULL_ELEMENT) ? null : match;
+    }
+
+    @SuppressWarnings("unchecked")
+    private R combine(Object match) {
+        if (buildLeft) {
+            return combiner.apply((T) match, (U) probe);
+        }
+        return combiner.apply((T) probe, (U) match);
+    }
+
+    // Elements with the same key, distinguished from a single element which is a list itself
+    private static final class Bucket extends ArrayList<Object> {
+        private static final long serialVersionUID = 1L;
+
+        Bucket() {
+            super(4);
+        }
+    }
+}
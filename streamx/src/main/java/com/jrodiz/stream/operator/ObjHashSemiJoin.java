@@ -0,0 +1,49 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.iterator.LsaExtIterator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjHashSemiJoin<T, U, K> extends LsaExtIterator<T> {
+
+    private final Iterator<? extends T> left;
+    private final Iterator<? extends U> right;
+    private final Function<? super T, ? extends K> leftKey;
+    private final Function<? super U, ? extends K> rightKey;
+    private final boolean anti;
+    private Set<K> keys;
+
+    public ObjHashSemiJoin(
+            @NotNull Iterator<? extends T> left,
+            @NotNull Iterator<? extends U> right,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            boolean anti) {
+        this.left = left;
+        this.right = right;
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.anti = anti;
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (keys == null) {
+            // Only keys of the right side are needed
+            keys = new HashSet<K>();
+            while (right.hasNext()) {
+                keys.add(rightKey.apply(right.next()));
+            }
+        }
+        while (hasNext = left.hasNext()) {
+            next = left.next();
+            if (keys.contains(leftKey.apply(next)) != anti) {
+                return;
+            }
+        }
+        keys = null;
+    }
+}
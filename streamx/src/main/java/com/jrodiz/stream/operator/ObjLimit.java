@@ -1,10 +1,12 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.LsaIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjLimit<T> extends LsaIterator<T> {
+public class ObjLimit<T> extends LsaIterator<T> implements RandomAccessIterator {
 
     private final Iterator<? extends T> iterator;
     private final long maxSize;
@@ -27,4 +29,21 @@ public class ObjLimit<T> extends LsaIterator<T> {
         index++;
         return iterator.next();
     }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = Operators.exactSize(iterator);
+        if (size < 0) return -1;
+        return Math.min(size, maxSize - index);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        final long count = Math.min(n, maxSize - index);
+        if (!Operators.advance(iterator, count)) {
+            return false;
+        }
+        index += count;
+        return true;
+    }
 }
@@ -1,14 +1,17 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.Consumer;
 import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.LsaIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjMap<T, R> extends LsaIterator<R> {
+public class ObjMap<T, R> extends LsaIterator<R> implements RandomAccessIterator {
 
-    private final Iterator<? extends T> iterator;
-    private final Function<? super T, ? extends R> mapper;
+    final Iterator<? extends T> iterator;
+    final Function<? super T, ? extends R> mapper;
 
     public ObjMap(
             @NotNull Iterator<? extends T> iterator,
@@ -26,4 +29,24 @@ public class ObjMap<T, R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.next());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super R> action) {
+        Operators.pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
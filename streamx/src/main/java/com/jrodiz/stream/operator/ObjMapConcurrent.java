@@ -0,0 +1,118 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.iterator.LsaIterator;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjMapConcurrent<T, R> extends LsaIterator<R> implements Runnable {
+
+    private final Iterator<? extends T> iterator;
+    private final int maxInFlight;
+    private final Function<? super T, ? extends R> mapper;
+    private final Executor executor;
+    // Calls in order of submission
+    private final ArrayDeque<Call> inFlight;
+    // Completed calls in order of completion, null for ordered mode
+    private final BlockingQueue<Call> completed;
+    private Call current;
+
+    public ObjMapConcurrent(
+            @NotNull Iterator<? extends T> iterator,
+            int maxInFlight,
+            @NotNull Function<? super T, ? extends R> mapper,
+            @NotNull Executor executor,
+            boolean ordered) {
+        this.iterator = iterator;
+        this.maxInFlight = maxInFlight;
+        this.mapper = mapper;
+        this.executor = executor;
+        inFlight = new ArrayDeque<Call>(Math.min(maxInFlight, 64));
+        completed = ordered ? null : new LinkedBlockingQueue<Call>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current != null) {
+            return true;
+        }
+        // Upstream is pulled only when the downstream asks for an element
+        while (inFlight.size() < maxInFlight && iterator.hasNext()) {
+            final Call call = new Call(iterator.next());
+            // Rejected call never completes, so it is tracked only after the executor accepted it
+            executor.execute(call);
+            inFlight.add(call);
+        }
+        if (inFlight.isEmpty()) {
+            return false;
+        }
+        if (completed == null) {
+            current = inFlight.poll();
+        } else {
+            try {
+                current = completed.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                run();
+                throw new RuntimeException(e);
+            }
+            inFlight.remove(current);
+        }
+        return true;
+    }
+
+    @Override
+    public R nextIteration() {
+        final Call call = current;
+        current = null;
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            run();
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new RuntimeException(cause);
+        }
+    }
+
+    // Close handler, cancels calls which are still running
+    @Override
+    public void run() {
+        Call call;
+        while ((call = inFlight.poll()) != null) {
+            call.cancel(true);
+        }
+        current = null;
+    }
+
+    private final class Call extends FutureTask<R> {
+
+        Call(final T value) {
+            super(new Callable<R>() {
+                @Override
+                public R call() {
+                    return mapper.apply(value);
+                }
+            });
+        }
+
+        @Override
+        protected void done() {
+            if (completed != null) {
+                completed.add(this);
+            }
+        }
+    }
+}
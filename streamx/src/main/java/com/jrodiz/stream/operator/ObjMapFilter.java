@@ -0,0 +1,91 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.Predicate;
+import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.iterator.PushIterator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjMapFilter<T, R> implements PushIterator<R> {
+
+    final Iterator<? extends T> iterator;
+    final Function<? super T, ? extends R> mapper;
+    final Predicate<? super R> predicate;
+    private boolean hasNext, hasNextEvaluated;
+    private R next;
+
+    public ObjMapFilter(
+            @NotNull Iterator<? extends T> iterator,
+            @NotNull Function<? super T, ? extends R> mapper,
+            @NotNull Predicate<? super R> predicate) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        this.predicate = predicate;
+    }
+
+    boolean canFuse() {
+        return !hasNextEvaluated;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!hasNextEvaluated) {
+            nextIteration();
+            hasNextEvaluated = true;
+        }
+        return hasNext;
+    }
+
+    @Override
+    public R next() {
+        if (!hasNextEvaluated) {
+            hasNext = hasNext();
+        }
+        if (!hasNext) {
+            throw new NoSuchElementException();
+        }
+        hasNextEvaluated = false;
+        return next;
+    }
+
+    private void nextIteration() {
+        while (iterator.hasNext()) {
+            next = mapper.apply(iterator.next());
+            if (predicate.test(next)) {
+                hasNext = true;
+                return;
+            }
+        }
+        hasNext = false;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove not supported");
+    }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super R> action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) return;
+            // Push element which was already evaluated by hasNext()
+            hasNextEvaluated = false;
+            action.accept(next);
+        }
+        Operators.pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                final R result = mapper.apply(value);
+                if (predicate.test(result)) {
+                    action.accept(result);
+                }
+            }
+        });
+        hasNext = false;
+        hasNextEvaluated = true;
+        next = null;
+    }
+}
@@ -1,11 +1,15 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.DoubleConsumer;
 import com.jrodiz.stream.function.ToDoubleFunction;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjMapToDouble<T> extends PrimitiveIterator.OfDouble {
+public class ObjMapToDouble<T> extends PrimitiveIterator.OfDouble implements RandomAccessIterator {
 
     private final Iterator<? extends T> iterator;
     private final ToDoubleFunction<? super T> mapper;
@@ -26,4 +30,24 @@ public class ObjMapToDouble<T> extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.next());
     }
+
+    @Override
+    public void pushRemainingDouble(@NotNull final DoubleConsumer action) {
+        Operators.pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
@@ -1,11 +1,15 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.IntConsumer;
 import com.jrodiz.stream.function.ToIntFunction;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjMapToInt<T> extends PrimitiveIterator.OfInt {
+public class ObjMapToInt<T> extends PrimitiveIterator.OfInt implements RandomAccessIterator {
 
     private final Iterator<? extends T> iterator;
     private final ToIntFunction<? super T> mapper;
@@ -26,4 +30,24 @@ public class ObjMapToInt<T> extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.next());
     }
+
+    @Override
+    public void pushRemainingInt(@NotNull final IntConsumer action) {
+        Operators.pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
@@ -1,11 +1,15 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.LongConsumer;
 import com.jrodiz.stream.function.ToLongFunction;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.PrimitiveIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjMapToLong<T> extends PrimitiveIterator.OfLong {
+public class ObjMapToLong<T> extends PrimitiveIterator.OfLong implements RandomAccessIterator {
 
     private final Iterator<? extends T> iterator;
     private final ToLongFunction<? super T> mapper;
@@ -26,4 +30,24 @@ public class ObjMapToLong<T> extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.next());
     }
+
+    @Override
+    public void pushRemainingLong(@NotNull final LongConsumer action) {
+        Operators.pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
+
+    @Override
+    public boolean advance(long n) {
+        return Operators.advance(iterator, n);
+    }
 }
@@ -0,0 +1,110 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.BiFunction;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.iterator.LsaExtIterator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjMergeJoin<T, U, K, R> extends LsaExtIterator<R> {
+
+    private final Iterator<? extends T> left;
+    private final Iterator<? extends U> right;
+    private final Function<? super T, ? extends K> leftKey;
+    private final Function<? super U, ? extends K> rightKey;
+    private final Comparator<? super K> comparator;
+    private final BiFunction<? super T, ? super U, ? extends R> combiner;
+    private final boolean outer;
+    // Right elements with the key of the current left element
+    private final List<U> run;
+    private K runKey;
+    private boolean hasRun;
+    private int runIndex;
+    // First right element after the run
+    private U pending;
+    private K pendingKey;
+    private boolean hasPending;
+    private boolean rightStarted;
+    private T current;
+
+    public ObjMergeJoin(
+            @NotNull Iterator<? extends T> left,
+            @NotNull Iterator<? extends U> right,
+            @NotNull Function<? super T, ? extends K> leftKey,
+            @NotNull Function<? super U, ? extends K> rightKey,
+            @NotNull Comparator<? super K> comparator,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner,
+            boolean outer) {
+        this.left = left;
+        this.right = right;
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.comparator = comparator;
+        this.combiner = combiner;
+        this.outer = outer;
+        run = new ArrayList<U>();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (true) {
+            if (runIndex < run.size()) {
+                next = combiner.apply(current, run.get(runIndex++));
+                hasNext = true;
+                return;
+            }
+            if (!left.hasNext()) {
+                hasNext = false;
+                current = null;
+                run.clear();
+                return;
+            }
+            current = left.next();
+            final K key = leftKey.apply(current);
+            if (!hasRun || comparator.compare(key, runKey) != 0) {
+                loadRun(key);
+            }
+            runIndex = 0;
+            if (run.isEmpty() && outer) {
+                next = combiner.apply(current, null);
+                hasNext = true;
+                return;
+            }
+        }
+    }
+
+    private void loadRun(K key) {
+        run.clear();
+        hasRun = false;
+        runKey = null;
+        if (!rightStarted) {
+            rightStarted = true;
+            fetch();
+        }
+        while (hasPending && comparator.compare(pendingKey, key) < 0) {
+            fetch();
+        }
+        if (hasPending && comparator.compare(pendingKey, key) == 0) {
+            runKey = pendingKey;
+            hasRun = true;
+            do {
+                run.add(pending);
+                fetch();
+            } while (hasPending && comparator.compare(pendingKey, runKey) == 0);
+        }
+    }
+
+    private void fetch() {
+        hasPending = right.hasNext();
+        if (hasPending) {
+            pending = right.next();
+            pendingKey = rightKey.apply(pending);
+        } else {
+            pending = null;
+            pendingKey = null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.iterator.LsaIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjMergeSorted<T> extends LsaIterator<T> implements SizedIterator {
+
+    private final List<Iterator<? extends T>> iterators;
+    private final Comparator<? super T> comparator;
+    // Min-heap of iterator indices, ordered by their head elements
+    private final int[] heap;
+    private final Object[] heads;
+    private int heapSize;
+    private boolean isInit;
+
+    public ObjMergeSorted(
+            @NotNull List<? extends Iterator<? extends T>> iterators,
+            @NotNull Comparator<? super T> comparator) {
+        this.iterators = new ArrayList<Iterator<? extends T>>(iterators);
+        this.comparator = comparator;
+        heap = new int[this.iterators.size()];
+        heads = new Object[this.iterators.size()];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!isInit) {
+            init();
+        }
+        return heapSize > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T nextIteration() {
+        final int top = heap[0];
+        final T value = (T) heads[top];
+        final Iterator<? extends T> iterator = iterators.get(top);
+        if (iterator.hasNext()) {
+            heads[top] = iterator.next();
+        } else {
+            heads[top] = null;
+            heap[0] = heap[--heapSize];
+        }
+        siftDown(0);
+        return value;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        long size = isInit ? heapSize : 0;
+        for (Iterator<? extends T> iterator : iterators) {
+            final long s = Operators.exactSize(iterator);
+            if (s < 0) return -1;
+            size += s;
+        }
+        return size;
+    }
+
+    private void init() {
+        isInit = true;
+        for (int i = 0; i < heap.length; i++) {
+            final Iterator<? extends T> iterator = iterators.get(i);
+            if (iterator.hasNext()) {
+                heads[i] = iterator.next();
+                heap[heapSize++] = i;
+            }
+        }
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    private void siftDown(int index) {
+        final int[] h = heap;
+        final int size = heapSize;
+        final int value = h[index];
+        int child;
+        while ((child = (index << 1) + 1) < size) {
+            if (child + 1 < size && less(h[child + 1], h[child])) {
+                child++;
+            }
+            if (!less(h[child], value)) break;
+            h[index] = h[child];
+            index = child;
+        }
+        h[index] = value;
+    }
+
+    // Equal elements are taken from the iterator with a lower index, so merge is stable
+    @SuppressWarnings("unchecked")
+    private boolean less(int i, int j) {
+        final int result = comparator.compare((T) heads[i], (T) heads[j]);
+        return (result < 0) || (result == 0 && i < j);
+    }
+}
@@ -0,0 +1,152 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.PageFetcher;
+import com.jrodiz.stream.iterator.LsaIterator;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjPages<C, T> extends LsaIterator<T> implements Runnable {
+
+    private final PageFetcher<C, ? extends T> fetcher;
+    private final int prefetchPages;
+    private final Executor executor;
+    private final Runnable fetchTask;
+    // Guards the state shared with the fetch task
+    private final Object lock;
+    private final ArrayDeque<PageFetcher.Page<C, ? extends T>> ready;
+    private C nextCursor;
+    private boolean lastFetched;
+    private boolean fetching;
+    private boolean cancelled;
+    private Throwable error;
+    // Consumer state
+    private List<? extends T> page;
+    private int index;
+    private boolean finished;
+
+    public ObjPages(@NotNull PageFetcher<C, ? extends T> fetcher, int prefetchPages, @NotNull Executor executor) {
+        this.fetcher = fetcher;
+        this.prefetchPages = prefetchPages;
+        this.executor = executor;
+        lock = new Object();
+        ready = new ArrayDeque<PageFetcher.Page<C, ? extends T>>();
+        fetchTask = new Runnable() {
+            @Override
+            public void run() {
+                fetchPages();
+            }
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (page == null || index >= page.size()) {
+            if (finished) return false;
+            page = takePage();
+            index = 0;
+            if (page == null) {
+                finished = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T nextIteration() {
+        return page.get(index++);
+    }
+
+    // Close handler, stops fetching and drops prefetched pages
+    @Override
+    public void run() {
+        synchronized (lock) {
+            cancelled = true;
+            ready.clear();
+        }
+        page = null;
+        finished = true;
+    }
+
+    private List<? extends T> takePage() {
+        synchronized (lock) {
+            while (ready.isEmpty()) {
+                if (error != null) {
+                    final Throwable e = error;
+                    error = null;
+                    lastFetched = true;
+                    if (e instanceof RuntimeException) throw (RuntimeException) e;
+                    if (e instanceof Error) throw (Error) e;
+                    throw new RuntimeException(e);
+                }
+                if (lastFetched || cancelled) {
+                    return null;
+                }
+                startFetching();
+                if (!fetching) {
+                    // Fetched synchronously by the executor, or cannot fetch anymore
+                    continue;
+                }
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelled = true;
+                    throw new RuntimeException(e);
+                }
+            }
+            final PageFetcher.Page<C, ? extends T> result = ready.poll();
+            // The consumed page frees a place for the next one
+            startFetching();
+            return result.getElements();
+        }
+    }
+
+    // Called with the lock held
+    private void startFetching() {
+        if (fetching || lastFetched || cancelled || error != null) return;
+        fetching = true;
+        try {
+            executor.execute(fetchTask);
+        } catch (Throwable e) {
+            // Rejected by the executor, rethrown to the consumer like a fetch error
+            fetching = false;
+            error = e;
+        }
+    }
+
+    // Fetch task, fetches pages one after another until prefetchPages are ready
+    private void fetchPages() {
+        while (true) {
+            final C cursor;
+            synchronized (lock) {
+                if (cancelled || lastFetched || ready.size() >= prefetchPages) {
+                    fetching = false;
+                    return;
+                }
+                cursor = nextCursor;
+            }
+            final PageFetcher.Page<C, ? extends T> fetched;
+            try {
+                fetched = fetcher.fetch(cursor);
+            } catch (Throwable e) {
+                synchronized (lock) {
+                    error = e;
+                    fetching = false;
+                    lock.notifyAll();
+                }
+                return;
+            }
+            synchronized (lock) {
+                if (!cancelled) {
+                    ready.add(fetched);
+                }
+                nextCursor = fetched.getNextCursor();
+                lastFetched = (nextCursor == null);
+                lock.notifyAll();
+            }
+        }
+    }
+}
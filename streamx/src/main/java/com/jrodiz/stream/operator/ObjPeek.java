@@ -1,14 +1,16 @@
 package com.jrodiz.stream.operator;
 
 import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.LsaIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjPeek<T> extends LsaIterator<T> {
+public class ObjPeek<T> extends LsaIterator<T> implements SizedIterator {
 
-    private final Iterator<? extends T> iterator;
-    private final Consumer<? super T> action;
+    final Iterator<? extends T> iterator;
+    final Consumer<? super T> action;
 
     public ObjPeek(
             @NotNull Iterator<? extends T> iterator,
@@ -28,4 +30,20 @@ public class ObjPeek<T> extends LsaIterator<T> {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super T> consumer) {
+        Operators.pushRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                action.accept(value);
+                consumer.accept(value);
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.exactSize(iterator);
+    }
 }
@@ -0,0 +1,68 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.iterator.LsaIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
+import com.jrodiz.stream.iterator.SplittableIterator;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjReverse<T> extends LsaIterator<T> implements RandomAccessIterator {
+
+    private final Iterator<? extends T> iterator;
+    private List<? extends T> list;
+    private int index;
+
+    public ObjReverse(@NotNull Iterator<? extends T> iterator) {
+        this.iterator = iterator;
+    }
+
+    // Mapping does not depend on the order, so it is moved after the reversal
+    // and the indexed source below is read backwards without buffering
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> Iterator<? extends T> of(@NotNull Iterator<? extends T> iterator) {
+        if (iterator instanceof ObjMap) {
+            final ObjMap<Object, ? extends T> map = (ObjMap<Object, ? extends T>) iterator;
+            return new ObjMap<Object, T>(of(map.iterator), map.mapper);
+        }
+        return new ObjReverse<T>(iterator);
+    }
+
+    @Override
+    public boolean hasNext() {
+        ensureList();
+        return index > 0;
+    }
+
+    @Override
+    public T nextIteration() {
+        return list.get(--index);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (list == null) {
+            return Operators.exactSize(iterator);
+        }
+        return index;
+    }
+
+    @Override
+    public boolean advance(long n) {
+        ensureList();
+        index -= (int) Math.min(n, index);
+        return true;
+    }
+
+    private void ensureList() {
+        if (list != null) return;
+        List<? extends T> remaining = null;
+        if (iterator instanceof SplittableIterator) {
+            remaining = ((SplittableIterator<? extends T>) iterator).remaining();
+        }
+        list = (remaining != null) ? remaining : Operators.toList(iterator);
+        index = list.size();
+    }
+}
@@ -0,0 +1,109 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.Collector;
+import com.jrodiz.stream.TimeWindow;
+import com.jrodiz.stream.function.BiConsumer;
+import com.jrodiz.stream.function.ToLongFunction;
+import com.jrodiz.stream.iterator.LsaExtIterator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjSessionWindow<T, A, R> extends LsaExtIterator<TimeWindow<R>> {
+
+    private final Iterator<? extends T> iterator;
+    private final ToLongFunction<? super T> timestampFunction;
+    private final long gap;
+    private final long allowedLateness;
+    private final Collector<? super T, A, R> collector;
+    private final BiConsumer<A, ? super T> accumulator;
+    // Open sessions by start, they never overlap
+    private final TreeMap<Long, Session<A>> sessions;
+    private long watermark;
+    private boolean exhausted;
+
+    public ObjSessionWindow(
+            @NotNull Iterator<? extends T> iterator,
+            @NotNull ToLongFunction<? super T> timestampFunction,
+            long gap, long allowedLateness,
+            @NotNull Collector<? super T, A, R> collector) {
+        this.iterator = iterator;
+        this.timestampFunction = timestampFunction;
+        this.gap = gap;
+        this.allowedLateness = allowedLateness;
+        this.collector = collector;
+        accumulator = collector.accumulator();
+        sessions = new TreeMap<Long, Session<A>>();
+        watermark = Long.MIN_VALUE;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (true) {
+            if (!sessions.isEmpty() && (exhausted || sessions.firstEntry().getValue().end <= watermark)) {
+                final Session<A> session = sessions.pollFirstEntry().getValue();
+                next = new TimeWindow<R>(session.start, session.end,
+                        collector.finisher().apply(session.container));
+                hasNext = true;
+                return;
+            }
+            if (exhausted) {
+                hasNext = false;
+                return;
+            }
+            if (iterator.hasNext()) {
+                add(iterator.next());
+            } else {
+                exhausted = true;
+            }
+        }
+    }
+
+    private void add(T element) {
+        final long timestamp = timestampFunction.applyAsLong(element);
+        watermark = Math.max(watermark, timestamp - allowedLateness);
+        final long end = timestamp + gap;
+        // Sessions overlapping [timestamp, end), from the latest one
+        Map.Entry<Long, Session<A>> entry = sessions.lowerEntry(end);
+        if (entry == null || entry.getValue().end <= timestamp) {
+            if (end <= watermark) {
+                // Late element, its session would be already closed
+                return;
+            }
+            final A container = collector.supplier().get();
+            accumulator.accept(container, element);
+            sessions.put(timestamp, new Session<A>(timestamp, end, container));
+            return;
+        }
+        Session<A> merged = entry.getValue();
+        accumulator.accept(merged.container, element);
+        merged.end = Math.max(merged.end, end);
+        while ((entry = sessions.lowerEntry(merged.start)) != null
+                && entry.getValue().end > timestamp) {
+            // The element bridges the gap between two sessions
+            final Session<A> previous = entry.getValue();
+            sessions.remove(merged.start);
+            previous.container = collector.combiner().apply(previous.container, merged.container);
+            previous.end = merged.end;
+            merged = previous;
+        }
+        if (timestamp < merged.start) {
+            sessions.remove(merged.start);
+            merged.start = timestamp;
+            sessions.put(timestamp, merged);
+        }
+    }
+
+    private static final class Session<A> {
+        long start;
+        long end;
+        A container;
+
+        Session(long start, long end, A container) {
+            this.start = start;
+            this.end = end;
+            this.container = container;
+        }
+    }
+}
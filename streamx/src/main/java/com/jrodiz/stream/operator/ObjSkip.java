@@ -1,10 +1,12 @@
 package com.jrodiz.stream.operator;
 
+import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.LsaIterator;
+import com.jrodiz.stream.iterator.RandomAccessIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjSkip<T> extends LsaIterator<T> {
+public class ObjSkip<T> extends LsaIterator<T> implements RandomAccessIterator {
 
     private final Iterator<? extends T> iterator;
     private final long n;
@@ -18,6 +20,9 @@ public class ObjSkip<T> extends LsaIterator<T> {
 
     @Override
     public boolean hasNext() {
+        if (skipped < n && Operators.advance(iterator, n - skipped)) {
+            skipped = n;
+        }
         while (skipped < n) {
             if (!iterator.hasNext()) {
                 return false;
@@ -32,4 +37,21 @@ public class ObjSkip<T> extends LsaIterator<T> {
     public T nextIteration() {
         return iterator.next();
     }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = Operators.exactSize(iterator);
+        if (size < 0) return -1;
+        return Math.max(0L, size - (n - skipped));
+    }
+
+    @Override
+    public boolean advance(long count) {
+        // Advanced in two steps, the sum may overflow on ranges of more than 2^63 elements
+        if (!Operators.advance(iterator, n - skipped)) {
+            return false;
+        }
+        skipped = n;
+        return Operators.advance(iterator, count);
+    }
 }
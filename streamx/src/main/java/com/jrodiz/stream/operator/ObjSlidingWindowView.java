@@ -0,0 +1,53 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.internal.RingBuffer;
+import com.jrodiz.stream.iterator.LsaIterator;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjSlidingWindowView<T> extends LsaIterator<List<T>> {
+
+    private final Iterator<? extends T> iterator;
+    private final int windowSize;
+    private final int stepWidth;
+    private final RingBuffer<T> window;
+    private boolean emitted;
+    private int skipCount;
+
+    public ObjSlidingWindowView(
+            @NotNull Iterator<? extends T> iterator,
+            int windowSize, int stepWidth) {
+        this.iterator = iterator;
+        this.windowSize = windowSize;
+        this.stepWidth = stepWidth;
+        window = new RingBuffer<T>(windowSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        // Skipping elements between windows does not change the emitted window
+        while (skipCount > 0 && iterator.hasNext()) {
+            iterator.next();
+            skipCount--;
+        }
+        return iterator.hasNext();
+    }
+
+    @Override
+    public List<T> nextIteration() {
+        if (emitted) {
+            // Slide the emitted window only when the next one is pulled
+            window.removeFirst(stepWidth);
+        }
+        emitted = true;
+        int i = window.size();
+        while (i < windowSize && iterator.hasNext()) {
+            window.addLast(iterator.next());
+            i++;
+        }
+        // if the stepWidth is greater than the windowSize, skip (stepWidth - windowSize) elements
+        skipCount = Math.max(0, stepWidth - windowSize);
+        return window;
+    }
+}
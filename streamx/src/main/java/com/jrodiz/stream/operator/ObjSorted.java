@@ -2,6 +2,7 @@ package com.jrodiz.stream.operator;
 
 import com.jrodiz.stream.internal.Operators;
 import com.jrodiz.stream.iterator.LsaExtIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -9,10 +10,10 @@ import java.util.List;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public class ObjSorted<T> extends LsaExtIterator<T> {
+public class ObjSorted<T> extends LsaExtIterator<T> implements SizedIterator {
 
-    private final Iterator<? extends T> iterator;
-    private final Comparator<? super T> comparator;
+    final Iterator<? extends T> iterator;
+    final Comparator<? super T> comparator;
     private Iterator<T> sortedIterator;
 
     public ObjSorted(
@@ -22,6 +23,10 @@ public class ObjSorted<T> extends LsaExtIterator<T> {
         this.comparator = comparator;
     }
 
+    boolean canFuse() {
+        return !isInit;
+    }
+
     @Override
     protected void nextIteration() {
         if (!isInit) {
@@ -34,4 +39,10 @@ public class ObjSorted<T> extends LsaExtIterator<T> {
             next = sortedIterator.next();
         }
     }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        // Size is only known before the upstream is drained
+        return isInit ? -1 : Operators.exactSize(iterator);
+    }
 }
@@ -0,0 +1,81 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.Collector;
+import com.jrodiz.stream.TimeWindow;
+import com.jrodiz.stream.function.BiConsumer;
+import com.jrodiz.stream.function.ToLongFunction;
+import com.jrodiz.stream.iterator.LsaExtIterator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjTimeWindow<T, A, R> extends LsaExtIterator<TimeWindow<R>> {
+
+    private final Iterator<? extends T> iterator;
+    private final ToLongFunction<? super T> timestampFunction;
+    private final long size;
+    private final long slide;
+    private final long allowedLateness;
+    private final Collector<? super T, A, R> collector;
+    private final BiConsumer<A, ? super T> accumulator;
+    // Containers of open windows by window start
+    private final TreeMap<Long, A> windows;
+    private long watermark;
+    private boolean exhausted;
+
+    public ObjTimeWindow(
+            @NotNull Iterator<? extends T> iterator,
+            @NotNull ToLongFunction<? super T> timestampFunction,
+            long size, long slide, long allowedLateness,
+            @NotNull Collector<? super T, A, R> collector) {
+        this.iterator = iterator;
+        this.timestampFunction = timestampFunction;
+        this.size = size;
+        this.slide = slide;
+        this.allowedLateness = allowedLateness;
+        this.collector = collector;
+        accumulator = collector.accumulator();
+        windows = new TreeMap<Long, A>();
+        watermark = Long.MIN_VALUE;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (true) {
+            if (!windows.isEmpty() && (exhausted || windows.firstKey() + size <= watermark)) {
+                final Map.Entry<Long, A> window = windows.pollFirstEntry();
+                final long start = window.getKey();
+                next = new TimeWindow<R>(start, start + size, collector.finisher().apply(window.getValue()));
+                hasNext = true;
+                return;
+            }
+            if (exhausted) {
+                hasNext = false;
+                return;
+            }
+            if (iterator.hasNext()) {
+                add(iterator.next());
+            } else {
+                exhausted = true;
+            }
+        }
+    }
+
+    private void add(T element) {
+        final long timestamp = timestampFunction.applyAsLong(element);
+        watermark = Math.max(watermark, timestamp - allowedLateness);
+        // The latest window containing the timestamp, then earlier ones while they contain it.
+        // Windows which end before the watermark are already closed, late elements are dropped.
+        final long offset = timestamp % slide;
+        long start = timestamp - (offset < 0 ? offset + slide : offset);
+        for (; start > timestamp - size && start + size > watermark; start -= slide) {
+            A container = windows.get(start);
+            if (container == null) {
+                container = collector.supplier().get();
+                windows.put(start, container);
+            }
+            accumulator.accept(container, element);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.jrodiz.stream.operator;
+
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.internal.Operators;
+import com.jrodiz.stream.iterator.LsaExtIterator;
+import com.jrodiz.stream.iterator.SizedIterator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class ObjTopK<T> extends LsaExtIterator<T> implements SizedIterator {
+
+    private final Iterator<? extends T> iterator;
+    private final long k;
+    private final Comparator<? super T> comparator;
+    private Object[] array;
+    private int index;
+
+    public ObjTopK(
+            @NotNull Iterator<? extends T> iterator, long k,
+            @Nullable Comparator<? super T> comparator) {
+        this.iterator = iterator;
+        this.k = k;
+        this.comparator = comparator;
+        index = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void nextIteration() {
+        if (!isInit) {
+            if (k == 0) {
+                // Nothing is kept, so the source is not consumed
+                array = new Object[0];
+            } else {
+                final Heap<T> heap = new Heap<T>(k, comparator);
+                Operators.pushRemaining(iterator, heap);
+                array = heap.toSortedArray();
+            }
+        }
+        hasNext = index < array.length;
+        if (hasNext) {
+            next = (T) array[index];
+            array[index++] = null;
+        }
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (isInit) return -1;
+        final long size = Operators.exactSize(iterator);
+        return (size < 0) ? -1 : Math.min(size, k);
+    }
+
+    // Max-heap of at most k elements, the root is the worst of kept elements.
+    // Ties are resolved by encounter order to keep the sort stable.
+    private static final class Heap<T> implements Consumer<T> {
+
+        private final long k;
+        private final Comparator<? super T> comparator;
+        private Object[] elements;
+        private long[] order;
+        private int size;
+        private long count;
+
+        Heap(long k, @Nullable Comparator<? super T> comparator) {
+            this.k = k;
+            this.comparator = comparator;
+            final int capacity = (int) Math.min(k, 16);
+            elements = new Object[capacity];
+            order = new long[capacity];
+        }
+
+        @Override
+        public void accept(T value) {
+            final long position = count++;
+            if (size < k) {
+                if (size == elements.length) {
+                    final int capacity = (int) Math.min(k, size * 2L);
+                    elements = Arrays.copyOf(elements, capacity);
+                    order = Arrays.copyOf(order, capacity);
+                }
+                siftUp(size++, value, position);
+            } else if (compare(value, element(0)) < 0) {
+                // Later element which is equal to the root is worse, so it is skipped
+                siftDown(0, value, position);
+            }
+        }
+
+        @NotNull
+        Object[] toSortedArray() {
+            final Object[] result = new Object[size];
+            while (size > 0) {
+                result[size - 1] = elements[0];
+                final int last = --size;
+                final T value = element(last);
+                final long position = order[last];
+                elements[last] = null;
+                if (last > 0) {
+                    siftDown(0, value, position);
+                }
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T element(int i) {
+            return (T) elements[i];
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compare(T a, T b) {
+            if (comparator == null) {
+                return ((Comparable<Object>) a).compareTo(b);
+            }
+            return comparator.compare(a, b);
+        }
+
+        private boolean isWorse(T a, long orderA, int i) {
+            final int result = compare(a, element(i));
+            return (result > 0) || (result == 0 && orderA > order[i]);
+        }
+
+        private void siftUp(int i, T value, long position) {
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (!isWorse(value, position, parent)) break;
+                elements[i] = elements[parent];
+                order[i] = order[parent];
+                i = parent;
+            }
+            elements[i] = value;
+            order[i] = position;
+        }
+
+        private void siftDown(int i, T value, long position) {
+            final int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                final int right = child + 1;
+                if (right < size && isWorse(element(right), order[right], child)) {
+                    child = right;
+                }
+                if (isWorse(value, position, child)) break;
+                elements[i] = elements[child];
+                order[i] = order[child];
+                i = child;
+            }
+            elements[i] = value;
+            order[i] = position;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.IntUnaryOperator;
+import com.jrodiz.stream.function.UnaryOperator;
+import com.jrodiz.stream.iterator.PrimitiveIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class AsyncTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test(timeout = 10000)
+    public void testAsync() {
+        assertEquals(Stream.range(0, 10000).toList(),
+                Stream.range(0, 10000).async(16, executor).toList());
+    }
+
+    @Test(timeout = 10000)
+    public void testAsyncRethrowsExceptionAfterBufferedElements() {
+        final Iterator<? extends Integer> iterator = Stream.range(0, 10)
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer value) {
+                        if (value == 5) throw new IllegalStateException("upstream failed");
+                        return value;
+                    }
+                })
+                .async(64, executor)
+                .iterator();
+        final List<Integer> received = new ArrayList<Integer>();
+        try {
+            while (iterator.hasNext()) {
+                received.add(iterator.next());
+            }
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            assertEquals("upstream failed", e.getMessage());
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), received);
+    }
+
+    @Test(timeout = 10000)
+    public void testIntAsyncRethrowsExceptionAfterBufferedElements() {
+        final PrimitiveIterator.OfInt iterator = IntStream.range(0, 10)
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int applyAsInt(int value) {
+                        if (value == 3) throw new IllegalStateException("upstream failed");
+                        return value;
+                    }
+                })
+                .async(64, executor)
+                .iterator();
+        int sum = 0;
+        try {
+            while (iterator.hasNext()) {
+                sum += iterator.nextInt();
+            }
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            assertEquals("upstream failed", e.getMessage());
+        }
+        assertEquals(0 + 1 + 2, sum);
+    }
+
+    @Test(timeout = 10000)
+    public void testCloseStopsProducerParkedOnFullBuffer() throws Exception {
+        final AtomicInteger produced = new AtomicInteger();
+        final AtomicBoolean upstreamClosed = new AtomicBoolean();
+        final Stream<Integer> stream = Stream.iterate(0, new UnaryOperator<Integer>() {
+                    @Override
+                    public Integer apply(Integer value) {
+                        produced.incrementAndGet();
+                        return value + 1;
+                    }
+                })
+                .onClose(new Runnable() {
+                    @Override
+                    public void run() {
+                        upstreamClosed.set(true);
+                    }
+                })
+                .async(4, executor);
+        final Iterator<? extends Integer> iterator = stream.iterator();
+        assertEquals(0, (int) iterator.next());
+
+        // Wait until the producer fills the buffer and parks
+        int last;
+        do {
+            last = produced.get();
+            Thread.sleep(50);
+        } while (produced.get() != last);
+        assertTrue("producer is bounded by the buffer, produced " + last, last <= 8);
+
+        stream.close();
+        assertTrue(upstreamClosed.get());
+        // The single executor thread runs the next task only after the producer returns
+        final Future<?> next = executor.submit(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+        next.get(5, TimeUnit.SECONDS);
+        assertEquals(last, produced.get());
+    }
+}
@@ -0,0 +1,211 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Collector;
+import com.jrodiz.stream.Collectors;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.BiFunction;
+import com.jrodiz.stream.function.BinaryOperator;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.Predicate;
+import com.jrodiz.stream.function.ToDoubleFunction;
+import com.jrodiz.stream.function.ToIntFunction;
+import com.jrodiz.stream.function.ToLongFunction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public final class CollectorsCombinerTest {
+
+    private static final List<Integer> NUMBERS = Stream.range(0, 41).toList();
+
+    private static final List<String> WORDS = Arrays.asList("a", "bb", "c", "dd", "e", "ff", "g");
+
+    private static final Function<Integer, Integer> MOD_5 = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            return value % 5;
+        }
+    };
+
+    private static final Function<Integer, String> TO_STRING = new Function<Integer, String>() {
+        @Override
+        public String apply(Integer value) {
+            return String.valueOf(value);
+        }
+    };
+
+    private static final Predicate<Integer> EVEN = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer value) {
+            return value % 2 == 0;
+        }
+    };
+
+    private static final BinaryOperator<Integer> SUM = new BinaryOperator<Integer>() {
+        @Override
+        public Integer apply(Integer a, Integer b) {
+            return a + b;
+        }
+    };
+
+    // Keeps the order of merged values
+    private static final BinaryOperator<String> CONCAT = new BinaryOperator<String>() {
+        @Override
+        public String apply(String a, String b) {
+            return a + "+" + b;
+        }
+    };
+
+    // Empty string is its identity, the order of operands is kept
+    private static final BinaryOperator<String> APPEND = new BinaryOperator<String>() {
+        @Override
+        public String apply(String a, String b) {
+            return a + b;
+        }
+    };
+
+    private static final ToIntFunction<Integer> AS_INT = new ToIntFunction<Integer>() {
+        @Override
+        public int applyAsInt(Integer value) {
+            return value;
+        }
+    };
+
+    private static final ToLongFunction<Integer> AS_LONG = new ToLongFunction<Integer>() {
+        @Override
+        public long applyAsLong(Integer value) {
+            return value * 1000000000L;
+        }
+    };
+
+    private static final ToDoubleFunction<Integer> AS_DOUBLE = new ToDoubleFunction<Integer>() {
+        @Override
+        public double applyAsDouble(Integer value) {
+            return value / 4.0;
+        }
+    };
+
+    @Test
+    public void testCollectionCombiners() {
+        assertCombinerMatchesSequential(Collectors.<Integer>toList(), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.<Integer>toUnmodifiableList(), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.<Integer>toSet(), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.<Integer>toUnmodifiableSet(), NUMBERS);
+    }
+
+    @Test
+    public void testMapCombiners() {
+        assertCombinerMatchesSequential(Collectors.<Integer, String>toMap(TO_STRING), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.toMap(TO_STRING, MOD_5), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.toUnmodifiableMap(TO_STRING, MOD_5), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.toMap(MOD_5, TO_STRING, CONCAT), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.toUnmodifiableMap(MOD_5, TO_STRING, CONCAT), NUMBERS);
+    }
+
+    @Test
+    public void testUniqueKeysCombinerRejectsKeyOfOtherContainer() {
+        try {
+            collectSplit(Collectors.toMap(MOD_5, TO_STRING), Arrays.asList(1, 2, 6), 2);
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            assertEquals("Duplicate key 1 (attempted merging values 1 and 6)", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testJoiningCombiner() {
+        assertCombinerMatchesSequential(Collectors.joining(), WORDS);
+        assertCombinerMatchesSequential(Collectors.joining(", "), WORDS);
+        assertCombinerMatchesSequential(Collectors.joining(", ", "[", "]"), WORDS);
+        assertCombinerMatchesSequential(Collectors.joining(", ", "<<", ">>", "EMPTY"), WORDS);
+        assertEquals("EMPTY", collectSplit(Collectors.joining(", ", "<<", ">>", "EMPTY"),
+                Collections.<String>emptyList(), 0));
+    }
+
+    @Test
+    public void testArithmeticCombiners() {
+        assertCombinerMatchesSequential(Collectors.averagingInt(AS_INT), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.averagingLong(AS_LONG), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.averagingDouble(AS_DOUBLE), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.summingInt(AS_INT), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.summingLong(AS_LONG), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.summingDouble(AS_DOUBLE), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.<Integer>counting(), NUMBERS);
+    }
+
+    @Test
+    public void testReducingCombiners() {
+        assertCombinerMatchesSequential(Collectors.reducing(0, SUM), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.reducing("", TO_STRING, APPEND), NUMBERS);
+    }
+
+    @Test
+    public void testDownstreamCombiners() {
+        assertCombinerMatchesSequential(Collectors.filtering(EVEN, Collectors.<Integer>toList()), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.mapping(TO_STRING, Collectors.joining(",")), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.flatMapping(new Function<Integer, Stream<Integer>>() {
+            @Override
+            public Stream<Integer> apply(Integer value) {
+                return Stream.of(value, -value);
+            }
+        }, Collectors.<Integer>toList()), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.collectingAndThen(Collectors.<Integer>toList(),
+                new Function<List<Integer>, Integer>() {
+                    @Override
+                    public Integer apply(List<Integer> list) {
+                        return list.size();
+                    }
+                }), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.teeing(
+                Collectors.<Integer>counting(),
+                Collectors.mapping(TO_STRING, Collectors.joining()),
+                new BiFunction<Long, String, String>() {
+                    @Override
+                    public String apply(Long count, String joined) {
+                        return count + ":" + joined;
+                    }
+                }), NUMBERS);
+    }
+
+    @Test
+    public void testGroupingCombiners() {
+        assertCombinerMatchesSequential(Collectors.groupingBy(MOD_5), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.groupingBy(MOD_5,
+                Collectors.mapping(TO_STRING, Collectors.joining(","))), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.partitioningBy(EVEN), NUMBERS);
+        assertCombinerMatchesSequential(Collectors.partitioningBy(EVEN,
+                Collectors.reducing("", TO_STRING, APPEND)), NUMBERS);
+
+        // Same key in both containers keeps the order of values
+        final Map<Integer, List<Integer>> groups = collectSplit(Collectors.groupingBy(MOD_5), NUMBERS, 20);
+        assertEquals(Arrays.asList(1, 6, 11, 16, 21, 26, 31, 36), groups.get(1));
+    }
+
+    // Collects both parts of each split separately and combines them
+    private static <T, A, R> void assertCombinerMatchesSequential(
+            Collector<? super T, A, R> collector, List<T> elements) {
+        final R expected = Stream.of(elements).collect(collector);
+        final int size = elements.size();
+        for (int split : new int[] {0, 1, size / 3, size / 2, size - 1, size}) {
+            assertEquals("split at " + split, expected, collectSplit(collector, elements, split));
+        }
+    }
+
+    private static <T, A, R> R collectSplit(Collector<? super T, A, R> collector, List<T> elements, int split) {
+        final A left = collector.supplier().get();
+        for (T element : elements.subList(0, split)) {
+            collector.accumulator().accept(left, element);
+        }
+        final A right = collector.supplier().get();
+        for (T element : new ArrayList<T>(elements.subList(split, elements.size()))) {
+            collector.accumulator().accept(right, element);
+        }
+        return collector.finisher().apply(collector.combiner().apply(left, right));
+    }
+}
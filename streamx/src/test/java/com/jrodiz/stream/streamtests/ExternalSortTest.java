@@ -0,0 +1,118 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.Serializer;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.IntComparator;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public final class ExternalSortTest {
+
+    // 20000 elements in runs of 2 need two merge passes before the final merge
+    private static final int COUNT = 20000;
+    private static final int BUDGET = 2;
+
+    private static final Serializer<int[]> PAIR_SERIALIZER = new Serializer<int[]>() {
+        @Override
+        public void write(DataOutput out, int[] value) throws IOException {
+            out.writeInt(value[0]);
+            out.writeInt(value[1]);
+        }
+
+        @Override
+        public int[] read(DataInput in) throws IOException {
+            return new int[] {in.readInt(), in.readInt()};
+        }
+    };
+
+    private static final Comparator<int[]> BY_KEY = new Comparator<int[]>() {
+        @Override
+        public int compare(int[] o1, int[] o2) {
+            return (o1[0] < o2[0]) ? -1 : ((o1[0] == o2[0]) ? 0 : 1);
+        }
+    };
+
+    private static final Serializer<Integer> INT_SERIALIZER = new Serializer<Integer>() {
+        @Override
+        public void write(DataOutput out, Integer value) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    @Test
+    public void testExternalSortIsStableAndMatchesInMemorySort() {
+        // Pairs of key and encounter index, many equal keys
+        final Random random = new Random(42);
+        final List<int[]> pairs = new ArrayList<int[]>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            pairs.add(new int[] {random.nextInt(100), i});
+        }
+        final int spillFiles = spillFileCount();
+
+        final List<int[]> expected = Stream.of(pairs).sorted(BY_KEY).toList();
+        final List<int[]> actual = Stream.of(pairs).sorted(BY_KEY, BUDGET, PAIR_SERIALIZER).toList();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+        assertEquals(spillFiles, spillFileCount());
+    }
+
+    @Test
+    public void testExternalSortNaturalOrder() {
+        final Random random = new Random(1);
+        final List<Integer> values = new ArrayList<Integer>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            values.add(random.nextInt());
+        }
+        assertEquals(Stream.of(values).sorted().toList(),
+                Stream.of(values).sorted(null, BUDGET, INT_SERIALIZER).toList());
+    }
+
+    @Test
+    public void testIntExternalSortMatchesInMemorySort() {
+        final int[] values = new int[COUNT];
+        final Random random = new Random(7);
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = random.nextInt(1000) - 500;
+        }
+        assertArrayEquals(IntStream.of(values).sortedBy(IntComparator.Util.reverseOrder()).toArray(),
+                IntStream.of(values).sortedBy(IntComparator.Util.reverseOrder(), 1).toArray());
+    }
+
+    @Test
+    public void testExternalSortDeletesFilesOnClose() {
+        final int spillFiles = spillFileCount();
+        final Stream<Integer> stream = Stream.range(0, 1000).sorted(null, BUDGET, INT_SERIALIZER);
+        assertEquals(0, (int) stream.findFirst().get());
+        stream.close();
+        assertEquals(spillFiles, spillFileCount());
+    }
+
+    private static int spillFileCount() {
+        final String[] files = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.startsWith("streamx") && name.endsWith(".spill");
+            }
+        });
+        return (files == null) ? 0 : files.length;
+    }
+}
@@ -0,0 +1,147 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.MetricsSink;
+import com.jrodiz.stream.StageMetrics;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.IntPredicate;
+import com.jrodiz.stream.function.Predicate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class InstrumentedTest {
+
+    private static final Predicate<Integer> EVEN = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer value) {
+            return value % 2 == 0;
+        }
+    };
+
+    private static final Function<Integer, Integer> TRIPLE = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            return value * 3;
+        }
+    };
+
+    @Test
+    public void testStageCountsAndSelectivity() {
+        final RecordingSink sink = new RecordingSink();
+        final List<Integer> result = Stream.range(0, 10)
+                .instrumented(sink)
+                .filter(EVEN)
+                .map(TRIPLE)
+                .toList();
+        assertEquals(Arrays.asList(0, 6, 12, 18, 24), result);
+        assertEquals(1, sink.reports.size());
+
+        final List<StageMetrics> stages = sink.reports.get(0);
+        assertEquals(3, stages.size());
+        assertStage(stages.get(0), 0, 10, 10);
+        assertStage(stages.get(1), 1, 10, 5);
+        assertStage(stages.get(2), 2, 5, 5);
+        assertEquals("ObjFilter", stages.get(1).getName());
+        assertEquals("ObjMap", stages.get(2).getName());
+        assertEquals(1d, stages.get(0).getSelectivity(), 0d);
+        assertEquals(0.5d, stages.get(1).getSelectivity(), 0d);
+        for (StageMetrics stage : stages) {
+            assertTrue(stage.getSelfTimeNanos() >= 0);
+            assertTrue(stage.getCumulativeTimeNanos() >= stage.getSelfTimeNanos());
+        }
+    }
+
+    @Test
+    public void testPrimitiveStageCounts() {
+        final RecordingSink sink = new RecordingSink();
+        final int sum = IntStream.range(0, 10)
+                .instrumented(sink)
+                .filter(new IntPredicate() {
+                    @Override
+                    public boolean test(int value) {
+                        return value > 6;
+                    }
+                })
+                .sum();
+        assertEquals(24, sum);
+        assertEquals(1, sink.reports.size());
+        final List<StageMetrics> stages = sink.reports.get(0);
+        assertEquals(2, stages.size());
+        assertStage(stages.get(1), 1, 10, 3);
+    }
+
+    @Test
+    public void testEmptyStageSelectivity() {
+        final RecordingSink sink = new RecordingSink();
+        Stream.<Integer>empty().instrumented(sink).filter(EVEN).toList();
+        assertEquals(1, sink.reports.size());
+        assertTrue(Double.isNaN(sink.reports.get(0).get(1).getSelectivity()));
+    }
+
+    @Test
+    public void testReportedOnceOnExhaustionAndClose() {
+        final RecordingSink sink = new RecordingSink();
+        final Stream<Integer> stream = Stream.range(0, 3).instrumented(sink).map(TRIPLE);
+        final Iterator<? extends Integer> iterator = stream.iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        iterator.hasNext();
+        stream.close();
+        stream.close();
+        assertEquals(1, sink.reports.size());
+        assertStage(sink.reports.get(0).get(1), 1, 3, 3);
+    }
+
+    @Test
+    public void testReportedOnceOnCloseBeforeExhaustion() {
+        final RecordingSink sink = new RecordingSink();
+        final Stream<Integer> stream = Stream.range(0, 10).instrumented(sink).limit(3);
+        final Iterator<? extends Integer> iterator = stream.iterator();
+        iterator.next();
+        assertEquals(0, sink.reports.size());
+        stream.close();
+        stream.close();
+        assertEquals(1, sink.reports.size());
+        assertStage(sink.reports.get(0).get(0), 0, 1, 1);
+        assertStage(sink.reports.get(0).get(1), 1, 1, 1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDoubleInstrumentation() {
+        Stream.range(0, 10)
+                .instrumented(new RecordingSink())
+                .map(TRIPLE)
+                .instrumented(new RecordingSink());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDoublePrimitiveInstrumentation() {
+        IntStream.range(0, 10)
+                .instrumented(new RecordingSink())
+                .instrumented(new RecordingSink());
+    }
+
+    private static void assertStage(StageMetrics stage, int index, long in, long out) {
+        assertEquals(index, stage.getIndex());
+        assertEquals(in, stage.getElementsIn());
+        assertEquals(out, stage.getElementsOut());
+    }
+
+    private static final class RecordingSink implements MetricsSink {
+
+        final List<List<StageMetrics>> reports = new ArrayList<List<StageMetrics>>();
+
+        @Override
+        public void report(List<StageMetrics> stages) {
+            reports.add(stages);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.BiFunction;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.Predicate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public final class JoinTest {
+
+    private static final Function<Integer, Integer> MOD_3 = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            return value % 3;
+        }
+    };
+
+    private static final Function<Integer, Integer> IDENTITY = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            return value;
+        }
+    };
+
+    private static final BiFunction<Integer, Integer, String> PAIR = new BiFunction<Integer, Integer, String>() {
+        @Override
+        public String apply(Integer left, Integer right) {
+            return left + ":" + right;
+        }
+    };
+
+    private static final Predicate<Integer> ANY = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer value) {
+            return true;
+        }
+    };
+
+    @Test
+    public void testJoinFollowsOrderOfThisStream() {
+        final List<String> expected = Arrays.asList("5:2", "4:1", "3:0");
+        // Smaller left side of known size
+        assertEquals(expected, Stream.of(5, 4, 3)
+                .join(Stream.range(0, 10), MOD_3, IDENTITY, PAIR)
+                .limit(3)
+                .toList());
+        // Unknown sizes
+        assertEquals(expected, Stream.of(5, 4, 3).filter(ANY)
+                .join(Stream.range(0, 10).filter(ANY), MOD_3, IDENTITY, PAIR)
+                .limit(3)
+                .toList());
+    }
+
+    @Test
+    public void testJoinUnorderedHasSameResults() {
+        final List<String> ordered = new ArrayList<String>(Stream.of(5, 4, 3, 7)
+                .join(Stream.range(0, 10), MOD_3, IDENTITY, PAIR)
+                .toList());
+        final List<String> unordered = new ArrayList<String>(Stream.of(5, 4, 3, 7)
+                .joinUnordered(Stream.range(0, 10), MOD_3, IDENTITY, PAIR)
+                .toList());
+        Collections.sort(ordered);
+        Collections.sort(unordered);
+        assertEquals(ordered, unordered);
+    }
+}
@@ -0,0 +1,189 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.Function;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class MapConcurrentTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // Later elements are mapped faster, so completion order differs from encounter order
+    private static final Function<Integer, Integer> SLOW_FIRST = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            try {
+                Thread.sleep((20 - value % 20) / 4);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return value * 2;
+        }
+    };
+
+    @Test(timeout = 10000)
+    public void testMapConcurrentKeepsOrder() {
+        assertEquals(Stream.range(0, 200).map(SLOW_FIRST).toList(),
+                Stream.range(0, 200).mapConcurrent(8, SLOW_FIRST, executor).toList());
+    }
+
+    @Test(timeout = 10000)
+    public void testMapConcurrentUnorderedReturnsFirstCompleted() {
+        final CountDownLatch firstReceived = new CountDownLatch(1);
+        final Function<Integer, Integer> mapper = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                if (value == 0) {
+                    try {
+                        firstReceived.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                return value;
+            }
+        };
+        final Iterator<? extends Integer> iterator = Stream.range(0, 2)
+                .mapConcurrentUnordered(2, mapper, executor)
+                .iterator();
+        assertEquals(1, (int) iterator.next());
+        firstReceived.countDown();
+        assertEquals(0, (int) iterator.next());
+        assertFalse(iterator.hasNext());
+
+        final List<Integer> unordered = Stream.range(0, 200)
+                .mapConcurrentUnordered(8, SLOW_FIRST, executor)
+                .toList();
+        Collections.sort(unordered);
+        assertEquals(Stream.range(0, 200).map(SLOW_FIRST).toList(), unordered);
+    }
+
+    @Test(timeout = 10000)
+    public void testMapConcurrentShortCircuits() {
+        final AtomicInteger started = new AtomicInteger();
+        final Function<Integer, Integer> counting = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                started.incrementAndGet();
+                return value;
+            }
+        };
+        assertEquals(0, (int) Stream.range(0, 1000)
+                .mapConcurrent(4, counting, executor)
+                .findFirst()
+                .get());
+        assertTrue(started.get() <= 4);
+
+        started.set(0);
+        assertEquals(3, Stream.range(0, 1000)
+                .mapConcurrentUnordered(4, counting, executor)
+                .limit(3)
+                .count());
+        // Each of the 3 requests refills the calls in flight up to 4
+        assertTrue(started.get() <= 4 + 2);
+    }
+
+    @Test(timeout = 10000)
+    public void testMapConcurrentRethrowsMapperException() {
+        final Function<Integer, Integer> failing = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                if (value == 7) throw new IllegalStateException("seven");
+                return value;
+            }
+        };
+        try {
+            Stream.range(0, 20).mapConcurrent(4, failing, executor).toList();
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            assertEquals("seven", e.getMessage());
+        }
+        try {
+            Stream.range(0, 20).mapConcurrentUnordered(4, failing, executor).toList();
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            assertEquals("seven", e.getMessage());
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testCloseCancelsCallsInFlight() throws InterruptedException {
+        final CountDownLatch blocked = new CountDownLatch(3);
+        final CountDownLatch interrupted = new CountDownLatch(3);
+        final Function<Integer, Integer> blocking = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                if (value == 0) return value;
+                blocked.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return value;
+            }
+        };
+        final Stream<Integer> stream = Stream.range(0, 100).mapConcurrent(4, blocking, executor);
+        final Iterator<? extends Integer> iterator = stream.iterator();
+        assertEquals(0, (int) iterator.next());
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        stream.close();
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test(timeout = 10000)
+    public void testMapConcurrentRethrowsExecutorRejection() {
+        final Executor runsTwice = new Executor() {
+            private int count;
+
+            @Override
+            public void execute(Runnable command) {
+                if (count++ == 2) throw new RejectedExecutionException("shut down");
+                command.run();
+            }
+        };
+        final Iterator<? extends Integer> iterator = Stream.range(0, 10)
+                .mapConcurrent(4, SLOW_FIRST, runsTwice)
+                .iterator();
+        try {
+            iterator.hasNext();
+            fail("exception expected");
+        } catch (RejectedExecutionException e) {
+            assertEquals("shut down", e.getMessage());
+        }
+        // Accepted calls are still returned, the rejected one is not awaited
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(9, count);
+    }
+}
@@ -0,0 +1,173 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.ComparatorCompat;
+import com.jrodiz.stream.DoubleStream;
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.LongStream;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.IntComparator;
+import com.jrodiz.stream.operator.IntArray;
+import com.jrodiz.stream.operator.IntMergeSorted;
+import com.jrodiz.stream.operator.ObjArray;
+import com.jrodiz.stream.operator.ObjMergeSorted;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class MergeSortedTest {
+
+    // Compares keys only, the second element is the number of the source
+    private static final Comparator<int[]> BY_KEY = new Comparator<int[]>() {
+        @Override
+        public int compare(int[] o1, int[] o2) {
+            return (o1[0] < o2[0]) ? -1 : ((o1[0] == o2[0]) ? 0 : 1);
+        }
+    };
+
+    @Test
+    public void testMergeIsStableAcrossSources() {
+        final Random random = new Random(8);
+        final List<Stream<int[]>> streams = new ArrayList<Stream<int[]>>();
+        final List<int[]> all = new ArrayList<int[]>();
+        for (int source = 0; source < 7; source++) {
+            final List<int[]> elements = new ArrayList<int[]>();
+            for (int i = random.nextInt(50); i > 0; i--) {
+                elements.add(new int[] {random.nextInt(10), source});
+            }
+            Collections.sort(elements, BY_KEY);
+            all.addAll(elements);
+            streams.add(Stream.of(elements));
+        }
+        // Stable sort of concatenated sources keeps equal keys in order of sources
+        Collections.sort(all, BY_KEY);
+
+        final List<int[]> merged = Stream.mergeSorted(streams, BY_KEY).toList();
+        assertEquals(all.size(), merged.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertArrayEquals(all.get(i), merged.get(i));
+        }
+    }
+
+    @Test
+    public void testMergeEmptyInputs() {
+        assertEquals(0, Stream.mergeSorted(Collections.<Stream<Integer>>emptyList(),
+                Collections.<Integer>reverseOrder()).count());
+        assertEquals(Arrays.asList(1, 2, 3), Stream.mergeSorted(
+                Arrays.asList(Stream.<Integer>empty(), Stream.of(1, 3), Stream.<Integer>empty(), Stream.of(2)),
+                new Comparator<Integer>() {
+                    @Override
+                    public int compare(Integer o1, Integer o2) {
+                        return o1.compareTo(o2);
+                    }
+                }).toList());
+
+        assertEquals(0, IntStream.mergeSorted(Collections.<IntStream>emptyList()).count());
+        assertArrayEquals(new int[] {1, 2, 3}, IntStream.mergeSorted(
+                Arrays.asList(IntStream.empty(), IntStream.of(1, 3), IntStream.of(new int[0]), IntStream.of(2)))
+                .toArray());
+        assertArrayEquals(new long[0], LongStream.mergeSorted(
+                Arrays.asList(LongStream.empty(), LongStream.empty())).toArray());
+        assertArrayEquals(new double[] {-1.5, 0.5}, DoubleStream.mergeSorted(
+                Arrays.asList(DoubleStream.of(0.5), DoubleStream.empty(), DoubleStream.of(-1.5))).toArray(), 0.0);
+    }
+
+    @Test
+    public void testPrimitiveMergesMatchSortedConcatenation() {
+        final Random random = new Random(9);
+        final List<IntStream> ints = new ArrayList<IntStream>();
+        final List<LongStream> longs = new ArrayList<LongStream>();
+        final List<DoubleStream> doubles = new ArrayList<DoubleStream>();
+        final List<Integer> all = new ArrayList<Integer>();
+        for (int source = 0; source < 5; source++) {
+            final int[] values = new int[random.nextInt(100)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(1000) - 500;
+                all.add(values[i]);
+            }
+            Arrays.sort(values);
+            final long[] longValues = new long[values.length];
+            final double[] doubleValues = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                longValues[i] = values[i] * 1000000000L;
+                doubleValues[i] = values[i] / 4.0;
+            }
+            ints.add(IntStream.of(values));
+            longs.add(LongStream.of(longValues));
+            doubles.add(DoubleStream.of(doubleValues));
+        }
+        Collections.sort(all);
+        final int[] expected = new int[all.size()];
+        final long[] expectedLongs = new long[all.size()];
+        final double[] expectedDoubles = new double[all.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = all.get(i);
+            expectedLongs[i] = expected[i] * 1000000000L;
+            expectedDoubles[i] = expected[i] / 4.0;
+        }
+
+        assertArrayEquals(expected, IntStream.mergeSorted(ints).toArray());
+        assertArrayEquals(expectedLongs, LongStream.mergeSorted(longs).toArray());
+        assertArrayEquals(expectedDoubles, DoubleStream.mergeSorted(doubles).toArray(), 0.0);
+    }
+
+    @Test
+    public void testExactSize() {
+        final Comparator<Integer> natural = ComparatorCompat.naturalOrder();
+        final ObjMergeSorted<Integer> merge = new ObjMergeSorted<Integer>(Arrays.asList(
+                new ObjArray<Integer>(new Integer[] {1, 4}),
+                new ObjArray<Integer>(new Integer[] {2, 3, 5})), natural);
+        assertEquals(5, merge.getExactSizeIfKnown());
+        assertEquals(1, (int) merge.next());
+        assertEquals(4, merge.getExactSizeIfKnown());
+        assertEquals(2, (int) merge.next());
+        assertEquals(3, merge.getExactSizeIfKnown());
+
+        final Iterator<Integer> unsized = Arrays.asList(6).iterator();
+        assertEquals(-1, new ObjMergeSorted<Integer>(Arrays.asList(
+                new ObjArray<Integer>(new Integer[] {1}), unsized), natural).getExactSizeIfKnown());
+
+        final IntMergeSorted intMerge = new IntMergeSorted(Arrays.asList(
+                new IntArray(new int[] {1, 4}), new IntArray(new int[] {2})), IntComparator.Util.naturalOrder());
+        assertEquals(3, intMerge.getExactSizeIfKnown());
+        assertEquals(1, intMerge.nextInt());
+        assertEquals(2, intMerge.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void testCloseClosesEverySource() {
+        final boolean[] closed = new boolean[3];
+        final List<Stream<Integer>> streams = new ArrayList<Stream<Integer>>();
+        final List<IntStream> intStreams = new ArrayList<IntStream>();
+        final boolean[] intClosed = new boolean[3];
+        for (int i = 0; i < closed.length; i++) {
+            final int index = i;
+            streams.add(Stream.of(i).onClose(new Runnable() {
+                @Override
+                public void run() {
+                    closed[index] = true;
+                }
+            }));
+            intStreams.add(IntStream.of(i).onClose(new Runnable() {
+                @Override
+                public void run() {
+                    intClosed[index] = true;
+                }
+            }));
+        }
+        Stream.mergeSorted(streams, Collections.<Integer>reverseOrder()).close();
+        IntStream.mergeSorted(intStreams).close();
+        for (int i = 0; i < closed.length; i++) {
+            assertTrue(closed[i]);
+            assertTrue(intClosed[i]);
+        }
+    }
+}
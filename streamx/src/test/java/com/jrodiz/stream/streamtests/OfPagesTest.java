@@ -0,0 +1,82 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.PageFetcher;
+import com.jrodiz.stream.Stream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public final class OfPagesTest {
+
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    // Pages [0, 1], [2, 3], [4]
+    private static final PageFetcher<Integer, Integer> FETCHER = new PageFetcher<Integer, Integer>() {
+        @Override
+        public Page<Integer, Integer> fetch(Integer cursor) {
+            final int from = (cursor == null) ? 0 : cursor;
+            if (from == 4) {
+                return Page.last(Arrays.asList(4));
+            }
+            return new Page<Integer, Integer>(Arrays.asList(from, from + 1), from + 2);
+        }
+    };
+
+    @Test
+    public void testOfPages() {
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), Stream.ofPages(FETCHER, 2, DIRECT).toList());
+    }
+
+    @Test(timeout = 5000)
+    public void testOfPagesRethrowsExecutorRejection() {
+        final Executor rejecting = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException("shut down");
+            }
+        };
+        try {
+            Stream.ofPages(FETCHER, 2, rejecting).toList();
+            fail("exception expected");
+        } catch (RejectedExecutionException e) {
+            assertEquals("shut down", e.getMessage());
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testOfPagesRethrowsRejectionAfterFetchedPages() {
+        final Executor runsOnce = new Executor() {
+            private boolean used;
+
+            @Override
+            public void execute(Runnable command) {
+                if (used) throw new RejectedExecutionException("shut down");
+                used = true;
+                command.run();
+            }
+        };
+        final Iterator<? extends Integer> iterator = Stream.<Integer, Integer>ofPages(FETCHER, 1, runsOnce).iterator();
+        final List<Integer> received = new ArrayList<Integer>();
+        try {
+            while (iterator.hasNext()) {
+                received.add(iterator.next());
+            }
+            fail("exception expected");
+        } catch (RejectedExecutionException e) {
+            assertEquals("shut down", e.getMessage());
+        }
+        assertEquals(Arrays.asList(0, 1), received);
+    }
+}
@@ -0,0 +1,41 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Flow;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.BiFunction;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public final class OfPublisherTest {
+
+    @Test(timeout = 10000)
+    public void testOfPublisherRoundTrip() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Flow.Publisher<Integer> publisher = Stream.range(0, 1000).toPublisher(executor);
+            assertEquals(499500L, (long) Stream.ofPublisher(publisher, 16).reduce(0L,
+                    new BiFunction<Long, Integer, Long>() {
+                        @Override
+                        public Long apply(Long sum, Integer value) {
+                            return sum + value;
+                        }
+                    }));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testOfPublisherWithMaxPrefetch() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Flow.Publisher<Integer> publisher = Stream.range(0, 1000).toPublisher(executor);
+            assertEquals(1000, Stream.ofPublisher(publisher, Integer.MAX_VALUE).count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
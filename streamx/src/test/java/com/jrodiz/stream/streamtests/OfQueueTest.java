@@ -0,0 +1,92 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.Stream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class OfQueueTest {
+
+    private static final String END = "END";
+
+    @Test
+    public void testOfQueueEndsOnMarker() {
+        final BlockingQueue<String> queue = new LinkedBlockingQueue<String>(
+                Arrays.asList("a", "b", "c", END));
+        assertEquals(Arrays.asList("a", "b", "c"),
+                Stream.ofQueue(queue, END, 1, TimeUnit.SECONDS).toList());
+    }
+
+    @Test
+    public void testOfQueueEndsOnTimeout() {
+        final BlockingQueue<String> queue = new LinkedBlockingQueue<String>(Arrays.asList("a", "b"));
+        assertEquals(Arrays.asList("a", "b"),
+                Stream.ofQueue(queue, null, 10, TimeUnit.MILLISECONDS).toList());
+    }
+
+    @Test
+    public void testOfQueuePutsBackElementsAfterMarker() {
+        final BlockingQueue<String> queue = new LinkedBlockingQueue<String>(
+                Arrays.asList("a", END, "b", "c"));
+        assertEquals(Collections.singletonList("a"),
+                Stream.ofQueue(queue, END, 1, TimeUnit.SECONDS).toList());
+        assertEquals(Arrays.asList("b", "c"), new ArrayList<String>(queue));
+    }
+
+    @Test
+    public void testOfQueuePutsBackNotConsumedElementsOnClose() {
+        final BlockingQueue<Integer> queue = new LinkedBlockingQueue<Integer>(Arrays.asList(1, 2, 3, 4));
+        final IntStream stream = IntStream.ofQueue(queue, -1, 1, TimeUnit.SECONDS);
+        assertEquals(3, stream.limit(2).sum());
+        stream.close();
+        assertEquals(Arrays.asList(3, 4), new ArrayList<Integer>(queue));
+    }
+
+    @Test(timeout = 10000)
+    public void testOfQueueSharedByTwoConsumers() throws Exception {
+        final int count = 10000;
+        final BlockingQueue<String> queue = new ArrayBlockingQueue<String>(64);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final List<Future<List<String>>> consumers = new ArrayList<Future<List<String>>>();
+            for (int i = 0; i < 2; i++) {
+                consumers.add(executor.submit(new Callable<List<String>>() {
+                    @Override
+                    public List<String> call() {
+                        // Long timeout: consumers must stop on their markers, not on timeout
+                        return Stream.ofQueue(queue, END, 1, TimeUnit.HOURS).toList();
+                    }
+                }));
+            }
+            for (int i = 0; i < count; i++) {
+                queue.put(Integer.toString(i));
+            }
+            queue.put(END);
+            queue.put(END);
+
+            final List<String> all = new ArrayList<String>();
+            for (Future<List<String>> consumer : consumers) {
+                all.addAll(consumer.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(count, all.size());
+            assertEquals(count, Stream.of(all).distinct().count());
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Collector;
+import com.jrodiz.stream.Collectors;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.BiConsumer;
+import com.jrodiz.stream.function.BiFunction;
+import com.jrodiz.stream.function.BinaryOperator;
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.Predicate;
+import com.jrodiz.stream.function.Supplier;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class ParallelStreamTest {
+
+    private static final int COUNT = 100000;
+
+    private static final Function<Integer, Integer> SQUARE_MOD = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            return (value * value) % 1000;
+        }
+    };
+
+    private static final Predicate<Integer> ODD = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer value) {
+            return value % 2 != 0;
+        }
+    };
+
+    @Test
+    public void testResultsMatchSequentialStream() {
+        final List<Integer> source = Stream.range(0, COUNT).toList();
+        final List<Integer> expected = Stream.of(source).filter(ODD).map(SQUARE_MOD).toList();
+
+        assertEquals(expected, Stream.ofParallel(source).filter(ODD).map(SQUARE_MOD).toList());
+        // Source which is buffered before splitting
+        assertEquals(expected, Stream.range(0, COUNT).parallel().filter(ODD).map(SQUARE_MOD).toList());
+        assertEquals(expected.size(), Stream.ofParallel(source).filter(ODD).count());
+        assertEquals(expected, Stream.ofParallel(source).filter(ODD).map(SQUARE_MOD).sequential().toList());
+    }
+
+    @Test
+    public void testReduceKeepsEncounterOrder() {
+        final List<Integer> source = Stream.range(0, 2000).toList();
+        // Associative, but not commutative
+        final BiFunction<String, Integer, String> append = new BiFunction<String, Integer, String>() {
+            @Override
+            public String apply(String result, Integer value) {
+                return result + value + ",";
+            }
+        };
+        final BinaryOperator<String> concat = new BinaryOperator<String>() {
+            @Override
+            public String apply(String left, String right) {
+                return left + right;
+            }
+        };
+        assertEquals(Stream.of(source).reduce("", append),
+                Stream.ofParallel(source).reduce("", append, concat));
+
+        final BiFunction<Integer, Integer, Integer> leftmostOdd = new BiFunction<Integer, Integer, Integer>() {
+            @Override
+            public Integer apply(Integer left, Integer right) {
+                return ODD.test(left) ? left : right;
+            }
+        };
+        assertEquals(Stream.of(source).reduce(leftmostOdd), Stream.ofParallel(source).reduce(leftmostOdd));
+    }
+
+    @Test
+    public void testForEachVisitsEachElementOnce() {
+        final List<Integer> visited = Collections.synchronizedList(new ArrayList<Integer>());
+        Stream.range(0, COUNT).parallel().forEach(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                visited.add(value);
+            }
+        });
+        final List<Integer> sorted = new ArrayList<Integer>(visited);
+        Collections.sort(sorted);
+        assertEquals(Stream.range(0, COUNT).toList(), sorted);
+    }
+
+    @Test
+    public void testWorkerExceptionIsRethrown() {
+        final Function<Integer, Integer> failing = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                if (value == COUNT - 10) throw new IllegalStateException("boom");
+                return value;
+            }
+        };
+        try {
+            Stream.range(0, COUNT).parallel().map(failing).toList();
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            // Exception of another thread may be wrapped into a new one of the same type
+            assertTrue(e.getMessage().contains("boom"));
+        }
+    }
+
+    @Test
+    public void testCollectMergesChunkContainersWithCombiner() {
+        final AtomicInteger containers = new AtomicInteger();
+        final AtomicInteger combined = new AtomicInteger();
+        final Collector<Integer, List<Integer>, List<Integer>> collector =
+                new Collector<Integer, List<Integer>, List<Integer>>() {
+                    @Override
+                    public Supplier<List<Integer>> supplier() {
+                        return new Supplier<List<Integer>>() {
+                            @Override
+                            public List<Integer> get() {
+                                containers.incrementAndGet();
+                                return new ArrayList<Integer>();
+                            }
+                        };
+                    }
+
+                    @Override
+                    public BiConsumer<List<Integer>, Integer> accumulator() {
+                        return new BiConsumer<List<Integer>, Integer>() {
+                            @Override
+                            public void accept(List<Integer> list, Integer value) {
+                                list.add(value);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public BinaryOperator<List<Integer>> combiner() {
+                        return new BinaryOperator<List<Integer>>() {
+                            @Override
+                            public List<Integer> apply(List<Integer> left, List<Integer> right) {
+                                combined.incrementAndGet();
+                                left.addAll(right);
+                                return left;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public Function<List<Integer>, List<Integer>> finisher() {
+                        return new Function<List<Integer>, List<Integer>>() {
+                            @Override
+                            public List<Integer> apply(List<Integer> list) {
+                                return list;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public Set<Characteristics> characteristics() {
+                        return Collections.emptySet();
+                    }
+                };
+        final List<Integer> source = Stream.range(0, COUNT).toList();
+        assertEquals(source, Stream.ofParallel(source).collect(collector));
+        // Each chunk is collected to its own container
+        assertEquals(containers.get() - 1, combined.get());
+        if (Runtime.getRuntime().availableProcessors() > 1) {
+            assertTrue(combined.get() > 0);
+        }
+        assertEquals(Stream.of(source).collect(Collectors.<Integer>toList()),
+                Stream.ofParallel(source).collect(Collectors.<Integer>toList()));
+    }
+
+    @Test
+    public void testFallsBackToCallingThreadWithoutForkJoinPool() throws Exception {
+        final ClassLoader loader = new WithoutForkJoinPool(ParallelStreamTest.class.getClassLoader());
+        final Callable<?> check = (Callable<?>) loader.loadClass(FallbackCheck.class.getName()).newInstance();
+        assertEquals(Stream.range(0, 1000).filter(ODD).map(SQUARE_MOD).toList(), check.call());
+    }
+
+    // Loaded by a class loader which hides ForkJoinPool, as on Android before 5.0
+    public static final class FallbackCheck implements Callable<Object> {
+
+        @Override
+        public Object call() {
+            return Stream.range(0, 1000).parallel().filter(ODD).map(SQUARE_MOD).toList();
+        }
+    }
+
+    // Loads classes of the library and tests itself, so their references to ForkJoinPool fail
+    private static final class WithoutForkJoinPool extends ClassLoader {
+
+        WithoutForkJoinPool(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.equals("java.util.concurrent.ForkJoinPool")) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.startsWith("com.jrodiz.stream.")) {
+                return super.loadClass(name, resolve);
+            }
+            Class<?> clazz = findLoadedClass(name);
+            if (clazz == null) {
+                final byte[] bytes = readClass(name);
+                clazz = defineClass(name, bytes, 0, bytes.length);
+            }
+            if (resolve) {
+                resolveClass(clazz);
+            }
+            return clazz;
+        }
+
+        private byte[] readClass(String name) throws ClassNotFoundException {
+            final InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class");
+            if (in == null) throw new ClassNotFoundException(name);
+            try {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            } finally {
+                try {
+                    in.close();
+                } catch (IOException ignore) { }
+            }
+        }
+    }
+}
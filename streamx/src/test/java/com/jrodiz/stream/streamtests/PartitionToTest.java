@@ -0,0 +1,167 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.IntFunction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class PartitionToTest {
+
+    private static final int KEYS = 37;
+
+    private static final Function<Integer, Integer> KEY = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            return value % KEYS;
+        }
+    };
+
+    @Test(timeout = 10000)
+    public void testPartitionToKeepsOrderPerKey() {
+        final int count = 100000;
+        final int n = 4;
+        final List<List<Integer>> received = new ArrayList<List<Integer>>();
+        for (int i = 0; i < n; i++) {
+            received.add(Collections.synchronizedList(new ArrayList<Integer>()));
+        }
+        Stream.range(0, count).partitionTo(n, KEY, new IntFunction<Consumer<Integer>>() {
+            @Override
+            public Consumer<Integer> apply(final int index) {
+                return new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer value) {
+                        received.get(index).add(value);
+                    }
+                };
+            }
+        });
+
+        final int[] lastByKey = new int[KEYS];
+        final int[] workerByKey = new int[KEYS];
+        Arrays.fill(lastByKey, -1);
+        Arrays.fill(workerByKey, -1);
+        int total = 0;
+        for (int worker = 0; worker < n; worker++) {
+            for (Integer value : received.get(worker)) {
+                final int key = value % KEYS;
+                assertTrue("key " + key + " is processed by one worker",
+                        workerByKey[key] == -1 || workerByKey[key] == worker);
+                workerByKey[key] = worker;
+                assertTrue("values of key " + key + " are in stream order", value > lastByKey[key]);
+                lastByKey[key] = value;
+                total++;
+            }
+        }
+        assertEquals(count, total);
+    }
+
+    @Test(timeout = 10000)
+    public void testPartitionToRethrowsWorkerFailure() {
+        final AtomicInteger processed = new AtomicInteger();
+        try {
+            Stream.range(0, 1000000).partitionTo(3, KEY, new IntFunction<Consumer<Integer>>() {
+                @Override
+                public Consumer<Integer> apply(int index) {
+                    return new Consumer<Integer>() {
+                        @Override
+                        public void accept(Integer value) {
+                            if (value == 5000) {
+                                throw new IllegalStateException("worker failed");
+                            }
+                            processed.incrementAndGet();
+                        }
+                    };
+                }
+            });
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            assertEquals("worker failed", e.getMessage());
+        }
+        assertTrue("remaining elements are not processed", processed.get() < 1000000 - 1);
+    }
+
+    @Test(timeout = 10000)
+    public void testPartitionToStopsStartedWorkersWhenExecutorRejects() throws InterruptedException {
+        final List<Thread> threads = new ArrayList<Thread>();
+        final Executor twoThreads = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                if (threads.size() == 2) {
+                    throw new RejectedExecutionException("pool is full");
+                }
+                final Thread thread = new Thread(command);
+                threads.add(thread);
+                thread.start();
+            }
+        };
+        try {
+            Stream.range(0, 100).partitionTo(4, KEY, new IntFunction<Consumer<Integer>>() {
+                @Override
+                public Consumer<Integer> apply(int index) {
+                    return new Consumer<Integer>() {
+                        @Override
+                        public void accept(Integer value) {
+                        }
+                    };
+                }
+            }, twoThreads);
+            fail("exception expected");
+        } catch (RejectedExecutionException e) {
+            assertEquals("pool is full", e.getMessage());
+        }
+        for (Thread thread : threads) {
+            thread.join(5000);
+            assertFalse(thread.isAlive());
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testPartialBatchIsHandedOffWhileProducerWaits() {
+        // Worker of negative values releases the worker of other values, which blocks the producer
+        // as soon as its queue is full. Three negative values never fill a batch.
+        final CountDownLatch released = new CountDownLatch(3);
+        final AtomicInteger processed = new AtomicInteger();
+        final Function<Integer, Integer> key = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return (value < 0) ? 3 : 0;
+            }
+        };
+        Stream.concat(Stream.of(-1, -2, -3), Stream.range(0, 5000))
+                .partitionTo(2, key, new IntFunction<Consumer<Integer>>() {
+                    @Override
+                    public Consumer<Integer> apply(int index) {
+                        return new Consumer<Integer>() {
+                            @Override
+                            public void accept(Integer value) {
+                                if (value < 0) {
+                                    released.countDown();
+                                } else {
+                                    try {
+                                        released.await();
+                                    } catch (InterruptedException e) {
+                                        throw new RuntimeException(e);
+                                    }
+                                }
+                                processed.incrementAndGet();
+                            }
+                        };
+                    }
+                });
+        assertEquals(5003, processed.get());
+    }
+}
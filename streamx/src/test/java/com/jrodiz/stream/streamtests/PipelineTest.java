@@ -0,0 +1,192 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Pipeline;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.Predicate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class PipelineTest {
+
+    private static final Function<Integer, Integer> TWICE = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            return value * 2;
+        }
+    };
+
+    private static final Function<Integer, Integer> INCREMENT = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            return value + 1;
+        }
+    };
+
+    private static final Predicate<Integer> NOT_MOD_3 = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer value) {
+            return value % 3 != 0;
+        }
+    };
+
+    private static final Predicate<Integer> LESS_THAN_20 = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer value) {
+            return value < 20;
+        }
+    };
+
+    private static final Comparator<int[]> BY_KEY = new Comparator<int[]>() {
+        @Override
+        public int compare(int[] o1, int[] o2) {
+            return (o1[0] < o2[0]) ? -1 : ((o1[0] == o2[0]) ? 0 : 1);
+        }
+    };
+
+    @Test
+    public void testMapFilterFusion() {
+        final Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>identity()
+                .map(TWICE)
+                .map(INCREMENT)
+                .filter(NOT_MOD_3)
+                .filter(LESS_THAN_20);
+        assertEquals(1, pipeline.stageCount());
+        assertEquals(Stream.range(0, 20).map(TWICE).map(INCREMENT).filter(NOT_MOD_3).filter(LESS_THAN_20).toList(),
+                pipeline.apply(Stream.range(0, 20).toList()).toList());
+
+        assertEquals(1, Pipeline.<Integer>identity().filter(NOT_MOD_3).filter(LESS_THAN_20).stageCount());
+        assertEquals(2, Pipeline.<Integer>identity().filter(NOT_MOD_3).map(TWICE).stageCount());
+    }
+
+    @Test
+    public void testPeekFusionKeepsOrderOfActions() {
+        final List<String> log = new ArrayList<String>();
+        final Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>identity()
+                .peek(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer value) {
+                        log.add("a" + value);
+                    }
+                })
+                .peek(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer value) {
+                        log.add("b" + value);
+                    }
+                });
+        assertEquals(1, pipeline.stageCount());
+        assertEquals(Arrays.asList(1, 2), pipeline.apply(new Integer[] {1, 2}).toList());
+        assertEquals(Arrays.asList("a1", "b1", "a2", "b2"), log);
+    }
+
+    @Test
+    public void testLimitThenSkip() {
+        final List<Integer> source = Stream.range(0, 10).toList();
+        final Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>identity().limit(5).skip(2);
+        assertEquals(2, pipeline.stageCount());
+        assertEquals(Arrays.asList(2, 3, 4), pipeline.apply(source).toList());
+
+        // Skip past the limit leaves nothing
+        assertEquals(0, Pipeline.<Integer>identity().limit(2).skip(5).apply(source).count());
+        assertEquals(Stream.of(source).limit(7).skip(3).limit(2).skip(1).toList(),
+                Pipeline.<Integer>identity().limit(7).skip(3).limit(2).skip(1).apply(source).toList());
+    }
+
+    @Test
+    public void testSkipSaturates() {
+        final Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>identity()
+                .skip(Long.MAX_VALUE)
+                .skip(10);
+        assertEquals(1, pipeline.stageCount());
+        assertEquals(0, pipeline.apply(Arrays.asList(1, 2, 3)).count());
+        assertEquals(Arrays.asList(4, 5), Pipeline.<Integer>identity().skip(1).skip(2)
+                .apply(Arrays.asList(1, 2, 3, 4, 5)).toList());
+    }
+
+    @Test
+    public void testSortedLimitIsStable() {
+        final Random random = new Random(9);
+        final List<int[]> pairs = new ArrayList<int[]>();
+        for (int i = 0; i < 500; i++) {
+            pairs.add(new int[] {random.nextInt(20), i});
+        }
+        final List<int[]> sorted = new ArrayList<int[]>(pairs);
+        Collections.sort(sorted, BY_KEY);
+
+        final Pipeline<int[], int[]> pipeline = Pipeline.<int[]>identity().sorted(BY_KEY).limit(50);
+        assertEquals(1, pipeline.stageCount());
+        final List<int[]> actual = pipeline.apply(pairs).toList();
+        assertEquals(50, actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            assertArrayEquals(sorted.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testLimitZero() {
+        final List<Integer> source = Arrays.asList(3, 1, 2);
+        assertEquals(0, Pipeline.<Integer>identity().sorted().limit(0).apply(source).count());
+        assertEquals(0, Pipeline.<Integer>identity().sorted().limit(2).limit(0).apply(source).count());
+        assertEquals(0, Pipeline.<Integer>identity().limit(0).apply(source).count());
+        assertEquals(0, Pipeline.<Integer>identity().map(TWICE).limit(0).skip(1).apply(source).count());
+    }
+
+    @Test
+    public void testSharedBetweenThreads() throws Exception {
+        final Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>identity()
+                .map(TWICE)
+                .filter(NOT_MOD_3)
+                .sorted(Collections.<Integer>reverseOrder())
+                .limit(100)
+                .skip(10);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int t = 0; t < 16; t++) {
+                final int seed = t;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        final Random random = new Random(seed);
+                        for (int i = 0; i < 50; i++) {
+                            final List<Integer> source = new ArrayList<Integer>();
+                            for (int j = random.nextInt(300); j > 0; j--) {
+                                source.add(random.nextInt(1000));
+                            }
+                            final List<Integer> expected = Stream.of(source)
+                                    .map(TWICE)
+                                    .filter(NOT_MOD_3)
+                                    .sorted(Collections.<Integer>reverseOrder())
+                                    .limit(100)
+                                    .skip(10)
+                                    .toList();
+                            if (!expected.equals(pipeline.apply(source).toList())) return false;
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.DoubleStream;
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.LongStream;
+import com.jrodiz.stream.internal.PrimitiveHashSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class PrimitiveDistinctTest {
+
+    @Test
+    public void testZeroIsTrackedSeparately() {
+        final PrimitiveHashSet.OfInt ints = new PrimitiveHashSet.OfInt();
+        assertTrue(ints.add(5));
+        assertTrue(ints.add(0));
+        assertFalse(ints.add(0));
+        assertFalse(ints.add(5));
+
+        final PrimitiveHashSet.OfLong longs = new PrimitiveHashSet.OfLong();
+        assertTrue(longs.add(0L));
+        assertFalse(longs.add(0L));
+        assertTrue(longs.add(Long.MIN_VALUE));
+        assertFalse(longs.add(Long.MIN_VALUE));
+
+        assertArrayEquals(new int[] {0, 1, 2}, IntStream.of(0, 1, 0, 2, 1, 0).distinct().toArray());
+        assertArrayEquals(new long[] {3, 0}, LongStream.of(3, 0, 3, 0).distinct().toArray());
+    }
+
+    @Test
+    public void testDoublesAreComparedByBits() {
+        final double otherNaN = Double.longBitsToDouble(0x7ff8000000000001L);
+        assertTrue(Double.isNaN(otherNaN));
+
+        final PrimitiveHashSet.OfDouble set = new PrimitiveHashSet.OfDouble();
+        assertTrue(set.add(0.0));
+        assertTrue(set.add(-0.0));
+        assertFalse(set.add(0.0));
+        assertFalse(set.add(-0.0));
+        assertTrue(set.add(Double.NaN));
+        assertFalse(set.add(otherNaN));
+
+        final double[] distinct = DoubleStream.of(-0.0, 0.0, Double.NaN, otherNaN, -0.0, 1.5).distinct().toArray();
+        assertEquals(4, distinct.length);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(distinct[0]));
+        assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(distinct[1]));
+        assertTrue(Double.isNaN(distinct[2]));
+        assertEquals(1.5, distinct[3], 0.0);
+    }
+
+    @Test
+    public void testResizeKeepsAllValues() {
+        final PrimitiveHashSet.OfInt ints = new PrimitiveHashSet.OfInt();
+        final PrimitiveHashSet.OfLong longs = new PrimitiveHashSet.OfLong();
+        // Values with equal low bits, across several resizes of the 16-slot table
+        for (int i = 1; i <= 20000; i++) {
+            assertTrue(ints.add(i << 16));
+            assertTrue(longs.add((long) i << 32));
+        }
+        for (int i = 1; i <= 20000; i++) {
+            assertFalse(ints.add(i << 16));
+            assertFalse(longs.add((long) i << 32));
+        }
+        assertTrue(ints.add(1));
+        assertTrue(longs.add(1L));
+    }
+
+    @Test
+    public void testMatchesHashSet() {
+        final Random random = new Random(17);
+        final PrimitiveHashSet.OfInt ints = new PrimitiveHashSet.OfInt();
+        final PrimitiveHashSet.OfLong longs = new PrimitiveHashSet.OfLong();
+        final Set<Integer> expectedInts = new HashSet<Integer>();
+        final Set<Long> expectedLongs = new HashSet<Long>();
+        for (int i = 0; i < 100000; i++) {
+            final int value = random.nextInt(30000) - 15000;
+            assertEquals(expectedInts.add(value), ints.add(value));
+            final long longValue = value * 0x100000001L;
+            assertEquals(expectedLongs.add(longValue), longs.add(longValue));
+        }
+    }
+
+    @Test
+    public void testDistinctKeepsFirstOccurrenceOrder() {
+        final Random random = new Random(23);
+        final int[] ints = new int[5000];
+        final long[] longs = new long[ints.length];
+        final double[] doubles = new double[ints.length];
+        final Set<Integer> firstInts = new LinkedHashSet<Integer>();
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt(1000) - 500;
+            longs[i] = ints[i];
+            doubles[i] = ints[i] / 2.0;
+            firstInts.add(ints[i]);
+        }
+        final int[] expected = new int[firstInts.size()];
+        final long[] expectedLongs = new long[expected.length];
+        final double[] expectedDoubles = new double[expected.length];
+        int index = 0;
+        for (Integer value : firstInts) {
+            expected[index] = value;
+            expectedLongs[index] = value;
+            expectedDoubles[index] = value / 2.0;
+            index++;
+        }
+        assertArrayEquals(expected, IntStream.of(ints).distinct().toArray());
+        assertArrayEquals(expectedLongs, LongStream.of(longs).distinct().toArray());
+        assertArrayEquals(expectedDoubles, DoubleStream.of(doubles).distinct().toArray(), 0.0);
+    }
+}
@@ -0,0 +1,206 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.function.DoubleComparator;
+import com.jrodiz.stream.function.IntComparator;
+import com.jrodiz.stream.function.LongComparator;
+import com.jrodiz.stream.internal.PrimitiveSort;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public final class PrimitiveSortTest {
+
+    // Around the radix sort threshold of 4096 and the insertion sort runs of 32
+    private static final int[] SIZES = {0, 1, 2, 31, 32, 33, 63, 64, 65, 1000, 4095, 4096, 4097, 20000};
+
+    // Not the shared reverse order, so the merge sort is used
+    private static final IntComparator INT_DESCENDING = new IntComparator() {
+        @Override
+        public int compare(int left, int right) {
+            return (left > right) ? -1 : ((left == right) ? 0 : 1);
+        }
+    };
+
+    private static final LongComparator LONG_DESCENDING = new LongComparator() {
+        @Override
+        public int compare(long left, long right) {
+            return (left > right) ? -1 : ((left == right) ? 0 : 1);
+        }
+    };
+
+    private static final DoubleComparator DOUBLE_DESCENDING = new DoubleComparator() {
+        @Override
+        public int compare(double left, double right) {
+            return Double.compare(right, left);
+        }
+    };
+
+    // Values of the same hundred are equal
+    private static final IntComparator BY_HUNDREDS = new IntComparator() {
+        @Override
+        public int compare(int left, int right) {
+            final int x = left / 100;
+            final int y = right / 100;
+            return (x < y) ? -1 : ((x == y) ? 0 : 1);
+        }
+    };
+
+    @Test
+    public void testIntSort() {
+        final Random random = new Random(1);
+        for (int size : SIZES) {
+            final int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt();
+            }
+            if (size > 2) {
+                values[0] = Integer.MAX_VALUE;
+                values[1] = Integer.MIN_VALUE;
+                values[2] = -1;
+            }
+            final int[] expected = values.clone();
+            Arrays.sort(expected);
+
+            assertArrayEquals(expected, sorted(values, null));
+            assertArrayEquals(expected, sorted(values, IntComparator.Util.naturalOrder()));
+            final int[] descending = reversed(expected);
+            assertArrayEquals(descending, sorted(values, IntComparator.Util.reverseOrder()));
+            assertArrayEquals(descending, sorted(values, INT_DESCENDING));
+        }
+    }
+
+    @Test
+    public void testIntSortWithSameHighBytes() {
+        // Radix passes over equal digits are skipped
+        final int[] values = new int[5000];
+        final Random random = new Random(2);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = -1000 + random.nextInt(200);
+        }
+        final int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorted(values, null));
+    }
+
+    @Test
+    public void testLongSort() {
+        final Random random = new Random(3);
+        for (int size : SIZES) {
+            final long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextLong() >> random.nextInt(64);
+            }
+            if (size > 2) {
+                values[0] = Long.MAX_VALUE;
+                values[1] = Long.MIN_VALUE;
+                values[2] = -1L;
+            }
+            final long[] expected = values.clone();
+            Arrays.sort(expected);
+
+            final long[] natural = values.clone();
+            PrimitiveSort.sort(natural, null);
+            assertArrayEquals(expected, natural);
+
+            final long[] descending = values.clone();
+            PrimitiveSort.sort(descending, LONG_DESCENDING);
+            final long[] reverse = values.clone();
+            PrimitiveSort.sort(reverse, LongComparator.Util.reverseOrder());
+            final long[] expectedDescending = new long[size];
+            for (int i = 0; i < size; i++) {
+                expectedDescending[i] = expected[size - 1 - i];
+            }
+            assertArrayEquals(expectedDescending, descending);
+            assertArrayEquals(expectedDescending, reverse);
+        }
+    }
+
+    @Test
+    public void testDoubleSort() {
+        final Random random = new Random(4);
+        final double[] special = {-0.0, 0.0, Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (int size : SIZES) {
+            final double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = (random.nextInt(4) == 0)
+                        ? special[random.nextInt(special.length)]
+                        : (random.nextDouble() - 0.5) * random.nextInt(1000);
+            }
+            final double[] expected = values.clone();
+            Arrays.sort(expected);
+
+            final double[] natural = values.clone();
+            PrimitiveSort.sort(natural, null);
+            assertBitsEqual(expected, natural);
+
+            final double[] descending = values.clone();
+            PrimitiveSort.sort(descending, DOUBLE_DESCENDING);
+            final double[] reverse = values.clone();
+            PrimitiveSort.sort(reverse, DoubleComparator.Util.reverseOrder());
+            final double[] expectedDescending = new double[size];
+            for (int i = 0; i < size; i++) {
+                expectedDescending[i] = expected[size - 1 - i];
+            }
+            assertBitsEqual(expectedDescending, descending);
+            assertBitsEqual(expectedDescending, reverse);
+        }
+    }
+
+    @Test
+    public void testSortedByIsStable() {
+        final Random random = new Random(5);
+        for (int size : SIZES) {
+            final int[] values = new int[size];
+            final List<Integer> boxed = new ArrayList<Integer>(size);
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(20000) - 10000;
+                boxed.add(values[i]);
+            }
+            Collections.sort(boxed, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer left, Integer right) {
+                    return BY_HUNDREDS.compare(left, right);
+                }
+            });
+            final int[] expected = new int[size];
+            for (int i = 0; i < size; i++) {
+                expected[i] = boxed.get(i);
+            }
+            assertArrayEquals(expected, IntStream.of(values).sortedBy(BY_HUNDREDS).toArray());
+        }
+    }
+
+    private static int[] sorted(int[] values, IntComparator comparator) {
+        final int[] array = values.clone();
+        PrimitiveSort.sort(array, comparator);
+        return array;
+    }
+
+    private static int[] reversed(int[] values) {
+        final int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[values.length - 1 - i];
+        }
+        return result;
+    }
+
+    private static void assertBitsEqual(double[] expected, double[] actual) {
+        final long[] expectedBits = new long[expected.length];
+        final long[] actualBits = new long[actual.length];
+        for (int i = 0; i < expected.length; i++) {
+            expectedBits[i] = Double.doubleToLongBits(expected[i]);
+        }
+        for (int i = 0; i < actual.length; i++) {
+            actualBits[i] = Double.doubleToLongBits(actual[i]);
+        }
+        assertArrayEquals(expectedBits, actualBits);
+    }
+}
@@ -0,0 +1,229 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.LongStream;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.Consumer;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.IntConsumer;
+import com.jrodiz.stream.function.Predicate;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public final class SourceShortcutTest {
+
+    private static final List<Integer> SOURCE = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+    @Test
+    public void testCountDoesNotVisitElements() {
+        final CountingMapper mapper = new CountingMapper();
+        assertEquals(10, Stream.of(SOURCE).map(mapper).count());
+        assertEquals(7, Stream.of(SOURCE).map(mapper).skip(3).count());
+        assertEquals(4, Stream.of(SOURCE).map(mapper).limit(4).count());
+        assertEquals(0, mapper.calls);
+        assertEquals(1L << 32, IntStream.rangeClosed(Integer.MIN_VALUE, Integer.MAX_VALUE).count());
+        assertEquals(Long.MAX_VALUE, LongStream.range(0, Long.MAX_VALUE).count());
+    }
+
+    @Test
+    public void testPeekRunsOnShortcutPaths() {
+        final CountingConsumer peek = new CountingConsumer();
+        assertEquals(10, Stream.of(SOURCE).peek(peek).count());
+        assertEquals(10, peek.calls);
+
+        peek.calls = 0;
+        assertEquals(Arrays.asList(8, 9), Stream.of(SOURCE).peek(peek).skip(8).toList());
+        assertEquals(10, peek.calls);
+
+        peek.calls = 0;
+        assertEquals(9, Stream.of(SOURCE).peek(peek).findLast().get().intValue());
+        assertEquals(10, peek.calls);
+
+        peek.calls = 0;
+        assertEquals(4, Stream.of(SOURCE).peek(peek).elementAt(4).get().intValue());
+        assertEquals(5, peek.calls);
+
+        peek.calls = 0;
+        assertEquals(Arrays.asList(9, 8, 7), Stream.of(SOURCE).peek(peek).reverse().limit(3).toList());
+        assertEquals(10, peek.calls);
+
+        final int[] intPeek = { 0 };
+        assertEquals(5, IntStream.range(0, 5)
+                .peek(new IntConsumer() {
+                    @Override
+                    public void accept(int value) {
+                        intPeek[0]++;
+                    }
+                })
+                .count());
+        assertEquals(5, intPeek[0]);
+    }
+
+    @Test
+    public void testSkip() {
+        final CountingMapper mapper = new CountingMapper();
+        assertEquals(Arrays.asList(7, 8, 9), Stream.of(SOURCE).map(mapper).skip(7).toList());
+        assertEquals(3, mapper.calls);
+        assertEquals(0, Stream.of(SOURCE).skip(100).count());
+        assertEquals(Arrays.asList(3, 4), Stream.of(SOURCE).skip(1).skip(2).limit(2).toList());
+        assertEquals(Long.MAX_VALUE - 1, LongStream.range(0, Long.MAX_VALUE).skip(Long.MAX_VALUE - 1).findFirst().getAsLong());
+        assertFalse(LongStream.rangeClosed(Long.MIN_VALUE, Long.MAX_VALUE).skip(Long.MAX_VALUE).skip(Long.MAX_VALUE).skip(2).findFirst().isPresent());
+        assertEquals(Long.MAX_VALUE, LongStream.rangeClosed(Long.MIN_VALUE, Long.MAX_VALUE).skip(Long.MAX_VALUE).skip(Long.MAX_VALUE).findLast().getAsLong());
+    }
+
+    @Test
+    public void testFindLastAndElementAt() {
+        final CountingMapper mapper = new CountingMapper();
+        assertEquals(9, Stream.of(SOURCE).map(mapper).findLast().get().intValue());
+        assertEquals(5, Stream.of(SOURCE).map(mapper).elementAt(5).get().intValue());
+        assertEquals(2, mapper.calls);
+        assertFalse(Stream.of(SOURCE).map(mapper).elementAt(10).isPresent());
+        assertFalse(Stream.<Integer>empty().findLast().isPresent());
+        assertEquals(Integer.MAX_VALUE, IntStream.rangeClosed(Integer.MIN_VALUE, Integer.MAX_VALUE).findLast().getAsInt());
+
+        // Filter may change the size, so elements are visited
+        final Predicate<Integer> odd = new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer value) {
+                return value % 2 != 0;
+            }
+        };
+        assertEquals(5, Stream.of(SOURCE).filter(odd).elementAt(2).get().intValue());
+        assertFalse(Stream.of(SOURCE).filter(odd).elementAt(5).isPresent());
+        assertEquals(9, Stream.of(SOURCE).filter(odd).findLast().get().intValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testElementAtNegativeIndex() {
+        Stream.of(SOURCE).elementAt(-1);
+    }
+
+    @Test
+    public void testReverse() {
+        final List<Integer> reversed = Arrays.asList(9, 8, 7, 6, 5, 4, 3, 2, 1, 0);
+        assertEquals(reversed, Stream.of(SOURCE).reverse().toList());
+        assertEquals(reversed, Stream.range(0, 10).reverse().toList());
+        assertEquals(Arrays.asList(8, 6, 4, 2, 0), Stream.of(SOURCE)
+                .filter(new Predicate<Integer>() {
+                    @Override
+                    public boolean test(Integer value) {
+                        return value % 2 == 0;
+                    }
+                })
+                .reverse()
+                .toList());
+        assertEquals(0, Stream.<Integer>empty().reverse().count());
+        assertEquals(SOURCE, Stream.of(SOURCE).reverse().reverse().toList());
+        assertEquals(Arrays.asList(3, 2), Stream.of(SOURCE).skip(2).limit(3).reverse().skip(1).toList());
+    }
+
+    @Test
+    public void testReverseAfterMap() {
+        final List<Integer> visited = new ArrayList<Integer>();
+        final Function<Integer, String> mapper = new Function<Integer, String>() {
+            @Override
+            public String apply(Integer value) {
+                visited.add(value);
+                return "#" + value;
+            }
+        };
+        assertEquals(Arrays.asList("#9", "#8"), Stream.of(SOURCE).map(mapper).reverse().limit(2).toList());
+        // Mapper runs after the reversal, only for the taken elements
+        assertEquals(Arrays.asList(9, 8), visited);
+
+        visited.clear();
+        assertEquals(Arrays.asList("#9", "#8", "#7"), Stream.of(SOURCE).map(mapper).reverse().limit(3).toList());
+        assertEquals(Arrays.asList(9, 8, 7), visited);
+
+        visited.clear();
+        assertEquals(10, Stream.of(SOURCE).map(mapper).reverse().count());
+        assertEquals("#0", Stream.of(SOURCE).map(mapper).reverse().findLast().get());
+        assertEquals(Arrays.asList(0), visited);
+    }
+
+    @Test
+    public void testIntRangeSum() {
+        assertEquals(45, IntStream.range(0, 10).sum());
+        assertEquals(42, IntStream.range(0, 10).skip(3).sum());
+        assertEquals(0, IntStream.range(5, 5).sum());
+        assertEquals(Integer.MIN_VALUE, IntStream.rangeClosed(Integer.MIN_VALUE, Integer.MAX_VALUE).sum());
+        assertEquals(Integer.MAX_VALUE, IntStream.rangeClosed(Integer.MAX_VALUE, Integer.MAX_VALUE).sum());
+        final int[][] ranges = {
+                { Integer.MAX_VALUE - 1000, Integer.MAX_VALUE },
+                { Integer.MIN_VALUE, Integer.MIN_VALUE + 1001 },
+                { -70000, 70001 },
+                { 65536, 200000 },
+        };
+        for (int[] range : ranges) {
+            int expected = 0;
+            for (int value = range[0]; ; value++) {
+                expected += value;
+                if (value == range[1]) break;
+            }
+            assertEquals(expected, IntStream.rangeClosed(range[0], range[1]).sum());
+        }
+    }
+
+    @Test
+    public void testLongRangeSum() {
+        assertEquals(45L, LongStream.range(0, 10).sum());
+        assertEquals(0L, LongStream.range(5, 5).sum());
+        assertEquals(Long.MIN_VALUE, LongStream.rangeClosed(Long.MIN_VALUE, Long.MAX_VALUE).sum());
+        assertEquals(-3L, LongStream.rangeClosed(Long.MAX_VALUE - 1, Long.MAX_VALUE).sum());
+
+        long sum = 0L;
+        for (long value = Long.MAX_VALUE - 1000; value != Long.MIN_VALUE; value++) {
+            sum += value;
+        }
+        assertEquals(sum, LongStream.rangeClosed(Long.MAX_VALUE - 1000, Long.MAX_VALUE).sum());
+
+        final Random random = new Random(17);
+        for (int i = 0; i < 200; i++) {
+            long first = random.nextLong();
+            long last = random.nextLong();
+            if (first > last) {
+                final long tmp = first;
+                first = last;
+                last = tmp;
+            }
+            assertEquals(closedFormSum(first, last), LongStream.rangeClosed(first, last).sum());
+        }
+    }
+
+    private static long closedFormSum(long first, long last) {
+        final BigInteger a = BigInteger.valueOf(first);
+        final BigInteger b = BigInteger.valueOf(last);
+        return b.subtract(a).add(BigInteger.ONE)
+                .multiply(a.add(b))
+                .shiftRight(1)
+                .longValue();
+    }
+
+    private static final class CountingMapper implements Function<Integer, Integer> {
+
+        int calls;
+
+        @Override
+        public Integer apply(Integer value) {
+            calls++;
+            return value;
+        }
+    }
+
+    private static final class CountingConsumer implements Consumer<Integer> {
+
+        int calls;
+
+        @Override
+        public void accept(Integer value) {
+            calls++;
+        }
+    }
+}
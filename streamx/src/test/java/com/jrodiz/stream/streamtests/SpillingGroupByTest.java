@@ -0,0 +1,164 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Collector;
+import com.jrodiz.stream.Collectors;
+import com.jrodiz.stream.Serializer;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.BiConsumer;
+import com.jrodiz.stream.function.BinaryOperator;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.function.Supplier;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public final class SpillingGroupByTest {
+
+    private static final Serializer<Integer> INT_SERIALIZER = new Serializer<Integer>() {
+        @Override
+        public void write(DataOutput out, Integer value) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    private static final Function<Integer, Integer> MOD_5000 = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            return value % 5000;
+        }
+    };
+
+    // Container of count is owned by the test, so it can be serialized
+    private static final Collector<Integer, long[], Long> COUNTING = new Collector<Integer, long[], Long>() {
+        @Override
+        public Supplier<long[]> supplier() {
+            return new Supplier<long[]>() {
+                @Override
+                public long[] get() {
+                    return new long[1];
+                }
+            };
+        }
+
+        @Override
+        public BiConsumer<long[], Integer> accumulator() {
+            return new BiConsumer<long[], Integer>() {
+                @Override
+                public void accept(long[] container, Integer value) {
+                    container[0]++;
+                }
+            };
+        }
+
+        @Override
+        public BinaryOperator<long[]> combiner() {
+            return new BinaryOperator<long[]>() {
+                @Override
+                public long[] apply(long[] left, long[] right) {
+                    left[0] += right[0];
+                    return left;
+                }
+            };
+        }
+
+        @Override
+        public Function<long[], Long> finisher() {
+            return new Function<long[], Long>() {
+                @Override
+                public Long apply(long[] container) {
+                    return container[0];
+                }
+            };
+        }
+
+        @Override
+        public Set<Characteristics> characteristics() {
+            return Collections.emptySet();
+        }
+    };
+
+    private static final Serializer<long[]> COUNT_SERIALIZER = new Serializer<long[]>() {
+        @Override
+        public void write(DataOutput out, long[] value) throws IOException {
+            out.writeLong(value[0]);
+        }
+
+        @Override
+        public long[] read(DataInput in) throws IOException {
+            return new long[] {in.readLong()};
+        }
+    };
+
+    @Test
+    public void testSpillingGroupByMatchesInMemoryGroupBy() {
+        // 5000 keys with a budget of 2 keys need several partition levels
+        final Random random = new Random(3);
+        final List<Integer> values = new ArrayList<Integer>(20000);
+        for (int i = 0; i < 20000; i++) {
+            values.add(random.nextInt(1000000));
+        }
+
+        final Map<Integer, List<Integer>> expected = toMap(Stream.of(values).groupBy(MOD_5000).toList());
+        final List<Map.Entry<Integer, List<Integer>>> actual = Stream.of(values)
+                .groupBy(MOD_5000, 2, INT_SERIALIZER, INT_SERIALIZER)
+                .toList();
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, toMap(actual));
+    }
+
+    @Test
+    public void testSpillingGroupByWithinBudget() {
+        final Map<Integer, List<Integer>> expected = toMap(Stream.range(0, 100).groupBy(MOD_5000).toList());
+        assertEquals(expected, toMap(Stream.range(0, 100)
+                .groupBy(MOD_5000, 1000, INT_SERIALIZER, INT_SERIALIZER)
+                .toList()));
+    }
+
+    @Test
+    public void testSpillingGroupingByCollectorMatchesInMemoryGroupingBy() {
+        final Random random = new Random(4);
+        final List<Integer> values = new ArrayList<Integer>(20000);
+        for (int i = 0; i < 20000; i++) {
+            values.add(random.nextInt(1000000));
+        }
+
+        final Map<Integer, Long> expected = Stream.of(values)
+                .collect(Collectors.groupingBy(MOD_5000, Collectors.<Integer>counting()));
+        final Map<Integer, Long> actual = Stream.of(values)
+                .collect(Collectors.groupingBy(MOD_5000, COUNTING, 2, INT_SERIALIZER, COUNT_SERIALIZER));
+        assertEquals(expected, actual);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSpillingGroupingByCollectorZeroBudget() {
+        Collectors.groupingBy(MOD_5000, COUNTING, 0, INT_SERIALIZER, COUNT_SERIALIZER);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSpillingGroupByZeroBudget() {
+        Stream.range(0, 10).groupBy(MOD_5000, 0, INT_SERIALIZER, INT_SERIALIZER);
+    }
+
+    private static Map<Integer, List<Integer>> toMap(List<Map.Entry<Integer, List<Integer>>> entries) {
+        final Map<Integer, List<Integer>> map = new HashMap<Integer, List<Integer>>();
+        for (Map.Entry<Integer, List<Integer>> entry : entries) {
+            map.put(entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+}
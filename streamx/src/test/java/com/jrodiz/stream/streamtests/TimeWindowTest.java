@@ -0,0 +1,111 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Collectors;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.TimeWindow;
+import com.jrodiz.stream.function.ToLongFunction;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public final class TimeWindowTest {
+
+    private static final ToLongFunction<Long> TIMESTAMP = new ToLongFunction<Long>() {
+        @Override
+        public long applyAsLong(Long value) {
+            return value;
+        }
+    };
+
+    @Test
+    public void testTumblingWindows() {
+        assertEquals(Arrays.asList(
+                new TimeWindow<Long>(0, 10, 2L),
+                new TimeWindow<Long>(10, 20, 1L),
+                new TimeWindow<Long>(30, 40, 1L)),
+                Stream.of(1L, 4L, 12L, 35L)
+                        .windowByTime(TIMESTAMP, 10, 10, Collectors.<Long>counting())
+                        .toList());
+    }
+
+    @Test
+    public void testHoppingWindows() {
+        assertEquals(Arrays.asList(
+                window(-5, 5, 1L),
+                window(0, 10, 1L, 6L),
+                window(5, 15, 6L, 12L),
+                window(10, 20, 12L)),
+                Stream.of(1L, 6L, 12L)
+                        .windowByTime(TIMESTAMP, 10, 5, Collectors.<Long>toList())
+                        .toList());
+    }
+
+    @Test
+    public void testNegativeTimestamps() {
+        assertEquals(Arrays.asList(
+                window(-15, -10, -12L),
+                window(-5, 0, -3L),
+                window(0, 5, 2L)),
+                Stream.of(-12L, -3L, 2L)
+                        .windowByTime(TIMESTAMP, 5, 5, Collectors.<Long>toList())
+                        .toList());
+        assertEquals(Arrays.asList(
+                window(-10, -5, -10L, -8L),
+                window(-1, 2, -1L)),
+                Stream.of(-10L, -8L, -1L)
+                        .sessionWindows(TIMESTAMP, 3, Collectors.<Long>toList())
+                        .toList());
+    }
+
+    @Test
+    public void testLateElementsAreDroppedFromClosedWindows() {
+        // Watermark is the latest timestamp minus 5
+        assertEquals(Arrays.asList(
+                window(0, 10, 1L, 3L),
+                window(10, 20, 12L, 16L),
+                window(20, 30, 25L)),
+                Stream.of(1L, 12L, 3L, 16L, 4L, 25L, 14L)
+                        .windowByTime(TIMESTAMP, 10, 10, 5, Collectors.<Long>toList())
+                        .toList());
+    }
+
+    @Test
+    public void testSessionWindows() {
+        assertEquals(Arrays.asList(
+                new TimeWindow<Long>(1, 9, 2L),
+                new TimeWindow<Long>(12, 20, 3L)),
+                Stream.of(1L, 4L, 12L, 14L, 15L)
+                        .sessionWindows(TIMESTAMP, 5, Collectors.<Long>counting())
+                        .toList());
+    }
+
+    @Test
+    public void testLateElementBridgesTwoSessions() {
+        // Sessions [1, 6) and [9, 14) are merged by the combiner when 5 arrives
+        assertEquals(Arrays.asList(window(1, 14, 1L, 9L, 5L)),
+                Stream.of(1L, 9L, 5L)
+                        .sessionWindows(TIMESTAMP, 5, 20, Collectors.<Long>toList())
+                        .toList());
+        // Late element moves the start of a session
+        assertEquals(Arrays.asList(window(7, 15, 10L, 7L)),
+                Stream.of(10L, 7L)
+                        .sessionWindows(TIMESTAMP, 5, 10, Collectors.<Long>toList())
+                        .toList());
+    }
+
+    @Test
+    public void testLateElementIsDroppedFromClosedSession() {
+        assertEquals(Arrays.asList(
+                window(1, 6, 1L),
+                window(20, 25, 20L)),
+                Stream.of(1L, 20L, 3L)
+                        .sessionWindows(TIMESTAMP, 5, Collectors.<Long>toList())
+                        .toList());
+    }
+
+    private static TimeWindow<List<Long>> window(long start, long end, Long... elements) {
+        return new TimeWindow<List<Long>>(start, end, Arrays.asList(elements));
+    }
+}
@@ -0,0 +1,66 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.IntFunction;
+import com.jrodiz.stream.function.ToIntFunction;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public final class ToArrayTest {
+
+    private static final IntFunction<String[]> STRING_ARRAY = new IntFunction<String[]>() {
+        @Override
+        public String[] apply(int value) {
+            return new String[value];
+        }
+    };
+
+    private static final ToIntFunction<String> LENGTH = new ToIntFunction<String>() {
+        @Override
+        public int applyAsInt(String value) {
+            return value.length();
+        }
+    };
+
+    @Test
+    public void testToArrayWhenSourceHasMoreElementsThanReported() {
+        final Collection<String> source = reportingSize(Arrays.asList("a", "bb", "ccc"), 1);
+        assertArrayEquals(new String[] {"a", "bb", "ccc"}, Stream.of(source).toArray(STRING_ARRAY));
+        assertArrayEquals(new Object[] {"a", "bb", "ccc"}, Stream.of(source).toArray());
+        assertArrayEquals(new int[] {1, 2, 3}, Stream.of(source).mapToInt(LENGTH).toArray());
+    }
+
+    @Test
+    public void testToArrayWhenSourceHasFewerElementsThanReported() {
+        final Collection<String> source = reportingSize(Arrays.asList("a", "bb"), 5);
+        assertArrayEquals(new String[] {"a", "bb"}, Stream.of(source).toArray(STRING_ARRAY));
+        assertArrayEquals(new int[] {1, 2}, Stream.of(source).mapToInt(LENGTH).toArray());
+    }
+
+    @Test
+    public void testToArrayFromEmptySourceWithWrongSize() {
+        final Collection<String> source = reportingSize(Arrays.<String>asList(), 3);
+        assertArrayEquals(new String[0], Stream.of(source).toArray(STRING_ARRAY));
+    }
+
+    // Simulates a concurrent collection, modified between size() and iteration
+    private static <T> Collection<T> reportingSize(final List<T> elements, final int size) {
+        return new AbstractCollection<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return elements.iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.DoubleStream;
+import com.jrodiz.stream.IntStream;
+import com.jrodiz.stream.LongStream;
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.IntComparator;
+import com.jrodiz.stream.operator.DoubleTopK;
+import com.jrodiz.stream.operator.IntArray;
+import com.jrodiz.stream.operator.IntTopK;
+import com.jrodiz.stream.operator.LongTopK;
+import com.jrodiz.stream.operator.ObjTopK;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public final class TopKTest {
+
+    // Compares keys only, the second element is the encounter index
+    private static final Comparator<int[]> BY_KEY = new Comparator<int[]>() {
+        @Override
+        public int compare(int[] o1, int[] o2) {
+            return (o1[0] < o2[0]) ? -1 : ((o1[0] == o2[0]) ? 0 : 1);
+        }
+    };
+
+    // Compares tens only, so values of the same ten are equal
+    private static final IntComparator BY_TENS = new IntComparator() {
+        @Override
+        public int compare(int a, int b) {
+            final int x = a / 10;
+            final int y = b / 10;
+            return (x < y) ? -1 : ((x == y) ? 0 : 1);
+        }
+    };
+
+    @Test
+    public void testTopKIsStable() {
+        final List<int[]> pairs = randomPairs(1000);
+        final List<int[]> sorted = new ArrayList<int[]>(pairs);
+        Collections.sort(sorted, BY_KEY);
+
+        for (int k : new int[] {1, 15, 16, 17, 100, 999, 1000, 2000}) {
+            final List<int[]> expected = sorted.subList(0, Math.min(k, sorted.size()));
+            assertPairsEqual(expected, Stream.of(pairs).topK(k, BY_KEY).toList());
+            assertPairsEqual(expected, Stream.of(pairs).sorted(BY_KEY).limit(k).toList());
+        }
+    }
+
+    @Test
+    public void testIntTopKIsStable() {
+        final Random random = new Random(5);
+        final int[] values = new int[1000];
+        final List<Integer> boxed = new ArrayList<Integer>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(200);
+            boxed.add(values[i]);
+        }
+        Collections.sort(boxed, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                return BY_TENS.compare(o1, o2);
+            }
+        });
+
+        for (int k : new int[] {1, 16, 17, 100, 1000}) {
+            final int[] expected = new int[k];
+            for (int i = 0; i < k; i++) {
+                expected[i] = boxed.get(i);
+            }
+            assertArrayEquals(expected, IntStream.of(values).topK(k, BY_TENS).toArray());
+            assertArrayEquals(expected, IntStream.of(values).sortedBy(BY_TENS).limit(k).toArray());
+        }
+    }
+
+    @Test
+    public void testTopKZero() {
+        assertEquals(0, Stream.of(3, 1, 2).topK(0, null).count());
+        assertEquals(0, Stream.of(3, 1, 2).sorted().limit(0).count());
+        assertEquals(0, IntStream.of(3, 1, 2).topK(0, null).count());
+        assertEquals(0, LongStream.of(3, 1, 2).topK(0, null).count());
+        assertEquals(0, DoubleStream.of(3, 1, 2).topK(0, null).count());
+    }
+
+    @Test
+    public void testTopKOperatorZero() {
+        final Iterator<Integer> source = Arrays.asList(3, 1, 2).iterator();
+        final ObjTopK<Integer> topK = new ObjTopK<Integer>(source, 0, null);
+        assertFalse(topK.hasNext());
+        // The source is not consumed
+        assertEquals(3, (int) source.next());
+
+        final IntArray ints = new IntArray(new int[] {3, 1, 2});
+        assertFalse(new IntTopK(ints, 0, null).hasNext());
+        assertEquals(3, ints.nextInt());
+
+        assertFalse(new LongTopK(LongStream.of(3, 1, 2).iterator(), 0, null).hasNext());
+        assertFalse(new DoubleTopK(DoubleStream.of(3, 1, 2).iterator(), 0, null).hasNext());
+    }
+
+    private static List<int[]> randomPairs(int count) {
+        final Random random = new Random(11);
+        final List<int[]> pairs = new ArrayList<int[]>(count);
+        for (int i = 0; i < count; i++) {
+            pairs.add(new int[] {random.nextInt(50), i});
+        }
+        return pairs;
+    }
+
+    private static void assertPairsEqual(List<int[]> expected, List<int[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
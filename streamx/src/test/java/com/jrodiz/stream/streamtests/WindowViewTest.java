@@ -0,0 +1,117 @@
+package com.jrodiz.stream.streamtests;
+
+import com.jrodiz.stream.Stream;
+import com.jrodiz.stream.function.Function;
+import com.jrodiz.stream.internal.RingBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public final class WindowViewTest {
+
+    private static final Function<List<Integer>, List<Integer>> COPY = new Function<List<Integer>, List<Integer>>() {
+        @Override
+        public List<Integer> apply(List<Integer> list) {
+            return new ArrayList<Integer>(list);
+        }
+    };
+
+    @Test
+    public void testSlidingWindowViewMatchesSlidingWindow() {
+        // Window sizes past the initial ring capacity of 16, steps greater than window sizes
+        for (int count = 0; count <= 60; count += 7) {
+            final List<Integer> source = Stream.range(0, count).toList();
+            for (int windowSize : new int[] {1, 2, 3, 5, 16, 17, 40}) {
+                for (int stepWidth : new int[] {1, 2, 3, 5, 7, 20, 50}) {
+                    assertEquals("window " + windowSize + ", step " + stepWidth + ", count " + count,
+                            Stream.of(source).slidingWindow(windowSize, stepWidth).toList(),
+                            Stream.of(source).slidingWindowView(windowSize, stepWidth).map(COPY).toList());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSlidingWindowViewIsReused() {
+        final Iterator<? extends List<Integer>> iterator = Stream.range(0, 5).slidingWindowView(3).iterator();
+        final List<Integer> first = iterator.next();
+        assertEquals(Arrays.asList(0, 1, 2), first);
+        assertSame(first, iterator.next());
+        assertEquals(Arrays.asList(1, 2, 3), first);
+    }
+
+    @Test
+    public void testChunkByViewMatchesChunkBy() {
+        final Random random = new Random(6);
+        final List<Integer> source = new ArrayList<Integer>();
+        // Runs longer than the initial ring capacity of 16
+        for (int run = 0; run < 30; run++) {
+            final int key = random.nextInt(3);
+            for (int i = random.nextInt(40); i >= 0; i--) {
+                source.add(key * 1000 + i);
+            }
+        }
+        final Function<Integer, Integer> thousands = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return value / 1000;
+            }
+        };
+        assertEquals(Stream.of(source).chunkBy(thousands).toList(),
+                Stream.of(source).chunkByView(thousands).map(COPY).toList());
+        assertEquals(0, Stream.<Integer>empty().chunkByView(thousands).count());
+    }
+
+    @Test
+    public void testSample() {
+        assertEquals(Arrays.asList(0, 3, 6, 9), Stream.range(0, 11).sample(3).toList());
+        assertEquals(Arrays.asList(0, 20), Stream.range(0, 21).sample(20).toList());
+        assertEquals(Arrays.asList(0), Stream.range(0, 5).sample(10).toList());
+        assertEquals(0, Stream.<Integer>empty().sample(2).count());
+        assertEquals(Stream.range(0, 7).toList(), Stream.range(0, 7).sample(1).toList());
+    }
+
+    @Test
+    public void testRingBufferGrowsAcrossWrap() {
+        final RingBuffer<Integer> buffer = new RingBuffer<Integer>(100);
+        for (int i = 0; i < 10; i++) {
+            buffer.addLast(i);
+        }
+        buffer.removeFirst(7);
+        // Head is not at the start of the array while the buffer grows past 16
+        for (int i = 10; i < 60; i++) {
+            buffer.addLast(i);
+        }
+        assertEquals(Stream.range(7, 60).toList(), new ArrayList<Integer>(buffer));
+        buffer.removeFirst(100);
+        assertEquals(0, buffer.size());
+        buffer.addLast(1);
+        assertEquals(Arrays.asList(1), new ArrayList<Integer>(buffer));
+    }
+
+    @Test
+    public void testRingBufferBounds() {
+        final RingBuffer<Integer> buffer = new RingBuffer<Integer>(2);
+        buffer.addLast(1);
+        buffer.addLast(2);
+        try {
+            buffer.addLast(3);
+            fail("exception expected");
+        } catch (IllegalStateException expected) {
+            // max capacity is reached
+        }
+        try {
+            buffer.get(2);
+            fail("exception expected");
+        } catch (IndexOutOfBoundsException expected) {
+            // index is out of size
+        }
+    }
+}